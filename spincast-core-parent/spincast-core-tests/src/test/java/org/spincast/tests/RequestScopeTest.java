@@ -4,13 +4,20 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 import org.spincast.core.cookies.Cookie;
 import org.spincast.core.exchange.DefaultRequestContext;
 import org.spincast.core.guice.SpincastGuiceModuleBase;
 import org.spincast.core.guice.SpincastGuiceScopes;
+import org.spincast.core.guice.SpincastRequestScope;
 import org.spincast.core.routing.Handler;
 import org.spincast.core.utils.ContentTypeDefaults;
+import org.spincast.core.utils.SpincastStatics;
 import org.spincast.plugins.httpclient.HttpResponse;
 import org.spincast.shaded.org.apache.http.HttpStatus;
 import org.spincast.testing.defaults.NoAppStartHttpServerTestingBase;
@@ -146,4 +153,53 @@ public class RequestScopeTest extends NoAppStartHttpServerTestingBase {
         assertEquals(getSpincastConfig().getDefaultLocale().toString(), response.getContentAsString());
     }
 
+    @Inject
+    protected SpincastRequestScope spincastRequestScope;
+
+    @Test
+    public void carriedToAnotherThread() throws Exception {
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+
+                ExecutorService executorService = Executors.newSingleThreadExecutor();
+                try {
+                    SpincastRequestScope scope = RequestScopeTest.this.spincastRequestScope;
+
+                    Future<DefaultRequestContext> future =
+                            executorService.submit(scope.wrapCallable(() -> context.guice()
+                                                                                   .getInstance(DefaultRequestContext.class)));
+                    assertTrue(future.get() == context);
+
+                    TestRequestScopeClass testRequestScopeClass =
+                            CompletableFuture.supplyAsync(scope.wrapSupplier(() -> context.guice()
+                                                                                          .getInstance(TestRequestScopeClass.class)),
+                                                          executorService)
+                                             .get();
+                    assertNotNull(testRequestScopeClass);
+                    assertTrue(testRequestScopeClass == context.guice().getInstance(TestRequestScopeClass.class));
+
+                    CompletableFuture.runAsync(() -> RequestScopeTest.this.controller.testHandlerMethod(),
+                                               scope.wrapExecutor(executorService))
+                                     .get();
+
+                    Cookie cookie = context.response().getCookieAdded("testCookie");
+                    assertNotNull(cookie);
+                    assertEquals("testValue", cookie.getValue());
+
+                } catch (Exception ex) {
+                    throw SpincastStatics.runtimize(ex);
+                } finally {
+                    executorService.shutdown();
+                }
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(getSpincastConfig().getDefaultLocale().toString(), response.getContentAsString());
+    }
+
 }
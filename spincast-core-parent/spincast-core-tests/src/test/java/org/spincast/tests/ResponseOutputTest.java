@@ -1,11 +1,19 @@
 package org.spincast.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 import org.spincast.core.exchange.DefaultRequestContext;
@@ -16,21 +24,32 @@ import org.spincast.core.routing.Handler;
 import org.spincast.core.utils.ContentTypeDefaults;
 import org.spincast.core.utils.SpincastStatics;
 import org.spincast.plugins.httpclient.HttpResponse;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
 import org.spincast.shaded.org.apache.http.HttpStatus;
+import org.spincast.tests.varia.SlowReadingClient;
 import org.spincast.testing.core.utils.SpincastTestingUtils;
 import org.spincast.testing.defaults.NoAppStartHttpServerTestingBase;
 
 import com.google.inject.Inject;
 
+import io.undertow.server.HttpServerExchange;
+
 public class ResponseOutputTest extends NoAppStartHttpServerTestingBase {
 
     @Inject
     protected JsonManager jsonManager;
 
+    @Inject
+    protected SpincastByteBufferPool spincastByteBufferPool;
+
     protected JsonManager getJsonManager() {
         return this.jsonManager;
     }
 
+    protected SpincastByteBufferPool getSpincastByteBufferPool() {
+        return this.spincastByteBufferPool;
+    }
+
     @Test
     public void noOutput() throws Exception {
 
@@ -438,4 +457,276 @@ public class ResponseOutputTest extends NoAppStartHttpServerTestingBase {
         assertEquals("SUCCESS", jsonObj.getString(spincastModelRootVariableName + ".alerts[0].alertType.name"));
     }
 
+    protected String createLargeContent() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            builder.append("line ").append(i).append("\n");
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void sendStream() throws Exception {
+
+        final String content = createLargeContent();
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                try {
+                    context.response().sendStream(new ByteArrayInputStream(content.getBytes("UTF-8")),
+                                                  ContentTypeDefaults.TEXT.getMainVariationWithUtf8Charset());
+                } catch (Exception ex) {
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(ContentTypeDefaults.TEXT.getMainVariationWithUtf8Charset(), response.getContentType());
+        assertTrue(response.isGzipped());
+        assertEquals(content, response.getContentAsString());
+    }
+
+    @Test
+    public void sendStreamNotGzipped() throws Exception {
+
+        final String content = createLargeContent();
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                try {
+                    context.response().sendStream(new ByteArrayInputStream(content.getBytes("UTF-8")));
+                } catch (Exception ex) {
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(ContentTypeDefaults.BINARY.getMainVariation(), response.getContentType());
+        assertEquals(content, response.getContentAsString());
+    }
+
+    @Test
+    public void outputStream() throws Exception {
+
+        final String content = createLargeContent();
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                try {
+                    context.response().setContentType(ContentTypeDefaults.TEXT.getMainVariationWithUtf8Charset());
+
+                    OutputStream out = context.response().getOutputStream();
+                    for (String line : content.split("(?<=\n)")) {
+                        out.write(line.getBytes("UTF-8"));
+                    }
+                    out.close();
+
+                    assertTrue(context.response().isClosed());
+                } catch (Exception ex) {
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(ContentTypeDefaults.TEXT.getMainVariationWithUtf8Charset(), response.getContentType());
+        assertEquals(content, response.getContentAsString());
+    }
+
+    /**
+     * An InputStream of the specified number of
+     * bytes, 0 to 250 repeated.
+     */
+    protected InputStream createPatternInputStream(final int nbrBytes) {
+        return new InputStream() {
+
+            private int position = 0;
+
+            @Override
+            public int read() {
+                if (this.position >= nbrBytes) {
+                    return -1;
+                }
+                return this.position++ % 251;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (this.position >= nbrBytes) {
+                    return -1;
+                }
+                int nbrRead = Math.min(length, nbrBytes - this.position);
+                for (int i = 0; i < nbrRead; i++) {
+                    bytes[offset + i] = (byte)(this.position++ % 251);
+                }
+                return nbrRead;
+            }
+        };
+    }
+
+    @Test
+    public void sendStreamSlowClient() throws Exception {
+
+        //==========================================
+        // Much more than what the sockets can
+        // buffer, so the server has to wait for
+        // the client.
+        //==========================================
+        final int nbrBytes = 24 * 1024 * 1024;
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                try {
+                    context.response().sendStream(createPatternInputStream(nbrBytes));
+                } catch (Exception ex) {
+                    error.set(ex);
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        });
+
+        byte[] bytes = SlowReadingClient.get(createTestUrl("/one"), 1000);
+        assertNull(error.get());
+        assertEquals(nbrBytes, bytes.length);
+        for (int i = 0; i < nbrBytes; i++) {
+            if (bytes[i] != (byte)(i % 251)) {
+                fail("Invalid byte at position " + i);
+            }
+        }
+    }
+
+    @Test
+    public void flushesSlowClient() throws Exception {
+
+        //==========================================
+        // The chunks are sent asynchronously : each
+        // one is queued until the previous one has
+        // been written.
+        //==========================================
+        final int nbrChunks = 6;
+        final int chunkSize = 4 * 1024 * 1024;
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                try {
+                    InputStream in = createPatternInputStream(nbrChunks * chunkSize);
+                    byte[] chunk = new byte[chunkSize];
+                    for (int i = 0; i < nbrChunks; i++) {
+                        int nbrRead = 0;
+                        while (nbrRead < chunkSize) {
+                            nbrRead += in.read(chunk, nbrRead, chunkSize - nbrRead);
+                        }
+                        context.response().sendBytes(chunk, null, true);
+                    }
+                } catch (Exception ex) {
+                    error.set(ex);
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        });
+
+        byte[] bytes = SlowReadingClient.get(createTestUrl("/one"), 1000);
+        assertNull(error.get());
+        assertEquals(nbrChunks * chunkSize, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != (byte)(i % 251)) {
+                fail("Invalid byte at position " + i);
+            }
+        }
+    }
+
+    @Test
+    public void plainResponsesSentAsynchronously() throws Exception {
+
+        final AtomicBoolean htmlBlocking = new AtomicBoolean(true);
+        final AtomicBoolean bytesBlocking = new AtomicBoolean(true);
+
+        getRouter().GET("/html").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendHtml("<p>one</p>", true);
+                context.response().sendHtml("<p>two</p>");
+
+                //==========================================
+                // Before the end, since the client may
+                // receive the response right away.
+                //==========================================
+                htmlBlocking.set(((HttpServerExchange)context.exchange()).isBlocking());
+                context.response().end();
+            }
+        });
+
+        getRouter().GET("/bytes").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendBytes("abc".getBytes(), null, true);
+                bytesBlocking.set(((HttpServerExchange)context.exchange()).isBlocking());
+                context.response().end();
+            }
+        });
+
+        long leasesBefore = getSpincastByteBufferPool().getHitsNbr() + getSpincastByteBufferPool().getMissesNbr();
+
+        HttpResponse response = GET("/html").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals("<p>one</p><p>two</p>", response.getContentAsString());
+        assertFalse(htmlBlocking.get());
+
+        response = GET("/bytes").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals("abc", response.getContentAsString());
+        assertFalse(bytesBlocking.get());
+
+        //==========================================
+        // The bytes were sent using pooled buffers.
+        //==========================================
+        long leasesAfter = getSpincastByteBufferPool().getHitsNbr() + getSpincastByteBufferPool().getMissesNbr();
+        assertTrue(leasesAfter >= leasesBefore + 2);
+    }
+
+    @Test
+    public void outputStreamSentInBlockingMode() throws Exception {
+
+        final AtomicBoolean blocking = new AtomicBoolean(false);
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                try {
+                    OutputStream out = context.response().getOutputStream();
+                    out.write("abc".getBytes());
+                    blocking.set(((HttpServerExchange)context.exchange()).isBlocking());
+                    out.close();
+                } catch (Exception ex) {
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals("abc", response.getContentAsString());
+        assertTrue(blocking.get());
+    }
+
 }
@@ -3,8 +3,12 @@ package org.spincast.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Test;
 import org.spincast.core.exchange.DefaultRequestContext;
 import org.spincast.core.routing.Handler;
@@ -156,4 +160,182 @@ public class RoutesRuntimeModificationsTest extends NoAppStartHttpServerTestingB
 
     }
 
+    @Test
+    public void idCanBeReusedAfterRemoval() throws Exception {
+
+        getRouter().GET("/one").id("test").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("one");
+            }
+        });
+
+        getRouter().removeRoute("test");
+        assertNull(getRouter().getRoute("test"));
+
+        getRouter().GET("/two").id("test").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("two");
+            }
+        });
+
+        Route<DefaultRequestContext> route = getRouter().getRoute("test");
+        assertNotNull(route);
+        assertEquals("/two", route.getPath());
+    }
+
+    @Test
+    public void createRoutePath() throws Exception {
+
+        Handler<DefaultRequestContext> handler = new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("ok");
+            }
+        };
+
+        getRouter().GET("/users/${userId:<N>}/books/${bookName}").id("book").handle(handler);
+        getRouter().GET("/files/*{path}").id("files").handle(handler);
+        getRouter().GET("/").id("home").handle(handler);
+
+        Map<String, String> params = new HashMap<String, String>();
+        params.put("userId", "42");
+        params.put("bookName", "Le Petit Prince");
+        params.put("path", "a/b c/d");
+
+        assertEquals("/users/42/books/Le%20Petit%20Prince", getRouter().createRoutePath("book", params));
+        assertEquals("/files/a/b%20c/d", getRouter().createRoutePath("files", params));
+        assertEquals("/files", getRouter().createRoutePath("files", null));
+        assertEquals("/", getRouter().createRoutePath("home", null));
+
+        HttpResponse response = GET(getRouter().createRoutePath("book", params)).send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+
+        try {
+            getRouter().createRoutePath("book", null);
+            fail();
+        } catch (Exception ex) {
+        }
+
+        try {
+            getRouter().createRoutePath("nope", params);
+            fail();
+        } catch (Exception ex) {
+        }
+    }
+
+    @Test
+    public void removeFiltersById() throws Exception {
+
+        getRouter().ALL("/*{path}").pos(-5).id("before").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("before-");
+            }
+        });
+
+        getRouter().GET("/one").id("main").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("main");
+            }
+        });
+
+        getRouter().ALL("/*{path}").pos(5).id("after").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("-after");
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals("before-main-after", response.getContentAsString());
+
+        getRouter().removeRoute("before");
+        assertNull(getRouter().getRoute("before"));
+        response = GET("/one").send();
+        assertEquals("main-after", response.getContentAsString());
+
+        getRouter().removeRoute("after");
+        assertNull(getRouter().getRoute("after"));
+        response = GET("/one").send();
+        assertEquals("main", response.getContentAsString());
+
+        getRouter().removeRoute("main");
+        assertNull(getRouter().getRoute("main"));
+        response = GET("/one").send();
+        assertEquals(HttpStatus.SC_NOT_FOUND, response.getStatus());
+
+        //==========================================
+        // Unknown or null ids
+        //==========================================
+        getRouter().removeRoute("nope");
+        getRouter().removeRoute(null);
+        assertNull(getRouter().getRoute(null));
+    }
+
+    @Test
+    public void createRoutePathValidatesValues() throws Exception {
+
+        Handler<DefaultRequestContext> handler = new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("ok");
+            }
+        };
+
+        getRouter().GET("/users/${userId:<N>}").id("user").handle(handler);
+        getRouter().GET("/codes/${code:[a-z]{2}}").id("code").handle(handler);
+
+        Map<String, String> params = new HashMap<String, String>();
+        params.put("userId", "42");
+        params.put("code", "ab");
+        assertEquals("/users/42", getRouter().createRoutePath("user", params));
+        assertEquals("/codes/ab", getRouter().createRoutePath("code", params));
+
+        params.put("userId", "abc");
+        try {
+            getRouter().createRoutePath("user", params);
+            fail();
+        } catch (Exception ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("'abc' doesn't match"));
+        }
+
+        params.put("code", "abc");
+        try {
+            getRouter().createRoutePath("code", params);
+            fail();
+        } catch (Exception ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("'abc' doesn't match"));
+        }
+    }
+
+    @Test
+    public void createRoutePathUnnamedParam() throws Exception {
+
+        getRouter().GET("/users/${}/books").id("unnamed").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("ok");
+            }
+        });
+
+        try {
+            getRouter().createRoutePath("unnamed", new HashMap<String, String>());
+            fail();
+        } catch (Exception ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("unnamed parameter"));
+        }
+    }
+
 }
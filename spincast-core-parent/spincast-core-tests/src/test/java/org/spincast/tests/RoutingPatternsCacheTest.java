@@ -0,0 +1,280 @@
+package org.spincast.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spincast.core.config.SpincastConfig;
+import org.spincast.core.dictionary.Dictionary;
+import org.spincast.core.dictionary.DictionaryEntries;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.exchange.RequestContext;
+import org.spincast.core.exchange.RequestRequestContextAddon;
+import org.spincast.core.guice.SpincastGuiceModuleBase;
+import org.spincast.core.guice.TestingMode;
+import org.spincast.core.locale.LocaleResolver;
+import org.spincast.core.routing.HttpMethod;
+import org.spincast.core.routing.Router;
+import org.spincast.core.routing.RoutingResult;
+import org.spincast.core.templating.TemplatingEngine;
+import org.spincast.core.websocket.DefaultWebsocketContext;
+import org.spincast.plugins.config.SpincastConfigPluginConfig;
+import org.spincast.plugins.dictionary.SpincastDictionaryDefault;
+import org.spincast.plugins.localeresolver.LocaleResolverDefault;
+import org.spincast.plugins.routing.SpincastRouterConfig;
+import org.spincast.plugins.routing.SpincastRouterConfigDefault;
+import org.spincast.testing.core.utils.SpincastConfigTestingDefault;
+import org.spincast.testing.core.utils.SpincastTestingUtils;
+import org.spincast.testing.defaults.NoAppTestingBase;
+
+import com.google.inject.Inject;
+import com.google.inject.Module;
+import com.google.inject.Provider;
+import com.google.inject.Scopes;
+
+/**
+ * Dictionary based route params and concurrent
+ * access to the compiled patterns.
+ */
+public class RoutingPatternsCacheTest extends NoAppTestingBase {
+
+    protected static volatile boolean compiledRoutesMatcherEnabled = false;
+    protected static volatile Locale localeToUse = Locale.ENGLISH;
+
+    @Inject
+    Router<DefaultRequestContext, DefaultWebsocketContext> router;
+
+    @Override
+    protected Class<? extends SpincastConfig> getTestingConfigImplementationClass() {
+        return TestingSpincastConfig.class;
+    }
+
+    @Override
+    protected Module getExtraOverridingModule() {
+        return new SpincastGuiceModuleBase() {
+
+            @Override
+            protected void configure() {
+                bind(SpincastRouterConfig.class).to(TestRoutingConfig.class).in(Scopes.SINGLETON);
+                bind(Dictionary.class).to(TestDictionary.class).in(Scopes.SINGLETON);
+                bind(LocaleResolver.class).to(TestLocaleResolver.class).in(Scopes.SINGLETON);
+            }
+        };
+    }
+
+    /**
+     * A very small cache, so the patterns are
+     * evicted all the time.
+     */
+    public static class TestingSpincastConfig extends SpincastConfigTestingDefault {
+
+        @Inject
+        protected TestingSpincastConfig(SpincastConfigPluginConfig spincastConfigPluginConfig,
+                                        @TestingMode boolean testingMode) {
+            super(spincastConfigPluginConfig, testingMode);
+        }
+
+        @Override
+        public int getRouteParamPatternsCacheMaxSize() {
+            return 2;
+        }
+    }
+
+    protected static class TestRoutingConfig extends SpincastRouterConfigDefault {
+
+        @Inject
+        public TestRoutingConfig(SpincastConfig spincastConfig) {
+            super(spincastConfig);
+        }
+
+        @Override
+        public boolean isCompiledRoutesMatcherEnabled() {
+            return compiledRoutesMatcherEnabled;
+        }
+    }
+
+    public static class TestDictionary extends SpincastDictionaryDefault {
+
+        @Inject
+        public TestDictionary(LocaleResolver localeResolver,
+                              TemplatingEngine templatingEngine,
+                              SpincastConfig spincastConfig,
+                              @Nullable Set<DictionaryEntries> dictionaryEntries) {
+            super(localeResolver, templatingEngine, spincastConfig, dictionaryEntries);
+        }
+
+        @Override
+        protected void addMessages() {
+            super.addMessages();
+            key("route.users",
+                msg("en", "users"),
+                msg("fr", "utilisateurs"));
+        }
+    }
+
+    public static class TestLocaleResolver extends LocaleResolverDefault {
+
+        @Inject
+        public TestLocaleResolver(SpincastConfig spincastConfig,
+                                  Provider<RequestContext<?>> requestContextProvider) {
+            super(spincastConfig, requestContextProvider);
+        }
+
+        @Override
+        public Locale getLocaleToUse() {
+            return localeToUse;
+        }
+    }
+
+    @Before
+    public void before() {
+        compiledRoutesMatcherEnabled = false;
+        localeToUse = Locale.ENGLISH;
+        getRouter().removeAllRoutes(true);
+    }
+
+    protected Router<DefaultRequestContext, DefaultWebsocketContext> getRouter() {
+        return this.router;
+    }
+
+    protected DefaultRequestContext getRequestContextMock(HttpMethod httpMethod, String url) {
+
+        @SuppressWarnings("unchecked")
+        RequestRequestContextAddon<DefaultRequestContext> requestAddon = Mockito.mock(RequestRequestContextAddon.class);
+        Mockito.when(requestAddon.getHttpMethod()).thenReturn(httpMethod);
+        Mockito.when(requestAddon.getFullUrl()).thenReturn(url);
+
+        DefaultRequestContext requestContext = Mockito.mock(DefaultRequestContext.class);
+        Mockito.when(requestContext.request()).thenReturn(requestAddon);
+
+        return requestContext;
+    }
+
+    /**
+     * Returns the path of the matching route, or
+     * <code>null</code>.
+     */
+    protected String route(String url) {
+        RoutingResult<DefaultRequestContext> routingResult = getRouter().route(getRequestContextMock(HttpMethod.GET, url));
+        if (routingResult == null) {
+            return null;
+        }
+        return routingResult.getMainRouteHandlerMatch().getSourceRoute().getPath();
+    }
+
+    protected void addPatternRoutes() {
+        getRouter().addRouteParamPatternAlias("LETTERS", "[a-z]+");
+        getRouter().GET("/nbr/${param:\\d+}").handle(SpincastTestingUtils.dummyRouteHandler);
+        getRouter().GET("/letters/${param:<LETTERS>}").handle(SpincastTestingUtils.dummyRouteHandler);
+        getRouter().GET("/mixed/${param:[a-z]+\\d+}").handle(SpincastTestingUtils.dummyRouteHandler);
+        getRouter().GET("/${param:<<route.users>>}/list").handle(SpincastTestingUtils.dummyRouteHandler);
+    }
+
+    @Test
+    public void dictionaryPatternPerLanguage() throws Exception {
+
+        addPatternRoutes();
+
+        for (boolean compiled : new boolean[]{false, true}) {
+            compiledRoutesMatcherEnabled = compiled;
+
+            localeToUse = Locale.ENGLISH;
+            assertEquals("/${param:<<route.users>>}/list", route("http://localhost/users/list"));
+            assertNull(route("http://localhost/utilisateurs/list"));
+
+            localeToUse = Locale.FRENCH;
+            assertEquals("/${param:<<route.users>>}/list", route("http://localhost/utilisateurs/list"));
+            assertNull(route("http://localhost/users/list"));
+
+            //==========================================
+            // No value for this language
+            //==========================================
+            localeToUse = Locale.GERMAN;
+            assertNull(route("http://localhost/users/list"));
+            assertNull(route("http://localhost/utilisateurs/list"));
+        }
+    }
+
+    @Test
+    public void concurrentAccessLinearMatcher() throws Exception {
+        addPatternRoutes();
+        routeConcurrently();
+    }
+
+    @Test
+    public void concurrentAccessCompiledMatcher() throws Exception {
+        addPatternRoutes();
+        compiledRoutesMatcherEnabled = true;
+        routeConcurrently();
+    }
+
+    protected void routeConcurrently() throws Exception {
+
+        final String[][] urlsAndExpected = new String[][]{
+                                                          {"http://localhost/nbr/123", "/nbr/${param:\\d+}"},
+                                                          {"http://localhost/nbr/abc", null},
+                                                          {"http://localhost/letters/abc", "/letters/${param:<LETTERS>}"},
+                                                          {"http://localhost/letters/123", null},
+                                                          {"http://localhost/mixed/abc123", "/mixed/${param:[a-z]+\\d+}"},
+                                                          {"http://localhost/mixed/123abc", null},
+                                                          {"http://localhost/users/list", "/${param:<<route.users>>}/list"},
+                                                          {"http://localhost/nope/list", null}
+        };
+
+        int threadsNbr = 8;
+        final int iterationsNbr = 500;
+        final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<String>();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadsNbr);
+        try {
+            List<Runnable> tasks = new ArrayList<Runnable>();
+            for (int t = 0; t < threadsNbr; t++) {
+                final int offset = t;
+                tasks.add(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        try {
+                            startLatch.await();
+                            for (int i = 0; i < iterationsNbr; i++) {
+                                String[] urlAndExpected = urlsAndExpected[(i + offset) % urlsAndExpected.length];
+                                String path = route(urlAndExpected[0]);
+                                if (urlAndExpected[1] == null ? path != null : !urlAndExpected[1].equals(path)) {
+                                    errors.add(urlAndExpected[0] + " => " + path);
+                                }
+                            }
+                        } catch (Throwable ex) {
+                            errors.add(ex.toString());
+                        }
+                    }
+                });
+            }
+            for (Runnable task : tasks) {
+                executor.execute(task);
+            }
+            startLatch.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(errors.toString(), errors.isEmpty());
+    }
+
+}
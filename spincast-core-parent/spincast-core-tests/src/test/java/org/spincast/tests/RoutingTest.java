@@ -13,26 +13,63 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.spincast.core.config.SpincastConfig;
 import org.spincast.core.exchange.DefaultRequestContext;
 import org.spincast.core.exchange.RequestRequestContextAddon;
+import org.spincast.core.guice.SpincastGuiceModuleBase;
 import org.spincast.core.routing.Handler;
 import org.spincast.core.routing.HttpMethod;
 import org.spincast.core.routing.RouteHandlerMatch;
 import org.spincast.core.routing.Router;
 import org.spincast.core.routing.RoutingResult;
 import org.spincast.core.websocket.DefaultWebsocketContext;
+import org.spincast.plugins.routing.SpincastRouterConfig;
+import org.spincast.plugins.routing.SpincastRouterConfigDefault;
 import org.spincast.testing.core.utils.SpincastTestingUtils;
 import org.spincast.testing.defaults.NoAppTestingBase;
 
 import com.google.inject.Inject;
+import com.google.inject.Module;
+import com.google.inject.Scopes;
 
 public class RoutingTest extends NoAppTestingBase {
 
+    protected static volatile boolean compiledRoutesMatcherEnabled = false;
+
     @Inject
     Router<DefaultRequestContext, DefaultWebsocketContext> router;
 
+    @Override
+    protected Module getExtraOverridingModule() {
+        return new SpincastGuiceModuleBase() {
+
+            @Override
+            protected void configure() {
+                bind(SpincastRouterConfig.class).to(TestRoutingConfig.class).in(Scopes.SINGLETON);
+            }
+        };
+    }
+
+    /**
+     * Allows the compiled routes matcher to be enabled
+     * by a test.
+     */
+    protected static class TestRoutingConfig extends SpincastRouterConfigDefault {
+
+        @Inject
+        public TestRoutingConfig(SpincastConfig spincastConfig) {
+            super(spincastConfig);
+        }
+
+        @Override
+        public boolean isCompiledRoutesMatcherEnabled() {
+            return compiledRoutesMatcherEnabled;
+        }
+    }
+
     @Before
     public void before() {
+        compiledRoutesMatcherEnabled = false;
         getRouter().removeAllRoutes(true);
     }
 
@@ -1721,4 +1758,99 @@ public class RoutingTest extends NoAppTestingBase {
 
     }
 
+    /**
+     * Routes the url using the regular matcher and then using
+     * the compiled matcher, and validates the results are
+     * the same. Returns the path of the matching route, or
+     * <code>null</code>.
+     */
+    protected String routeUsingBothMatchers(String url, Map<String, String> expectedParams) {
+
+        String[] paths = new String[2];
+        for (int i = 0; i < 2; i++) {
+            compiledRoutesMatcherEnabled = (i == 1);
+            try {
+                RoutingResult<DefaultRequestContext> routingResult =
+                        getRouter().route(getRequestContextMock(HttpMethod.GET, url));
+                if (routingResult != null) {
+                    RouteHandlerMatch<DefaultRequestContext> match = routingResult.getMainRouteHandlerMatch();
+                    paths[i] = match.getSourceRoute().getPath();
+                    if (expectedParams != null) {
+                        assertEquals(url, expectedParams, match.getPathParams());
+                    }
+                }
+            } finally {
+                compiledRoutesMatcherEnabled = false;
+            }
+        }
+        assertEquals(url, paths[0], paths[1]);
+
+        return paths[0];
+    }
+
+    @Test
+    public void compiledMatcherSameResults() throws Exception {
+
+        Router<DefaultRequestContext, DefaultWebsocketContext> router = getRouter();
+
+        router.GET("/one/two").handle(SpincastTestingUtils.dummyRouteHandler);
+        router.GET("/one/${param1}").handle(SpincastTestingUtils.dummyRouteHandler);
+        router.GET("/one/${param1}/three").handle(SpincastTestingUtils.dummyRouteHandler);
+        router.GET("/nbr/${id:\\d+}").handle(SpincastTestingUtils.dummyRouteHandler);
+        router.GET("/nbr/${name}").handle(SpincastTestingUtils.dummyRouteHandler);
+        router.GET("/files/*{path}").handle(SpincastTestingUtils.dummyRouteHandler);
+        router.POST("/post").handle(SpincastTestingUtils.dummyRouteHandler);
+
+        Map<String, String> params = new HashMap<String, String>();
+        assertEquals("/one/two", routeUsingBothMatchers("http://localhost/one/two", params));
+        assertEquals("/one/two", routeUsingBothMatchers("http://localhost/ONE/Two/", params));
+        assertNull(routeUsingBothMatchers("http://localhost/post", null));
+        assertNull(routeUsingBothMatchers("http://localhost/one/yo/nope", null));
+
+        params.put("param1", "yo");
+        assertEquals("/one/${param1}", routeUsingBothMatchers("http://localhost/one/yo", params));
+        assertEquals("/one/${param1}/three", routeUsingBothMatchers("http://localhost/one/yo/three", params));
+
+        params.clear();
+        params.put("id", "123");
+        assertEquals("/nbr/${id:\\d+}", routeUsingBothMatchers("http://localhost/nbr/123", params));
+
+        params.clear();
+        params.put("name", "abc");
+        assertEquals("/nbr/${name}", routeUsingBothMatchers("http://localhost/nbr/abc", params));
+
+        params.clear();
+        params.put("path", "a/b/c");
+        assertEquals("/files/*{path}", routeUsingBothMatchers("http://localhost/files/a/b/c", params));
+
+
+        router.GET("/*{all}").handle(SpincastTestingUtils.dummyRouteHandler);
+
+        params.clear();
+        params.put("all", "one/yo/nope");
+        assertEquals("/*{all}", routeUsingBothMatchers("http://localhost/one/yo/nope", params));
+    }
+
+    @Test
+    public void compiledMatcherAliasModifiedAfterCompilation() throws Exception {
+
+        Router<DefaultRequestContext, DefaultWebsocketContext> router = getRouter();
+
+        router.addRouteParamPatternAlias("CUSTOM_ALIAS", "abc");
+        router.GET("/${param1:<CUSTOM_ALIAS>}").handle(SpincastTestingUtils.dummyRouteHandler);
+
+        //==========================================
+        // Compiles the routes.
+        //==========================================
+        assertNotNull(routeUsingBothMatchers("http://localhost/abc", null));
+        assertNull(routeUsingBothMatchers("http://localhost/def", null));
+
+        //==========================================
+        // The compiled routes must use the new pattern.
+        //==========================================
+        router.addRouteParamPatternAlias("CUSTOM_ALIAS", "def");
+        assertNull(routeUsingBothMatchers("http://localhost/abc", null));
+        assertNotNull(routeUsingBothMatchers("http://localhost/def", null));
+    }
+
 }
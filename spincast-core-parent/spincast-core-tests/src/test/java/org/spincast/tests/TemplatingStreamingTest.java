@@ -0,0 +1,148 @@
+package org.spincast.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.Test;
+import org.spincast.core.config.SpincastConfig;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.guice.TestingMode;
+import org.spincast.core.routing.Handler;
+import org.spincast.core.templating.TemplatingEngine;
+import org.spincast.core.utils.ContentTypeDefaults;
+import org.spincast.core.utils.GzipOption;
+import org.spincast.plugins.config.SpincastConfigPluginConfig;
+import org.spincast.plugins.httpclient.HttpResponse;
+import org.spincast.shaded.org.apache.commons.io.FileUtils;
+import org.spincast.shaded.org.apache.commons.lang3.StringUtils;
+import org.spincast.shaded.org.apache.http.HttpStatus;
+import org.spincast.tests.varia.SlowReadingClient;
+import org.spincast.testing.core.utils.SpincastConfigTestingDefault;
+import org.spincast.testing.defaults.NoAppStartHttpServerTestingBase;
+
+import com.google.inject.Inject;
+
+public class TemplatingStreamingTest extends NoAppStartHttpServerTestingBase {
+
+    @Inject
+    protected TemplatingEngine templatingEngine;
+
+    @Override
+    protected Class<? extends SpincastConfig> getTestingConfigImplementationClass2() {
+        return TestingSpincastConfig2.class;
+    }
+
+    protected static class TestingSpincastConfig2 extends SpincastConfigTestingDefault {
+
+        /**
+         * Constructor
+         */
+        @Inject
+        protected TestingSpincastConfig2(SpincastConfigPluginConfig spincastConfigPluginConfig,
+                                         @TestingMode boolean testingMode) {
+            super(spincastConfigPluginConfig, testingMode);
+        }
+
+        @Override
+        public boolean isStreamTemplatesToResponse() {
+            return true;
+        }
+    }
+
+    /**
+     * Bigger than a streaming chunk.
+     */
+    protected String createBigContent() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append("<p>line ").append(i).append(" : é</p>\n");
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void bigTemplateStreamed() throws Exception {
+
+        final File testFile = new File(createTestingFilePath());
+        String placeholder = this.templatingEngine.createPlaceholder("param1");
+        String bigContent = createBigContent();
+        FileUtils.writeStringToFile(testFile, placeholder + bigContent + placeholder, "UTF-8");
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().getModel().set("param1", "Hello!");
+                context.response().sendTemplateHtml(testFile.getAbsolutePath(), false);
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(ContentTypeDefaults.HTML.getMainVariationWithUtf8Charset(), response.getContentType());
+        assertEquals("Hello!" + bigContent + "Hello!", response.getContentAsString());
+        assertTrue(response.isGzipped());
+    }
+
+    @Test
+    public void bigTemplateStreamedNotGzipped() throws Exception {
+
+        final File testFile = new File(createTestingFilePath());
+        String bigContent = createBigContent();
+        FileUtils.writeStringToFile(testFile, bigContent, "UTF-8");
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().setGzipOption(GzipOption.DISABLE);
+                context.response().sendTemplate(testFile.getAbsolutePath(), false, "text/plain");
+            }
+        });
+
+        HttpResponse response = GET("/one").send();
+
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(bigContent, response.getContentAsString());
+        assertFalse(response.isGzipped());
+    }
+
+    @Test
+    public void bigTemplateStreamedSlowClient() throws Exception {
+
+        //==========================================
+        // Much more than what the sockets can
+        // buffer, so the server has to wait for
+        // the client.
+        //==========================================
+        final int nbrLines = 24 * 1024;
+        final String line = StringUtils.repeat("abcdefghij", 100);
+
+        final File testFile = new File(createTestingFilePath());
+        FileUtils.writeStringToFile(testFile,
+                                    "{% for i in range(0, " + (nbrLines - 1) + ") %}<p>{{ i }} " + line + "</p>\n{% endfor %}",
+                                    "UTF-8");
+
+        getRouter().GET("/one").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendTemplateHtml(testFile.getAbsolutePath(), false);
+            }
+        });
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < nbrLines; i++) {
+            expected.append("<p>").append(i).append(" ").append(line).append("</p>\n");
+        }
+
+        byte[] bytes = SlowReadingClient.get(createTestUrl("/one"), 1000);
+        assertTrue(bytes.length > 16 * 1024 * 1024);
+        assertEquals(expected.toString(), new String(bytes, "UTF-8"));
+    }
+
+}
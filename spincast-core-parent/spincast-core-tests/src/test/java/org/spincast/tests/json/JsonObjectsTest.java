@@ -3341,4 +3341,120 @@ public class JsonObjectsTest extends NoAppTestingBase {
         assertEquals(jsonArr.getString("[1].label"), "second value");
     }
 
+    @Test
+    public void toJsonStringNested() throws Exception {
+
+        JsonObject inner = getJsonManager().create();
+        inner.set("name", "Stromgol");
+        inner.set("nothing", (String)null);
+
+        JsonArray array = getJsonManager().createArray();
+        array.add(1);
+        array.add(inner);
+        array.add((String)null);
+        array.add(getJsonManager().createArray());
+
+        JsonObject jsonObj = getJsonManager().create();
+        jsonObj.set("array", array);
+        jsonObj.set("inner", inner);
+        jsonObj.set("emptyObj", getJsonManager().create());
+
+        JsonObject parsed = getJsonManager().fromString(jsonObj.toJsonString());
+        assertEquals(3, parsed.size());
+        assertEquals(4, parsed.getJsonArray("array").size());
+        assertEquals(Integer.valueOf(1), parsed.getInteger("array[0]"));
+        assertEquals("Stromgol", parsed.getString("array[1].name"));
+        assertTrue(parsed.contains("array[1].nothing"));
+        assertNull(parsed.getString("array[1].nothing"));
+        assertNull(parsed.getString("array[2]"));
+        assertEquals(0, parsed.getJsonArray("array[3]").size());
+        assertEquals("Stromgol", parsed.getString("inner.name"));
+        assertEquals(0, parsed.getJsonObject("emptyObj").size());
+
+        inner.remove("nothing");
+        assertEquals("[1,{\"name\":\"Stromgol\"},null,[]]", array.toJsonString());
+    }
+
+    @Test
+    public void fromStringImmutable() throws Exception {
+
+        JsonObject jsonObj = getJsonManager().fromString("{\"name\":\"Stromgol\",\"inner\":{\"arr\":[1,{\"key\":true}]}}",
+                                                         false);
+        assertFalse(jsonObj.isMutable());
+        assertFalse(jsonObj.getJsonObject("inner").isMutable());
+        assertFalse(jsonObj.getJsonArray("inner.arr").isMutable());
+        assertFalse(jsonObj.getJsonObject("inner.arr[1]").isMutable());
+        assertEquals("Stromgol", jsonObj.getString("name"));
+        assertEquals(Integer.valueOf(1), jsonObj.getInteger("inner.arr[0]"));
+        assertEquals(true, jsonObj.getBoolean("inner.arr[1].key"));
+
+        try {
+            jsonObj.set("name", "nope");
+            fail();
+        } catch (Exception ex) {
+        }
+
+        jsonObj = getJsonManager().fromString("{\"name\":\"Stromgol\"}", true);
+        assertTrue(jsonObj.isMutable());
+        jsonObj.set("name", "ok");
+        assertEquals("ok", jsonObj.getString("name"));
+    }
+
+    @Test
+    public void mutableCloneOfImmutableIsCopyOnWrite() throws Exception {
+
+        JsonObject immutable = getJsonManager().fromString("{\"name\":\"Stromgol\",\"inner\":{\"arr\":[1,{\"key\":true}]}}",
+                                                           false);
+
+        //==========================================
+        // Not modified or accessed : the immutable
+        // source is returned back.
+        //==========================================
+        JsonObject mutable = immutable.clone(true);
+        assertTrue(mutable.isMutable());
+        assertEquals("Stromgol", mutable.getString("name"));
+        assertEquals(2, mutable.size());
+        assertTrue(immutable == mutable.clone(false));
+
+        mutable.getJsonObject("inner").getJsonArray("arr").getJsonObject(1).set("key", false);
+        mutable.getJsonObject("inner").getJsonArray("arr").add(2);
+        mutable.set("name", "Other");
+
+        assertTrue(mutable.getJsonObject("inner").isMutable());
+        assertTrue(mutable.getJsonArray("inner.arr").isMutable());
+        assertEquals(false, mutable.getBoolean("inner.arr[1].key"));
+        assertEquals(Integer.valueOf(2), mutable.getInteger("inner.arr[2]"));
+        assertEquals("Other", mutable.getString("name"));
+
+        assertEquals(true, immutable.getBoolean("inner.arr[1].key"));
+        assertEquals(2, immutable.getJsonArray("inner.arr").size());
+        assertEquals("Stromgol", immutable.getString("name"));
+
+        JsonObject immutable2 = mutable.clone(false);
+        assertTrue(immutable != immutable2);
+        assertFalse(immutable2.isMutable());
+        assertEquals("Other", immutable2.getString("name"));
+
+        JsonArray mutableArray = immutable.getJsonArray("inner.arr").clone(true);
+        assertTrue(immutable.getJsonArray("inner.arr") == mutableArray.clone(false));
+        mutableArray.remove(0);
+        assertEquals(1, mutableArray.size());
+        assertEquals(2, immutable.getJsonArray("inner.arr").size());
+    }
+
+    @Test
+    public void fromStringKeysParsedAsJsonPaths() throws Exception {
+
+        JsonObject jsonObj = getJsonManager().fromString("{\"one\":1,\"inner.two\":2,\"arr[1]\":3}");
+        assertEquals(Integer.valueOf(1), jsonObj.getInteger("one"));
+        assertEquals(Integer.valueOf(2), jsonObj.getInteger("inner.two"));
+        assertEquals(Integer.valueOf(3), jsonObj.getInteger("arr[1]"));
+        assertNull(jsonObj.getInteger("arr[0]"));
+
+        jsonObj = getJsonManager().fromString("{\"one\":1,\"inner.two\":2}", false);
+        assertFalse(jsonObj.isMutable());
+        assertFalse(jsonObj.getJsonObject("inner").isMutable());
+        assertEquals(Integer.valueOf(2), jsonObj.getInteger("inner.two"));
+    }
+
 }
@@ -0,0 +1,129 @@
+package org.spincast.tests.json;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.spincast.core.config.SpincastConfig;
+import org.spincast.core.guice.SpincastGuiceModuleBase;
+import org.spincast.core.guice.TestingMode;
+import org.spincast.core.json.JsonManager;
+import org.spincast.core.json.JsonPath;
+import org.spincast.core.json.JsonPathUtils;
+import org.spincast.core.json.JsonPathUtilsDefault;
+import org.spincast.plugins.config.SpincastConfigPluginConfig;
+import org.spincast.testing.core.utils.SpincastConfigTestingDefault;
+import org.spincast.testing.defaults.NoAppTestingBase;
+
+import com.google.inject.Inject;
+import com.google.inject.Module;
+import com.google.inject.Scopes;
+
+/**
+ * The cache of compiled JsonPaths.
+ */
+public class JsonPathsCompiledCacheTest extends NoAppTestingBase {
+
+    @Inject
+    protected JsonManager jsonManager;
+
+    @Inject
+    protected JsonPathUtils jsonPathUtils;
+
+    protected JsonManager getJsonManager() {
+        return this.jsonManager;
+    }
+
+    protected TestJsonPathUtils getJsonPathUtils() {
+        return (TestJsonPathUtils)this.jsonPathUtils;
+    }
+
+    @Override
+    protected Class<? extends SpincastConfig> getTestingConfigImplementationClass() {
+        return TestingSpincastConfig.class;
+    }
+
+    @Override
+    protected Module getExtraOverridingModule() {
+        return new SpincastGuiceModuleBase() {
+
+            @Override
+            protected void configure() {
+                bind(JsonPathUtils.class).to(TestJsonPathUtils.class).in(Scopes.SINGLETON);
+            }
+        };
+    }
+
+    public static class TestingSpincastConfig extends SpincastConfigTestingDefault {
+
+        @Inject
+        protected TestingSpincastConfig(SpincastConfigPluginConfig spincastConfigPluginConfig,
+                                        @TestingMode boolean testingMode) {
+            super(spincastConfigPluginConfig, testingMode);
+        }
+
+        @Override
+        public int getCompiledJsonPathsCacheMaxSize() {
+            return 2;
+        }
+    }
+
+    /**
+     * Gives access to the cache.
+     */
+    public static class TestJsonPathUtils extends JsonPathUtilsDefault {
+
+        @Inject
+        public TestJsonPathUtils(SpincastConfig spincastConfig, JsonManager jsonManager) {
+            super(spincastConfig, jsonManager);
+        }
+
+        public JsonPath getCached(String jsonPath) {
+            return getCompiledJsonPathsCache().getIfPresent(jsonPath);
+        }
+
+        public long getCachedNbr() {
+            getCompiledJsonPathsCache().cleanUp();
+            return getCompiledJsonPathsCache().size();
+        }
+    }
+
+    @Test
+    public void validJsonPathCached() throws Exception {
+
+        JsonPath jsonPath = getJsonManager().compileJsonPath("cache.valid[0]");
+        assertTrue(jsonPath == getJsonPathUtils().getCached("cache.valid[0]"));
+        assertTrue(jsonPath == getJsonManager().compileJsonPath("cache.valid[0]"));
+    }
+
+    @Test
+    public void invalidJsonPathNotCached() throws Exception {
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                getJsonManager().compileJsonPath("cache..invalid");
+                fail();
+            } catch (Exception ex) {
+            }
+            assertNull(getJsonPathUtils().getCached("cache..invalid"));
+        }
+
+        //==========================================
+        // Also when used by a getter
+        //==========================================
+        assertNull(getJsonManager().create().getString("cache..invalid"));
+        assertNull(getJsonPathUtils().getCached("cache..invalid"));
+    }
+
+    @Test
+    public void maxSizeFromConfig() throws Exception {
+
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(getJsonManager().compileJsonPath("cache.size[" + i + "]"));
+        }
+        assertTrue(getJsonPathUtils().getCachedNbr() <= 2);
+    }
+
+}
@@ -15,6 +15,7 @@ import org.junit.Test;
 import org.spincast.core.json.JsonArray;
 import org.spincast.core.json.JsonManager;
 import org.spincast.core.json.JsonObject;
+import org.spincast.core.json.JsonPath;
 import org.spincast.shaded.org.apache.commons.lang3.time.DateUtils;
 import org.spincast.testing.defaults.NoAppTestingBase;
 
@@ -683,4 +684,46 @@ public class JsonPathsSelectTest extends NoAppTestingBase {
         assertEquals("Stromgol", obj.getString("[\"ccc\"]"));
     }
 
+    @Test
+    public void compiledJsonPath() throws Exception {
+
+        JsonPath jsonPath = getJsonManager().compileJsonPath("user.addresses[1]['the.city']");
+        assertEquals(4, jsonPath.getTokens().size());
+        assertTrue(jsonPath.getTokens().get(2).isIndex());
+        assertEquals("the.city", jsonPath.getTokens().get(3).getKey());
+
+        JsonObject obj1 = getJsonManager().create();
+        assertFalse(getJsonManager().isElementExists(obj1, jsonPath));
+        assertEquals("defaultVal", obj1.getString(jsonPath, "defaultVal"));
+
+        obj1.set(jsonPath, "Montreal");
+        assertTrue(getJsonManager().isElementExists(obj1, jsonPath));
+        assertEquals("Montreal", obj1.getString(jsonPath));
+        assertEquals("Montreal", obj1.getString("user.addresses[1]['the.city']"));
+        assertNull(obj1.getJsonArray("user.addresses").getObject(0));
+
+        JsonObject obj2 = getJsonManager().create();
+        obj2.set("user.addresses[1]", getJsonManager().create().setNoKeyParsing("the.city", "Quebec"));
+        assertEquals("Quebec", obj2.getString(jsonPath));
+
+        JsonObject immutable = obj2.clone(false);
+        assertEquals("Quebec", immutable.getString(jsonPath));
+        assertEquals("Quebec", immutable.getString(jsonPath));
+
+        getJsonManager().removeElementAtJsonPath(obj2, jsonPath);
+        assertFalse(getJsonManager().isElementExists(obj2, jsonPath));
+        assertTrue(obj2.contains("user.addresses[1]"));
+
+        JsonArray array = getJsonManager().createArray();
+        array.add("a");
+        array.add(getJsonManager().fromString("{\"b\":[1,2]}"));
+        assertEquals(Integer.valueOf(2), array.getInteger(getJsonManager().compileJsonPath("[1].b[1]")));
+
+        try {
+            getJsonManager().compileJsonPath("user..name");
+            fail();
+        } catch (Exception ex) {
+        }
+    }
+
 }
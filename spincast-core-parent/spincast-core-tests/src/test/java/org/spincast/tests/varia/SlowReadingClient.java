@@ -0,0 +1,78 @@
+package org.spincast.tests.varia;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * HTTP client which waits before reading the body
+ * of the response, so the server has to wait for
+ * the socket to be writable again.
+ */
+public class SlowReadingClient {
+
+    /**
+     * Sends a GET request, waits for the specified number
+     * of milliseconds once the headers are received and then
+     * reads the whole body.
+     * <p>
+     * The body is not gzipped and the self-signed certificate
+     * of the testing server is accepted.
+     */
+    public static byte[] get(String url, int waitMilliseconds) throws Exception {
+
+        HttpURLConnection connection = (HttpURLConnection)new URL(url).openConnection();
+        try {
+            if (connection instanceof HttpsURLConnection) {
+                trustAll((HttpsURLConnection)connection);
+            }
+            connection.setRequestProperty("Accept-Encoding", "identity");
+            connection.setReadTimeout(10000);
+
+            InputStream in = connection.getInputStream();
+            Thread.sleep(waitMilliseconds);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] bytes = new byte[8 * 1024];
+            int nbrRead;
+            while ((nbrRead = in.read(bytes)) != -1) {
+                out.write(bytes, 0, nbrRead);
+            }
+            in.close();
+
+            return out.toByteArray();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    protected static void trustAll(HttpsURLConnection connection) throws Exception {
+
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, new TrustManager[]{new X509TrustManager() {
+
+            @Override
+            public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return new X509Certificate[0];
+            }
+        }}, null);
+
+        connection.setSSLSocketFactory(sslContext.getSocketFactory());
+        connection.setHostnameVerifier((hostname, session) -> true);
+    }
+}
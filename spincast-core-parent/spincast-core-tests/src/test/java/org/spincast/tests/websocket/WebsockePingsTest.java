@@ -10,6 +10,7 @@ import java.util.Set;
 import org.junit.Test;
 import org.spincast.plugins.httpclient.websocket.WebsocketClientWriter;
 import org.spincast.plugins.undertow.ClosedEventSentCallback;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
 import org.spincast.plugins.undertow.SpincastUndertowWebsocketEndpointWriter;
 import org.spincast.plugins.undertow.UndertowWebsocketEndpointWriter;
 import org.spincast.plugins.undertow.UndertowWebsocketEndpointWriterFactory;
@@ -60,8 +61,9 @@ public class WebsockePingsTest extends NoAppWebsocketTestingBase {
 
         @AssistedInject
         public SpincastUndertowWebsocketEndpointWriterTest(@Assisted Map<String, WebSocketChannel> channels,
-                                                           SpincastUndertowConfig spincastUndertowConfig) {
-            super(channels, spincastUndertowConfig);
+                                                           SpincastUndertowConfig spincastUndertowConfig,
+                                                           SpincastByteBufferPool spincastByteBufferPool) {
+            super(channels, spincastUndertowConfig, spincastByteBufferPool);
         }
 
         @Override
@@ -0,0 +1,454 @@
+package org.spincast.tests.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.websocket.DefaultWebsocketContext;
+import org.spincast.core.websocket.WebsocketConnectionConfig;
+import org.spincast.core.websocket.WebsocketEndpointHandler;
+import org.spincast.plugins.httpclient.websocket.WebsocketClientWriter;
+import org.spincast.plugins.undertow.SpincastUndertowUtils;
+import org.spincast.plugins.undertow.SpincastWebsocketEndpoint;
+import org.spincast.plugins.undertow.SpincastWebsocketExecutors;
+import org.spincast.plugins.undertow.UndertowWebsocketEndpointWriterFactory;
+import org.spincast.plugins.undertow.WebsocketEndpoint;
+import org.spincast.plugins.undertow.WebsocketEndpointFactory;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfigDefault;
+import org.spincast.plugins.undertow.config.WebsocketAppEventsQueueOverflowPolicy;
+import org.spincast.testing.core.utils.SpincastTestingUtils;
+import org.spincast.testing.core.utils.TrueChecker;
+import org.spincast.testing.defaults.NoAppWebsocketTestingBase;
+import org.spincast.tests.varia.DefaultWebsocketControllerTest;
+import org.spincast.tests.varia.WebsocketClientTest;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+
+public class WebsocketAppEventsQueueTest extends NoAppWebsocketTestingBase {
+
+    protected static volatile int queueMaxSize;
+    protected static volatile WebsocketAppEventsQueueOverflowPolicy overflowPolicy;
+
+    @Override
+    protected Module getExtraOverridingModule3() {
+
+        return new AbstractModule() {
+
+            @Override
+            protected void configure() {
+
+                bind(SpincastUndertowConfig.class).toInstance(new SpincastUndertowConfigDefault() {
+
+                    @Override
+                    public int getWebsocketAppEventsPeerQueueMaxSize() {
+                        return queueMaxSize;
+                    }
+
+                    @Override
+                    public WebsocketAppEventsQueueOverflowPolicy getWebsocketAppEventsQueueOverflowPolicy() {
+                        return overflowPolicy;
+                    }
+                });
+
+                install(new FactoryModuleBuilder().implement(WebsocketEndpoint.class,
+                                                             WebsocketEndpointTest.class)
+                                                  .build(WebsocketEndpointFactory.class));
+            }
+        };
+    }
+
+    /**
+     * An endpoint which allows a message event to be
+     * sent while the peer is not connected anymore.
+     */
+    protected static class WebsocketEndpointTest extends SpincastWebsocketEndpoint {
+
+        @AssistedInject
+        public WebsocketEndpointTest(@Assisted String endpointId,
+                                     @Assisted WebsocketEndpointHandler eventsHandler,
+                                     UndertowWebsocketEndpointWriterFactory undertowWebsocketEndpointWriterFactory,
+                                     SpincastUndertowConfig spincastUndertowConfig,
+                                     SpincastUndertowUtils spincastUndertowUtils,
+                                     SpincastWebsocketExecutors spincastWebsocketExecutors) {
+            super(endpointId,
+                  eventsHandler,
+                  undertowWebsocketEndpointWriterFactory,
+                  spincastUndertowConfig,
+                  spincastUndertowUtils,
+                  spincastWebsocketExecutors);
+        }
+
+        public void sendLateStringMessage(String peerId, String message) {
+            sendOnStringMessageAppEvent(peerId, message);
+        }
+
+        public int getPeerAppEventsQueuesNbr() {
+            return getPeerAppEventsQueues().size();
+        }
+    }
+
+    @Override
+    public void beforeTest() {
+        super.beforeTest();
+        queueMaxSize = 1000;
+        overflowPolicy = WebsocketAppEventsQueueOverflowPolicy.BACKPRESSURE;
+    }
+
+    /**
+     * A controller which blocks on the messages of
+     * "peer1" until it is released.
+     */
+    protected static class BlockingControllerTest extends DefaultWebsocketControllerTest {
+
+        private final String endpointId;
+        private final CountDownLatch releaseLatch = new CountDownLatch(1);
+        private final List<String> peer1Messages = new ArrayList<String>();
+        private volatile String nextPeerId = "peer1";
+
+        public BlockingControllerTest(WebsocketAppEventsQueueTest test, String endpointId) {
+            super(test.getServer());
+            this.endpointId = endpointId;
+        }
+
+        public void setNextPeerId(String nextPeerId) {
+            this.nextPeerId = nextPeerId;
+        }
+
+        public void release() {
+            this.releaseLatch.countDown();
+        }
+
+        /**
+         * The peer is added to the endpoint before its
+         * "connected" event is queued, so we also wait
+         * for this event to be handled.
+         */
+        public boolean waitPeerConnectedEventHandled(final String endpointId, final String peerId) {
+            return SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+                @Override
+                public boolean check() {
+                    return getPeerIdsConnectedFromEventsReceived(endpointId).contains(peerId);
+                }
+            }, 5000);
+        }
+
+        public List<String> getPeer1Messages() {
+            synchronized (this.peer1Messages) {
+                return new ArrayList<String>(this.peer1Messages);
+            }
+        }
+
+        @Override
+        public WebsocketConnectionConfig onPeerPreConnect(DefaultRequestContext context) {
+
+            final String peerId = this.nextPeerId;
+            return new WebsocketConnectionConfig() {
+
+                @Override
+                public String getEndpointId() {
+                    return BlockingControllerTest.this.endpointId;
+                }
+
+                @Override
+                public String getPeerId() {
+                    return peerId;
+                }
+            };
+        }
+
+        @Override
+        public void onPeerMessage(DefaultWebsocketContext context, String message) {
+            if ("peer1".equals(context.getPeerId())) {
+                try {
+                    this.releaseLatch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                synchronized (this.peer1Messages) {
+                    this.peer1Messages.add(message);
+                }
+            } else {
+                super.onPeerMessage(context, message);
+            }
+        }
+    }
+
+    protected List<String> createMessages(int nbr) {
+        List<String> messages = new ArrayList<String>();
+        for (int i = 0; i < nbr; i++) {
+            messages.add("message" + i);
+        }
+        return messages;
+    }
+
+    protected boolean waitForPeer1Messages(final BlockingControllerTest controller, final int nbrExpected) {
+        return SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+            @Override
+            public boolean check() {
+                return controller.getPeer1Messages().size() >= nbrExpected;
+            }
+        }, 5000);
+    }
+
+    @Test
+    public void slowPeerDoesntBlockOtherPeers() throws Exception {
+
+        BlockingControllerTest controller = new BlockingControllerTest(this, "endpointSlowPeer");
+        getRouter().websocket("/ws").handle(controller);
+
+        controller.setNextPeerId("peer1");
+        WebsocketClientWriter writer1 = websocket("/ws").disableSslCertificateErrors().connect(new WebsocketClientTest());
+        assertNotNull(writer1);
+        assertTrue(controller.waitPeerConnected("endpointSlowPeer", "peer1"));
+
+        controller.setNextPeerId("peer2");
+        WebsocketClientWriter writer2 = websocket("/ws").disableSslCertificateErrors().connect(new WebsocketClientTest());
+        assertNotNull(writer2);
+        assertTrue(controller.waitPeerConnected("endpointSlowPeer", "peer2"));
+
+        try {
+            writer1.sendMessage("blocked");
+            assertTrue(SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+                @Override
+                public boolean check() {
+                    Integer size = getEndpoint("endpointSlowPeer").getAppEventsQueuesSizes().get("peer1");
+                    return size != null && size == 1;
+                }
+            }, 5000));
+
+            //==========================================
+            // "peer1" is still blocked, but "peer2"'s
+            // messages are handled.
+            //==========================================
+            writer2.sendMessage("hello");
+            assertTrue(controller.waitForStringMessageReceived("endpointSlowPeer", "peer2", 1));
+            assertEquals(0, controller.getPeer1Messages().size());
+        } finally {
+            controller.release();
+        }
+
+        assertTrue(waitForPeer1Messages(controller, 1));
+        assertEquals("blocked", controller.getPeer1Messages().get(0));
+
+        controller.getEndpointManager("endpointSlowPeer").closeEndpoint();
+    }
+
+    @Test
+    public void peerMessagesOrder() throws Exception {
+
+        BlockingControllerTest controller = new BlockingControllerTest(this, "endpointOrder");
+        controller.release();
+        getRouter().websocket("/ws").handle(controller);
+
+        WebsocketClientWriter writer = websocket("/ws").disableSslCertificateErrors().connect(new WebsocketClientTest());
+        assertNotNull(writer);
+        assertTrue(controller.waitPeerConnected("endpointOrder", "peer1"));
+
+        List<String> messages = createMessages(200);
+        for (String message : messages) {
+            writer.sendMessage(message);
+        }
+
+        assertTrue(waitForPeer1Messages(controller, messages.size()));
+        assertEquals(messages, controller.getPeer1Messages());
+
+        controller.getEndpointManager("endpointOrder").closeEndpoint();
+    }
+
+    @Test
+    public void overflowDrop() throws Exception {
+
+        queueMaxSize = 2;
+        overflowPolicy = WebsocketAppEventsQueueOverflowPolicy.DROP;
+
+        BlockingControllerTest controller = new BlockingControllerTest(this, "endpointDrop");
+        getRouter().websocket("/ws").handle(controller);
+
+        WebsocketClientWriter writer = websocket("/ws").disableSslCertificateErrors().connect(new WebsocketClientTest());
+        assertNotNull(writer);
+        assertTrue(controller.waitPeerConnected("endpointDrop", "peer1"));
+        assertTrue(controller.waitPeerConnectedEventHandled("endpointDrop", "peer1"));
+
+        final WebsocketEndpoint endpoint = getEndpoint("endpointDrop");
+        assertTrue(waitForQueuesEmpty(endpoint));
+        try {
+            for (String message : createMessages(10)) {
+                writer.sendMessage(message);
+            }
+
+            //==========================================
+            // The first message is being handled, the second
+            // one waits, the others are dropped.
+            //==========================================
+            assertTrue(SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+                @Override
+                public boolean check() {
+                    return endpoint.getAppEventsDroppedNbr() == 8;
+                }
+            }, 5000));
+            assertEquals(Integer.valueOf(2), endpoint.getAppEventsQueuesSizes().get("peer1"));
+        } finally {
+            controller.release();
+        }
+
+        assertTrue(waitForPeer1Messages(controller, 2));
+        assertEquals(createMessages(2), controller.getPeer1Messages());
+
+        assertTrue(waitForQueuesEmpty(endpoint));
+
+        controller.getEndpointManager("endpointDrop").closeEndpoint();
+    }
+
+    @Test
+    public void overflowClosePeer() throws Exception {
+
+        queueMaxSize = 2;
+        overflowPolicy = WebsocketAppEventsQueueOverflowPolicy.CLOSE_PEER;
+
+        BlockingControllerTest controller = new BlockingControllerTest(this, "endpointClosePeer");
+        getRouter().websocket("/ws").handle(controller);
+
+        WebsocketClientTest client = new WebsocketClientTest();
+        WebsocketClientWriter writer = websocket("/ws").disableSslCertificateErrors().connect(client);
+        assertNotNull(writer);
+        assertTrue(controller.waitPeerConnected("endpointClosePeer", "peer1"));
+        assertTrue(controller.waitPeerConnectedEventHandled("endpointClosePeer", "peer1"));
+        assertTrue(waitForQueuesEmpty(getEndpoint("endpointClosePeer")));
+
+        try {
+            for (String message : createMessages(10)) {
+                writer.sendMessage(message);
+            }
+            assertTrue(client.waitForConnectionClosed());
+        } finally {
+            controller.release();
+        }
+
+        //==========================================
+        // The peer is removed, but the messages already
+        // queued are still handled.
+        //==========================================
+        assertTrue(controller.waitNrbPeerConnectedMax("endpointClosePeer", 0));
+        assertTrue(waitForPeer1Messages(controller, 2));
+        assertEquals(createMessages(2), controller.getPeer1Messages());
+
+        controller.getEndpointManager("endpointClosePeer").closeEndpoint();
+    }
+
+    @Test
+    public void overflowBackpressure() throws Exception {
+
+        queueMaxSize = 2;
+        overflowPolicy = WebsocketAppEventsQueueOverflowPolicy.BACKPRESSURE;
+
+        BlockingControllerTest controller = new BlockingControllerTest(this, "endpointBackpressure");
+        getRouter().websocket("/ws").handle(controller);
+
+        WebsocketClientWriter writer = websocket("/ws").disableSslCertificateErrors().connect(new WebsocketClientTest());
+        assertNotNull(writer);
+        assertTrue(controller.waitPeerConnected("endpointBackpressure", "peer1"));
+        assertTrue(controller.waitPeerConnectedEventHandled("endpointBackpressure", "peer1"));
+
+        final WebsocketEndpoint endpoint = getEndpoint("endpointBackpressure");
+        assertTrue(waitForQueuesEmpty(endpoint));
+        List<String> messages = createMessages(50);
+        try {
+            for (String message : messages) {
+                writer.sendMessage(message);
+            }
+
+            //==========================================
+            // The messages stop being read : they are
+            // not all in the queue.
+            //==========================================
+            Thread.sleep(500);
+            Integer size = endpoint.getAppEventsQueuesSizes().get("peer1");
+            assertNotNull(size);
+            assertTrue(size < messages.size());
+        } finally {
+            controller.release();
+        }
+
+        //==========================================
+        // No message lost.
+        //==========================================
+        assertTrue(waitForPeer1Messages(controller, messages.size()));
+        assertEquals(messages, controller.getPeer1Messages());
+        assertEquals(0, endpoint.getAppEventsDroppedNbr());
+
+        controller.getEndpointManager("endpointBackpressure").closeEndpoint();
+    }
+
+    @Test
+    public void messageAfterPeerClosed() throws Exception {
+
+        BlockingControllerTest controller = new BlockingControllerTest(this, "endpointLateMessage");
+        controller.release();
+        getRouter().websocket("/ws").handle(controller);
+
+        WebsocketClientWriter writer = websocket("/ws").disableSslCertificateErrors().connect(new WebsocketClientTest());
+        assertNotNull(writer);
+        assertTrue(controller.waitPeerConnected("endpointLateMessage", "peer1"));
+        assertTrue(controller.waitPeerConnectedEventHandled("endpointLateMessage", "peer1"));
+
+        final WebsocketEndpointTest endpoint = (WebsocketEndpointTest)getEndpoint("endpointLateMessage");
+        controller.getEndpointManager("endpointLateMessage").closePeer("peer1");
+
+        //==========================================
+        // The "closed" event removes the queue.
+        //==========================================
+        assertTrue(SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+            @Override
+            public boolean check() {
+                return endpoint.getPeerAppEventsQueuesNbr() == 0;
+            }
+        }, 5000));
+
+        //==========================================
+        // A message received late is dropped, no
+        // queue is created for it.
+        //==========================================
+        endpoint.sendLateStringMessage("peer1", "late");
+        assertEquals(0, endpoint.getPeerAppEventsQueuesNbr());
+        assertEquals(1, endpoint.getAppEventsDroppedNbr());
+        assertEquals(0, controller.getPeer1Messages().size());
+
+        controller.getEndpointManager("endpointLateMessage").closeEndpoint();
+    }
+
+    /**
+     * Waits for the "peer connected" event to be done, so it
+     * is not counted in the queue anymore.
+     */
+    protected boolean waitForQueuesEmpty(final WebsocketEndpoint endpoint) {
+        return SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+            @Override
+            public boolean check() {
+                return endpoint.getAppEventsQueuesSizes().isEmpty();
+            }
+        }, 5000);
+    }
+
+    protected WebsocketEndpoint getEndpoint(String endpointId) {
+        return (WebsocketEndpoint)getServer().getWebsocketEndpointManager(endpointId);
+    }
+
+}
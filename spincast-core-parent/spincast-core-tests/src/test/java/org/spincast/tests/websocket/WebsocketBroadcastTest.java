@@ -0,0 +1,233 @@
+package org.spincast.tests.websocket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.websocket.WebsocketConnectionConfig;
+import org.spincast.plugins.httpclient.websocket.WebsocketClientWriter;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
+import org.spincast.plugins.undertow.SpincastUndertowWebsocketEndpointWriter;
+import org.spincast.plugins.undertow.UndertowWebsocketEndpointWriter;
+import org.spincast.plugins.undertow.UndertowWebsocketEndpointWriterFactory;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+import org.spincast.testing.core.utils.SpincastTestingUtils;
+import org.spincast.testing.core.utils.TrueChecker;
+import org.spincast.testing.defaults.NoAppWebsocketTestingBase;
+import org.spincast.tests.varia.DefaultWebsocketControllerTest;
+import org.spincast.tests.varia.WebsocketClientTest;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.Module;
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+
+import io.undertow.websockets.core.WebSocketChannel;
+
+public class WebsocketBroadcastTest extends NoAppWebsocketTestingBase {
+
+    @Inject
+    protected SpincastByteBufferPool spincastByteBufferPool;
+
+    @Override
+    protected Module getExtraOverridingModule3() {
+
+        return new AbstractModule() {
+
+            @Override
+            protected void configure() {
+                install(new FactoryModuleBuilder().implement(UndertowWebsocketEndpointWriter.class,
+                                                             SpincastUndertowWebsocketEndpointWriterTest.class)
+                                                  .build(UndertowWebsocketEndpointWriterFactory.class));
+            }
+        };
+    }
+
+    /**
+     * The peers with an id starting with "slow" are
+     * considered as too slow.
+     */
+    public static class SpincastUndertowWebsocketEndpointWriterTest extends SpincastUndertowWebsocketEndpointWriter {
+
+        @AssistedInject
+        public SpincastUndertowWebsocketEndpointWriterTest(@Assisted Map<String, WebSocketChannel> channels,
+                                                           SpincastUndertowConfig spincastUndertowConfig,
+                                                           SpincastByteBufferPool spincastByteBufferPool) {
+            super(channels, spincastUndertowConfig, spincastByteBufferPool);
+        }
+
+        @Override
+        protected boolean isSlowPeer(String peerId, WebSocketChannel channel) {
+            return peerId.startsWith("slow") || super.isSlowPeer(peerId, channel);
+        }
+    }
+
+    protected static class PeersControllerTest extends DefaultWebsocketControllerTest {
+
+        private volatile String nextPeerId;
+
+        public PeersControllerTest(WebsocketBroadcastTest test) {
+            super(test.getServer());
+        }
+
+        @Override
+        public WebsocketConnectionConfig onPeerPreConnect(DefaultRequestContext context) {
+
+            final String peerId = this.nextPeerId;
+            return new WebsocketConnectionConfig() {
+
+                @Override
+                public String getEndpointId() {
+                    return "endpoint1";
+                }
+
+                @Override
+                public String getPeerId() {
+                    return peerId;
+                }
+            };
+        }
+
+        public WebsocketClientTest connect(WebsocketBroadcastTest test, String peerId) {
+            this.nextPeerId = peerId;
+            WebsocketClientTest client = new WebsocketClientTest();
+            WebsocketClientWriter writer = test.websocket("/ws").disableSslCertificateErrors().connect(client);
+            assertNotNull(writer);
+            assertTrue(waitPeerConnected("endpoint1", peerId));
+            return client;
+        }
+    }
+
+    protected String createBigMessage() {
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < 3 * this.spincastByteBufferPool.getBufferSize()) {
+            builder.append("Some text é ü 😀 ");
+        }
+        return builder.toString();
+    }
+
+    protected List<WebsocketClientTest> connectPeers(PeersControllerTest controller, String... peerIds) {
+        List<WebsocketClientTest> clients = new ArrayList<WebsocketClientTest>();
+        for (String peerId : peerIds) {
+            clients.add(controller.connect(this, peerId));
+        }
+        return clients;
+    }
+
+    @Test
+    public void broadcastText() throws Exception {
+
+        PeersControllerTest controller = new PeersControllerTest(this);
+        getRouter().websocket("/ws").handle(controller);
+
+        List<WebsocketClientTest> clients = connectPeers(controller, "peer1", "peer2", "peer3");
+
+        String message = "Hello é ü 😀";
+        controller.getEndpointManager("endpoint1").sendMessage(message);
+
+        String bigMessage = createBigMessage();
+        controller.getEndpointManager("endpoint1").sendMessage(bigMessage);
+
+        for (WebsocketClientTest client : clients) {
+            assertTrue(client.waitForStringMessageReceived(2));
+            assertEquals(message, client.getStringMessageReceived().get(0));
+            assertEquals(bigMessage, client.getStringMessageReceived().get(1));
+        }
+
+        controller.getEndpointManager("endpoint1").closeEndpoint();
+    }
+
+    @Test
+    public void broadcastBytes() throws Exception {
+
+        PeersControllerTest controller = new PeersControllerTest(this);
+        getRouter().websocket("/ws").handle(controller);
+
+        List<WebsocketClientTest> clients = connectPeers(controller, "peer1", "peer2", "peer3");
+
+        byte[] message = "Hello é ü 😀".getBytes("UTF-8");
+        controller.getEndpointManager("endpoint1").sendMessage(message);
+
+        byte[] bigMessage = createBigMessage().getBytes("UTF-8");
+        controller.getEndpointManager("endpoint1").sendMessage(bigMessage);
+
+        for (WebsocketClientTest client : clients) {
+            assertTrue(client.waitForBytesMessageReceived(2));
+            assertArrayEquals(message, client.getBytesMessageReceived().get(0));
+            assertArrayEquals(bigMessage, client.getBytesMessageReceived().get(1));
+        }
+
+        controller.getEndpointManager("endpoint1").closeEndpoint();
+    }
+
+    @Test
+    public void pooledBufferSharedAndReturned() throws Exception {
+
+        PeersControllerTest controller = new PeersControllerTest(this);
+        getRouter().websocket("/ws").handle(controller);
+
+        List<WebsocketClientTest> clients = connectPeers(controller, "peer1", "peer2", "peer3");
+
+        final long leasesBefore = this.spincastByteBufferPool.getHitsNbr() + this.spincastByteBufferPool.getMissesNbr();
+        final int availableBefore = this.spincastByteBufferPool.getAvailableBuffersNbr();
+
+        controller.getEndpointManager("endpoint1").sendMessage("Hello!");
+        for (WebsocketClientTest client : clients) {
+            assertTrue(client.waitForStringMessageReceived(1));
+            assertEquals("Hello!", client.getStringMessageReceived().get(0));
+        }
+
+        //==========================================
+        // A single buffer for all the peers, returned
+        // to the pool once the message is sent.
+        //==========================================
+        assertEquals(leasesBefore + 1,
+                     this.spincastByteBufferPool.getHitsNbr() + this.spincastByteBufferPool.getMissesNbr());
+        assertTrue(SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+            @Override
+            public boolean check() {
+                return WebsocketBroadcastTest.this.spincastByteBufferPool.getAvailableBuffersNbr() >= Math.max(1,
+                                                                                                           availableBefore);
+            }
+        }, 5000));
+
+        controller.getEndpointManager("endpoint1").closeEndpoint();
+    }
+
+    @Test
+    public void slowPeerClosed() throws Exception {
+
+        PeersControllerTest controller = new PeersControllerTest(this);
+        getRouter().websocket("/ws").handle(controller);
+
+        List<WebsocketClientTest> clients = connectPeers(controller, "peer1", "slowPeer", "peer3");
+
+        controller.getEndpointManager("endpoint1").sendMessage("Hello!");
+
+        assertTrue(clients.get(0).waitForStringMessageReceived(1));
+        assertTrue(clients.get(2).waitForStringMessageReceived(1));
+
+        //==========================================
+        // The message is not sent to the slow peer
+        // and its connection is closed.
+        //==========================================
+        assertTrue(clients.get(1).waitForConnectionClosed());
+        assertEquals(0, clients.get(1).getStringMessageReceived().size());
+        assertTrue(controller.waitNrbPeerConnectedMax("endpoint1", 2));
+        assertTrue(controller.getEndpointManager("endpoint1").getPeersIds().contains("peer1"));
+        assertTrue(controller.getEndpointManager("endpoint1").getPeersIds().contains("peer3"));
+
+        controller.getEndpointManager("endpoint1").closeEndpoint();
+    }
+
+}
@@ -0,0 +1,215 @@
+package org.spincast.tests.websocket;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.websocket.DefaultWebsocketContext;
+import org.spincast.core.websocket.WebsocketConnectionConfig;
+import org.spincast.plugins.httpclient.websocket.WebsocketClientWriter;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
+import org.spincast.plugins.undertow.SpincastUndertowWebsocketEndpointWriter;
+import org.spincast.plugins.undertow.UndertowWebsocketEndpointWriter;
+import org.spincast.plugins.undertow.UndertowWebsocketEndpointWriterFactory;
+import org.spincast.plugins.undertow.WebsocketPeersWriteCallback;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfigDefault;
+import org.spincast.testing.core.utils.SpincastTestingUtils;
+import org.spincast.testing.core.utils.TrueChecker;
+import org.spincast.testing.defaults.NoAppWebsocketTestingBase;
+import org.spincast.tests.varia.DefaultWebsocketControllerTest;
+import org.spincast.tests.varia.WebsocketClientTest;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Module;
+import com.google.inject.assistedinject.Assisted;
+import com.google.inject.assistedinject.AssistedInject;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+
+import io.undertow.websockets.core.WebSocketChannel;
+
+public class WebsocketSharedExecutorsTest extends NoAppWebsocketTestingBase {
+
+    protected static final List<Set<String>> pingedPeerIds = new ArrayList<Set<String>>();
+
+    @Override
+    protected Module getExtraOverridingModule3() {
+
+        return new AbstractModule() {
+
+            @Override
+            protected void configure() {
+
+                install(new FactoryModuleBuilder().implement(UndertowWebsocketEndpointWriter.class,
+                                                             SpincastUndertowWebsocketEndpointWriterTest.class)
+                                                  .build(UndertowWebsocketEndpointWriterFactory.class));
+
+                bind(SpincastUndertowConfig.class).toInstance(new SpincastUndertowConfigDefault() {
+
+                    @Override
+                    public int getWebsocketAutomaticPingIntervalSeconds() {
+                        return 1;
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Keeps the ids of the peers pinged by
+     * each call.
+     */
+    public static class SpincastUndertowWebsocketEndpointWriterTest extends SpincastUndertowWebsocketEndpointWriter {
+
+        @AssistedInject
+        public SpincastUndertowWebsocketEndpointWriterTest(@Assisted Map<String, WebSocketChannel> channels,
+                                                           SpincastUndertowConfig spincastUndertowConfig,
+                                                           SpincastByteBufferPool spincastByteBufferPool) {
+            super(channels, spincastUndertowConfig, spincastByteBufferPool);
+        }
+
+        @Override
+        public void sendPings(Set<String> peerIds, WebsocketPeersWriteCallback callback) {
+            synchronized (pingedPeerIds) {
+                pingedPeerIds.add(new HashSet<String>(peerIds));
+            }
+            super.sendPings(peerIds, callback);
+        }
+    }
+
+    @Override
+    public void beforeTest() {
+        super.beforeTest();
+        synchronized (pingedPeerIds) {
+            pingedPeerIds.clear();
+        }
+    }
+
+    protected static class ThreadNamesControllerTest extends DefaultWebsocketControllerTest {
+
+        private final Set<String> threadNames = new HashSet<String>();
+        private volatile String nextEndpointId;
+        private volatile String nextPeerId;
+
+        public ThreadNamesControllerTest(WebsocketSharedExecutorsTest test) {
+            super(test.getServer());
+        }
+
+        public void setNext(String endpointId, String peerId) {
+            this.nextEndpointId = endpointId;
+            this.nextPeerId = peerId;
+        }
+
+        public Set<String> getThreadNames() {
+            synchronized (this.threadNames) {
+                return new HashSet<String>(this.threadNames);
+            }
+        }
+
+        @Override
+        public WebsocketConnectionConfig onPeerPreConnect(DefaultRequestContext context) {
+
+            final String endpointId = this.nextEndpointId;
+            final String peerId = this.nextPeerId;
+            return new WebsocketConnectionConfig() {
+
+                @Override
+                public String getEndpointId() {
+                    return endpointId;
+                }
+
+                @Override
+                public String getPeerId() {
+                    return peerId;
+                }
+            };
+        }
+
+        @Override
+        public void onPeerMessage(DefaultWebsocketContext context, String message) {
+            synchronized (this.threadNames) {
+                this.threadNames.add(Thread.currentThread().getName());
+            }
+            super.onPeerMessage(context, message);
+        }
+    }
+
+    protected WebsocketClientWriter connect(ThreadNamesControllerTest controller, String endpointId, String peerId) {
+        controller.setNext(endpointId, peerId);
+        WebsocketClientWriter writer = websocket("/ws").disableSslCertificateErrors().connect(new WebsocketClientTest());
+        assertNotNull(writer);
+        assertTrue(controller.waitPeerConnected(endpointId, peerId));
+        return writer;
+    }
+
+    @Test
+    public void appEventsExecutorShared() throws Exception {
+
+        ThreadNamesControllerTest controller = new ThreadNamesControllerTest(this);
+        getRouter().websocket("/ws").handle(controller);
+
+        WebsocketClientWriter writer1 = connect(controller, "endpointShared1", "peer1");
+        WebsocketClientWriter writer2 = connect(controller, "endpointShared2", "peer1");
+
+        writer1.sendMessage("one");
+        writer2.sendMessage("two");
+        assertTrue(controller.waitForStringMessageReceived("endpointShared1", 1));
+        assertTrue(controller.waitForStringMessageReceived("endpointShared2", 1));
+
+        for (String threadName : controller.getThreadNames()) {
+            assertTrue(threadName, threadName.startsWith("spincast-websocket-events-"));
+        }
+
+        controller.getEndpointManager("endpointShared1").closeEndpoint();
+        controller.getEndpointManager("endpointShared2").closeEndpoint();
+    }
+
+    @Test
+    public void pingsSpreadOverTheInterval() throws Exception {
+
+        ThreadNamesControllerTest controller = new ThreadNamesControllerTest(this);
+        getRouter().websocket("/ws").handle(controller);
+
+        //==========================================
+        // "a" and "b" are in different slots.
+        //==========================================
+        connect(controller, "endpointPings", "a");
+        connect(controller, "endpointPings", "b");
+
+        assertTrue(SpincastTestingUtils.waitForTrue(new TrueChecker() {
+
+            @Override
+            public boolean check() {
+                return wasPinged("a") && wasPinged("b");
+            }
+        }, 3000));
+
+        synchronized (pingedPeerIds) {
+            for (Set<String> peerIds : pingedPeerIds) {
+                assertFalse(peerIds.contains("a") && peerIds.contains("b"));
+            }
+        }
+
+        controller.getEndpointManager("endpointPings").closeEndpoint();
+    }
+
+    protected boolean wasPinged(String peerId) {
+        synchronized (pingedPeerIds) {
+            for (Set<String> peerIds : pingedPeerIds) {
+                if (peerIds.contains(peerId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
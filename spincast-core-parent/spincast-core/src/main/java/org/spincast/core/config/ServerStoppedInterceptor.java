@@ -0,0 +1,56 @@
+package org.spincast.core.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.spincast.core.server.ServerStoppedListener;
+import org.spincast.core.server.ServerUtils;
+
+import com.google.inject.Provider;
+
+/**
+ * Interceptor that will call the
+ * {@link ServerStoppedListener} listeners once the server
+ * is stopped.
+ * <p>
+ * A <code>stop</code> method may call another one (
+ * <code>stop()</code> calling <code>stop(true)</code>, for
+ * example) : the listeners are only called when the outer
+ * call returns.
+ */
+public class ServerStoppedInterceptor implements MethodInterceptor {
+
+    private final Provider<ServerUtils> serverUtilsProvider;
+    private final ThreadLocal<Integer> nestedCallsNbr = ThreadLocal.withInitial(() -> 0);
+    private ServerUtils serverUtils;
+
+    public ServerStoppedInterceptor(Provider<ServerUtils> serverUtilsProvider) {
+        this.serverUtilsProvider = serverUtilsProvider;
+    }
+
+    protected ServerUtils getServerUtils() {
+        if (this.serverUtils == null) {
+            this.serverUtils = this.serverUtilsProvider.get();
+        }
+        return this.serverUtils;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+
+        Object result;
+        this.nestedCallsNbr.set(this.nestedCallsNbr.get() + 1);
+        try {
+            result = invocation.proceed();
+        } finally {
+            this.nestedCallsNbr.set(this.nestedCallsNbr.get() - 1);
+        }
+
+        if (this.nestedCallsNbr.get() == 0) {
+            this.nestedCallsNbr.remove();
+            getServerUtils().callServerStoppedListeners();
+        }
+
+        return result;
+    }
+
+}
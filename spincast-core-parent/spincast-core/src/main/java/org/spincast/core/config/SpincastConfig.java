@@ -265,6 +265,14 @@ public interface SpincastConfig {
      */
     public int getRouteForwardingMaxNumber();
 
+    /**
+     * The maximum number of compiled route parameter
+     * patterns to keep in cache.
+     * <p>
+     * The default value is <code>1000</code>.
+     */
+    public int getRouteParamPatternsCacheMaxSize();
+
     /**
      * When using the <code>.cache()</code> method on
      * a route builder, this is the default number of
@@ -327,6 +335,22 @@ public interface SpincastConfig {
      */
     public int getDefaultTemplateVariablesFilterPosition();
 
+    /**
+     * When a template is sent using the response, should the
+     * rendered content be streamed to the client?
+     * <p>
+     * In both cases, the template is rendered directly into the response
+     * buffer, without creating the whole content as a String first.
+     * If <code>true</code>, the buffer is also flushed each time a chunk
+     * is full, so the headers are sent and the client starts receiving
+     * the content before the end of the rendering. An error occuring
+     * after the first chunk has been sent can then no longer change
+     * the status code of the response.
+     * <p>
+     * Defaults to <code>false</code>.
+     */
+    public boolean isStreamTemplatesToResponse();
+
     /**
      * Gets the maximum number of <code>keys</code> in a Map that
      * can be parsed as <code>JsonPaths</code> to create a
@@ -358,6 +382,15 @@ public interface SpincastConfig {
      */
     public int getJsonPathArrayIndexMax();
 
+    /**
+     * The maximum number of compiled <code>JsonPaths</code>
+     * to keep in cache. Invalid <code>JsonPaths</code> are
+     * never cached.
+     * <p>
+     * The default value is <code>1000</code>.
+     */
+    public int getCompiledJsonPathsCacheMaxSize();
+
     /**
      * By default, if {@link #getPublicServerHost()} returns
      * <code>"localhost"</code>, {@link #getEnvironmentName()} is
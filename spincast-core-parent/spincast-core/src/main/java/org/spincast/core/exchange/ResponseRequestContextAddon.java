@@ -1,5 +1,7 @@
 package org.spincast.core.exchange;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -84,6 +86,55 @@ public interface ResponseRequestContextAddon<R extends RequestContext<?>> {
      */
     public void sendBytes(byte[] bytes, String contentType, boolean flush);
 
+    /**
+     * Sends the content of an <code>InputStream</code>, without
+     * flushing at the end.
+     * <p>
+     * The content is not fully buffered in memory : it is sent
+     * by chunks as it is read. The headers are therefore sent
+     * as soon as the first chunk is flushed.
+     * <p>
+     * The <code>InputStream</code> is not closed.
+     */
+    public void sendStream(InputStream inputStream);
+
+    /**
+     * Sends the content of an <code>InputStream</code> using the
+     * specified <code>Content-Type</code>, without flushing at the end.
+     * <p>
+     * The content is not fully buffered in memory : it is sent
+     * by chunks as it is read. The headers are therefore sent
+     * as soon as the first chunk is flushed.
+     * <p>
+     * The <code>InputStream</code> is not closed.
+     */
+    public void sendStream(InputStream inputStream, String contentType);
+
+    /**
+     * Sends the content of an <code>InputStream</code> using the
+     * specified <code>Content-Type</code> and flushes at the end,
+     * if specified.
+     * <p>
+     * The content is not fully buffered in memory : it is sent
+     * by chunks as it is read. The headers are therefore sent
+     * as soon as the first chunk is flushed.
+     * <p>
+     * The <code>InputStream</code> is not closed.
+     */
+    public void sendStream(InputStream inputStream, String contentType, boolean flush);
+
+    /**
+     * An <code>OutputStream</code> to write the response to.
+     * <p>
+     * The bytes written are flushed by chunks, so a large
+     * response is never fully buffered in memory. Gzip is
+     * applied on each chunk, if enabled.
+     * <p>
+     * Calling <code>close()</code> on this stream ends the
+     * response.
+     */
+    public OutputStream getOutputStream();
+
     /**
      * The charset to use to convert characters to bytes.
      * Defaults to <code>"UTF-8"</code>.
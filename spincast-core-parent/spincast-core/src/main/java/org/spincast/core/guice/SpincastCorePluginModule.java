@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.spincast.core.config.ServerStartedInterceptor;
+import org.spincast.core.config.ServerStoppedInterceptor;
 import org.spincast.core.config.SpincastConfig;
 import org.spincast.core.config.SpincastInit;
 import org.spincast.core.config.SpincastInitValidator;
@@ -55,6 +56,7 @@ import org.spincast.core.routing.RoutingRequestContextAddon;
 import org.spincast.core.routing.StaticResourceFactory;
 import org.spincast.core.server.Server;
 import org.spincast.core.server.ServerStartedListener;
+import org.spincast.core.server.ServerStoppedListener;
 import org.spincast.core.server.ServerUtils;
 import org.spincast.core.server.ServerUtilsDefault;
 import org.spincast.core.templating.TemplatingEngine;
@@ -240,6 +242,11 @@ public class SpincastCorePluginModule extends SpincastGuiceModuleBase {
         //==========================================
         bindServerStartedListenersMultibinder();
 
+        //==========================================
+        // Binds server stopped listener multibinder
+        //==========================================
+        bindServerStoppedListenersMultibinder();
+
         //==========================================
         // Binds some interceptors
         //==========================================
@@ -592,8 +599,13 @@ public class SpincastCorePluginModule extends SpincastGuiceModuleBase {
         serverStartedListenerMultibinder.addBinding().to(SpincastInit.class).asEagerSingleton();
     }
 
+    protected void bindServerStoppedListenersMultibinder() {
+        Multibinder.newSetBinder(binder(), ServerStoppedListener.class);
+    }
+
     protected void bindsInterceptors() {
         bindServerStartedInterceptor();
+        bindServerStoppedInterceptor();
     }
 
     protected void bindServerStartedInterceptor() {
@@ -603,5 +615,11 @@ public class SpincastCorePluginModule extends SpincastGuiceModuleBase {
                         new ServerStartedInterceptor(getProvider(ServerUtils.class)));
     }
 
+    protected void bindServerStoppedInterceptor() {
+        bindInterceptor(Matchers.subclassesOf(Server.class),
+                        new GuiceAopMethodNameMatcher("stop"),
+                        new ServerStoppedInterceptor(getProvider(ServerUtils.class)));
+    }
+
 
 }
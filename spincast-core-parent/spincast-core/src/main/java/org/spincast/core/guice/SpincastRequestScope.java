@@ -2,12 +2,16 @@ package org.spincast.core.guice;
 
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Maps;
 import com.google.inject.Key;
 import com.google.inject.OutOfScopeException;
 import com.google.inject.Provider;
@@ -46,6 +50,21 @@ import com.google.inject.Scopes;
  *       .in(ScopeAnnotation.class);
  * </pre>
  * </p>
+ * <p>
+ * The scoped objects are kept in a <code>ThreadLocal</code>. To
+ * access them from another thread (an <code>Executor</code>, a
+ * <code>CompletableFuture</code>, etc.), wrap the task using one of
+ * the <code>wrapXXX(...)</code> methods : the objects of the current
+ * scoping block are then carried to the thread running the task.
+ * </p>
+ * <p>
+ * This only carries the scoped objects, it doesn't keep the
+ * request open : the front controller enters the scope on the
+ * thread handling the request, exits it and ends the response
+ * as soon as the route handlers return. A task started by a
+ * route handler must therefore be completed (by joining its
+ * <code>Future</code>, for example) before the handler returns.
+ * </p>
  *
  * @author Jesse Wilson
  * @author Fedor Karpelevitch
@@ -59,7 +78,135 @@ public class SpincastRequestScope implements Scope {
     public void enter() {
         checkState(this.values.get() == null,
                    "A scoping block is already in progress");
-        this.values.set(Maps.<Key<?>, Object>newHashMap());
+        this.values.set(createScopedObjectsMap());
+    }
+
+    /**
+     * The map is synchronized since it may be accessed
+     * by tasks running on other threads.
+     */
+    protected Map<Key<?>, Object> createScopedObjectsMap() {
+        return Collections.synchronizedMap(new HashMap<Key<?>, Object>());
+    }
+
+    /**
+     * Wraps a task so it runs in the current scoping
+     * block, whatever the thread running it.
+     */
+    public Runnable wrapRunnable(final Runnable task) {
+        final Map<Key<?>, Object> scopedObjects = getCurrentScopedObjects();
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                Map<Key<?>, Object> previous = enterWith(scopedObjects);
+                try {
+                    task.run();
+                } finally {
+                    exitTo(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so it runs in the current scoping
+     * block, whatever the thread running it.
+     */
+    public <V> Callable<V> wrapCallable(final Callable<V> task) {
+        final Map<Key<?>, Object> scopedObjects = getCurrentScopedObjects();
+        return new Callable<V>() {
+
+            @Override
+            public V call() throws Exception {
+                Map<Key<?>, Object> previous = enterWith(scopedObjects);
+                try {
+                    return task.call();
+                } finally {
+                    exitTo(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so it runs in the current scoping
+     * block, whatever the thread running it. Useful with
+     * <code>CompletableFuture.supplyAsync(...)</code>.
+     */
+    public <V> Supplier<V> wrapSupplier(final Supplier<V> task) {
+        final Map<Key<?>, Object> scopedObjects = getCurrentScopedObjects();
+        return new Supplier<V>() {
+
+            @Override
+            public V get() {
+                Map<Key<?>, Object> previous = enterWith(scopedObjects);
+                try {
+                    return task.get();
+                } finally {
+                    exitTo(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps an <code>Executor</code> so the tasks submitted
+     * to it run in the current scoping block.
+     */
+    public Executor wrapExecutor(final Executor executor) {
+        final Map<Key<?>, Object> scopedObjects = getCurrentScopedObjects();
+        return new Executor() {
+
+            @Override
+            public void execute(final Runnable task) {
+                executor.execute(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        Map<Key<?>, Object> previous = enterWith(scopedObjects);
+                        try {
+                            task.run();
+                        } finally {
+                            exitTo(previous);
+                        }
+                    }
+                });
+            }
+        };
+    }
+
+    protected Map<Key<?>, Object> getCurrentScopedObjects() {
+        Map<Key<?>, Object> scopedObjects = this.values.get();
+        if (scopedObjects == null) {
+            throw new OutOfScopeException("No scoping block in progress, there is nothing to carry to another thread");
+        }
+        return scopedObjects;
+    }
+
+    /**
+     * Enters a scoping block using objects captured on another
+     * thread.
+     *
+     * @return the objects of the block that was in progress on
+     * this thread, if any.
+     */
+    protected Map<Key<?>, Object> enterWith(Map<Key<?>, Object> scopedObjects) {
+        Map<Key<?>, Object> previous = this.values.get();
+        this.values.set(scopedObjects);
+        return previous;
+    }
+
+    /**
+     * Restores the scoping block that was in progress
+     * before {@link #enterWith(Map)} was called.
+     */
+    protected void exitTo(Map<Key<?>, Object> previous) {
+        if (previous == null) {
+            this.values.remove();
+        } else {
+            this.values.set(previous);
+        }
     }
 
     public void exit() {
@@ -82,6 +229,13 @@ public class SpincastRequestScope implements Scope {
         seed(Key.get(clazz), value);
     }
 
+    /**
+     * The instance is provisioned without holding the lock on the
+     * scoped objects : provisioning may create other scoped
+     * objects, and may take time. If two threads provision the same
+     * key at the same time, the first instance stored is kept and
+     * returned to both.
+     */
     @Override
     public <T> Provider<T> scope(final Key<T> key, final Provider<T> unscoped) {
         return new Provider<T>() {
@@ -90,20 +244,31 @@ public class SpincastRequestScope implements Scope {
             public T get() {
                 Map<Key<?>, Object> scopedObjects = getScopedObjectMap(key);
 
-                @SuppressWarnings("unchecked")
-                T current = (T)scopedObjects.get(key);
-                if(current == null && !scopedObjects.containsKey(key)) {
-                    current = unscoped.get();
-
-                    // don't remember proxies; these exist only to serve
-                    // circular dependencies
-                    if(Scopes.isCircularProxy(current)) {
+                synchronized (scopedObjects) {
+                    if(scopedObjects.containsKey(key)) {
+                        @SuppressWarnings("unchecked")
+                        T current = (T)scopedObjects.get(key);
                         return current;
                     }
+                }
 
+                T current = unscoped.get();
+
+                // don't remember proxies; these exist only to serve
+                // circular dependencies
+                if(Scopes.isCircularProxy(current)) {
+                    return current;
+                }
+
+                synchronized (scopedObjects) {
+                    if(scopedObjects.containsKey(key)) {
+                        @SuppressWarnings("unchecked")
+                        T existing = (T)scopedObjects.get(key);
+                        return existing;
+                    }
                     scopedObjects.put(key, current);
+                    return current;
                 }
-                return current;
             }
         };
     }
@@ -0,0 +1,110 @@
+package org.spincast.core.json;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The <code>List</code> of a mutable <code>JsonArray</code>
+ * cloned from an immutable one.
+ * <p>
+ * The elements of the immutable source are only copied when
+ * the List is modified or when one of its <code>JsonObject</code>
+ * or <code>JsonArray</code> elements is accessed. Those elements
+ * are then cloned to mutable instances too, using the same
+ * strategy, so only the levels that are really used are copied.
+ */
+public class JsonArrayCopyOnWriteList extends AbstractList<Object> {
+
+    private final JsonArray source;
+    private List<Object> copy;
+
+    /**
+     * @param source an immutable JsonArray.
+     */
+    public JsonArrayCopyOnWriteList(JsonArray source) {
+        Objects.requireNonNull(source, "The source can't be NULL");
+        if (source.isMutable()) {
+            throw new RuntimeException("The source JsonArray must be immutable");
+        }
+        this.source = source;
+    }
+
+    /**
+     * The immutable source.
+     */
+    public JsonArray getSource() {
+        return this.source;
+    }
+
+    /**
+     * Have the elements been copied? If not,
+     * the List still represents exactly the source.
+     */
+    public boolean isCopied() {
+        return this.copy != null;
+    }
+
+    protected List<Object> getCopy() {
+        if (this.copy == null) {
+            List<Object> copy = new ArrayList<Object>(getSource().size());
+            for (Object element : getSource()) {
+                if (element instanceof JsonObjectOrArray) {
+                    element = ((JsonObjectOrArray)element).clone(true);
+                }
+                copy.add(element);
+            }
+            this.copy = copy;
+        }
+        return this.copy;
+    }
+
+    @Override
+    public int size() {
+        if (!isCopied()) {
+            return getSource().size();
+        }
+        return getCopy().size();
+    }
+
+    @Override
+    public Object get(int index) {
+
+        //==========================================
+        // A simple element can be read from the
+        // source without copying anything.
+        //==========================================
+        if (!isCopied() && index >= 0 && index < getSource().size()) {
+            Object element = getSource().getObject(index);
+            if (!(element instanceof JsonObjectOrArray)) {
+                return element;
+            }
+        }
+        return getCopy().get(index);
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        return getCopy().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        getCopy().add(index, element);
+        this.modCount++;
+    }
+
+    @Override
+    public Object remove(int index) {
+        Object removed = getCopy().remove(index);
+        this.modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        getCopy().clear();
+        this.modCount++;
+    }
+}
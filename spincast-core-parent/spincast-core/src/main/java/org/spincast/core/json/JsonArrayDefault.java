@@ -870,6 +870,19 @@ public class JsonArrayDefault extends JsonObjectArrayBase implements JsonArray {
 
     @Override
     public JsonArray clone(boolean mutable) {
+
+        //==========================================
+        // Mutable clone of an immutable array, not modified
+        // or accessed since : the immutable source is
+        // still an exact immutable clone.
+        //==========================================
+        if (!mutable && getElements() instanceof JsonArrayCopyOnWriteList) {
+            JsonArrayCopyOnWriteList copyOnWriteList = (JsonArrayCopyOnWriteList)getElements();
+            if (!copyOnWriteList.isCopied()) {
+                return copyOnWriteList.getSource();
+            }
+        }
+
         return getJsonManager().cloneJsonArray(this, mutable);
     }
 
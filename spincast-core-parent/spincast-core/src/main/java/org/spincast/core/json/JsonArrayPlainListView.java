@@ -0,0 +1,41 @@
+package org.spincast.core.json;
+
+import java.util.AbstractList;
+import java.util.Objects;
+
+/**
+ * A read-only plain <code>List</code> view of a <code>JsonArray</code>.
+ * <p>
+ * Contrary to {@link JsonArray#convertToPlainList()}, nothing is
+ * copied : the <code>JsonObject</code> and <code>JsonArray</code>
+ * elements are wrapped in views too, when they are accessed.
+ */
+public class JsonArrayPlainListView extends AbstractList<Object> {
+
+    private final JsonArray source;
+
+    public JsonArrayPlainListView(JsonArray source) {
+        Objects.requireNonNull(source, "The source can't be NULL");
+        this.source = source;
+    }
+
+    /**
+     * The viewed JsonArray.
+     */
+    public JsonArray getSource() {
+        return this.source;
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public Object get(int index) {
+        if (index < 0 || index >= getSource().size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getSource().size());
+        }
+        return JsonObjectPlainMapView.toPlainView(getSource().getObject(index));
+    }
+}
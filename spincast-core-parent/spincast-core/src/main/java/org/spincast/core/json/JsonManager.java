@@ -39,6 +39,19 @@ public interface JsonManager {
      */
     public JsonObject fromString(String jsonString);
 
+    /**
+     * Creates a <code>JsonObject</code> from a <code>Json</code>
+     * String.
+     *
+     * @param mutable if <code>false</code>, the resulting
+     * object and all its children will be immutable.
+     *
+     * @return the <code>JsonObject</code> version of the
+     * parameter or <code>null</code> if the parameter is
+     * <code>null</code>.
+     */
+    public JsonObject fromString(String jsonString, boolean mutable);
+
     /**
      * Creates an empty <code>JsonObject</code> based on the specified Map.
      * An attempt will be made to create a deep copy of every elements so
@@ -76,6 +89,18 @@ public interface JsonManager {
      */
     public JsonObject fromInputStream(InputStream inputStream);
 
+    /**
+     * Creates a <code>JsonObject</code> from an inputStream.
+     *
+     * @param mutable if <code>false</code>, the resulting
+     * object and all its children will be immutable.
+     *
+     * @return the <code>JsonObject</code> version of the
+     * parameter or <code>null</code> if the parameter is
+     * <code>null</code>.
+     */
+    public JsonObject fromInputStream(InputStream inputStream, boolean mutable);
+
     /**
      * Creates a <code>JsonObject</code> from a Json file.
      *
@@ -309,6 +334,13 @@ public interface JsonManager {
      */
     public JsonArray cloneJsonArray(JsonArray jsonArray, boolean mutable);
 
+    /**
+     * Compiles a <code>JsonPath</code>. The result can be used
+     * on any <code>JsonObject</code> or <code>JsonArray</code>
+     * without the JsonPath being parsed again.
+     */
+    public JsonPath compileJsonPath(String jsonPath);
+
     /**
      * Gets an element from the <code>JsonObject</code>
      * at the specified <code>JsonPath</code>.
@@ -370,6 +402,35 @@ public interface JsonManager {
      */
     public void removeElementAtJsonPath(JsonArray array, String jsonPath);
 
+    /**
+     * Gets an element from the <code>JsonObject</code> or
+     * <code>JsonArray</code> at the specified compiled <code>JsonPath</code>.
+     *
+     * @return the element or the <code>defaultElement</code> if not found.
+     */
+    public Object getElementAtJsonPath(JsonObjectOrArray obj, JsonPath jsonPath, Object defaultElement);
+
+    /**
+     * Puts an element in the object at the specified
+     * compiled <code>JsonPath</code>.
+     * <p>
+     * All the hierarchy to the end of the <code>JsonPath</code>
+     * is created if required.
+     */
+    public void putElementAtJsonPath(JsonObjectOrArray obj, JsonPath jsonPath, Object element, boolean clone);
+
+    /**
+     * Removes an element at the specified compiled <code>JsonPath</code>.
+     */
+    public void removeElementAtJsonPath(JsonObjectOrArray obj, JsonPath jsonPath);
+
+    /**
+     * Does the object contain an element at
+     * the specified compiled <code>JsonPath</code> (even if
+     * <code>null</code>)?
+     */
+    public boolean isElementExists(JsonObjectOrArray obj, JsonPath jsonPath);
+
     /**
      * Does the object contain an element at
      * the specified <code>JsonPath</code> (even if
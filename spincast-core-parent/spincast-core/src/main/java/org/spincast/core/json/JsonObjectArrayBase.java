@@ -1401,6 +1401,126 @@ public abstract class JsonObjectArrayBase implements JsonObjectOrArray {
         return contains(jsonPath);
     }
 
+    @Override
+    public Object getObject(JsonPath jsonPath) {
+        return getElement(jsonPath, false, null);
+    }
+
+    @Override
+    public Object getObject(JsonPath jsonPath, Object defaultElement) {
+        return getElement(jsonPath, true, defaultElement);
+    }
+
+    @Override
+    public JsonObject getJsonObject(JsonPath jsonPath) {
+        return getJsonObjectFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public JsonObject getJsonObject(JsonPath jsonPath, JsonObject defaultElement) {
+        return getJsonObjectFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public JsonArray getJsonArray(JsonPath jsonPath) {
+        return getJsonArrayFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public JsonArray getJsonArray(JsonPath jsonPath, JsonArray defaultElement) {
+        return getJsonArrayFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public String getString(JsonPath jsonPath) {
+        return getStringFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public String getString(JsonPath jsonPath, String defaultElement) {
+        return getStringFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public Integer getInteger(JsonPath jsonPath) {
+        return getIntegerFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public Integer getInteger(JsonPath jsonPath, Integer defaultElement) {
+        return getIntegerFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public Long getLong(JsonPath jsonPath) {
+        return getLongFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public Long getLong(JsonPath jsonPath, Long defaultElement) {
+        return getLongFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public Double getDouble(JsonPath jsonPath) {
+        return getDoubleFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public Double getDouble(JsonPath jsonPath, Double defaultElement) {
+        return getDoubleFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public Boolean getBoolean(JsonPath jsonPath) {
+        return getBooleanFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public Boolean getBoolean(JsonPath jsonPath, Boolean defaultElement) {
+        return getBooleanFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(JsonPath jsonPath) {
+        return getBigDecimalFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(JsonPath jsonPath, BigDecimal defaultElement) {
+        return getBigDecimalFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public Date getDate(JsonPath jsonPath) {
+        return getDateFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public Date getDate(JsonPath jsonPath, Date defaultElement) {
+        return getDateFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public Instant getInstant(JsonPath jsonPath) {
+        return getInstantFromObject(getElement(jsonPath, false, null));
+    }
+
+    @Override
+    public Instant getInstant(JsonPath jsonPath, Instant defaultElement) {
+        return getInstantFromObject(getElement(jsonPath, true, defaultElement));
+    }
+
+    @Override
+    public JsonObjectOrArray set(JsonPath jsonPath, Object element) {
+        return put(jsonPath, element, false);
+    }
+
+    @Override
+    public JsonObjectOrArray set(JsonPath jsonPath, Object element, boolean clone) {
+        return put(jsonPath, element, clone);
+    }
+
     /**
      * Gets the element at this key/jsonPath/index.
      * If the current object is immutable, the target element
@@ -1419,16 +1539,9 @@ public abstract class JsonObjectArrayBase implements JsonObjectOrArray {
             // If the object is immutable, we may have the
             // element of the specified JsonPath in cache.
             //==========================================
-            if (!isMutable()) {
-
-                JsonPathCachingItem jsonPathCachingItem = getJsonPathCachingMap().get(key);
-                if (jsonPathCachingItem != null) {
-                    if (jsonPathCachingItem.exists) {
-                        return jsonPathCachingItem.element;
-                    } else {
-                        return defaultElement;
-                    }
-                }
+            JsonPathCachingItem jsonPathCachingItem = getCachedJsonPathItem(key);
+            if (jsonPathCachingItem != null) {
+                return jsonPathCachingItem.exists ? jsonPathCachingItem.element : defaultElement;
             }
 
             Object element;
@@ -1440,27 +1553,72 @@ public abstract class JsonObjectArrayBase implements JsonObjectOrArray {
                 throw new RuntimeException("Type not managed here : " + this.getClass().getName());
             }
 
-            Object elementToReturn = element;
-            boolean jsonPathElementExists = true;
-            // reference equality ok here
-            if (element == getdefaultElementValidator()) {
-                jsonPathElementExists = false;
-                if (hasdefaultElement) {
-                    elementToReturn = defaultElement;
-                } else {
-                    elementToReturn = null;
-                }
-            }
+            return getElementToReturn(key, element, hasdefaultElement, defaultElement);
+        }
+    }
 
-            if (!isMutable()) {
-                JsonPathCachingItem jsonPathCachingItem = new JsonPathCachingItem();
-                jsonPathCachingItem.exists = jsonPathElementExists;
-                jsonPathCachingItem.element = element;
-                getJsonPathCachingMap().put(key, jsonPathCachingItem);
+    /**
+     * Gets the element at this compiled JsonPath.
+     * If the current object is immutable, the target element
+     * may be cached.
+     */
+    protected Object getElement(JsonPath jsonPath,
+                                boolean hasdefaultElement,
+                                Object defaultElement) {
+
+        Objects.requireNonNull(jsonPath, "The jsonPath can't be NULL");
+
+        JsonPathCachingItem jsonPathCachingItem = getCachedJsonPathItem(jsonPath.getPath());
+        if (jsonPathCachingItem != null) {
+            return jsonPathCachingItem.exists ? jsonPathCachingItem.element : defaultElement;
+        }
+
+        Object element = getJsonManager().getElementAtJsonPath(this, jsonPath, getdefaultElementValidator());
+
+        return getElementToReturn(jsonPath.getPath(), element, hasdefaultElement, defaultElement);
+    }
+
+    /**
+     * The cached element at the specified JsonPath, if
+     * the object is immutable.
+     */
+    protected JsonPathCachingItem getCachedJsonPathItem(String jsonPath) {
+        if (isMutable()) {
+            return null;
+        }
+        return getJsonPathCachingMap().get(jsonPath);
+    }
+
+    /**
+     * Caches the element found at a JsonPath, if
+     * the object is immutable, and returns it or the
+     * default value if it doesn't exist.
+     */
+    protected Object getElementToReturn(String jsonPath,
+                                        Object element,
+                                        boolean hasdefaultElement,
+                                        Object defaultElement) {
+
+        Object elementToReturn = element;
+        boolean jsonPathElementExists = true;
+        // reference equality ok here
+        if (element == getdefaultElementValidator()) {
+            jsonPathElementExists = false;
+            if (hasdefaultElement) {
+                elementToReturn = defaultElement;
+            } else {
+                elementToReturn = null;
             }
+        }
 
-            return elementToReturn;
+        if (!isMutable()) {
+            JsonPathCachingItem jsonPathCachingItem = new JsonPathCachingItem();
+            jsonPathCachingItem.exists = jsonPathElementExists;
+            jsonPathCachingItem.element = element;
+            getJsonPathCachingMap().put(jsonPath, jsonPathCachingItem);
         }
+
+        return elementToReturn;
     }
 
     @Override
@@ -1556,6 +1714,40 @@ public abstract class JsonObjectArrayBase implements JsonObjectOrArray {
 
         Objects.requireNonNull(jsonPath, "jsonPath key can't be NULL");
 
+        element = prepareElementToPut(element, clone);
+
+        if (parseJsonPath) {
+            // Already cloned if required.
+            getJsonManager().putElementAtJsonPath(this, jsonPath, element, false);
+        } else {
+            putAsIs(jsonPath, element);
+        }
+
+        return this;
+    }
+
+    protected JsonObjectOrArray put(JsonPath jsonPath, Object element, boolean clone) {
+
+        if (!isMutable()) {
+            throw new RuntimeException("This object is immutable");
+        }
+
+        Objects.requireNonNull(jsonPath, "jsonPath can't be NULL");
+
+        element = prepareElementToPut(element, clone);
+
+        // Already cloned if required.
+        getJsonManager().putElementAtJsonPath(this, jsonPath, element, false);
+
+        return this;
+    }
+
+    /**
+     * Converts and clones, if required, an element
+     * to put in this object.
+     */
+    protected Object prepareElementToPut(Object element, boolean clone) {
+
         if (element != null) {
 
             //==========================================
@@ -1585,14 +1777,7 @@ public abstract class JsonObjectArrayBase implements JsonObjectOrArray {
             }
         }
 
-        if (parseJsonPath) {
-            // Already cloned if required.
-            getJsonManager().putElementAtJsonPath(this, jsonPath, element, false);
-        } else {
-            putAsIs(jsonPath, element);
-        }
-
-        return this;
+        return element;
     }
 
     protected abstract JsonObjectOrArray putAsIs(String key, Object element);
@@ -0,0 +1,117 @@
+package org.spincast.core.json;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The <code>Map</code> of a mutable <code>JsonObject</code>
+ * cloned from an immutable one.
+ * <p>
+ * The elements of the immutable source are only copied when
+ * the Map is modified or when one of its <code>JsonObject</code>
+ * or <code>JsonArray</code> children is accessed. Those children
+ * are then cloned to mutable instances too, using the same
+ * strategy, so only the levels that are really used are copied.
+ */
+public class JsonObjectCopyOnWriteMap extends AbstractMap<String, Object> {
+
+    private final JsonObject source;
+    private Map<String, Object> copy;
+
+    /**
+     * @param source an immutable JsonObject.
+     */
+    public JsonObjectCopyOnWriteMap(JsonObject source) {
+        Objects.requireNonNull(source, "The source can't be NULL");
+        if (source.isMutable()) {
+            throw new RuntimeException("The source JsonObject must be immutable");
+        }
+        this.source = source;
+    }
+
+    /**
+     * The immutable source.
+     */
+    public JsonObject getSource() {
+        return this.source;
+    }
+
+    /**
+     * Have the elements been copied? If not,
+     * the Map still represents exactly the source.
+     */
+    public boolean isCopied() {
+        return this.copy != null;
+    }
+
+    protected Map<String, Object> getCopy() {
+        if (this.copy == null) {
+            Map<String, Object> copy = new HashMap<String, Object>();
+            for (Entry<String, Object> entry : getSource()) {
+                Object element = entry.getValue();
+                if (element instanceof JsonObjectOrArray) {
+                    element = ((JsonObjectOrArray)element).clone(true);
+                }
+                copy.put(entry.getKey(), element);
+            }
+            this.copy = copy;
+        }
+        return this.copy;
+    }
+
+    @Override
+    public int size() {
+        if (!isCopied()) {
+            return getSource().size();
+        }
+        return getCopy().size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!isCopied()) {
+            return key instanceof String && getSource().isElementExistsNoKeyParsing((String)key);
+        }
+        return getCopy().containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+
+        //==========================================
+        // A simple element can be read from the
+        // source without copying anything.
+        //==========================================
+        if (!isCopied() && key instanceof String) {
+            Object element = getSource().getObjectNoKeyParsing((String)key);
+            if (!(element instanceof JsonObjectOrArray)) {
+                return element;
+            }
+        }
+        return getCopy().get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return getCopy().put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return getCopy().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        getCopy().clear();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return getCopy().entrySet();
+    }
+}
@@ -365,6 +365,19 @@ public class JsonObjectDefault extends JsonObjectArrayBase implements JsonObject
 
     @Override
     public JsonObject clone(boolean mutable) {
+
+        //==========================================
+        // Mutable clone of an immutable object, not modified
+        // or accessed since : the immutable source is
+        // still an exact immutable clone.
+        //==========================================
+        if (!mutable && getMap() instanceof JsonObjectCopyOnWriteMap) {
+            JsonObjectCopyOnWriteMap copyOnWriteMap = (JsonObjectCopyOnWriteMap)getMap();
+            if (!copyOnWriteMap.isCopied()) {
+                return copyOnWriteMap.getSource();
+            }
+        }
+
         return getJsonManager().cloneJsonObject(this, mutable);
     }
 
@@ -1104,4 +1104,136 @@ public interface JsonObjectOrArray {
      */
     public boolean isNull(String jsonPath);
 
+    /**
+     * Sets an element at the compiled <code>JsonPath</code>
+     * position.
+     *
+     * @see #set(String, Object)
+     */
+    public JsonObjectOrArray set(JsonPath jsonPath, Object element);
+
+    /**
+     * Sets an element at the compiled <code>JsonPath</code>
+     * position.
+     *
+     * @see #set(String, Object, boolean)
+     */
+    public JsonObjectOrArray set(JsonPath jsonPath, Object element, boolean clone);
+
+    /**
+     * Gets the element at the compiled <code>JsonPath</code>,
+     * without any conversion.
+     *
+     * @return the element or <code>null</code> if not found.
+     */
+    public Object getObject(JsonPath jsonPath);
+
+    /**
+     * Gets the element at the compiled <code>JsonPath</code>,
+     * without any conversion.
+     *
+     * @return the element or the <code>defaultElement</code> if not found.
+     */
+    public Object getObject(JsonPath jsonPath, Object defaultElement);
+
+    /**
+     * @see #getJsonObject(String)
+     */
+    public JsonObject getJsonObject(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getJsonObject(String, JsonObject)
+     */
+    public JsonObject getJsonObject(JsonPath jsonPath, JsonObject defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getJsonArray(String)
+     */
+    public JsonArray getJsonArray(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getJsonArray(String, JsonArray)
+     */
+    public JsonArray getJsonArray(JsonPath jsonPath, JsonArray defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getString(String)
+     */
+    public String getString(JsonPath jsonPath);
+
+    /**
+     * @see #getString(String, String)
+     */
+    public String getString(JsonPath jsonPath, String defaultElement);
+
+    /**
+     * @see #getInteger(String)
+     */
+    public Integer getInteger(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getInteger(String, Integer)
+     */
+    public Integer getInteger(JsonPath jsonPath, Integer defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getLong(String)
+     */
+    public Long getLong(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getLong(String, Long)
+     */
+    public Long getLong(JsonPath jsonPath, Long defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getDouble(String)
+     */
+    public Double getDouble(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getDouble(String, Double)
+     */
+    public Double getDouble(JsonPath jsonPath, Double defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getBoolean(String)
+     */
+    public Boolean getBoolean(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getBoolean(String, Boolean)
+     */
+    public Boolean getBoolean(JsonPath jsonPath, Boolean defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getBigDecimal(String)
+     */
+    public BigDecimal getBigDecimal(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getBigDecimal(String, BigDecimal)
+     */
+    public BigDecimal getBigDecimal(JsonPath jsonPath, BigDecimal defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getDate(String)
+     */
+    public Date getDate(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getDate(String, Date)
+     */
+    public Date getDate(JsonPath jsonPath, Date defaultElement) throws CantConvertException;
+
+    /**
+     * @see #getInstant(String)
+     */
+    public Instant getInstant(JsonPath jsonPath) throws CantConvertException;
+
+    /**
+     * @see #getInstant(String, Instant)
+     */
+    public Instant getInstant(JsonPath jsonPath, Instant defaultElement) throws CantConvertException;
+
 }
@@ -0,0 +1,112 @@
+package org.spincast.core.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A read-only plain <code>Map</code> view of a <code>JsonObject</code>.
+ * <p>
+ * Contrary to {@link JsonObject#convertToPlainMap()}, nothing is
+ * copied : the <code>JsonObject</code> and <code>JsonArray</code>
+ * children are wrapped in views too, when they are accessed.
+ * <p>
+ * Useful to pass a <code>JsonObject</code> to a library that only
+ * knows about Maps and Lists, a templating engine for example.
+ */
+public class JsonObjectPlainMapView extends AbstractMap<String, Object> {
+
+    private final JsonObject source;
+
+    public JsonObjectPlainMapView(JsonObject source) {
+        Objects.requireNonNull(source, "The source can't be NULL");
+        this.source = source;
+    }
+
+    /**
+     * The viewed JsonObject.
+     */
+    public JsonObject getSource() {
+        return this.source;
+    }
+
+    /**
+     * Wraps a <code>JsonObject</code> or a <code>JsonArray</code>
+     * in a view. Other elements are returned as is.
+     */
+    public static Object toPlainView(Object element) {
+        if (element instanceof JsonObject) {
+            return new JsonObjectPlainMapView((JsonObject)element);
+        } else if (element instanceof JsonArray) {
+            return new JsonArrayPlainListView((JsonArray)element);
+        }
+        return element;
+    }
+
+    /**
+     * Counts the entries using the iterator : some
+     * <code>JsonObject</code> implementations, a <code>Form</code>
+     * for example, give another meaning to <code>size()</code>.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        Iterator<Entry<String, Object>> it = getSource().iterator();
+        while (it.hasNext()) {
+            it.next();
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !getSource().iterator().hasNext();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && getSource().isElementExistsNoKeyParsing((String)key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        return toPlainView(getSource().getObjectNoKeyParsing((String)key));
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public int size() {
+                return JsonObjectPlainMapView.this.size();
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+
+                final Iterator<Entry<String, Object>> it = getSource().iterator();
+                return new Iterator<Entry<String, Object>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Entry<String, Object> entry = it.next();
+                        return new SimpleImmutableEntry<String, Object>(entry.getKey(), toPlainView(entry.getValue()));
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package org.spincast.core.json;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compiled <code>JsonPath</code>.
+ * <p>
+ * The JsonPath is parsed once into tokens (object keys and
+ * array indexes) and can then be used to get or set elements
+ * without being parsed again.
+ * <p>
+ * Use {@link JsonManager#compileJsonPath(String)} to get an
+ * instance.
+ */
+public class JsonPath {
+
+    /**
+     * A token of a compiled JsonPath : an object
+     * key or an array index.
+     */
+    public static class Token {
+
+        private final String key;
+        private final int index;
+
+        protected Token(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        public static Token key(String key) {
+            return new Token(key, -1);
+        }
+
+        public static Token index(int index) {
+            return new Token(null, index);
+        }
+
+        /**
+         * Is this token an array index? Otherwise, it
+         * is an object key.
+         */
+        public boolean isIndex() {
+            return this.key == null;
+        }
+
+        /**
+         * The object key or <code>null</code> if this
+         * token is an array index.
+         */
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * The array index or <code>-1</code> if this
+         * token is an object key.
+         */
+        public int getIndex() {
+            return this.index;
+        }
+
+        @Override
+        public String toString() {
+            return isIndex() ? "[" + getIndex() + "]" : getKey();
+        }
+    }
+
+    private final String path;
+    private final List<Token> tokens;
+    private final String parsingError;
+    private final Boolean pendingChildIsArray;
+
+    public JsonPath(String path, List<Token> tokens) {
+        this(path, tokens, null, null);
+    }
+
+    /**
+     * Constructor for an invalid JsonPath.
+     *
+     * @param tokens the tokens parsed before the error.
+     * @param parsingError the parsing error message.
+     * @param pendingChildIsArray the type of the child expected
+     * from the last parsed token, if known when the error
+     * occured.
+     */
+    public JsonPath(String path, List<Token> tokens, String parsingError, Boolean pendingChildIsArray) {
+        this.path = path;
+        this.tokens = Collections.unmodifiableList(tokens);
+        this.parsingError = parsingError;
+        this.pendingChildIsArray = pendingChildIsArray;
+    }
+
+    /**
+     * The original JsonPath.
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * The tokens. Never empty if the JsonPath
+     * is valid.
+     */
+    public List<Token> getTokens() {
+        return this.tokens;
+    }
+
+    public boolean isValid() {
+        return getParsingError() == null;
+    }
+
+    /**
+     * The parsing error or <code>null</code> if the
+     * JsonPath is valid.
+     * <p>
+     * An invalid JsonPath is only kept so getting an element
+     * returns the default value, without error, if one of its
+     * parent elements doesn't exist.
+     */
+    public String getParsingError() {
+        return this.parsingError;
+    }
+
+    /**
+     * For an invalid JsonPath : is the child of the
+     * last parsed token expected to be an array (<code>true</code>),
+     * an object (<code>false</code>) or unknown (<code>null</code>)?
+     */
+    public Boolean getPendingChildIsArray() {
+        return this.pendingChildIsArray;
+    }
+
+    @Override
+    public int hashCode() {
+        return getPath().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JsonPath)) {
+            return false;
+        }
+        return getPath().equals(((JsonPath)obj).getPath());
+    }
+
+    @Override
+    public String toString() {
+        return getPath();
+    }
+}
@@ -72,4 +72,41 @@ public interface JsonPathUtils {
      */
     public boolean isElementExists(JsonArray array, String jsonPath);
 
+    /**
+     * Compiles a <code>JsonPath</code> so it can be
+     * used multiple times without being parsed again.
+     * <p>
+     * The compiled JsonPaths are cached.
+     */
+    public JsonPath compileJsonPath(String jsonPath);
+
+    /**
+     * Gets an element from the <code>JsonObject</code> or
+     * <code>JsonArray</code>, at the specified compiled <code>JsonPath</code>.
+     * 
+     * @return the element or the <code>default element</code> if not found.
+     */
+    public Object getElementAtJsonPath(JsonObjectOrArray root, JsonPath jsonPath, Object defaultElement);
+
+    /**
+     * Puts an element in the object at the specified compiled <code>JsonPath</code>
+     * position. No clone is made, the element is put as is.
+     * <p>
+     * The complete hierarchy to the final element is created if required.
+     * </p>
+     */
+    public void putElementAtJsonPath(JsonObjectOrArray root, JsonPath jsonPath, Object elementToAdd);
+
+    /**
+     * Removes an element at the specified compiled <code>JsonPath</code>.
+     */
+    public void removeElementAtJsonPath(JsonObjectOrArray root, JsonPath jsonPath);
+
+    /**
+     * Does the object or array contain an element at
+     * the compiled <code>JsonPath</code> position (even if 
+     * <code>null</code>)?
+     */
+    public boolean isElementExists(JsonObjectOrArray root, JsonPath jsonPath);
+
 }
@@ -1,11 +1,16 @@
 package org.spincast.core.json;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.spincast.core.config.SpincastConfig;
 import org.spincast.core.exceptions.CantConvertException;
+import org.spincast.core.json.JsonPath.Token;
 import org.spincast.shaded.org.apache.commons.lang3.StringUtils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.inject.Inject;
 
 public class JsonPathUtilsDefault implements JsonPathUtils {
@@ -19,6 +24,7 @@ public class JsonPathUtilsDefault implements JsonPathUtils {
 
     private final SpincastConfig spincastConfig;
     private final JsonManager jsonManager;
+    private volatile Cache<String, JsonPath> compiledJsonPathsCache;
 
     /**
      * Constructor
@@ -46,6 +52,77 @@ public class JsonPathUtilsDefault implements JsonPathUtils {
         return getSpincastConfig().getKeyMaxLengthWhenConvertingMapToJsonObject();
     }
 
+    /**
+     * The maximum number of compiled JsonPaths to keep
+     * in cache.
+     */
+    protected int getCompiledJsonPathsCacheMaxSize() {
+        return getSpincastConfig().getCompiledJsonPathsCacheMaxSize();
+    }
+
+    /**
+     * The compiled JsonPaths, shared by all the
+     * threads.
+     */
+    protected Cache<String, JsonPath> getCompiledJsonPathsCache() {
+        Cache<String, JsonPath> cache = this.compiledJsonPathsCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.compiledJsonPathsCache;
+                if (cache == null) {
+                    cache = CacheBuilder.newBuilder()
+                                        .maximumSize(getCompiledJsonPathsCacheMaxSize())
+                                        .build();
+                    this.compiledJsonPathsCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    @Override
+    public JsonPath compileJsonPath(String jsonPath) {
+        Objects.requireNonNull(jsonPath, "The jsonPath can't be NULL");
+
+        //==========================================
+        // Simple JsonPath, without any special character.
+        // No need to cache it.
+        //==========================================
+        if (!isJsonPathRequiresParsing(jsonPath)) {
+            List<Token> tokens = new ArrayList<Token>(1);
+            tokens.add(Token.key(jsonPath));
+            return new JsonPath(jsonPath, tokens);
+        }
+
+        JsonPath compiled = getCompiledJsonPath(jsonPath);
+        if (!compiled.isValid()) {
+            throw new RuntimeException(compiled.getParsingError());
+        }
+        return compiled;
+    }
+
+    /**
+     * Gets the compiled JsonPath from the cache or
+     * parses it. The result may be an invalid JsonPath,
+     * which is not cached : arbitrary invalid paths
+     * can't fill the cache.
+     */
+    protected JsonPath getCompiledJsonPath(String jsonPath) {
+        Cache<String, JsonPath> cache = getCompiledJsonPathsCache();
+        JsonPath compiled = cache.getIfPresent(jsonPath);
+        if (compiled == null) {
+            compiled = parseJsonPath(jsonPath);
+            if (compiled.isValid()) {
+                cache.put(jsonPath, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    protected boolean isJsonPathRequiresParsing(String jsonPath) {
+        return StringUtils.containsAny(jsonPath, ".[]");
+    }
+
     @Override
     public Object getElementAtJsonPath(JsonObject obj, String jsonPath) {
         return selectValueUsingJsonPath(obj, jsonPath, false, null);
@@ -56,10 +133,6 @@ public class JsonPathUtilsDefault implements JsonPathUtils {
         return selectValueUsingJsonPath(obj, jsonPath, true, defaultElement);
     }
 
-    protected Object selectValueUsingJsonPath(JsonObject obj, String jsonPath, boolean hasDefaultValue, Object defaultElement) {
-        return processJsonPath(obj, jsonPath, JsonPathProcessingType.GET, null, hasDefaultValue, defaultElement);
-    }
-
     @Override
     public Object getElementAtJsonPath(JsonArray array, String jsonPath) {
         return selectValueUsingJsonPath(array, jsonPath, false, null);
@@ -70,44 +143,39 @@ public class JsonPathUtilsDefault implements JsonPathUtils {
         return selectValueUsingJsonPath(array, jsonPath, true, defaultElement);
     }
 
-    protected Object selectValueUsingJsonPath(JsonArray array, String jsonPath, boolean hasDefaultValue, Object defaultElement) {
-
-        Objects.requireNonNull(array, "The array can't be NULL");
-
-        JsonObject root = getJsonManager().create();
-        root.setNoKeyParsing("array", array, false);
-
-        jsonPath = "array" + jsonPath;
+    @Override
+    public Object getElementAtJsonPath(JsonObjectOrArray root, JsonPath jsonPath, Object defaultElement) {
+        Objects.requireNonNull(root, "The root can't be NULL");
+        return processJsonPath(root, jsonPath, JsonPathProcessingType.GET, null, true, defaultElement);
+    }
 
-        Object result = selectValueUsingJsonPath(root, jsonPath, hasDefaultValue, defaultElement);
+    protected Object selectValueUsingJsonPath(JsonObjectOrArray root,
+                                              String jsonPath,
+                                              boolean hasDefaultValue,
+                                              Object defaultElement) {
+        Objects.requireNonNull(root, "The root can't be NULL");
 
-        return result;
+        return processJsonPath(root, jsonPath, JsonPathProcessingType.GET, null, hasDefaultValue, defaultElement);
     }
 
     @Override
     public void putElementAtJsonPath(JsonObjectOrArray root, String jsonPath, Object valueToAdd) {
         Objects.requireNonNull(root, "The root can't be NULL");
 
-        JsonObject rootObj = null;
-        if (root instanceof JsonObject) {
-            rootObj = (JsonObject)root;
-        } else if (root instanceof JsonArray) {
-
-            if (jsonPath == null || !jsonPath.startsWith("[")) {
-                throw new RuntimeException("The JsonPath from a JsonArray must " +
-                                           "start with the position of an element of the array inside brackets. " +
-                                           "For example : \"[2]\".");
-            }
-            jsonPath = "array" + jsonPath;
+        if (root instanceof JsonArray && (jsonPath == null || !jsonPath.startsWith("["))) {
+            throw new RuntimeException("The JsonPath from a JsonArray must " +
+                                       "start with the position of an element of the array inside brackets. " +
+                                       "For example : \"[2]\".");
+        }
 
-            rootObj = getJsonManager().create();
-            rootObj.setNoKeyParsing("array", (JsonArray)root, false);
+        processJsonPath(root, jsonPath, JsonPathProcessingType.PUT, valueToAdd, false, null);
+    }
 
-        } else {
-            throw new RuntimeException("Not managed here : " + root);
-        }
+    @Override
+    public void putElementAtJsonPath(JsonObjectOrArray root, JsonPath jsonPath, Object valueToAdd) {
+        Objects.requireNonNull(root, "The root can't be NULL");
 
-        processJsonPath(rootObj, jsonPath, JsonPathProcessingType.PUT, valueToAdd, false, null);
+        processJsonPath(root, jsonPath, JsonPathProcessingType.PUT, valueToAdd, false, null);
     }
 
     @Override
@@ -121,49 +189,59 @@ public class JsonPathUtilsDefault implements JsonPathUtils {
 
     @Override
     public void removeElementAtJsonPath(JsonArray array, String jsonPath) {
-
         if (array == null) {
             return;
         }
 
-        JsonObject root = getJsonManager().create();
-        root.setNoKeyParsing("a", array, false);
+        processJsonPath(array, jsonPath, JsonPathProcessingType.REMOVE, null, false, null);
+    }
 
-        jsonPath = "a" + jsonPath;
+    @Override
+    public void removeElementAtJsonPath(JsonObjectOrArray root, JsonPath jsonPath) {
+        if (root == null) {
+            return;
+        }
 
-        removeElementAtJsonPath(root, jsonPath);
+        processJsonPath(root, jsonPath, JsonPathProcessingType.REMOVE, null, false, null);
     }
 
     @Override
     public boolean isElementExists(JsonObject root, String jsonPath) {
+        return isElementExists((JsonObjectOrArray)root, jsonPath);
+    }
+
+    @Override
+    public boolean isElementExists(JsonArray array, String jsonPath) {
+        return isElementExists((JsonObjectOrArray)array, jsonPath);
+    }
+
+    protected boolean isElementExists(JsonObjectOrArray root, String jsonPath) {
 
         if (root == null || jsonPath == null) {
             return false;
         }
 
-        Object result = processJsonPath(root, jsonPath, JsonPathProcessingType.EXISTS, null, false, null);
-        if (!(result instanceof Boolean)) {
-            throw new RuntimeException("Expecting a Boolean here! Got : " + result);
-        }
-        return (Boolean)result;
+        return toExistsResult(processJsonPath(root, jsonPath, JsonPathProcessingType.EXISTS, null, false, null));
     }
 
     @Override
-    public boolean isElementExists(JsonArray array, String jsonPath) {
+    public boolean isElementExists(JsonObjectOrArray root, JsonPath jsonPath) {
 
-        if (array == null || jsonPath == null) {
+        if (root == null || jsonPath == null) {
             return false;
         }
 
-        JsonObject root = getJsonManager().create();
-        root.setNoKeyParsing("a", array, false);
-
-        jsonPath = "a" + jsonPath;
+        return toExistsResult(processJsonPath(root, jsonPath, JsonPathProcessingType.EXISTS, null, false, null));
+    }
 
-        return isElementExists(root, jsonPath);
+    protected boolean toExistsResult(Object result) {
+        if (!(result instanceof Boolean)) {
+            throw new RuntimeException("Expecting a Boolean here! Got : " + result);
+        }
+        return (Boolean)result;
     }
 
-    protected Object processJsonPath(JsonObject root,
+    protected Object processJsonPath(JsonObjectOrArray root,
                                      String jsonPath,
                                      JsonPathProcessingType jsonPathProcessingType,
                                      Object valueToPut,
@@ -180,641 +258,729 @@ public class JsonPathUtilsDefault implements JsonPathUtils {
             }
         }
 
-        JsonObject currentObj = root;
-        JsonArray currentArray = null;
-        int currentArrayIndex = 0;
-        String token;
-
         //==========================================
         // Simple JsonPath, without any special character. We
         // don't need to parse it.
         //==========================================
-        if (!StringUtils.containsAny(jsonPath, ".[]")) {
-            token = jsonPath;
+        if (!isJsonPathRequiresParsing(jsonPath)) {
+            if (root instanceof JsonObject) {
+                return processLastKey((JsonObject)root,
+                                      jsonPath,
+                                      jsonPathProcessingType,
+                                      valueToPut,
+                                      hasDefaultValue,
+                                      defaultElement);
+            }
+            return processMissingElement(jsonPathProcessingType, hasDefaultValue, defaultElement, jsonPath);
+        }
 
-        //==========================================@formatter:off 
-        // We need to parse the JsonPath
-        //==========================================@formatter:on
-        } else {
+        return processJsonPath(root,
+                               getCompiledJsonPath(jsonPath),
+                               jsonPathProcessingType,
+                               valueToPut,
+                               hasDefaultValue,
+                               defaultElement);
+    }
+
+    /**
+     * Walks the tokens of a compiled JsonPath.
+     */
+    protected Object processJsonPath(JsonObjectOrArray root,
+                                     JsonPath jsonPath,
+                                     JsonPathProcessingType jsonPathProcessingType,
+                                     Object valueToPut,
+                                     boolean hasDefaultValue,
+                                     Object defaultElement) {
 
-            if (jsonPath.length() > getKeyMaxLengthWhenConvertingMapToJsonObject()) {
-                throw new RuntimeException("A JsonPath is too long to be parsed. This JsonPath starts with : " +
-                                           jsonPath.substring(0, Math.min(30, (jsonPath.length() - 1))));
+        Objects.requireNonNull(root, "The root object can't be NULL");
+
+        if (jsonPath == null) {
+            if (hasDefaultValue) {
+                return defaultElement;
+            } else {
+                return null;
             }
+        }
 
-            StringBuilder tokenBuilder = new StringBuilder();
+        List<Token> tokens = jsonPath.getTokens();
 
-            //==========================================
-            // We allow the JsonPath to start with a "."
-            // even if it's not required.
-            //==========================================
-            if (jsonPath.startsWith(".")) {
-                jsonPath = jsonPath.substring(1);
+        if (!jsonPath.isValid()) {
+            return processInvalidJsonPath(root, jsonPath, jsonPathProcessingType, hasDefaultValue, defaultElement);
+        }
+
+        Token firstToken = tokens.get(0);
+        if (root instanceof JsonObject) {
+            if (firstToken.isIndex()) {
+                throw new RuntimeException("JsonPath parsing error on character '['. The root object is not " +
+                                           "an array. JsonPath : " +
+                                           jsonPath);
             }
+        } else if (root instanceof JsonArray) {
 
             //==========================================
-            // Initial validations
+            // The JsonPath from an array must start
+            // with an index.
             //==========================================
-            if (jsonPath.startsWith(".") || jsonPath.endsWith(".")) {
-                throw new RuntimeException("JsonPath parsing error on character '.'. The JsonPath can't start or end with the " +
-                                           "'.' character. JsonPath : " + jsonPath);
+            if (!firstToken.isIndex()) {
+                if (jsonPathProcessingType == JsonPathProcessingType.PUT) {
+                    throw new RuntimeException("The JsonPath from a JsonArray must " +
+                                               "start with the position of an element of the array inside brackets. " +
+                                               "For example : \"[2]\".");
+                }
+                return processMissingElement(jsonPathProcessingType, hasDefaultValue, defaultElement, jsonPath);
             }
-            if (jsonPath.endsWith("[")) {
-                throw new RuntimeException("JsonPath parsing error on character '['. The JsonPath can't end with the " +
-                                           "'[' character. JsonPath : " + jsonPath);
+        } else {
+            throw new RuntimeException("Not managed here : " + root);
+        }
+
+        JsonObjectOrArray current = root;
+        int lastPos = tokens.size() - 1;
+        for (int i = 0; i < lastPos; i++) {
+
+            Token token = tokens.get(i);
+            boolean nextIsIndex = tokens.get(i + 1).isIndex();
+
+            JsonObjectOrArray child;
+            if (token.isIndex()) {
+                child = getOrCreateChild((JsonArray)current, token.getIndex(), nextIsIndex, jsonPathProcessingType, jsonPath);
+            } else {
+                child = getOrCreateChild((JsonObject)current, token.getKey(), nextIsIndex, jsonPathProcessingType, jsonPath);
             }
-            if (jsonPath.startsWith("]")) {
-                throw new RuntimeException("JsonPath parsing error on character '['. The JsonPath can't start with the " +
-                                           "']' character. JsonPath : " + jsonPath);
+
+            if (child == null) {
+                return processMissingElement(jsonPathProcessingType, hasDefaultValue, defaultElement, jsonPath);
             }
+            current = child;
+        }
 
-            //==========================================
-            // We parse the JsonPath, one character at the time.
-            //==========================================
-            boolean isInBrackets = false;
-            boolean isInQuotes = false;
-            boolean isInDoubleQuotes = false;
-            char ch = '\0';
-            char previousChar = '\0';
-            for (int i = 0; i < jsonPath.length(); i++) {
+        Token lastToken = tokens.get(lastPos);
+        if (lastToken.isIndex()) {
+            return processLastIndex((JsonArray)current,
+                                    lastToken.getIndex(),
+                                    jsonPathProcessingType,
+                                    valueToPut,
+                                    hasDefaultValue,
+                                    defaultElement);
+        }
+        return processLastKey((JsonObject)current,
+                              lastToken.getKey(),
+                              jsonPathProcessingType,
+                              valueToPut,
+                              hasDefaultValue,
+                              defaultElement);
+    }
 
-                previousChar = ch;
-                ch = jsonPath.charAt(i);
+    /**
+     * An invalid JsonPath throws its parsing error, except
+     * when getting an element or checking if it exists : in those
+     * cases, if one of the parent elements parsed before the
+     * error doesn't exist, there is no error.
+     */
+    protected Object processInvalidJsonPath(JsonObjectOrArray root,
+                                            JsonPath jsonPath,
+                                            JsonPathProcessingType jsonPathProcessingType,
+                                            boolean hasDefaultValue,
+                                            Object defaultElement) {
+
+        List<Token> tokens = jsonPath.getTokens();
+        if (!isCreateMissingElements(jsonPathProcessingType) && tokens.size() > 0) {
+
+            Token firstToken = tokens.get(0);
+            if (root instanceof JsonObject && firstToken.isIndex()) {
+                throw new RuntimeException("JsonPath parsing error on character '['. The root object is not " +
+                                           "an array. JsonPath : " +
+                                           jsonPath);
+            }
+            if (root instanceof JsonArray && !firstToken.isIndex()) {
+                return processMissingElement(jsonPathProcessingType, hasDefaultValue, defaultElement, jsonPath);
+            }
 
-                //==========================================
-                // The '.' character
-                //==========================================
-                if (ch == '.') {
+            JsonObjectOrArray current = root;
+            for (int i = 0; i < tokens.size(); i++) {
 
-                    //==========================================
-                    // In quotes, this character has no
-                    // special meaning.
-                    //==========================================
-                    if (isInQuotes || isInDoubleQuotes) {
-                        tokenBuilder.append(ch);
-                        continue;
-                    }
+                Token token = tokens.get(i);
 
-                    if (isInBrackets) {
-                        throw new RuntimeException("JsonPath parsing error on character '.'. A dot is not valid inside brackets but " +
-                                                   "outside quotes. JsonPath : " + jsonPath);
+                Boolean childIsArray;
+                if (i < tokens.size() - 1) {
+                    childIsArray = tokens.get(i + 1).isIndex();
+                } else {
+                    childIsArray = jsonPath.getPendingChildIsArray();
+                    if (childIsArray == null) {
+                        break;
                     }
+                }
 
-                    if (currentObj != null) {
+                JsonObjectOrArray child;
+                if (token.isIndex()) {
+                    child = getOrCreateChild((JsonArray)current, token.getIndex(), childIsArray, jsonPathProcessingType, jsonPath);
+                } else {
+                    child = getOrCreateChild((JsonObject)current, token.getKey(), childIsArray, jsonPathProcessingType, jsonPath);
+                }
 
-                        //==========================================
-                        // Empty token : invalid name for an object
-                        //==========================================
-                        token = tokenBuilder.toString();
-                        if ("".equals(token)) {
-                            throw new RuntimeException("JsonPath parsing error on character '.'. A token is empty. JsonPath : " +
-                                                       jsonPath);
-                        }
-                        tokenBuilder = new StringBuilder();
-
-                        //==========================================
-                        // Creates a new object on the current object, 
-                        // if this object doesn't already exist.
-                        //==========================================
-                        JsonObject obj;
-                        try {
-                            obj = currentObj.getJsonObjectNoKeyParsing(token);
-                        } catch (CantConvertException ex) {
-                            throw new RuntimeException("JsonPath parsing error on character '.'. " +
-                                                       "The key '" + token + "' already exists, but the associated value is " +
-                                                       "not of type JsonObject as expected here. JsonPath : " +
-                                                       jsonPath);
-                        }
+                if (child == null) {
+                    return processMissingElement(jsonPathProcessingType, hasDefaultValue, defaultElement, jsonPath);
+                }
+                current = child;
+            }
+        }
 
-                        if (obj == null) {
-
-                            if (jsonPathProcessingType == JsonPathProcessingType.GET) {
-                                if (hasDefaultValue) {
-                                    return defaultElement;
-                                } else {
-                                    return null;
-                                }
-                            } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                                return false;
-                            } else {
-                                obj = getJsonManager().create();
-                                currentObj.set(token, obj);
-                            }
-                        }
+        throw new RuntimeException(jsonPath.getParsingError());
+    }
 
-                        //==========================================
-                        // This object is now our current object.
-                        //==========================================
-                        currentObj = obj;
-                        currentArray = null;
-
-                    } else {
-
-                        //==========================================
-                        // Creates a new object on the current array, 
-                        // if this object doesn't already exist.
-                        //==========================================
-                        JsonObject obj;
-                        try {
-                            obj = currentArray.getJsonObject(currentArrayIndex);
-                        } catch (CantConvertException ex) {
-                            throw new RuntimeException("JsonPath parsing error on character '.'. " +
-                                                       "The element of the array at index '" + currentArrayIndex +
-                                                       "' already exists, but is " +
-                                                       "not of type JsonObject as expected here. JsonPath : " +
-                                                       jsonPath);
-                        }
+    /**
+     * The result when an element of the JsonPath
+     * doesn't exist and is not to be created.
+     */
+    protected Object processMissingElement(JsonPathProcessingType jsonPathProcessingType,
+                                           boolean hasDefaultValue,
+                                           Object defaultElement,
+                                           Object jsonPath) {
 
-                        if (obj == null) {
-
-                            if (jsonPathProcessingType == JsonPathProcessingType.GET) {
-                                if (hasDefaultValue) {
-                                    return defaultElement;
-                                } else {
-                                    return null;
-                                }
-                            } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                                return false;
-                            } else {
-                                obj = getJsonManager().create();
-                                currentArray.set(currentArrayIndex, obj);
-                            }
-                        }
+        if (jsonPathProcessingType == JsonPathProcessingType.GET) {
+            if (hasDefaultValue) {
+                return defaultElement;
+            } else {
+                return null;
+            }
+        } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
+            return false;
+        } else if (jsonPathProcessingType == JsonPathProcessingType.REMOVE) {
+            return null;
+        } else {
+            throw new RuntimeException("Unmanaged JsonPathProcessingType here : " + jsonPathProcessingType + ". JsonPath : " +
+                                       jsonPath);
+        }
+    }
 
-                        currentObj = obj;
-                        currentArray = null;
-                    }
+    /**
+     * Gets the JsonObject or JsonArray child of an object. It is
+     * created if it doesn't exist and the processing type is
+     * not GET or EXISTS. Otherwise <code>null</code> is returned.
+     */
+    protected JsonObjectOrArray getOrCreateChild(JsonObject currentObj,
+                                                 String key,
+                                                 boolean childIsArray,
+                                                 JsonPathProcessingType jsonPathProcessingType,
+                                                 JsonPath jsonPath) {
+
+        JsonObjectOrArray child;
+        try {
+            if (childIsArray) {
+                child = currentObj.getJsonArrayNoKeyParsing(key);
+            } else {
+                child = currentObj.getJsonObjectNoKeyParsing(key);
+            }
+        } catch (CantConvertException ex) {
+            throw new RuntimeException("JsonPath parsing error. " +
+                                       "The key '" + key + "' already exists, but the associated value is " +
+                                       "not of type " + (childIsArray ? "JsonArray" : "JsonObject") +
+                                       " as expected here. JsonPath : " + jsonPath);
+        }
 
-                //==========================================@formatter:off 
-                // The '[' character
-                //==========================================@formatter:on
-                } else if (ch == '[') {
+        if (child == null && isCreateMissingElements(jsonPathProcessingType)) {
+            child = childIsArray ? getJsonManager().createArray() : getJsonManager().create();
+            currentObj.setNoKeyParsing(key, child, false);
+        }
 
-                    //==========================================
-                    // In quotes, this character has no
-                    // special meaning.
-                    //==========================================
-                    if (isInQuotes || isInDoubleQuotes) {
-                        tokenBuilder.append(ch);
-                        continue;
-                    }
+        return child;
+    }
 
-                    if (isInBrackets) {
-                        throw new RuntimeException("JsonPath parsing error on character '['.The '[' is not valid inside " +
-                                                   "already started brackets. JsonPath : " + jsonPath);
-                    }
+    /**
+     * Gets the JsonObject or JsonArray child of an array. It is
+     * created if it doesn't exist and the processing type is
+     * not GET or EXISTS. Otherwise <code>null</code> is returned.
+     */
+    protected JsonObjectOrArray getOrCreateChild(JsonArray currentArray,
+                                                 int index,
+                                                 boolean childIsArray,
+                                                 JsonPathProcessingType jsonPathProcessingType,
+                                                 JsonPath jsonPath) {
+
+        JsonObjectOrArray child;
+        try {
+            if (childIsArray) {
+                child = currentArray.getJsonArray(index);
+            } else {
+                child = currentArray.getJsonObject(index);
+            }
+        } catch (CantConvertException ex) {
+            throw new RuntimeException("JsonPath parsing error. " +
+                                       "The element of the array at index '" + index +
+                                       "' already exists, but is " +
+                                       "not of type " + (childIsArray ? "JsonArray" : "JsonObject") +
+                                       " as expected here. JsonPath : " + jsonPath);
+        }
 
-                    token = tokenBuilder.toString();
-                    tokenBuilder = new StringBuilder();
+        if (child == null && isCreateMissingElements(jsonPathProcessingType)) {
+            child = childIsArray ? getJsonManager().createArray() : getJsonManager().create();
+            currentArray.set(index, child);
+        }
 
-                    //==========================================
-                    // If what's inside the bracket is a String key, then
-                    // we create an object.
-                    // If it's an integer index, we create an array.
-                    //==========================================
-                    char nextChar = jsonPath.charAt(i + 1);
-                    if (nextChar == '"' || nextChar == '\'') {
-
-                        JsonObject obj = null;
-                        if (currentObj != null) {
-
-                            //==========================================
-                            // If the JsonPath starts with a
-                            // quoted key (for example : "['some key']" ), then 
-                            // we do not create a new object since it already exists
-                            // (its the root object).
-                            //
-                            // Also, we only create a new object if it doesn't
-                            // already exist.
-                            //==========================================
-                            if (i != 0) {
-                                try {
-                                    obj = currentObj.getJsonObject(token);
-                                } catch (CantConvertException ex) {
-                                    throw new RuntimeException("JsonPath parsing error on character '['. " +
-                                                               "The key '" + token +
-                                                               "' already exists, but the associated value is " +
-                                                               "not of type JsonObject, as expected here. JsonPath : " +
-                                                               jsonPath);
-                                }
-
-                                if (obj == null) {
-
-                                    if (jsonPathProcessingType == JsonPathProcessingType.GET) {
-                                        if (hasDefaultValue) {
-                                            return defaultElement;
-                                        } else {
-                                            return null;
-                                        }
-                                    } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                                        return false;
-                                    } else {
-                                        obj = getJsonManager().create();
-                                        currentObj.set(token, obj);
-                                    }
-                                }
-                                currentObj = obj;
-                                currentArray = null;
-                            }
+        return child;
+    }
 
-                        } else {
+    protected boolean isCreateMissingElements(JsonPathProcessingType jsonPathProcessingType) {
+        return jsonPathProcessingType != JsonPathProcessingType.GET &&
+               jsonPathProcessingType != JsonPathProcessingType.EXISTS;
+    }
 
-                            //==========================================
-                            // Creates a new object on the current array, 
-                            // if this object doesn't already exist.
-                            //==========================================
-                            try {
-                                obj = currentArray.getJsonObject(currentArrayIndex);
-                            } catch (CantConvertException ex) {
-                                throw new RuntimeException("JsonPath parsing error on character '['. " +
-                                                           "The index '" + currentArrayIndex +
-                                                           "' points to an already existing element, but " +
-                                                           "not of type JsonObject. JsonPath : " +
-                                                           jsonPath);
-                            }
-
-                            if (obj == null) {
-
-                                if (jsonPathProcessingType == JsonPathProcessingType.GET) {
-                                    if (hasDefaultValue) {
-                                        return defaultElement;
-                                    } else {
-                                        return null;
-                                    }
-                                } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                                    return false;
-                                } else {
-                                    obj = getJsonManager().create();
-                                    currentArray.set(currentArrayIndex, obj);
-                                }
-                            }
-
-                            currentObj = obj;
-                            currentArray = null;
-                        }
+    protected Object processLastKey(JsonObject currentObj,
+                                    String token,
+                                    JsonPathProcessingType jsonPathProcessingType,
+                                    Object valueToPut,
+                                    boolean hasDefaultValue,
+                                    Object defaultElement) {
 
-                    //==========================================@formatter:off 
-                    // We are dealing with an integer index,
-                    // we have to create an array if requried.
-                    //==========================================@formatter:on
-                    } else {
-
-                        JsonArray array;
-                        if (currentObj != null) {
-
-                            //==========================================
-                            // The root object is not an array so the
-                            // JsonPath Key can't start with something
-                            // like "[0]"
-                            //==========================================
-                            if (i == 0) {
-                                throw new RuntimeException("JsonPath parsing error on character '['. The root object is not " +
-                                                           "an array. JsonPath : " +
-                                                           jsonPath);
-                            }
-
-                            //==========================================
-                            // The index can't be empty
-                            //==========================================
-                            if ("".equals(token)) {
-                                throw new RuntimeException("JsonPath parsing error on character '['. A token is empty . JsonPath : " +
-                                                           jsonPath);
-                            }
-
-                            //==========================================
-                            // Creates a new array on the current object, 
-                            // if this array doesn't already exist.
-                            //==========================================
-                            try {
-                                array = currentObj.getJsonArrayNoKeyParsing(token);
-                            } catch (CantConvertException ex) {
-                                throw new RuntimeException("JsonPath parsing error on character '['. " +
-                                                           "The key '" + token +
-                                                           "' points to an already existing element, but " +
-                                                           "not of type JsonArray, as expected here. " +
-                                                           "JsonPath : " + jsonPath);
-                            }
-
-                            if (array == null) {
-
-                                if (jsonPathProcessingType == JsonPathProcessingType.GET) {
-                                    if (hasDefaultValue) {
-                                        return defaultElement;
-                                    } else {
-                                        return null;
-                                    }
-                                } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                                    return false;
-                                } else {
-                                    array = getJsonManager().createArray();
-                                    currentObj.set(token, array);
-                                }
-                            }
+        if (jsonPathProcessingType == JsonPathProcessingType.PUT) {
 
-                        } else {
+            //==========================================
+            // Cloning must habe been done before this method.
+            // No more parsing of the key.
+            //==========================================
+            currentObj.setNoKeyParsing(token, valueToPut, false);
 
-                            //==========================================
-                            // Creates a new array on the current array, 
-                            // if this array doesn't already exist.
-                            //==========================================
-                            try {
-                                array = currentArray.getJsonArray(currentArrayIndex);
-                            } catch (CantConvertException ex) {
-                                throw new RuntimeException("JsonPath parsing error on character '['. " +
-                                                           "The index '" + currentArrayIndex +
-                                                           "' points to an already existing element, but " +
-                                                           "not of type JsonArray. JsonPath : " +
-                                                           jsonPath);
-                            }
-
-                            if (array == null) {
-
-                                if (jsonPathProcessingType == JsonPathProcessingType.GET) {
-                                    if (hasDefaultValue) {
-                                        return defaultElement;
-                                    } else {
-                                        return null;
-                                    }
-                                } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                                    return false;
-                                } else {
-                                    array = getJsonManager().createArray();
-                                    currentArray.set(currentArrayIndex, array);
-                                }
-                            }
-                        }
+            return null;
 
-                        currentObj = null;
-                        currentArray = array;
-                    }
+        } else if (jsonPathProcessingType == JsonPathProcessingType.GET) {
 
-                    isInBrackets = true;
+            if (hasDefaultValue) {
+                return currentObj.getObjectNoKeyParsing(token, defaultElement);
+            } else {
+                return currentObj.getObjectNoKeyParsing(token);
+            }
 
-                //==========================================@formatter:off 
-                // The ']' character
-                //==========================================@formatter:on
-                } else if (ch == ']') {
+        } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
+            return currentObj.isElementExistsNoKeyParsing(token);
+        } else if (jsonPathProcessingType == JsonPathProcessingType.REMOVE) {
+            currentObj.removeNoKeyParsing(token);
+            return null;
+        } else {
+            throw new RuntimeException("Unmanaged JsonPathProcessingType here : " + jsonPathProcessingType);
+        }
+    }
 
-                    //==========================================
-                    // In quotes, this  character has no
-                    // special meaning.
-                    //==========================================
-                    if (isInQuotes || isInDoubleQuotes) {
-                        tokenBuilder.append(ch);
-                        continue;
-                    }
+    protected Object processLastIndex(JsonArray currentArray,
+                                      int index,
+                                      JsonPathProcessingType jsonPathProcessingType,
+                                      Object valueToPut,
+                                      boolean hasDefaultValue,
+                                      Object defaultElement) {
 
-                    if (!isInBrackets) {
-                        throw new RuntimeException("JsonPath parsing error on character ']'. No start bracket found. JsonPath : " +
-                                                   jsonPath);
-                    }
+        if (jsonPathProcessingType == JsonPathProcessingType.PUT) {
 
-                    //==========================================
-                    // Next char must be ".", "[" or the end 
-                    // of the JsonPath.
-                    //==========================================
-                    if (i < (jsonPath.length() - 1)) {
-                        char nextChar = jsonPath.charAt(i + 1);
-                        if (nextChar != '.' && nextChar != '[') {
-                            throw new RuntimeException("JsonPath parsing error on character ']'. The character following a ']', if any, must " +
-                                                       "be '.' or '['. Here, the following character is '" + nextChar +
-                                                       "'. JsonPath : " + jsonPath);
-                        }
-                    }
+            //==========================================
+            // Cloning must have been done before this method
+            //==========================================
+            currentArray.set(index, valueToPut, false);
 
-                    //==========================================
-                    // Empty token : invalid name for an index/key
-                    //==========================================
-                    token = tokenBuilder.toString();
-                    if ("".equals(token)) {
-                        throw new RuntimeException("JsonPath parsing error on character ']'. A key or an index was expected. JsonPath : " +
-                                                   jsonPath);
-                    }
+            return null;
 
-                    //==========================================
-                    // What's inside the brackets is a key
-                    //==========================================
-                    if ((token.startsWith("\"") && token.endsWith("\"")) || (token.startsWith("'") && token.endsWith("'"))) {
-                        String key = token.substring(1, token.length() - 1);
-                        if ("".equals(key)) {
-                            throw new RuntimeException("JsonPath parsing error on character ']'. A key can't be empty. JsonPath : " +
-                                                       jsonPath);
-                        }
-                        //==========================================
-                        // This becomes our token :
-                        //==========================================
-                        tokenBuilder = new StringBuilder(key);
-
-                    //==========================================@formatter:off 
-                    // What's inside the beckets is an index
-                    //==========================================@formatter:on
-                    } else {
-
-                        Integer index = null;
-                        try {
-                            index = Integer.parseInt(token);
-                        } catch (NumberFormatException ex) {
-                            throw new RuntimeException("JsonPath parsing error on character ']'. The index '" + token +
-                                                       "' is not a valid integer. " +
-                                                       "You have to use quotes or double-quotes for an object key, or a valid integer for an array index. JsonPath : " +
-                                                       jsonPath);
-                        }
-                        if (index < 0) {
-                            throw new RuntimeException("JsonPath parsing error on character ']'. The index of an array can't " +
-                                                       "be less than 0. JsonPath : " + jsonPath);
+        } else if (jsonPathProcessingType == JsonPathProcessingType.GET) {
 
-                        } else if (index > getJsonPathArrayIndexMax()) {
-                            throw new RuntimeException("The index of an array is currently configured to have a " +
-                                                       "maximum value of " + getJsonPathArrayIndexMax() + ". JsonPath : " +
-                                                       jsonPath);
-                        }
+            if (hasDefaultValue) {
+                return currentArray.getObject(index, defaultElement);
+            } else {
+                return currentArray.getObject(index);
+            }
 
-                        if (currentArray == null) {
-                            throw new RuntimeException("JsonPath parsing error on character ']'. Expecting a non-null array here. JsonPath : " +
-                                                       jsonPath);
-                        }
+        } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
+            return currentArray.isElementExists(index);
+        } else if (jsonPathProcessingType == JsonPathProcessingType.REMOVE) {
+            currentArray.remove(index);
+            return null;
+        } else {
+            throw new RuntimeException("Unmanaged JsonPathProcessingType here : " + jsonPathProcessingType);
+        }
+    }
 
-                        //==========================================
-                        // We keep the current array index.
-                        //==========================================
-                        currentArrayIndex = index;
+    /**
+     * State of the parsing of a JsonPath.
+     */
+    protected static class JsonPathParsingState {
 
-                        //==========================================
-                        // Reset the token builder
-                        //==========================================
-                        tokenBuilder = new StringBuilder();
-                    }
+        protected final List<Token> tokens = new ArrayList<Token>();
 
-                    isInBrackets = false;
+        /**
+         * The type of the child of the last token, when
+         * known before the next token is parsed.
+         */
+        protected Boolean pendingChildIsArray;
 
-                //==========================================@formatter:off 
-                // The '"' character
-                //==========================================@formatter:on
-                } else if (ch == '"') {
+        protected void addToken(Token token) {
+            this.tokens.add(token);
+            this.pendingChildIsArray = null;
+        }
+    }
 
-                    //==========================================
-                    // In single quotes, when not inside brackets, or
-                    // when preceding by a "\", the '"' character has no
-                    // special meaning.
-                    //==========================================
-                    if (isInBrackets && !isInQuotes && previousChar != '\\') {
+    /**
+     * Parses a JsonPath into tokens.
+     * <p>
+     * If the JsonPath is invalid, the returned JsonPath contains
+     * the parsing error and the tokens parsed before it.
+     */
+    protected JsonPath parseJsonPath(String jsonPath) {
+
+        JsonPathParsingState state = new JsonPathParsingState();
+        try {
+            parseJsonPathTokens(jsonPath, state);
+        } catch (RuntimeException ex) {
+            return new JsonPath(jsonPath, state.tokens, ex.getMessage(), state.pendingChildIsArray);
+        }
+        return new JsonPath(jsonPath, state.tokens);
+    }
+
+    protected void parseJsonPathTokens(String jsonPath, JsonPathParsingState state) {
 
-                        //==========================================
-                        // Otherwise, it starts or ends a key.
-                        //==========================================
-                        isInDoubleQuotes = !isInDoubleQuotes;
+        if (jsonPath.length() > getKeyMaxLengthWhenConvertingMapToJsonObject()) {
+            throw new RuntimeException("A JsonPath is too long to be parsed. This JsonPath starts with : " +
+                                       jsonPath.substring(0, Math.min(30, (jsonPath.length() - 1))));
+        }
+
+        StringBuilder tokenBuilder = new StringBuilder();
+        String token;
+
+        //==========================================
+        // We allow the JsonPath to start with a "."
+        // even if it's not required.
+        //==========================================
+        if (jsonPath.startsWith(".")) {
+            jsonPath = jsonPath.substring(1);
+        }
+
+        //==========================================
+        // Initial validations
+        //==========================================
+        if (jsonPath.startsWith(".") || jsonPath.endsWith(".")) {
+            throw new RuntimeException("JsonPath parsing error on character '.'. The JsonPath can't start or end with the " +
+                                       "'.' character. JsonPath : " + jsonPath);
+        }
+        if (jsonPath.endsWith("[")) {
+            throw new RuntimeException("JsonPath parsing error on character '['. The JsonPath can't end with the " +
+                                       "'[' character. JsonPath : " + jsonPath);
+        }
+        if (jsonPath.startsWith("]")) {
+            throw new RuntimeException("JsonPath parsing error on character '['. The JsonPath can't start with the " +
+                                       "']' character. JsonPath : " + jsonPath);
+        }
+
+        //==========================================
+        // We parse the JsonPath, one character at the time.
+        // "lastIsIndex" is true when the last token
+        // is an array index : the current element is
+        // then an array.
+        //==========================================
+        boolean lastIsIndex = false;
+        boolean isInBrackets = false;
+        boolean isInQuotes = false;
+        boolean isInDoubleQuotes = false;
+        char ch = '\0';
+        char previousChar = '\0';
+        for (int i = 0; i < jsonPath.length(); i++) {
+
+            previousChar = ch;
+            ch = jsonPath.charAt(i);
+
+            //==========================================
+            // The '.' character
+            //==========================================
+            if (ch == '.') {
+
+                //==========================================
+                // In quotes, this character has no
+                // special meaning.
+                //==========================================
+                if (isInQuotes || isInDoubleQuotes) {
+                    tokenBuilder.append(ch);
+                    continue;
+                }
+
+                if (isInBrackets) {
+                    throw new RuntimeException("JsonPath parsing error on character '.'. A dot is not valid inside brackets but " +
+                                               "outside quotes. JsonPath : " + jsonPath);
+                }
+
+                //==========================================
+                // After an index, the element of the array
+                // is the object. Otherwise, the token is the
+                // key of the object.
+                //==========================================
+                if (!lastIsIndex) {
+                    token = tokenBuilder.toString();
+                    if ("".equals(token)) {
+                        throw new RuntimeException("JsonPath parsing error on character '.'. A token is empty. JsonPath : " +
+                                                   jsonPath);
                     }
+                    state.addToken(Token.key(token));
+                    tokenBuilder = new StringBuilder();
+                }
+                state.pendingChildIsArray = false;
+                lastIsIndex = false;
+
+            //==========================================@formatter:off 
+            // The '[' character
+            //==========================================@formatter:on
+            } else if (ch == '[') {
 
+                //==========================================
+                // In quotes, this character has no
+                // special meaning.
+                //==========================================
+                if (isInQuotes || isInDoubleQuotes) {
                     tokenBuilder.append(ch);
+                    continue;
+                }
 
-                //==========================================@formatter:off 
-                // The "'" character
-                //==========================================@formatter:on
-                } else if (ch == '\'') {
+                if (isInBrackets) {
+                    throw new RuntimeException("JsonPath parsing error on character '['.The '[' is not valid inside " +
+                                               "already started brackets. JsonPath : " + jsonPath);
+                }
+
+                token = tokenBuilder.toString();
+                tokenBuilder = new StringBuilder();
+
+                //==========================================
+                // If what's inside the bracket is a String key, then
+                // the current element is an object.
+                // If it's an integer index, it is an array.
+                //==========================================
+                char nextChar = jsonPath.charAt(i + 1);
+                if (nextChar == '"' || nextChar == '\'') {
 
                     //==========================================
-                    // In double quotes, when not inside brackets, or
-                    // when preceding by a "\", the "'" character has no
-                    // special meaning.
+                    // If the JsonPath starts with a
+                    // quoted key (for example : "['some key']" ), then
+                    // the object is the root.
                     //==========================================
-                    if (isInBrackets && !isInDoubleQuotes && previousChar != '\\') {
-
-                        //==========================================
-                        // Otherwise, it starts or ends a key.
-                        //==========================================
-                        isInQuotes = !isInQuotes;
+                    if (!lastIsIndex && i != 0) {
+                        state.addToken(Token.key(token));
+                    }
+                    if (lastIsIndex || i != 0) {
+                        state.pendingChildIsArray = false;
                     }
-                    tokenBuilder.append(ch);
 
-                //========================================== @formatter:off 
-                // Any other character!
-                //========================================== @formatter:on
-                } else {
+                } else if (!lastIsIndex) {
 
-                    if (isInQuotes || isInDoubleQuotes) {
-
-                        //==========================================
-                        // Only the special characters and "\" can be
-                        // escaped by a "\".
-                        //==========================================
-                        if (previousChar == '\\') {
-
-                            if (ch != '\\') {
-                                throw new RuntimeException("JsonPath parsing error on the '" + ch + "' character. " +
-                                                           "This character can't be escaped. If you want to use a '\'  inside a " +
-                                                           "name, you need to escape it : \"\\\\\". JsonPath : " +
-                                                           jsonPath);
-                            } else {
-                                tokenBuilder.append(ch);
-                                ch = '\0';
-                                continue;
-                            }
+                    //==========================================
+                    // The index can't be empty, except at the
+                    // very beginning of a JsonPath used on
+                    // an array.
+                    //==========================================
+                    if (i != 0) {
+                        if ("".equals(token)) {
+                            throw new RuntimeException("JsonPath parsing error on character '['. A token is empty . JsonPath : " +
+                                                       jsonPath);
                         }
+                        state.addToken(Token.key(token));
+                    }
+                    if (i != 0) {
+                        state.pendingChildIsArray = true;
+                    }
+                } else {
+                    state.pendingChildIsArray = true;
+                }
+                lastIsIndex = false;
 
-                        //==========================================
-                        // We do not add the '\' character, except if it's
-                        // doubled (it's already added above!).
-                        //==========================================
-                        if (ch == '\\') {
-                            continue;
-                        }
+                isInBrackets = true;
 
-                    } else if (isInBrackets) {
+            //==========================================@formatter:off 
+            // The ']' character
+            //==========================================@formatter:on
+            } else if (ch == ']') {
 
-                        if (!(ch >= '0' && ch <= '9')) {
-                            throw new RuntimeException("JsonPath parsing error on the '" + ch + "' character. " +
-                                                       "Invalid character in the index, expecting a digit, got " +
-                                                       "'" + ch + "'. JsonPath : " +
-                                                       jsonPath);
-                        }
+                //==========================================
+                // In quotes, this  character has no
+                // special meaning.
+                //==========================================
+                if (isInQuotes || isInDoubleQuotes) {
+                    tokenBuilder.append(ch);
+                    continue;
+                }
 
-                    } else {
+                if (!isInBrackets) {
+                    throw new RuntimeException("JsonPath parsing error on character ']'. No start bracket found. JsonPath : " +
+                                               jsonPath);
+                }
 
-                        //==========================================
-                        // Validates the char to be used a an object 
-                        // property name without quotes.
-                        //==========================================
-                        if (ch == '.' || ch == '[' || ch == ']') {
-                            throw new RuntimeException("The characters '.', '[' and ']' are not valid inside a object " +
-                                                       "name or a property name, if this " +
-                                                       "name is not in quotes. In JsonPath : " + jsonPath);
-                        }
+                //==========================================
+                // Next char must be ".", "[" or the end 
+                // of the JsonPath.
+                //==========================================
+                if (i < (jsonPath.length() - 1)) {
+                    char nextChar = jsonPath.charAt(i + 1);
+                    if (nextChar != '.' && nextChar != '[') {
+                        throw new RuntimeException("JsonPath parsing error on character ']'. The character following a ']', if any, must " +
+                                                   "be '.' or '['. Here, the following character is '" + nextChar +
+                                                   "'. JsonPath : " + jsonPath);
                     }
+                }
 
-                    tokenBuilder.append(ch);
+                //==========================================
+                // Empty token : invalid name for an index/key
+                //==========================================
+                token = tokenBuilder.toString();
+                if ("".equals(token)) {
+                    throw new RuntimeException("JsonPath parsing error on character ']'. A key or an index was expected. JsonPath : " +
+                                               jsonPath);
                 }
-            }
 
-            //==========================================
-            // We reached the end of the JsonPath...
-            //==========================================
+                //==========================================
+                // What's inside the brackets is a key
+                //==========================================
+                if ((token.startsWith("\"") && token.endsWith("\"")) || (token.startsWith("'") && token.endsWith("'"))) {
+                    String key = token.substring(1, token.length() - 1);
+                    if ("".equals(key)) {
+                        throw new RuntimeException("JsonPath parsing error on character ']'. A key can't be empty. JsonPath : " +
+                                                   jsonPath);
+                    }
+                    //==========================================
+                    // This becomes our token :
+                    //==========================================
+                    tokenBuilder = new StringBuilder(key);
 
-            if (isInBrackets) {
-                throw new RuntimeException("JsonPath parsing error on the last character. Some brackets were not " +
-                                           "closed properly. JsonPath : " + jsonPath);
-            }
+                //==========================================@formatter:off 
+                // What's inside the beckets is an index
+                //==========================================@formatter:on
+                } else {
 
-            token = tokenBuilder.toString();
-        }
+                    Integer index = null;
+                    try {
+                        index = Integer.parseInt(token);
+                    } catch (NumberFormatException ex) {
+                        throw new RuntimeException("JsonPath parsing error on character ']'. The index '" + token +
+                                                   "' is not a valid integer. " +
+                                                   "You have to use quotes or double-quotes for an object key, or a valid integer for an array index. JsonPath : " +
+                                                   jsonPath);
+                    }
+                    if (index < 0) {
+                        throw new RuntimeException("JsonPath parsing error on character ']'. The index of an array can't " +
+                                                   "be less than 0. JsonPath : " + jsonPath);
 
-        if (currentObj != null) {
+                    } else if (index > getJsonPathArrayIndexMax()) {
+                        throw new RuntimeException("The index of an array is currently configured to have a " +
+                                                   "maximum value of " + getJsonPathArrayIndexMax() + ". JsonPath : " +
+                                                   jsonPath);
+                    }
 
-            if (jsonPathProcessingType == JsonPathProcessingType.PUT) {
+                    state.addToken(Token.index(index));
+                    lastIsIndex = true;
+
+                    //==========================================
+                    // Reset the token builder
+                    //==========================================
+                    tokenBuilder = new StringBuilder();
+                }
+
+                isInBrackets = false;
+
+            //==========================================@formatter:off 
+            // The '"' character
+            //==========================================@formatter:on
+            } else if (ch == '"') {
 
                 //==========================================
-                // Cloning must habe been done before this method.
-                // No more parsing of the key.
+                // In single quotes, when not inside brackets, or
+                // when preceding by a "\", the '"' character has no
+                // special meaning.
                 //==========================================
-                currentObj.setNoKeyParsing(token, valueToPut, false);
+                if (isInBrackets && !isInQuotes && previousChar != '\\') {
 
-                return null;
+                    //==========================================
+                    // Otherwise, it starts or ends a key.
+                    //==========================================
+                    isInDoubleQuotes = !isInDoubleQuotes;
+                }
 
-            } else if (jsonPathProcessingType == JsonPathProcessingType.GET) {
+                tokenBuilder.append(ch);
 
-                if (hasDefaultValue) {
-                    return currentObj.getObjectNoKeyParsing(token, defaultElement);
-                } else {
-                    return currentObj.getObjectNoKeyParsing(token);
+            //==========================================@formatter:off 
+            // The "'" character
+            //==========================================@formatter:on
+            } else if (ch == '\'') {
+
+                //==========================================
+                // In double quotes, when not inside brackets, or
+                // when preceding by a "\", the "'" character has no
+                // special meaning.
+                //==========================================
+                if (isInBrackets && !isInDoubleQuotes && previousChar != '\\') {
+
+                    //==========================================
+                    // Otherwise, it starts or ends a key.
+                    //==========================================
+                    isInQuotes = !isInQuotes;
                 }
+                tokenBuilder.append(ch);
 
-            } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                return currentObj.isElementExistsNoKeyParsing(token);
-            } else if (jsonPathProcessingType == JsonPathProcessingType.REMOVE) {
-                currentObj.removeNoKeyParsing(token);
-                return null;
+            //========================================== @formatter:off 
+            // Any other character!
+            //========================================== @formatter:on
             } else {
-                throw new RuntimeException("Unmanaged JsonPathProcessingType here : " + jsonPathProcessingType);
-            }
 
-        } else if (currentArray != null) {
+                if (isInQuotes || isInDoubleQuotes) {
 
-            if (jsonPathProcessingType == JsonPathProcessingType.PUT) {
+                    //==========================================
+                    // Only the special characters and "\" can be
+                    // escaped by a "\".
+                    //==========================================
+                    if (previousChar == '\\') {
 
-                //==========================================
-                // Cloning must have been done before this method
-                //==========================================
-                currentArray.set(currentArrayIndex, valueToPut, false);
+                        if (ch != '\\') {
+                            throw new RuntimeException("JsonPath parsing error on the '" + ch + "' character. " +
+                                                       "This character can't be escaped. If you want to use a '\'  inside a " +
+                                                       "name, you need to escape it : \"\\\\\". JsonPath : " +
+                                                       jsonPath);
+                        } else {
+                            tokenBuilder.append(ch);
+                            ch = '\0';
+                            continue;
+                        }
+                    }
 
-                return null;
+                    //==========================================
+                    // We do not add the '\' character, except if it's
+                    // doubled (it's already added above!).
+                    //==========================================
+                    if (ch == '\\') {
+                        continue;
+                    }
+
+                } else if (isInBrackets) {
 
-            } else if (jsonPathProcessingType == JsonPathProcessingType.GET) {
+                    if (!(ch >= '0' && ch <= '9')) {
+                        throw new RuntimeException("JsonPath parsing error on the '" + ch + "' character. " +
+                                                   "Invalid character in the index, expecting a digit, got " +
+                                                   "'" + ch + "'. JsonPath : " +
+                                                   jsonPath);
+                    }
 
-                if (hasDefaultValue) {
-                    return currentArray.getObject(currentArrayIndex, defaultElement);
                 } else {
-                    return currentArray.getObject(currentArrayIndex);
+
+                    //==========================================
+                    // Validates the char to be used a an object 
+                    // property name without quotes.
+                    //==========================================
+                    if (ch == '.' || ch == '[' || ch == ']') {
+                        throw new RuntimeException("The characters '.', '[' and ']' are not valid inside a object " +
+                                                   "name or a property name, if this " +
+                                                   "name is not in quotes. In JsonPath : " + jsonPath);
+                    }
                 }
 
-            } else if (jsonPathProcessingType == JsonPathProcessingType.EXISTS) {
-                return currentArray.isElementExists(currentArrayIndex);
-            } else if (jsonPathProcessingType == JsonPathProcessingType.REMOVE) {
-                currentArray.remove(currentArrayIndex);
-                return null;
-            } else {
-                throw new RuntimeException("Unmanaged JsonPathProcessingType here : " + jsonPathProcessingType);
+                tokenBuilder.append(ch);
             }
-        } else {
-            throw new RuntimeException("Not supposed. Invalid parsing of JsonPath : " + jsonPath);
+        }
+
+        //==========================================
+        // We reached the end of the JsonPath...
+        //==========================================
+
+        if (isInBrackets) {
+            throw new RuntimeException("JsonPath parsing error on the last character. Some brackets were not " +
+                                       "closed properly. JsonPath : " + jsonPath);
+        }
+
+        if (!lastIsIndex) {
+            state.addToken(Token.key(tokenBuilder.toString()));
         }
     }
 
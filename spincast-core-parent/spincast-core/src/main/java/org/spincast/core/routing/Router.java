@@ -480,6 +480,21 @@ public interface Router<R extends RequestContext<?>, W extends WebsocketContext<
      */
     public Route<R> getRoute(String routeId);
 
+    /**
+     * Creates the path to a route, using its <code>routeId</code>.
+     * The dynamic parameters of the route path are replaced
+     * by the specified values, which are URL encoded.
+     * <p>
+     * For example, with a route which path is
+     * <code>"/users/${userId}"</code> and a
+     * <code>"userId"</code> param of <code>"42"</code>,
+     * the resulting path is <code>"/users/42"</code>.
+     * <p>
+     * An exception is thrown if the route is not found or
+     * if a value is missing for a (non splat) parameter.
+     */
+    public String createRoutePath(String routeId, Map<String, String> params);
+
     /**
      * Gets the global "before" filters.
      */
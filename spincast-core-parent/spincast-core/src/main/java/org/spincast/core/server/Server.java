@@ -1,6 +1,9 @@
 package org.spincast.core.server;
 
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -207,6 +210,23 @@ public interface Server {
      */
     public void flushBytes(Object exchange, byte[] bytes, boolean end);
 
+    /**
+     * Flushes a range of bytes to the response.
+     * <p>
+     * The bytes are copied before this method returns, so
+     * the array can be reused by the caller.
+     * <p>
+     * By default, the range is copied to a new array which is
+     * flushed using {@link #flushBytes(Object, byte[], boolean)}.
+     * A server should override this to avoid the copy.
+     *
+     * @param end if <code>true</code>, the exchange will be closed
+     * and nothing more can be send.
+     */
+    public default void flushBytes(Object exchange, byte[] bytes, int offset, int length, boolean end) {
+        flushBytes(exchange, Arrays.copyOfRange(bytes, offset, offset + length), end);
+    }
+
     /**
      * Ends the exchange. Nothing more can be send.
      */
@@ -232,6 +252,24 @@ public interface Server {
      */
     public InputStream getRawInputStream(Object exchange);
 
+    /**
+     * The raw OutputStream of the current response.
+     * <p>
+     * The bytes written to it are sent as is, so the status
+     * code and the headers must have been set first. Closing
+     * it ends the response.
+     * <p>
+     * Not supported by default : the response is then buffered
+     * and sent using {@link #flushBytes(Object, byte[], int, int, boolean)}.
+     *
+     * @throws UnsupportedOperationException if the server
+     * doesn't support streaming the response.
+     */
+    public default OutputStream getRawOutputStream(Object exchange) {
+        throw new UnsupportedOperationException("The server " + getClass().getName() + " doesn't support " +
+                                                "streaming the response.");
+    }
+
     /**
      * The form data, if any.
      */
@@ -254,6 +292,24 @@ public interface Server {
      */
     public Map<String, List<String>> getRequestHeaders(Object exchange);
 
+    /**
+     * The values of a request header. The name is
+     * <em>case insensitive</em>.
+     * <p>
+     * By default, the header is taken from the map returned by
+     * {@link #getRequestHeaders(Object)}. A server may override
+     * this to only look up this header, without reading the
+     * other headers.
+     *
+     * @return the values or an empty list if the header
+     * is not found. Never <code>null</code>.
+     */
+    public default List<String> getRequestHeader(Object exchange, String name) {
+        Map<String, List<String>> headers = getRequestHeaders(exchange);
+        List<String> values = headers != null ? headers.get(name) : null;
+        return values != null ? values : Collections.emptyList();
+    }
+
     /**
      * Creates HTTP authentication protection (realm) for the
      * specified path prefix.
@@ -0,0 +1,17 @@
+package org.spincast.core.server;
+
+/**
+ * To implement to be informed after the application server
+ * has been stopped.
+ * <p>
+ * The {@link #serverStopped()} method is called synchronously,
+ * on the thread that stopped the server.
+ */
+public interface ServerStoppedListener {
+
+    /**
+     * Called after the server has been stopped.
+     */
+    public void serverStopped();
+
+}
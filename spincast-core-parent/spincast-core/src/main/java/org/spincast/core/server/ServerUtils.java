@@ -13,4 +13,10 @@ public interface ServerUtils {
      */
     public void callServerStartedListeners();
 
+    /**
+     * This must be called by a {@link Server}
+     * implementation, after it has been stopped.
+     */
+    public void callServerStoppedListeners();
+
 }
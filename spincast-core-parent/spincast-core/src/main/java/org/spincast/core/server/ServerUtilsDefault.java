@@ -2,21 +2,34 @@ package org.spincast.core.server;
 
 import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spincast.core.utils.SpincastStatics;
+
 import com.google.inject.Inject;
 
 public class ServerUtilsDefault implements ServerUtils {
 
+    protected static final Logger logger = LoggerFactory.getLogger(ServerUtilsDefault.class);
+
     private final Set<ServerStartedListener> serverStartedListeners;
+    private final Set<ServerStoppedListener> serverStoppedListeners;
 
     @Inject
-    public ServerUtilsDefault(Set<ServerStartedListener> serverStartedListeners) {
+    public ServerUtilsDefault(Set<ServerStartedListener> serverStartedListeners,
+                              Set<ServerStoppedListener> serverStoppedListeners) {
         this.serverStartedListeners = serverStartedListeners;
+        this.serverStoppedListeners = serverStoppedListeners;
     }
 
     protected Set<ServerStartedListener> getServerStartedListeners() {
         return this.serverStartedListeners;
     }
 
+    protected Set<ServerStoppedListener> getServerStoppedListeners() {
+        return this.serverStoppedListeners;
+    }
+
     @Override
     public void callServerStartedListeners() {
 
@@ -32,4 +45,16 @@ public class ServerUtilsDefault implements ServerUtils {
         }
     }
 
+    @Override
+    public void callServerStoppedListeners() {
+
+        for (ServerStoppedListener serverStoppedListener : getServerStoppedListeners()) {
+            try {
+                serverStoppedListener.serverStopped();
+            } catch (Exception ex) {
+                logger.error("Error calling a server stopped listener :\n" + SpincastStatics.getStackTrace(ex));
+            }
+        }
+    }
+
 }
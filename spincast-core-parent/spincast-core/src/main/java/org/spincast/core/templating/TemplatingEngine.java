@@ -1,5 +1,6 @@
 package org.spincast.core.templating;
 
+import java.io.Writer;
 import java.util.Locale;
 import java.util.Map;
 
@@ -134,6 +135,35 @@ public interface TemplatingEngine {
      */
     public String fromTemplate(String templatePath, boolean isClasspathPath, JsonObject jsonObject, Locale locale);
 
+    /**
+     * Evaluates a template using the given parameters and
+     * writes the result to the specified <code>Writer</code>,
+     * without building the whole result as a String first.
+     * 
+     * Uses the specified Locale.
+     * 
+     * @param isClasspathPath if <code>true</code>, the 'templatePath' is considered as
+     * a classpath's relative path. If <code>false</code>, it is considered as an absolute file
+     * system path.
+     */
+    public void fromTemplate(String templatePath, boolean isClasspathPath, Map<String, Object> params, Locale locale,
+                             Writer writer);
+
+    /**
+     * Evaluates a template using the parameters specified 
+     * as a <code>JsonObject</code> and writes the result to
+     * the specified <code>Writer</code>, without building the
+     * whole result as a String first.
+     * 
+     * Uses the specified Locale.
+     * 
+     * @param isClasspathPath if <code>true</code>, the 'templatePath' is considered as
+     * a classpath's relative path. If <code>false</code>, it is considered as an absolute file
+     * system path.
+     */
+    public void fromTemplate(String templatePath, boolean isClasspathPath, JsonObject jsonObject, Locale locale,
+                             Writer writer);
+
     /**
      * Creates a placeholder using the current templating engine
      * implementation. 
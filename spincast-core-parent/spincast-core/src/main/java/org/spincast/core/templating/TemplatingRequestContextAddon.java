@@ -1,5 +1,6 @@
 package org.spincast.core.templating;
 
+import java.io.Writer;
 import java.util.Locale;
 import java.util.Map;
 
@@ -154,6 +155,31 @@ public interface TemplatingRequestContextAddon<R extends RequestContext<?>> {
      */
     public String fromTemplate(String templatePath, boolean isClasspathPath, JsonObject model, Locale locale);
 
+    /**
+     * Renders a template using the given parameters and writes
+     * the result to the specified <code>Writer</code>, without
+     * building the whole result as a String first.
+     * 
+     * Uses the <code>Locale</code> found by the <code>LocaleResolver</code>.
+     * 
+     * @param isClasspathPath if <code>true</code>, the 'templatePath' is considered as
+     * a classpath's relative path. If <code>false</code>, it is considered as an absolute file
+     * system path.
+     */
+    public void fromTemplate(String templatePath, boolean isClasspathPath, JsonObject model, Writer writer);
+
+    /**
+     * Renders a template using the given parameters and writes
+     * the result to the specified <code>Writer</code>, without
+     * building the whole result as a String first.
+     * Uses the <code>Locale</code> specified.
+     * 
+     * @param isClasspathPath if <code>true</code>, the 'templatePath' is considered as
+     * a classpath's relative path. If <code>false</code>, it is considered as an absolute file
+     * system path.
+     */
+    public void fromTemplate(String templatePath, boolean isClasspathPath, JsonObject model, Locale locale, Writer writer);
+
     /**
      * Creates a placeholder using the current templating engine
      * implementation. 
@@ -313,6 +313,11 @@ public class SpincastConfigDefault extends ConfigFinder implements SpincastConfi
         return 2;
     }
 
+    @Override
+    public int getRouteParamPatternsCacheMaxSize() {
+        return 1000;
+    }
+
     @Override
     public int getDefaultRouteCacheFilterSecondsNbr() {
         return 3600; // == 1 hour
@@ -347,6 +352,11 @@ public class SpincastConfigDefault extends ConfigFinder implements SpincastConfi
         return -10;
     }
 
+    @Override
+    public boolean isStreamTemplatesToResponse() {
+        return false;
+    }
+
     @Override
     public StaticResourceCacheConfig getDefaultStaticResourceCacheConfig(boolean isDynamicResource) {
 
@@ -412,6 +422,11 @@ public class SpincastConfigDefault extends ConfigFinder implements SpincastConfi
         return 10000;
     }
 
+    @Override
+    public int getCompiledJsonPathsCacheMaxSize() {
+        return 1000;
+    }
+
     @Override
     public boolean isValidateLocalhostHost() {
         return true;
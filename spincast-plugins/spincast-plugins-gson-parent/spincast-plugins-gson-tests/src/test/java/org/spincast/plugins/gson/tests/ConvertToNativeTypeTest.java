@@ -216,4 +216,47 @@ public class ConvertToNativeTypeTest extends GsonTestBase {
         assertEquals(Integer.valueOf(3), resultObj.getInteger("nbrs[2]"));
     }
 
+    class MyParentClass {
+
+        public String name;
+        public short nbr;
+        public MyClass child;
+        public List<MyClass> children;
+        public EnumTest type;
+    }
+
+    @Test
+    public void otherTypesNestedObjects() throws Exception {
+
+        MyClass child = new MyClass();
+        child.name = "child";
+        child.nbrs = new int[]{1, 2};
+
+        MyParentClass obj = new MyParentClass();
+        obj.name = "Stromgol";
+        obj.nbr = 42;
+        obj.child = child;
+        obj.children = Lists.newArrayList(child);
+        obj.type = EnumTest.BBB;
+
+        Object result = getJsonManager().convertToNativeType(obj);
+        assertTrue(result instanceof JsonObject);
+
+        JsonObject resultObj = (JsonObject)result;
+        assertEquals("Stromgol", resultObj.getString("name"));
+        assertEquals(Integer.valueOf(42), resultObj.getInteger("nbr"));
+        assertEquals("child", resultObj.getString("child.name"));
+        assertEquals(Integer.valueOf(2), resultObj.getInteger("child.nbrs[1]"));
+        assertEquals("child", resultObj.getString("children[0].name"));
+        assertEquals(Integer.valueOf(1), resultObj.getInteger("children[0].nbrs[0]"));
+        assertTrue(resultObj.getJsonObject("child").isMutable());
+
+        //==========================================
+        // Same structure as when going through
+        // Json text
+        //==========================================
+        JsonObject fromText = getJsonManager().fromString(getJsonManager().toJsonString(obj));
+        assertEquals(fromText.toJsonString(), resultObj.toJsonString());
+    }
+
 }
@@ -15,10 +15,13 @@ import java.util.Map.Entry;
 
 import org.spincast.core.config.SpincastConfig;
 import org.spincast.core.json.JsonArray;
+import org.spincast.core.json.JsonArrayCopyOnWriteList;
 import org.spincast.core.json.JsonManager;
 import org.spincast.core.json.JsonObject;
+import org.spincast.core.json.JsonObjectCopyOnWriteMap;
 import org.spincast.core.json.JsonObjectFactory;
 import org.spincast.core.json.JsonObjectOrArray;
+import org.spincast.core.json.JsonPath;
 import org.spincast.core.json.JsonPathUtils;
 import org.spincast.core.request.Form;
 import org.spincast.core.request.FormFactory;
@@ -399,6 +402,24 @@ public class SpincastGsonManager implements JsonManager {
         return obj;
     }
 
+    @Override
+    public JsonObject fromString(String jsonString, boolean mutable) {
+        JsonObject obj = fromString(jsonString);
+        if (obj == null || mutable) {
+            return obj;
+        }
+        return obj.clone(false);
+    }
+
+    @Override
+    public JsonObject fromInputStream(InputStream inputStream, boolean mutable) {
+        JsonObject obj = fromInputStream(inputStream);
+        if (obj == null || mutable) {
+            return obj;
+        }
+        return obj.clone(false);
+    }
+
     @Override
     public <T> T fromString(String jsonString, Class<T> clazz) {
         T obj = getGson().fromJson(jsonString, clazz);
@@ -604,15 +625,27 @@ public class SpincastGsonManager implements JsonManager {
         // Converts to a JsonObject or returns as
         // a string
         //==========================================
-        String jsonStr = toJsonString(originalObject);
+        return convertBeanToNativeType(originalObject);
+    }
 
-        if (jsonStr.startsWith("\"") && jsonStr.endsWith("\"") && jsonStr.length() > 1) {
-            jsonStr = jsonStr.substring(1, jsonStr.length() - 1);
-            return jsonStr;
+    /**
+     * Converts a bean to a JsonObject or, if it is serialized
+     * as a Json string, to a String.
+     * <p>
+     * The bean is serialized to a tree of Gson elements : no
+     * Json text is generated or parsed.
+     */
+    protected Object convertBeanToNativeType(Object bean) {
+
+        JsonElement jsonElement = getGson().toJsonTree(bean);
+        if (jsonElement.isJsonPrimitive() && ((JsonPrimitive)jsonElement).isString()) {
+            return jsonElement.getAsString();
+        }
+        if (!jsonElement.isJsonObject()) {
+            throw new RuntimeException("Can't convert to a JsonObject : " + bean.getClass().getName());
         }
 
-        JsonObject jsonObject = fromString(jsonStr);
-        return jsonObject;
+        return getObjectFromGsonJsonElement(jsonElement);
     }
 
     public JsonElement convertJsonObjectElementToGsonJsonElement(Object originalObject) {
@@ -755,6 +788,15 @@ public class SpincastGsonManager implements JsonManager {
                 return jsonObj;
             }
 
+            //==========================================
+            // A mutable clone of an immutable object : the
+            // elements are only copied when they are modified
+            // or accessed.
+            //==========================================
+            if (mutable && !jsonObj.isMutable()) {
+                return getJsonObjectFactory().create(new JsonObjectCopyOnWriteMap(jsonObj), true);
+            }
+
             Map<String, Object> map = new HashMap<String, Object>();
             for (Entry<String, Object> entry : jsonObj) {
                 Object elementClone = clone(entry.getValue(), mutable);
@@ -773,6 +815,15 @@ public class SpincastGsonManager implements JsonManager {
                 return array;
             }
 
+            //==========================================
+            // A mutable clone of an immutable array : the
+            // elements are only copied when they are modified
+            // or accessed.
+            //==========================================
+            if (mutable && !array.isMutable()) {
+                return getJsonObjectFactory().createArray(new JsonArrayCopyOnWriteList(array), true);
+            }
+
             List<Object> elements = new ArrayList<Object>();
             for (Object element : array) {
                 Object elementClone = clone(element, mutable);
@@ -816,6 +867,36 @@ public class SpincastGsonManager implements JsonManager {
         return getJsonPathUtils().isElementExists(array, jsonPath);
     }
 
+    @Override
+    public JsonPath compileJsonPath(String jsonPath) {
+        return getJsonPathUtils().compileJsonPath(jsonPath);
+    }
+
+    @Override
+    public Object getElementAtJsonPath(JsonObjectOrArray objOrArray, JsonPath jsonPath, Object defaultValue) {
+        return getJsonPathUtils().getElementAtJsonPath(objOrArray, jsonPath, defaultValue);
+    }
+
+    @Override
+    public void putElementAtJsonPath(JsonObjectOrArray objOrArray, JsonPath jsonPath, Object value, boolean clone) {
+
+        if (clone) {
+            value = clone(value);
+        }
+
+        getJsonPathUtils().putElementAtJsonPath(objOrArray, jsonPath, value);
+    }
+
+    @Override
+    public void removeElementAtJsonPath(JsonObjectOrArray objOrArray, JsonPath jsonPath) {
+        getJsonPathUtils().removeElementAtJsonPath(objOrArray, jsonPath);
+    }
+
+    @Override
+    public boolean isElementExists(JsonObjectOrArray objOrArray, JsonPath jsonPath) {
+        return getJsonPathUtils().isElementExists(objOrArray, jsonPath);
+    }
+
     @Override
     public JsonObject enumToFriendlyJsonObject(Enum<?> enumValue) {
         if (enumValue == null) {
@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
@@ -22,10 +23,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spincast.core.config.SpincastConfig;
 import org.spincast.core.json.JsonArray;
+import org.spincast.core.json.JsonArrayCopyOnWriteList;
 import org.spincast.core.json.JsonManager;
 import org.spincast.core.json.JsonObject;
+import org.spincast.core.json.JsonObjectCopyOnWriteMap;
 import org.spincast.core.json.JsonObjectFactory;
 import org.spincast.core.json.JsonObjectOrArray;
+import org.spincast.core.json.JsonPath;
 import org.spincast.core.json.JsonPathUtils;
 import org.spincast.core.request.Form;
 import org.spincast.core.request.FormFactory;
@@ -33,6 +37,7 @@ import org.spincast.core.utils.SpincastStatics;
 import org.spincast.core.utils.SpincastUtils;
 import org.spincast.shaded.org.apache.commons.lang3.StringUtils;
 
+import com.fasterxml.jackson.core.Base64Variant;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -45,9 +50,11 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -63,6 +70,12 @@ public class SpincastJsonManager implements JsonManager {
     public static final String ENUM_SERIALIZER_FIELD_NAME_NAME = "name";
     public static final String ENUM_SERIALIZER_FIELD_NAME_LABEL = "label";
 
+    /**
+     * Reader attribute to deserialize immutable
+     * JsonObjects and JsonArrays.
+     */
+    public static final String DESERIALIZATION_ATTRIBUTE_IMMUTABLE = SpincastJsonManager.class.getName() + "_immutable";
+
     private final JsonObjectFactory jsonObjectFactory;
     private final Provider<Injector> guiceProvider;
     private final Set<JsonMixinInfo> jsonMixinInfos;
@@ -235,8 +248,16 @@ public class SpincastJsonManager implements JsonManager {
                         return;
                     }
 
-                    Map<String, Object> asMap = jsonObject.convertToPlainMap();
-                    gen.writeObject(asMap);
+                    //==========================================
+                    // We walk the object directly, without
+                    // converting it to a plain Map first.
+                    //==========================================
+                    gen.writeStartObject(jsonObject);
+                    for (Entry<String, Object> entry : jsonObject) {
+                        gen.writeFieldName(entry.getKey());
+                        serializeJsonElement(entry.getValue(), gen, serializers);
+                    }
+                    gen.writeEndObject();
                 }
             };
         }
@@ -285,14 +306,40 @@ public class SpincastJsonManager implements JsonManager {
                         return;
                     }
 
-                    List<Object> asList = jsonArray.convertToPlainList();
-                    gen.writeObject(asList);
+                    //==========================================
+                    // We walk the array directly, without
+                    // converting it to a plain List first.
+                    //==========================================
+                    gen.writeStartArray(jsonArray, jsonArray.size());
+                    for (Object element : jsonArray) {
+                        serializeJsonElement(element, gen, serializers);
+                    }
+                    gen.writeEndArray();
                 }
             };
         }
         return this.jsonArraySerializer;
     }
 
+    /**
+     * Serializes an element of a {@link JsonObject} or
+     * of a {@link JsonArray}. The other values are serialized
+     * as they would be as values of a plain Map or List.
+     */
+    protected void serializeJsonElement(Object element,
+                                        JsonGenerator gen,
+                                        SerializerProvider serializers) throws IOException {
+        if (element == null) {
+            serializers.defaultSerializeNull(gen);
+        } else if (element instanceof JsonObject) {
+            getJsonObjectSerializer().serialize((JsonObject)element, gen, serializers);
+        } else if (element instanceof JsonArray) {
+            getJsonArraySerializer().serialize((JsonArray)element, gen, serializers);
+        } else {
+            serializers.defaultSerializeValue(element, gen);
+        }
+    }
+
     protected JsonSerializer<Date> getDateSerializer() {
 
         if (this.dateSerializer == null) {
@@ -369,128 +416,206 @@ public class SpincastJsonManager implements JsonManager {
                                               DeserializationContext context)
                                                                               throws IOException,
                                                                               JsonProcessingException {
+                    return deserializeJsonObject(jsonParser, context, isDeserializeMutable(context));
+                }
+            };
+        }
 
-                    JsonObject jsonObject = getJsonObjectFactory().create();
-
-                    JsonToken jsonToken = jsonParser.getCurrentToken();
-                    if (jsonToken == JsonToken.START_OBJECT) {
-                        jsonToken = jsonParser.nextToken();
-                    } else {
-                        throw new RuntimeException("Invalid json object");
-                    }
+        return this.jsonObjectDeserializer;
+    }
 
-                    while (jsonToken != null) {
+    protected JsonDeserializer<JsonArray> getJsonArrayDeserializer() {
 
-                        if (jsonToken != JsonToken.FIELD_NAME) {
-                            break;
-                        }
+        if (this.jsonArrayDeserializer == null) {
+            this.jsonArrayDeserializer = new JsonDeserializer<JsonArray>() {
 
-                        String name = jsonParser.getCurrentName();
-                        jsonToken = jsonParser.nextToken();
+                @Override
+                public JsonArray deserialize(JsonParser jsonParser,
+                                             DeserializationContext context)
+                                                                             throws IOException,
+                                                                             JsonProcessingException {
+                    return deserializeJsonArray(jsonParser, context, isDeserializeMutable(context));
+                }
+            };
+        }
 
-                        if (jsonToken == JsonToken.START_OBJECT) {
-                            jsonObject.set(name, deserialize(jsonParser, context));
+        return this.jsonArrayDeserializer;
+    }
 
-                        } else if (jsonToken == JsonToken.START_ARRAY) {
-                            jsonObject.set(name, getJsonArrayDeserializer().deserialize(jsonParser, context));
+    /**
+     * Should the deserialized JsonObjects and JsonArrays be
+     * mutable? They are, unless the
+     * {@link #DESERIALIZATION_ATTRIBUTE_IMMUTABLE} attribute
+     * is set on the reader.
+     */
+    protected boolean isDeserializeMutable(DeserializationContext context) {
+        return !Boolean.TRUE.equals(context.getAttribute(DESERIALIZATION_ATTRIBUTE_IMMUTABLE));
+    }
 
-                        } else if (jsonToken == JsonToken.VALUE_EMBEDDED_OBJECT) {
-                            jsonObject.set(name, jsonParser.getEmbeddedObject());
+    /**
+     * Deserializes a JsonObject.
+     * <p>
+     * The backing Map is filled directly : the keys are only
+     * parsed as JsonPaths if they contain a special character, and the
+     * children are created with the final mutability, so they never
+     * have to be converted or cloned.
+     */
+    protected JsonObject deserializeJsonObject(JsonParser jsonParser,
+                                               DeserializationContext context,
+                                               boolean mutable) throws IOException {
 
-                        } else if (jsonToken == JsonToken.VALUE_NULL) {
-                            jsonObject.set(name, null);
+        JsonToken jsonToken = jsonParser.getCurrentToken();
+        if (jsonToken == JsonToken.START_OBJECT) {
+            jsonToken = jsonParser.nextToken();
+        } else {
+            throw new RuntimeException("Invalid json object");
+        }
 
-                        } else if (jsonToken == JsonToken.VALUE_STRING) {
-                            jsonObject.set(name, jsonParser.getText());
+        Map<String, Object> map = new HashMap<String, Object>();
 
-                        } else if (jsonToken == JsonToken.VALUE_TRUE) {
-                            jsonObject.set(name, true);
+        //==========================================
+        // Only created if a key has to be parsed
+        // as a JsonPath. It is backed by the same map.
+        //==========================================
+        JsonObject jsonPathTarget = null;
 
-                        } else if (jsonToken == JsonToken.VALUE_FALSE) {
-                            jsonObject.set(name, false);
+        while (jsonToken != null) {
 
-                        } else if (jsonToken == JsonToken.VALUE_NUMBER_INT ||
-                                   jsonToken == JsonToken.VALUE_NUMBER_FLOAT) {
-                            jsonObject.set(name, jsonParser.getNumberValue());
+            if (jsonToken != JsonToken.FIELD_NAME) {
+                break;
+            }
 
-                        } else {
-                            throw new RuntimeException("Unmanaged json token type : " + jsonToken);
-                        }
+            String name = jsonParser.getCurrentName();
+            jsonToken = jsonParser.nextToken();
 
-                        jsonToken = jsonParser.nextToken();
-                    }
+            Object value = deserializeJsonElement(jsonParser, context, jsonToken, mutable);
 
-                    return jsonObject;
+            if (isKeyRequiresJsonPathParsing(name)) {
+                if (jsonPathTarget == null) {
+                    jsonPathTarget = getJsonObjectFactory().create(map, true);
                 }
-            };
+                jsonPathTarget.set(name, value);
+            } else {
+                map.put(name, value);
+            }
+
+            jsonToken = jsonParser.nextToken();
         }
 
-        return this.jsonObjectDeserializer;
+        if (mutable) {
+            return getJsonObjectFactory().create(map, true);
+        }
+
+        //==========================================
+        // The elements created by the JsonPath parsing
+        // are mutable : we have to clone in that case.
+        //==========================================
+        if (jsonPathTarget != null) {
+            return jsonPathTarget.clone(false);
+        }
+        return getJsonObjectFactory().create(map, false);
     }
 
-    protected JsonDeserializer<JsonArray> getJsonArrayDeserializer() {
+    /**
+     * Deserializes a JsonArray, filling the
+     * backing List directly.
+     */
+    protected JsonArray deserializeJsonArray(JsonParser jsonParser,
+                                             DeserializationContext context,
+                                             boolean mutable) throws IOException {
 
-        if (this.jsonArrayDeserializer == null) {
-            this.jsonArrayDeserializer = new JsonDeserializer<JsonArray>() {
+        JsonToken jsonToken = jsonParser.getCurrentToken();
+        if (jsonToken == JsonToken.START_ARRAY) {
+            jsonToken = jsonParser.nextToken();
+        } else {
+            throw new RuntimeException("Invalid json array");
+        }
 
-                @Override
-                public JsonArray deserialize(JsonParser jsonParser,
-                                             DeserializationContext context)
-                                                                             throws IOException,
-                                                                             JsonProcessingException {
+        List<Object> elements = new ArrayList<Object>();
 
-                    JsonArray jsonArray = getJsonObjectFactory().createArray();
+        while (jsonToken != null) {
 
-                    JsonToken jsonToken = jsonParser.getCurrentToken();
-                    if (jsonToken == JsonToken.START_ARRAY) {
-                        jsonToken = jsonParser.nextToken();
-                    } else {
-                        throw new RuntimeException("Invalid json array");
-                    }
+            if (jsonToken == JsonToken.END_ARRAY) {
+                break;
+            }
 
-                    while (jsonToken != null) {
+            elements.add(deserializeJsonElement(jsonParser, context, jsonToken, mutable));
 
-                        if (jsonToken == JsonToken.END_ARRAY) {
-                            break;
-                        }
+            jsonToken = jsonParser.nextToken();
+        }
 
-                        if (jsonToken == JsonToken.START_OBJECT) {
-                            jsonArray.add(getJsonObjectDeserializer().deserialize(jsonParser, context));
+        return getJsonObjectFactory().createArray(elements, mutable);
+    }
 
-                        } else if (jsonToken == JsonToken.START_ARRAY) {
-                            jsonArray.add(deserialize(jsonParser, context));
+    /**
+     * Deserializes the element at the current token.
+     */
+    protected Object deserializeJsonElement(JsonParser jsonParser,
+                                            DeserializationContext context,
+                                            JsonToken jsonToken,
+                                            boolean mutable) throws IOException {
 
-                        } else if (jsonToken == JsonToken.VALUE_EMBEDDED_OBJECT) {
-                            jsonArray.add(jsonParser.getEmbeddedObject());
+        if (jsonToken == JsonToken.START_OBJECT) {
+            return deserializeJsonObject(jsonParser, context, mutable);
 
-                        } else if (jsonToken == JsonToken.VALUE_NULL) {
-                            jsonArray.add(null);
+        } else if (jsonToken == JsonToken.START_ARRAY) {
+            return deserializeJsonArray(jsonParser, context, mutable);
 
-                        } else if (jsonToken == JsonToken.VALUE_STRING) {
-                            jsonArray.add(jsonParser.getText());
+        } else if (jsonToken == JsonToken.VALUE_STRING) {
+            return jsonParser.getText();
 
-                        } else if (jsonToken == JsonToken.VALUE_TRUE) {
-                            jsonArray.add(true);
+        } else if (jsonToken == JsonToken.VALUE_NULL) {
+            return null;
 
-                        } else if (jsonToken == JsonToken.VALUE_FALSE) {
-                            jsonArray.add(false);
+        } else if (jsonToken == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+
+        } else if (jsonToken == JsonToken.VALUE_FALSE) {
+            return Boolean.FALSE;
+
+        } else if (jsonToken == JsonToken.VALUE_NUMBER_INT ||
+                   jsonToken == JsonToken.VALUE_NUMBER_FLOAT) {
+            Number number = jsonParser.getNumberValue();
+            if (number instanceof Integer ||
+                number instanceof Long ||
+                number instanceof Double ||
+                number instanceof Float ||
+                number instanceof BigDecimal) {
+                return number;
+            }
 
-                        } else if (jsonToken == JsonToken.VALUE_NUMBER_INT ||
-                                   jsonToken == JsonToken.VALUE_NUMBER_FLOAT) {
-                            jsonArray.add(jsonParser.getNumberValue());
+            //==========================================
+            // Smaller integer types may come from a
+            // buffer of tokens, when a bean is converted.
+            //==========================================
+            if (number instanceof Short || number instanceof Byte) {
+                return number.intValue();
+            }
+            return convertToNativeType(number);
 
-                        } else {
-                            throw new RuntimeException("Unmanaged json token type : " + jsonToken);
-                        }
+        } else if (jsonToken == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            Object value = convertToNativeType(jsonParser.getEmbeddedObject());
+            if (!mutable && value instanceof JsonObjectOrArray && ((JsonObjectOrArray)value).isMutable()) {
+                value = ((JsonObjectOrArray)value).clone(false);
+            }
+            return value;
 
-                        jsonToken = jsonParser.nextToken();
-                    }
-                    return jsonArray;
-                }
-            };
+        } else {
+            throw new RuntimeException("Unmanaged json token type : " + jsonToken);
         }
+    }
 
-        return this.jsonArrayDeserializer;
+    /**
+     * Does this key have to be parsed as a JsonPath?
+     */
+    protected boolean isKeyRequiresJsonPathParsing(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '.' || c == '[' || c == ']') {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected void registerCustomModules(ObjectMapper objectMapper) {
@@ -651,6 +776,31 @@ public class SpincastJsonManager implements JsonManager {
         }
     }
 
+    @Override
+    public JsonObject fromString(String jsonString, boolean mutable) {
+        if (jsonString == null) {
+            return null;
+        }
+
+        try {
+            JsonObject obj = getJsonObjectReader(mutable).readValue(jsonString);
+            return obj;
+        } catch (Exception ex) {
+            throw SpincastStatics.runtimize(ex);
+        }
+    }
+
+    /**
+     * The reader to use to deserialize a JsonObject.
+     */
+    protected ObjectReader getJsonObjectReader(boolean mutable) {
+        ObjectReader reader = getObjectMapper().readerFor(JsonObject.class);
+        if (!mutable) {
+            reader = reader.withAttribute(DESERIALIZATION_ATTRIBUTE_IMMUTABLE, Boolean.TRUE);
+        }
+        return reader;
+    }
+
     @Override
     public JsonObject fromMap(Map<String, ?> params) {
         if (params == null) {
@@ -701,6 +851,20 @@ public class SpincastJsonManager implements JsonManager {
         }
     }
 
+    @Override
+    public JsonObject fromInputStream(InputStream inputStream, boolean mutable) {
+        if (inputStream == null) {
+            return null;
+        }
+
+        try {
+            JsonObject obj = getJsonObjectReader(mutable).readValue(inputStream);
+            return obj;
+        } catch (Exception ex) {
+            throw SpincastStatics.runtimize(ex);
+        }
+    }
+
     @Override
     public JsonObject fromFile(File jsonFile) {
         if (jsonFile == null || !jsonFile.exists()) {
@@ -926,15 +1090,51 @@ public class SpincastJsonManager implements JsonManager {
         // Converts to a JsonObject or returns as
         // a string
         //==========================================
-        String jsonStr = toJsonString(originalObject);
+        return convertBeanToNativeType(originalObject);
+    }
+
+    /**
+     * Converts a bean to a JsonObject or, if it is serialized
+     * as a Json string, to a String.
+     * <p>
+     * The bean is serialized to a buffer of Json tokens that
+     * is then deserialized directly : no Json text is generated or
+     * parsed, but the result is the same.
+     */
+    protected Object convertBeanToNativeType(Object bean) {
 
-        if (jsonStr.startsWith("\"") && jsonStr.endsWith("\"") && jsonStr.length() > 1) {
-            jsonStr = jsonStr.substring(1, jsonStr.length() - 1);
-            return jsonStr;
+        try {
+            TokenBuffer tokenBuffer = createBeanConversionTokenBuffer();
+            getObjectMapper().writeValue(tokenBuffer, bean);
+
+            try (JsonParser jsonParser = tokenBuffer.asParser(getObjectMapper())) {
+                JsonToken jsonToken = jsonParser.nextToken();
+                if (jsonToken == JsonToken.VALUE_STRING) {
+                    return jsonParser.getText();
+                }
+                return getObjectMapper().readValue(jsonParser, JsonObject.class);
+            }
+        } catch (Exception ex) {
+            throw SpincastStatics.runtimize(ex);
         }
+    }
 
-        JsonObject jsonObject = fromString(jsonStr);
-        return jsonObject;
+    /**
+     * The buffer used to convert a bean. Binary values
+     * are written as Base64 strings, as they would be
+     * in Json text.
+     */
+    protected TokenBuffer createBeanConversionTokenBuffer() {
+        return new TokenBuffer(getObjectMapper(), false) {
+
+            @Override
+            public void writeBinary(Base64Variant b64variant,
+                                    byte[] data,
+                                    int offset,
+                                    int len) throws IOException {
+                writeString(b64variant.encode(Arrays.copyOfRange(data, offset, offset + len)));
+            }
+        };
     }
 
     @Override
@@ -981,6 +1181,15 @@ public class SpincastJsonManager implements JsonManager {
                 return jsonObj;
             }
 
+            //==========================================
+            // A mutable clone of an immutable object : the
+            // elements are only copied when they are modified
+            // or accessed.
+            //==========================================
+            if (mutable && !jsonObj.isMutable()) {
+                return getJsonObjectFactory().create(new JsonObjectCopyOnWriteMap(jsonObj), true);
+            }
+
             Map<String, Object> map = new HashMap<String, Object>();
             for (Entry<String, Object> entry : jsonObj) {
                 Object elementClone = clone(entry.getValue(), mutable);
@@ -999,6 +1208,15 @@ public class SpincastJsonManager implements JsonManager {
                 return array;
             }
 
+            //==========================================
+            // A mutable clone of an immutable array : the
+            // elements are only copied when they are modified
+            // or accessed.
+            //==========================================
+            if (mutable && !array.isMutable()) {
+                return getJsonObjectFactory().createArray(new JsonArrayCopyOnWriteList(array), true);
+            }
+
             List<Object> elements = new ArrayList<Object>();
             for (Object element : array) {
                 Object elementClone = clone(element, mutable);
@@ -1032,6 +1250,36 @@ public class SpincastJsonManager implements JsonManager {
         return getJsonPathUtils().isElementExists(array, jsonPath);
     }
 
+    @Override
+    public JsonPath compileJsonPath(String jsonPath) {
+        return getJsonPathUtils().compileJsonPath(jsonPath);
+    }
+
+    @Override
+    public Object getElementAtJsonPath(JsonObjectOrArray objOrArray, JsonPath jsonPath, Object defaultValue) {
+        return getJsonPathUtils().getElementAtJsonPath(objOrArray, jsonPath, defaultValue);
+    }
+
+    @Override
+    public void putElementAtJsonPath(JsonObjectOrArray objOrArray, JsonPath jsonPath, Object value, boolean clone) {
+
+        if (clone) {
+            value = clone(value);
+        }
+
+        getJsonPathUtils().putElementAtJsonPath(objOrArray, jsonPath, value);
+    }
+
+    @Override
+    public void removeElementAtJsonPath(JsonObjectOrArray objOrArray, JsonPath jsonPath) {
+        getJsonPathUtils().removeElementAtJsonPath(objOrArray, jsonPath);
+    }
+
+    @Override
+    public boolean isElementExists(JsonObjectOrArray objOrArray, JsonPath jsonPath) {
+        return getJsonPathUtils().isElementExists(objOrArray, jsonPath);
+    }
+
     @Override
     public JsonObject enumToFriendlyJsonObject(Enum<?> enumValue) {
 
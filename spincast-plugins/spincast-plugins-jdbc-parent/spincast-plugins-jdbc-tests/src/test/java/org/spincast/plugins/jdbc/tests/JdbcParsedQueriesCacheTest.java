@@ -0,0 +1,181 @@
+package org.spincast.plugins.jdbc.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.spincast.plugins.jdbc.JdbcQueries;
+import org.spincast.plugins.jdbc.SpincastResultSet;
+import org.spincast.plugins.jdbc.config.SpincastJdbcConfig;
+import org.spincast.plugins.jdbc.statements.BatchInsertStatement;
+import org.spincast.plugins.jdbc.statements.JdbcParsedQueriesCache;
+import org.spincast.plugins.jdbc.statements.JdbcParsedQueriesCacheDefault;
+import org.spincast.plugins.jdbc.statements.ResultSetHandler;
+import org.spincast.plugins.jdbc.statements.SelectStatement;
+import org.spincast.plugins.jdbc.statements.StatementBase;
+
+import com.google.inject.Inject;
+
+public class JdbcParsedQueriesCacheTest extends JdbcH2TestBase {
+
+    @Inject
+    protected JdbcParsedQueriesCache jdbcParsedQueriesCache;
+
+    protected JdbcParsedQueriesCache getJdbcParsedQueriesCache() {
+        return this.jdbcParsedQueriesCache;
+    }
+
+    /**
+     * Gives access to the cache of parsed queries.
+     */
+    protected static class StatementTest extends StatementBase {
+
+        public StatementTest(JdbcParsedQueriesCache jdbcParsedQueriesCache) {
+            super(null, jdbcParsedQueriesCache);
+        }
+
+        public long getCachedParsedQueriesNbr() {
+            return getParsedQueriesCache().size();
+        }
+
+        public Object getCachedParsedQuery() {
+            return getParsedQueriesCache().get(new ParsedQueryKey(getOriginalQuery(), getStaticTokens()));
+        }
+
+        public Map<String, Set<Integer>> getParamsIndexes() {
+            return getIndexMap();
+        }
+    }
+
+    @Test
+    public void parsedQueryCached() throws Exception {
+
+        String sql = "SELECT * FROM test WHERE name = :name AND email = :email OR name = :name AND id > :id_" +
+                     System.nanoTime();
+
+        StatementTest stm1 = new StatementTest(getJdbcParsedQueriesCache());
+        stm1.sql(sql);
+        assertNull(stm1.getCachedParsedQuery());
+
+        String parsed = stm1.getSql(false);
+        assertTrue(parsed.startsWith("SELECT * FROM test WHERE name = ? AND email = ? OR name = ? AND id > ?"));
+
+        Object cached = stm1.getCachedParsedQuery();
+        assertNotNull(cached);
+
+        assertEquals(new HashSet<Integer>(Arrays.asList(1, 3)), stm1.getParamsIndexes().get("name"));
+        assertEquals(new HashSet<Integer>(Arrays.asList(2)), stm1.getParamsIndexes().get("email"));
+
+        //==========================================
+        // Another statement with the same SQL uses
+        // the cached result.
+        //==========================================
+        StatementTest stm2 = new StatementTest(getJdbcParsedQueriesCache());
+        stm2.sql(sql);
+        assertEquals(parsed, stm2.getSql(false));
+        assertTrue(cached == stm2.getCachedParsedQuery());
+        assertEquals(stm1.getParamsIndexes(), stm2.getParamsIndexes());
+    }
+
+    @Test
+    public void maxSizeFromConfig() throws Exception {
+
+        SpincastJdbcConfig smallCacheConfig = new SpincastJdbcConfig() {
+
+            @Override
+            public int getParsedQueriesCacheMaxSize() {
+                return 2;
+            }
+        };
+
+        JdbcParsedQueriesCache smallCache = new JdbcParsedQueriesCacheDefault(smallCacheConfig);
+        for (int i = 0; i < 10; i++) {
+            StatementTest stm = new StatementTest(smallCache);
+            stm.sql("SELECT * FROM test WHERE name = :name AND nbr = " + i);
+            stm.getSql(false);
+            assertTrue(stm.getCachedParsedQueriesNbr() <= 2);
+        }
+    }
+
+    @Test
+    public void staticTokensPartOfTheKey() throws Exception {
+
+        String sql = "SELECT * FROM test WHERE nbr IN(:nbrs) AND name = :name";
+
+        StatementTest stm1 = new StatementTest(getJdbcParsedQueriesCache());
+        stm1.sql(sql);
+        stm1.setInLong("nbrs", new HashSet<Long>(Arrays.asList(1L)));
+
+        StatementTest stm2 = new StatementTest(getJdbcParsedQueriesCache());
+        stm2.sql(sql);
+        stm2.setInLong("nbrs", new HashSet<Long>(Arrays.asList(2L)));
+
+        assertEquals("SELECT * FROM test WHERE nbr IN(1) AND name = ?", stm1.getSql(false));
+        assertEquals("SELECT * FROM test WHERE nbr IN(2) AND name = ?", stm2.getSql(false));
+        assertEquals(new HashSet<Integer>(Arrays.asList(1)), stm2.getParamsIndexes().get("name"));
+    }
+
+    @Test
+    public void sameQueryExecutedMultipleTimes() throws Exception {
+
+        getJdbcUtils().scopes().autoCommit(getTestDataSource(), new JdbcQueries<Void>() {
+
+            @Override
+            public Void run(Connection connection) {
+
+                BatchInsertStatement stm = getJdbcUtils().statements().createBatchInsertStatement(connection);
+                stm.sql("INSERT INTO test(name, nbr) " +
+                        "VALUES(:name, :nbr)");
+                for (int i = 0; i < 5; i++) {
+                    stm.setString("name", "name" + i);
+                    stm.setInteger("nbr", i);
+                    stm.addBatch();
+                }
+                stm.batchInsert();
+
+                long cachedNbr = getJdbcParsedQueriesCache().size();
+
+                for (int i = 0; i < 5; i++) {
+                    SelectStatement stmSel = getJdbcUtils().statements().createSelectStatement(connection);
+                    stmSel.sql("SELECT name " +
+                               "FROM test " +
+                               "WHERE nbr IN(:nbrs) " +
+                               "AND name != :name " +
+                               "ORDER BY nbr");
+                    stmSel.setInInteger("nbrs", new HashSet<Integer>(Arrays.asList(i, (i + 1) % 5)));
+                    stmSel.setString("name", "nope");
+
+                    List<String> names = stmSel.selectList(new ResultSetHandler<String>() {
+
+                        @Override
+                        public String handle(SpincastResultSet rs) throws Exception {
+                            return rs.getString("name");
+                        }
+                    });
+
+                    //==========================================
+                    // The statements created by Guice share
+                    // the same cache.
+                    //==========================================
+                    assertEquals(cachedNbr + i + 1, getJdbcParsedQueriesCache().size());
+
+                    assertEquals(2, names.size());
+                    assertEquals(new HashSet<String>(Arrays.asList("name" + i, "name" + ((i + 1) % 5))),
+                                 new HashSet<String>(names));
+                }
+
+                return null;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,186 @@
+package org.spincast.plugins.jdbc.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.spincast.plugins.jdbc.JdbcQueries;
+import org.spincast.plugins.jdbc.SpincastResultSet;
+import org.spincast.plugins.jdbc.statements.BatchInsertStatement;
+import org.spincast.plugins.jdbc.statements.ResultSetHandler;
+import org.spincast.plugins.jdbc.statements.SelectStatement;
+
+public class JdbcSelectStreamTest extends JdbcH2TestBase {
+
+    protected void insertRows(final int nbr) {
+
+        getJdbcUtils().scopes().autoCommit(getTestDataSource(), new JdbcQueries<Void>() {
+
+            @Override
+            public Void run(Connection connection) {
+
+                BatchInsertStatement stm = getJdbcUtils().statements().createBatchInsertStatement(connection);
+                stm.sql("INSERT INTO test(name, nbr) " +
+                        "VALUES(:name, :nbr)");
+
+                for (int i = 0; i < nbr; i++) {
+                    stm.setString("name", "name" + i);
+                    stm.setInteger("nbr", i);
+                    stm.addBatch();
+                }
+                stm.batchInsert();
+
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void selectStream() throws Exception {
+
+        insertRows(100);
+
+        List<String> names = getJdbcUtils().scopes().autoCommit(getTestDataSource(), new JdbcQueries<List<String>>() {
+
+            @Override
+            public List<String> run(Connection connection) {
+
+                SelectStatement stm = getJdbcUtils().statements().createSelectStatement(connection);
+                stm.sql("SELECT name " +
+                        "FROM test " +
+                        "WHERE nbr >= :nbr " +
+                        "ORDER BY nbr");
+                stm.setInteger("nbr", 10);
+                stm.setFetchSize(7);
+
+                try (Stream<String> stream = stm.selectStream(new ResultSetHandler<String>() {
+
+                    @Override
+                    public String handle(SpincastResultSet rs) throws Exception {
+                        return rs.getString("name");
+                    }
+                })) {
+                    return stream.collect(Collectors.toList());
+                }
+            }
+        });
+
+        assertEquals(90, names.size());
+        for (int i = 0; i < 90; i++) {
+            assertEquals("name" + (i + 10), names.get(i));
+        }
+    }
+
+    @Test
+    public void selectStreamEmpty() throws Exception {
+
+        getJdbcUtils().scopes().autoCommit(getTestDataSource(), new JdbcQueries<Void>() {
+
+            @Override
+            public Void run(Connection connection) {
+
+                SelectStatement stm = getJdbcUtils().statements().createSelectStatement(connection);
+                stm.sql("SELECT name FROM test");
+
+                try (Stream<String> stream = stm.selectStream(new ResultSetHandler<String>() {
+
+                    @Override
+                    public String handle(SpincastResultSet rs) throws Exception {
+                        return rs.getString("name");
+                    }
+                })) {
+                    assertEquals(0, stream.count());
+                }
+
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void rowsFetchedLazilyAndClosed() throws Exception {
+
+        insertRows(50);
+
+        getJdbcUtils().scopes().autoCommit(getTestDataSource(), new JdbcQueries<Void>() {
+
+            @Override
+            public Void run(Connection connection) {
+
+                SelectStatement stm = getJdbcUtils().statements().createSelectStatement(connection);
+                stm.sql("SELECT nbr FROM test ORDER BY nbr");
+
+                final List<SpincastResultSet> resultSets = new ArrayList<SpincastResultSet>();
+                Stream<Integer> stream = stm.selectStream(new ResultSetHandler<Integer>() {
+
+                    @Override
+                    public Integer handle(SpincastResultSet rs) throws Exception {
+                        resultSets.add(rs);
+                        return rs.getIntegerOrNull("nbr");
+                    }
+                });
+
+                try {
+                    List<Integer> firsts = stream.filter(nbr -> nbr % 2 == 0)
+                                                 .limit(3)
+                                                 .collect(Collectors.toList());
+                    assertEquals(3, firsts.size());
+                    assertEquals(Integer.valueOf(0), firsts.get(0));
+                    assertEquals(Integer.valueOf(2), firsts.get(1));
+                    assertEquals(Integer.valueOf(4), firsts.get(2));
+
+                    //==========================================
+                    // Only the required rows have been fetched,
+                    // using a single wrapper.
+                    //==========================================
+                    assertEquals(5, resultSets.size());
+                    for (SpincastResultSet rs : resultSets) {
+                        assertTrue(rs == resultSets.get(0));
+                    }
+                    assertFalse(resultSets.get(0).isClosed());
+                } catch (Exception ex) {
+                    fail(ex.getMessage());
+                } finally {
+                    stream.close();
+                }
+
+                try {
+                    assertTrue(resultSets.get(0).isClosed());
+                } catch (Exception ex) {
+                    fail(ex.getMessage());
+                }
+
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void invalidFetchSize() throws Exception {
+
+        getJdbcUtils().scopes().autoCommit(getTestDataSource(), new JdbcQueries<Void>() {
+
+            @Override
+            public Void run(Connection connection) {
+
+                SelectStatement stm = getJdbcUtils().statements().createSelectStatement(connection);
+                try {
+                    stm.setFetchSize(-1);
+                    fail();
+                } catch (Exception ex) {
+                }
+
+                return null;
+            }
+        });
+    }
+
+}
@@ -6,12 +6,16 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.spincast.core.exchange.RequestContext;
 import org.spincast.core.guice.SpincastGuiceModuleBase;
 import org.spincast.core.websocket.WebsocketContext;
+import org.spincast.plugins.jdbc.config.SpincastJdbcConfig;
+import org.spincast.plugins.jdbc.config.SpincastJdbcConfigDefault;
 import org.spincast.plugins.jdbc.statements.BatchInsertStatement;
 import org.spincast.plugins.jdbc.statements.BatchInsertStatementDefault;
 import org.spincast.plugins.jdbc.statements.DeleteStatement;
 import org.spincast.plugins.jdbc.statements.DeleteStatementDefault;
 import org.spincast.plugins.jdbc.statements.InsertStatement;
 import org.spincast.plugins.jdbc.statements.InsertStatementDefault;
+import org.spincast.plugins.jdbc.statements.JdbcParsedQueriesCache;
+import org.spincast.plugins.jdbc.statements.JdbcParsedQueriesCacheDefault;
 import org.spincast.plugins.jdbc.statements.SelectStatement;
 import org.spincast.plugins.jdbc.statements.SelectStatementDefault;
 import org.spincast.plugins.jdbc.statements.UpdateStatement;
@@ -35,6 +39,10 @@ public class SpincastJdbcPluginModule extends SpincastGuiceModuleBase {
     @Override
     protected void configure() {
 
+        bind(SpincastJdbcConfig.class).to(getSpincastJdbcConfigImpl()).in(Scopes.SINGLETON);
+
+        bind(JdbcParsedQueriesCache.class).to(getJdbcParsedQueriesCacheImpl()).in(Scopes.SINGLETON);
+
         install(new FactoryModuleBuilder().implement(SelectStatement.class, getSelectJdbcStatementImpl())
                                           .implement(InsertStatement.class, getInsertJdbcStatementDefaultImpl())
                                           .implement(BatchInsertStatement.class, getBatchInsertJdbcStatementImpl())
@@ -56,6 +64,14 @@ public class SpincastJdbcPluginModule extends SpincastGuiceModuleBase {
 
     }
 
+    protected Class<? extends SpincastJdbcConfig> getSpincastJdbcConfigImpl() {
+        return SpincastJdbcConfigDefault.class;
+    }
+
+    protected Class<? extends JdbcParsedQueriesCache> getJdbcParsedQueriesCacheImpl() {
+        return JdbcParsedQueriesCacheDefault.class;
+    }
+
     protected Class<? extends SelectStatement> getSelectJdbcStatementImpl() {
         return SelectStatementDefault.class;
     }
@@ -0,0 +1,18 @@
+package org.spincast.plugins.jdbc.config;
+
+/**
+ * Configurations for the Spincast JDBC plugin.
+ */
+public interface SpincastJdbcConfig {
+
+    /**
+     * The maximum number of parsed queries to keep in
+     * the cache shared by the statements. A query is
+     * parsed to replace its static tokens and its named
+     * parameters.
+     * <p>
+     * Defaults to <code>1000</code>.
+     */
+    public int getParsedQueriesCacheMaxSize();
+
+}
@@ -0,0 +1,13 @@
+package org.spincast.plugins.jdbc.config;
+
+/**
+ * Default configurations for the Spincast JDBC plugin.
+ */
+public class SpincastJdbcConfigDefault implements SpincastJdbcConfig {
+
+    @Override
+    public int getParsedQueriesCacheMaxSize() {
+        return 1000;
+    }
+
+}
@@ -22,8 +22,9 @@ public class BatchInsertStatementDefault extends StatementBase implements BatchI
 
 
     @AssistedInject
-    public BatchInsertStatementDefault(@Assisted Connection connection) {
-        super(connection);
+    public BatchInsertStatementDefault(@Assisted Connection connection,
+                                       JdbcParsedQueriesCache jdbcParsedQueriesCache) {
+        super(connection, jdbcParsedQueriesCache);
     }
 
     protected List<Map<String, Object>> getBatchParams() {
@@ -15,8 +15,9 @@ import com.google.inject.assistedinject.AssistedInject;
 public class DeleteStatementDefault extends StatementBase implements DeleteStatement {
 
     @AssistedInject
-    public DeleteStatementDefault(@Assisted Connection connection) {
-        super(connection);
+    public DeleteStatementDefault(@Assisted Connection connection,
+                                  JdbcParsedQueriesCache jdbcParsedQueriesCache) {
+        super(connection, jdbcParsedQueriesCache);
     }
 
     protected PreparedStatement getStatementWithParamsAdded(Connection connection) {
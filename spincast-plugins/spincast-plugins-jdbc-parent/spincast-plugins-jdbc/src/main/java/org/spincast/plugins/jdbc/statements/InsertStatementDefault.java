@@ -12,8 +12,9 @@ import com.google.inject.assistedinject.AssistedInject;
 public class InsertStatementDefault extends StatementBase implements InsertStatement {
 
     @AssistedInject
-    public InsertStatementDefault(@Assisted Connection connection) {
-        super(connection);
+    public InsertStatementDefault(@Assisted Connection connection,
+                                  JdbcParsedQueriesCache jdbcParsedQueriesCache) {
+        super(connection, jdbcParsedQueriesCache);
     }
 
     @Override
@@ -0,0 +1,28 @@
+package org.spincast.plugins.jdbc.statements;
+
+import org.spincast.plugins.jdbc.statements.StatementBase.ParsedQuery;
+import org.spincast.plugins.jdbc.statements.StatementBase.ParsedQueryKey;
+
+/**
+ * The cache of the parsed queries, shared by the
+ * statements of an application.
+ */
+public interface JdbcParsedQueriesCache {
+
+    /**
+     * The parsed query or <code>null</code> if
+     * it is not in cache.
+     */
+    public ParsedQuery get(ParsedQueryKey key);
+
+    /**
+     * Adds a parsed query to the cache.
+     */
+    public void put(ParsedQueryKey key, ParsedQuery parsedQuery);
+
+    /**
+     * The number of parsed queries in cache.
+     */
+    public long size();
+
+}
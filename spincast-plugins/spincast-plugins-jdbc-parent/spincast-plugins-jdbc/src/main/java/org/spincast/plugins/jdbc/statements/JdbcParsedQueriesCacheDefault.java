@@ -0,0 +1,56 @@
+package org.spincast.plugins.jdbc.statements;
+
+import org.spincast.plugins.jdbc.config.SpincastJdbcConfig;
+import org.spincast.plugins.jdbc.statements.StatementBase.ParsedQuery;
+import org.spincast.plugins.jdbc.statements.StatementBase.ParsedQueryKey;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+
+/**
+ * Default cache of the parsed queries. Its maximum
+ * size comes from the {@link SpincastJdbcConfig}.
+ */
+public class JdbcParsedQueriesCacheDefault implements JdbcParsedQueriesCache {
+
+    private final SpincastJdbcConfig spincastJdbcConfig;
+    private final Cache<ParsedQueryKey, ParsedQuery> cache;
+
+    @Inject
+    public JdbcParsedQueriesCacheDefault(SpincastJdbcConfig spincastJdbcConfig) {
+        this.spincastJdbcConfig = spincastJdbcConfig;
+        this.cache = createCache();
+    }
+
+    protected SpincastJdbcConfig getSpincastJdbcConfig() {
+        return this.spincastJdbcConfig;
+    }
+
+    protected Cache<ParsedQueryKey, ParsedQuery> createCache() {
+        return CacheBuilder.newBuilder()
+                           .maximumSize(getSpincastJdbcConfig().getParsedQueriesCacheMaxSize())
+                           .build();
+    }
+
+    protected Cache<ParsedQueryKey, ParsedQuery> getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public ParsedQuery get(ParsedQueryKey key) {
+        return getCache().getIfPresent(key);
+    }
+
+    @Override
+    public void put(ParsedQueryKey key, ParsedQuery parsedQuery) {
+        getCache().put(key, parsedQuery);
+    }
+
+    @Override
+    public long size() {
+        getCache().cleanUp();
+        return getCache().size();
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.spincast.plugins.jdbc.statements;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.spincast.plugins.jdbc.utils.ItemsAndTotalCount;
 
@@ -25,4 +26,32 @@ public interface SelectStatement extends Statement {
 
     public <T> T selectOne(ResultSetHandler<T> resultSetHandler);
 
+    /**
+     * Executes the SELECT query and returns the rows as a
+     * lazy {@link Stream} : a row is only fetched from the
+     * database when the stream needs it. This allows large
+     * results to be processed (or sent to a streaming response)
+     * without having them all in memory.
+     * <p>
+     * The query uses a forward only and read only cursor and
+     * the fetch size specified using {@link #setFetchSize(int)}.
+     * <p>
+     * The returned stream <strong>must</strong> be closed
+     * (ideally using a try-with-resources) since this is what
+     * closes the underlying <code>ResultSet</code> and statement.
+     * The connection must stay open until then.
+     * <p>
+     * Note that some drivers (PostgreSQL, for example) only
+     * really stream the rows when the connection is not in
+     * auto-commit mode and a fetch size is specified.
+     */
+    public <T> Stream<T> selectStream(ResultSetHandler<T> resultSetHandler);
+
+    /**
+     * The number of rows to fetch from the database at a time,
+     * as a hint to the driver. <code>0</code>, the default, means
+     * the driver's default is used.
+     */
+    public void setFetchSize(int fetchSize);
+
 }
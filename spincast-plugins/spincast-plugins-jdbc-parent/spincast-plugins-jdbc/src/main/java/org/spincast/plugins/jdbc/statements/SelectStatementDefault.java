@@ -5,6 +5,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,11 +29,13 @@ public class SelectStatementDefault extends StatementBase implements SelectState
     protected final static Logger logger = LoggerFactory.getLogger(SelectStatementDefault.class);
 
     private final JdbcUtils jdbcUtils;
+    private int fetchSize = 0;
 
     @AssistedInject
     public SelectStatementDefault(@Assisted Connection connection,
-                                  JdbcUtils jdbcUtils) {
-        super(connection);
+                                  JdbcUtils jdbcUtils,
+                                  JdbcParsedQueriesCache jdbcParsedQueriesCache) {
+        super(connection, jdbcParsedQueriesCache);
         this.jdbcUtils = jdbcUtils;
     }
 
@@ -36,9 +43,40 @@ public class SelectStatementDefault extends StatementBase implements SelectState
         return this.jdbcUtils;
     }
 
+    protected int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    @Override
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new RuntimeException("The fetch size can't be negative : " + fetchSize);
+        }
+        this.fetchSize = fetchSize;
+    }
+
     protected PreparedStatement getStatementWithParamsAdded(Connection connection) {
+        return getStatementWithParamsAdded(connection, false);
+    }
+
+    /**
+     * @param streaming if <code>true</code>, the statement is
+     * explicitly created with a forward only and read only cursor.
+     */
+    protected PreparedStatement getStatementWithParamsAdded(Connection connection, boolean streaming) {
         try {
-            PreparedStatement statement = connection.prepareStatement(getParsedQuery());
+            PreparedStatement statement;
+            if (streaming) {
+                statement = connection.prepareStatement(getParsedQuery(),
+                                                        ResultSet.TYPE_FORWARD_ONLY,
+                                                        ResultSet.CONCUR_READ_ONLY);
+            } else {
+                statement = connection.prepareStatement(getParsedQuery());
+            }
+
+            if (getFetchSize() > 0) {
+                statement.setFetchSize(getFetchSize());
+            }
 
             addCurrentParamsToStatement(statement);
 
@@ -103,8 +141,13 @@ public class SelectStatementDefault extends StatementBase implements SelectState
                     List<T> items = new ArrayList<>();
 
                     if (resultSetHandler != null && resultSet.isBeforeFirst()) {
+
+                        //==========================================
+                        // The same wrapper is used for all the rows.
+                        //==========================================
+                        SpincastResultSet spincastResultSet = new SpincastResultSetDefault(resultSet);
                         while (resultSet.next()) {
-                            T item = resultSetHandler.handle(new SpincastResultSetDefault(resultSet));
+                            T item = resultSetHandler.handle(spincastResultSet);
                             items.add(item);
                         }
                     }
@@ -132,6 +175,62 @@ public class SelectStatementDefault extends StatementBase implements SelectState
         }
     }
 
+    @Override
+    public <T> Stream<T> selectStream(final ResultSetHandler<T> resultSetHandler) {
+
+        if (resultSetHandler == null) {
+            throw new RuntimeException("The result set handler can't be NULL");
+        }
+
+        final PreparedStatement realStatement = getStatementWithParamsAdded(getConnection(), true);
+        final ResultSet resultSet;
+        try {
+            resultSet = realStatement.executeQuery();
+        } catch (Exception ex) {
+            close(realStatement);
+            throw SpincastStatics.runtimize(ex);
+        }
+
+        Spliterator<T> spliterator = createResultSetSpliterator(resultSet, resultSetHandler);
+
+        return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+
+            @Override
+            public void run() {
+                close(resultSet);
+                close(realStatement);
+            }
+        });
+    }
+
+    /**
+     * Creates the {@link Spliterator} fetching the rows
+     * of a streaming select, one at a time. A single
+     * {@link SpincastResultSet} wrapper is used for all
+     * the rows.
+     */
+    protected <T> Spliterator<T> createResultSetSpliterator(final ResultSet resultSet,
+                                                            final ResultSetHandler<T> resultSetHandler) {
+
+        final SpincastResultSet spincastResultSet = new SpincastResultSetDefault(resultSet);
+
+        return new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    action.accept(resultSetHandler.handle(spincastResultSet));
+                    return true;
+                } catch (Exception ex) {
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        };
+    }
+
     /**
      * Returns -1 to indicate the number of items should be taken instead of the total
      * found by a generated query.
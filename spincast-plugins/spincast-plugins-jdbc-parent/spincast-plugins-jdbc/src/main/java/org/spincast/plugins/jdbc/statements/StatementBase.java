@@ -6,11 +6,13 @@ import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -35,17 +37,23 @@ public abstract class StatementBase implements Statement {
     private StringBuilder queryBuilder;
     private String parsedQuery;
     private final Connection connection;
+    private final JdbcParsedQueriesCache jdbcParsedQueriesCache;
 
     private static final BasicFormatterImpl sqlFormmatter = new BasicFormatterImpl();
 
-    private final Map<String, Set<Integer>> indexMap = new HashMap<>();
+    private Map<String, Set<Integer>> indexMap = Collections.emptyMap();
 
     private Map<String, Object> params = new HashMap<>();
     private Map<String, String> staticTokens = new HashMap<>();
 
     public StatementBase(Connection connection) {
+        this(connection, null);
+    }
+
+    public StatementBase(Connection connection, JdbcParsedQueriesCache jdbcParsedQueriesCache) {
         this.queryBuilder = new StringBuilder();
         this.connection = connection;
+        this.jdbcParsedQueriesCache = jdbcParsedQueriesCache;
     }
 
     protected StringBuilder getQueryBuilder() {
@@ -56,6 +64,15 @@ public abstract class StatementBase implements Statement {
         return sqlFormmatter;
     }
 
+    /**
+     * The cache of the parsed queries, may be <code>null</code> if
+     * the statement was not created by Guice. The queries are
+     * then parsed each time.
+     */
+    protected JdbcParsedQueriesCache getParsedQueriesCache() {
+        return this.jdbcParsedQueriesCache;
+    }
+
     @Override
     public void sql(String sql) {
         getQueryBuilder().append(sql);
@@ -139,11 +156,39 @@ public abstract class StatementBase implements Statement {
             return "";
         }
 
+        //==========================================
+        // The same queries are often executed again and
+        // again, so the result of the parsing is cached
+        // by (SQL, static tokens).
+        //==========================================
+        ParsedQuery parsed;
+        JdbcParsedQueriesCache cache = getParsedQueriesCache();
+        if (cache == null) {
+            parsed = parseQuery(query, getStaticTokens());
+        } else {
+            ParsedQueryKey key = new ParsedQueryKey(query, getStaticTokens());
+            parsed = cache.get(key);
+            if (parsed == null) {
+                parsed = parseQuery(query, getStaticTokens());
+                cache.put(key, parsed);
+            }
+        }
+
+        this.indexMap = parsed.getIndexMap();
+
+        return parsed.getQuery();
+    }
+
+    /**
+     * Parses a query : replaces its static tokens and its
+     * named parameters by question marks.
+     */
+    protected ParsedQuery parseQuery(String query, Map<String, String> staticTokens) {
+
         //==========================================
         // Replaces static tokens first. Those can contain
         // named parameters!
         //==========================================
-        Map<String, String> staticTokens = getStaticTokens();
         if (staticTokens != null) {
             for (Entry<String, String> entry : staticTokens.entrySet()) {
                 String pattern = ":" + Pattern.quote(entry.getKey()) + "(?=($|[^A-Za-z0-9_]))";
@@ -151,10 +196,10 @@ public abstract class StatementBase implements Statement {
             }
         }
 
-        Map<String, Set<Integer>> paramMap = getIndexMap();
+        Map<String, Set<Integer>> paramMap = new HashMap<>();
 
         int length = query.length();
-        StringBuffer parsedQuery = new StringBuffer(length);
+        StringBuilder parsedQuery = new StringBuilder(length);
         boolean inSingleQuote = false;
         boolean inDoubleQuote = false;
         int index = 1;
@@ -206,7 +251,16 @@ public abstract class StatementBase implements Statement {
             }
         }
 
-        return parsedQuery.toString();
+        //==========================================
+        // The index map is shared by all the statements
+        // using the cached result, it must be immutable.
+        //==========================================
+        Map<String, Set<Integer>> indexMap = new HashMap<>();
+        for (Entry<String, Set<Integer>> entry : paramMap.entrySet()) {
+            indexMap.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+        }
+
+        return new ParsedQuery(parsedQuery.toString(), Collections.unmodifiableMap(indexMap));
     }
 
     protected void clearParams() {
@@ -421,4 +475,61 @@ public abstract class StatementBase implements Statement {
         return getSql(true);
     }
 
+    /**
+     * The result of the parsing of a query : the SQL
+     * to use with the JDBC driver and the indexes of
+     * the named parameters.
+     */
+    public static class ParsedQuery {
+
+        private final String query;
+        private final Map<String, Set<Integer>> indexMap;
+
+        public ParsedQuery(String query, Map<String, Set<Integer>> indexMap) {
+            this.query = query;
+            this.indexMap = indexMap;
+        }
+
+        public String getQuery() {
+            return this.query;
+        }
+
+        public Map<String, Set<Integer>> getIndexMap() {
+            return this.indexMap;
+        }
+    }
+
+    /**
+     * The key of a parsed query in the cache : the
+     * original SQL and the static tokens.
+     */
+    public static class ParsedQueryKey {
+
+        private final String query;
+        private final Map<String, String> staticTokens;
+
+        public ParsedQueryKey(String query, Map<String, String> staticTokens) {
+            this.query = query;
+            this.staticTokens = (staticTokens == null || staticTokens.size() == 0) ? Collections.<String, String>emptyMap()
+                                                                                    : new HashMap<>(staticTokens);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.query, this.staticTokens);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ParsedQueryKey)) {
+                return false;
+            }
+            ParsedQueryKey other = (ParsedQueryKey)obj;
+            return this.query.equals(other.query) && this.staticTokens.equals(other.staticTokens);
+        }
+    }
+
 }
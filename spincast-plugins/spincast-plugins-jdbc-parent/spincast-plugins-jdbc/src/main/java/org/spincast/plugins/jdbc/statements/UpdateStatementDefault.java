@@ -18,8 +18,9 @@ import com.google.inject.assistedinject.AssistedInject;
 public class UpdateStatementDefault extends StatementBase implements UpdateStatement {
 
     @AssistedInject
-    public UpdateStatementDefault(@Assisted Connection connection) {
-        super(connection);
+    public UpdateStatementDefault(@Assisted Connection connection,
+                                  JdbcParsedQueriesCache jdbcParsedQueriesCache) {
+        super(connection, jdbcParsedQueriesCache);
     }
 
     protected PreparedStatement getStatementWithParamsAdded(Connection connection) {
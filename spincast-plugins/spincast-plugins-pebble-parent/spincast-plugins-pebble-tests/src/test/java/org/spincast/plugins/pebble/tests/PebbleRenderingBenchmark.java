@@ -0,0 +1,178 @@
+package org.spincast.plugins.pebble.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import org.junit.Test;
+import org.spincast.core.json.JsonArray;
+import org.spincast.core.json.JsonManager;
+import org.spincast.core.json.JsonObject;
+import org.spincast.core.templating.TemplatingEngine;
+import org.spincast.testing.defaults.NoAppTestingBase;
+
+import com.google.inject.Inject;
+
+/**
+ * Compares the rendering of a template using a <code>JsonObject</code>
+ * as the model, directly, with the previous way of doing it : converting
+ * the <code>JsonObject</code> to a plain <code>Map</code> first.
+ * <p>
+ * The template, "/benchmarks/websitePage.html", renders a page
+ * of about 70 KB, the size of the pages of the Spincast website.
+ * <p>
+ * This is not a regular test, it is not run by the build. To run it :
+ * <pre>
+ * mvn test -Dtest=PebbleRenderingBenchmark
+ * </pre>
+ * <p>
+ * Results on JDK 17, 1 CPU (3 rounds, average by render) :
+ * <pre>
+ *   convertToPlainMap() + render of the Map : 2.6-6.7 ms, 2,113-2,115 KB allocated
+ *   render of the JsonObject                : 1.0-3.2 ms, 817-832 KB allocated
+ * </pre>
+ */
+public class PebbleRenderingBenchmark extends NoAppTestingBase {
+
+    protected static final String TEMPLATE_PATH = "/benchmarks/websitePage.html";
+    protected static final int NBR_ROUNDS = 3;
+    protected static final int NBR_WARMUP_RENDERS = 200;
+    protected static final int NBR_RENDERS = 300;
+
+    @Inject
+    protected JsonManager jsonManager;
+
+    @Inject
+    protected TemplatingEngine templatingEngine;
+
+    protected JsonManager getJsonManager() {
+        return this.jsonManager;
+    }
+
+    protected TemplatingEngine getTemplatingEngine() {
+        return this.templatingEngine;
+    }
+
+    /**
+     * The bytes allocated by the current thread so far.
+     */
+    protected long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread()
+                                                                                                                     .getId());
+    }
+
+    /**
+     * A menu of 20 sections of 10 links each and a list of
+     * 200 news entries, each with an author and tags.
+     */
+    protected JsonObject createModel() {
+
+        JsonObject model = getJsonManager().create();
+
+        JsonObject page = getJsonManager().create();
+        page.set("title", "Spincast Framework - News");
+        page.set("intro", "Spincast is a highly flexible Java web framework, based on Guice.");
+        model.set("page", page);
+
+        JsonArray menu = getJsonManager().createArray();
+        for (int s = 0; s < 20; s++) {
+            JsonObject section = getJsonManager().create();
+            section.set("name", "Section " + s);
+            JsonArray entries = getJsonManager().createArray();
+            for (int e = 0; e < 10; e++) {
+                JsonObject entry = getJsonManager().create();
+                entry.set("url", "/documentation#section-" + s + "-" + e);
+                entry.set("label", "Entry " + s + "." + e);
+                entries.add(entry);
+            }
+            section.set("entries", entries);
+            menu.add(section);
+        }
+        model.set("menu", menu);
+
+        JsonArray items = getJsonManager().createArray();
+        for (int i = 0; i < 200; i++) {
+            JsonObject item = getJsonManager().create();
+            item.set("id", i);
+            item.set("title", "News entry " + i);
+            item.set("date", "2026-10-" + (i % 28 + 1));
+            item.set("summary", "A short summary of the news entry number " + i + " for the website.");
+            item.set("featured", i % 10 == 0);
+
+            JsonObject author = getJsonManager().create();
+            author.set("name", "Author " + (i % 7));
+            author.set("email", "author" + (i % 7) + "@example.com");
+            item.set("author", author);
+
+            JsonArray tags = getJsonManager().createArray();
+            tags.add("release");
+            tags.add("tag" + (i % 5));
+            item.set("tags", tags);
+
+            items.add(item);
+        }
+        model.set("items", items);
+
+        return model;
+    }
+
+    /**
+     * What rendering a template using a <code>JsonObject</code>
+     * did before : the model was converted to a plain
+     * <code>Map</code>, and back to a <code>JsonObject</code>.
+     */
+    protected String renderUsingPlainMap(JsonObject model) {
+        Map<String, Object> params = model.convertToPlainMap();
+        getJsonManager().fromMap(params);
+        return getTemplatingEngine().fromTemplate(TEMPLATE_PATH, true, params);
+    }
+
+    protected String render(JsonObject model) {
+        return getTemplatingEngine().fromTemplate(TEMPLATE_PATH, true, model);
+    }
+
+    @Test
+    public void benchmark() throws Exception {
+
+        JsonObject model = createModel();
+
+        //==========================================
+        // Both ways render the same HTML.
+        //==========================================
+        String html = render(model);
+        assertEquals(renderUsingPlainMap(model), html);
+        System.out.println("Rendered HTML : " + html.length() / 1024 + " KB");
+
+        for (int round = 0; round < NBR_ROUNDS; round++) {
+
+            for (int i = 0; i < NBR_WARMUP_RENDERS; i++) {
+                renderUsingPlainMap(model);
+                render(model);
+            }
+
+            long allocatedStart = getAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < NBR_RENDERS; i++) {
+                renderUsingPlainMap(model);
+            }
+            long plainMapMicros = (System.nanoTime() - start) / NBR_RENDERS / 1000;
+            long plainMapAllocated = (getAllocatedBytes() - allocatedStart) / NBR_RENDERS;
+
+            allocatedStart = getAllocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < NBR_RENDERS; i++) {
+                render(model);
+            }
+            long directMicros = (System.nanoTime() - start) / NBR_RENDERS / 1000;
+            long directAllocated = (getAllocatedBytes() - allocatedStart) / NBR_RENDERS;
+
+            System.out.println("Round " + (round + 1) + " : " +
+                               "plain Map " + plainMapMicros / 1000.0 + " ms, " +
+                               plainMapAllocated / 1024 + " KB | " +
+                               "JsonObject " + directMicros / 1000.0 + " ms, " +
+                               directAllocated / 1024 + " KB");
+        }
+    }
+
+}
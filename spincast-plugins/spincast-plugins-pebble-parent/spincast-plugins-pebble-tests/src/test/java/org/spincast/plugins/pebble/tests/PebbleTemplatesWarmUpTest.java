@@ -0,0 +1,87 @@
+package org.spincast.plugins.pebble.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.spincast.core.config.SpincastConfig;
+import org.spincast.core.guice.SpincastGuiceModuleBase;
+import org.spincast.core.templating.TemplatingEngine;
+import org.spincast.plugins.pebble.SpincastPebbleTemplatesWarmUp;
+import org.spincast.plugins.pebble.SpincastPebbleTemplatingEngineConfig;
+import org.spincast.plugins.pebble.SpincastPebbleTemplatingEngineConfigDefault;
+import org.spincast.testing.defaults.NoAppStartHttpServerTestingBase;
+
+import com.google.inject.Inject;
+import com.google.inject.Module;
+import com.google.inject.Scopes;
+
+public class PebbleTemplatesWarmUpTest extends NoAppStartHttpServerTestingBase {
+
+    @Override
+    protected Module getExtraOverridingModule() {
+        return new SpincastGuiceModuleBase() {
+
+            @Override
+            protected void configure() {
+                bind(SpincastPebbleTemplatingEngineConfig.class).to(SpincastPebbleTemplatingEngineConfigTesting.class)
+                                                                .in(Scopes.SINGLETON);
+            }
+        };
+    }
+
+    /**
+     * We enable the warm-up and the template cache.
+     */
+    public static class SpincastPebbleTemplatingEngineConfigTesting extends SpincastPebbleTemplatingEngineConfigDefault {
+
+        @Inject
+        public SpincastPebbleTemplatingEngineConfigTesting(SpincastConfig spincastConfig) {
+            super(spincastConfig);
+        }
+
+        @Override
+        public int getTemplateCacheItemNbr() {
+            return 100;
+        }
+
+        @Override
+        public boolean isTemplatesWarmUpEnabled() {
+            return true;
+        }
+
+        @Override
+        public List<String> getTemplatesWarmUpClasspathDirs() {
+            return Arrays.asList("/warmup", "/nope");
+        }
+    }
+
+    @Inject
+    protected SpincastPebbleTemplatesWarmUp spincastPebbleTemplatesWarmUp;
+
+    @Inject
+    protected TemplatingEngine templatingEngine;
+
+    @Test
+    public void warmUp() throws Exception {
+
+        Map<String, Long> compilationTimes = this.spincastPebbleTemplatesWarmUp.warmUp();
+        assertEquals(2, compilationTimes.size());
+        assertTrue(compilationTimes.containsKey("warmup/one.html"));
+        assertTrue(compilationTimes.containsKey("warmup/sub/two.html"));
+
+        Map<String, Object> params = new HashMap<String, Object>();
+        params.put("param1", "Stromgol");
+        assertEquals("<p>Stromgol</p>", this.templatingEngine.fromTemplate("/warmup/one.html", params));
+
+        params = new HashMap<String, Object>();
+        params.put("items", Arrays.asList("a", "b"));
+        assertEquals("ab", this.templatingEngine.fromTemplate("warmup/sub/two.html", params));
+    }
+
+}
@@ -180,6 +180,37 @@ public class PebbleTest extends NoAppStartHttpServerTestingBase {
         assertEquals("Hello Stromgol", result);
     }
 
+    @Test
+    public void evaluateNestedJsonObjectNotCopied() throws Exception {
+
+        JsonObject jsonObj = this.jsonManager.create();
+        JsonObject user = this.jsonManager.create();
+        jsonObj.set("user", user);
+        user.set("name", "Stromgol");
+
+        JsonArray books = this.jsonManager.createArray();
+        user.set("books", books);
+        JsonObject book = this.jsonManager.create();
+        book.set("title", "aaa");
+        books.add(book);
+        book = this.jsonManager.create();
+        book.set("title", "bbb");
+        books.add(book);
+
+        String result = this.templatingEngine.evaluate("{{user.name}}:{{user.books | length}}:" +
+                                                       "{% for book in user.books %}{{book.title}}{% endfor %}:" +
+                                                       "{{user['books'][1]['title']}}:" +
+                                                       "{{'user.books[0].title' | get}}",
+                                                       jsonObj);
+        assertEquals("Stromgol:2:aaabbb:bbb:aaa", result);
+
+        //==========================================
+        // The model is still usable as is.
+        //==========================================
+        assertEquals(1, jsonObj.size());
+        assertEquals("bbb", jsonObj.getString("user.books[1].title"));
+    }
+
     @Test
     public void fromTemplateMap() throws Exception {
 
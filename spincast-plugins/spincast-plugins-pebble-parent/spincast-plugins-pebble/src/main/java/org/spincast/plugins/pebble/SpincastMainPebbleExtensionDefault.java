@@ -20,6 +20,7 @@ import org.spincast.core.dictionary.Dictionary;
 import org.spincast.core.exchange.RequestContext;
 import org.spincast.core.json.JsonArray;
 import org.spincast.core.json.JsonObject;
+import org.spincast.core.json.JsonObjectPlainMapView;
 import org.spincast.core.templating.TemplatingEngine;
 import org.spincast.core.utils.ObjectConverter;
 import org.spincast.core.utils.SpincastStatics;
@@ -765,13 +766,7 @@ public class SpincastMainPebbleExtensionDefault extends AbstractExtension implem
 
                 Object result = paramsAsJsonObject.getObject(key, "");
 
-                if (result instanceof JsonObject) {
-                    return ((JsonObject)result).convertToPlainMap();
-                } else if (result instanceof JsonArray) {
-                    return ((JsonArray)result).convertToPlainList();
-                }
-
-                return result;
+                return JsonObjectPlainMapView.toPlainView(result);
             }
         };
 
@@ -1021,13 +1016,7 @@ public class SpincastMainPebbleExtensionDefault extends AbstractExtension implem
 
                 Object result = paramsAsJsonObject.getObject(key, "");
 
-                if (result instanceof JsonObject) {
-                    return ((JsonObject)result).convertToPlainMap();
-                } else if (result instanceof JsonArray) {
-                    return ((JsonArray)result).convertToPlainList();
-                }
-
-                return result;
+                return JsonObjectPlainMapView.toPlainView(result);
             }
         };
     }
@@ -35,6 +35,12 @@ public class SpincastPebblePluginModule extends SpincastGuiceModuleBase {
         //==========================================
         Multibinder<Extension> pebbleExtensionsMultibinder = Multibinder.newSetBinder(binder(), Extension.class);
         pebbleExtensionsMultibinder.addBinding().to(SpincastMainPebbleExtension.class).in(Scopes.SINGLETON);
+
+        //==========================================
+        // Templates warm-up, before the server
+        // is started.
+        //==========================================
+        bind(SpincastPebbleTemplatesWarmUp.class).to(getSpincastPebbleTemplatesWarmUpClass()).asEagerSingleton();
     }
 
     protected Class<? extends TemplatingEngine> getSpincastPebbleTemplatingEngineClass() {
@@ -45,4 +51,8 @@ public class SpincastPebblePluginModule extends SpincastGuiceModuleBase {
         return SpincastMainPebbleExtensionDefault.class;
     }
 
+    protected Class<? extends SpincastPebbleTemplatesWarmUp> getSpincastPebbleTemplatesWarmUpClass() {
+        return SpincastPebbleTemplatesWarmUpDefault.class;
+    }
+
 }
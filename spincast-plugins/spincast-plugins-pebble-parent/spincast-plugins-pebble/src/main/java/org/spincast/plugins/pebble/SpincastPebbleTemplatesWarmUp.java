@@ -0,0 +1,25 @@
+package org.spincast.plugins.pebble;
+
+import java.util.Map;
+
+/**
+ * Compiles the templates when the application starts, so
+ * the first requests don't have to pay the compilation cost.
+ * <p>
+ * Bound as an eager singleton : the warm-up is run when the
+ * Guice context is created, before the server is started,
+ * if {@link SpincastPebbleTemplatingEngineConfig#isTemplatesWarmUpEnabled()}
+ * is <code>true</code>.
+ */
+public interface SpincastPebbleTemplatesWarmUp {
+
+    /**
+     * Finds the templates and compiles them, in parallel, into
+     * the template cache.
+     *
+     * @return the compilation time, in milliseconds, of each
+     * template, by path. The templates that failed to compile
+     * are not included.
+     */
+    public Map<String, Long> warmUp();
+}
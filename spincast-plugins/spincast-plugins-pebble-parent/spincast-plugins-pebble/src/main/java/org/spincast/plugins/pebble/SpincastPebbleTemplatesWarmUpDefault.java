@@ -0,0 +1,278 @@
+package org.spincast.plugins.pebble;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spincast.core.templating.TemplatingEngine;
+import org.spincast.core.utils.SpincastStatics;
+
+import com.google.inject.Inject;
+
+public class SpincastPebbleTemplatesWarmUpDefault implements SpincastPebbleTemplatesWarmUp {
+
+    protected final static Logger logger = LoggerFactory.getLogger(SpincastPebbleTemplatesWarmUpDefault.class);
+
+    private final SpincastPebbleTemplatingEngineConfig spincastPebbleTemplatingEngineConfig;
+    private final TemplatingEngine templatingEngine;
+
+    @Inject
+    public SpincastPebbleTemplatesWarmUpDefault(SpincastPebbleTemplatingEngineConfig spincastPebbleTemplatingEngineConfig,
+                                                TemplatingEngine templatingEngine) {
+        this.spincastPebbleTemplatingEngineConfig = spincastPebbleTemplatingEngineConfig;
+        this.templatingEngine = templatingEngine;
+    }
+
+    @Inject
+    protected void init() {
+        if (getSpincastPebbleTemplatingEngineConfig().isTemplatesWarmUpEnabled()) {
+            warmUp();
+        }
+    }
+
+    protected SpincastPebbleTemplatingEngineConfig getSpincastPebbleTemplatingEngineConfig() {
+        return this.spincastPebbleTemplatingEngineConfig;
+    }
+
+    protected TemplatingEngine getTemplatingEngine() {
+        return this.templatingEngine;
+    }
+
+    /**
+     * The number of threads used to compile the templates.
+     */
+    protected int getThreadsNbr() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public Map<String, Long> warmUp() {
+
+        if (!(getTemplatingEngine() instanceof SpincastPebbleTemplatingEngine)) {
+            logger.warn("The templating engine is not a " + SpincastPebbleTemplatingEngine.class.getSimpleName() +
+                        ", no templates warm-up.");
+            return Collections.emptyMap();
+        }
+        SpincastPebbleTemplatingEngine pebbleTemplatingEngine = (SpincastPebbleTemplatingEngine)getTemplatingEngine();
+
+        if (getSpincastPebbleTemplatingEngineConfig().getTemplateCacheItemNbr() <= 0) {
+            logger.warn("The templates cache is disabled, no templates warm-up.");
+            return Collections.emptyMap();
+        }
+
+        List<String> classpathTemplates = new ArrayList<String>();
+        List<String> classpathDirs = getSpincastPebbleTemplatingEngineConfig().getTemplatesWarmUpClasspathDirs();
+        if (classpathDirs != null) {
+            for (String classpathDir : classpathDirs) {
+                classpathTemplates.addAll(findClasspathTemplates(classpathDir));
+            }
+        }
+
+        List<String> fileSystemTemplates = new ArrayList<String>();
+        List<String> fileSystemDirs = getSpincastPebbleTemplatingEngineConfig().getTemplatesWarmUpFileSystemDirs();
+        if (fileSystemDirs != null) {
+            for (String fileSystemDir : fileSystemDirs) {
+                fileSystemTemplates.addAll(findFileSystemTemplates(fileSystemDir));
+            }
+        }
+
+        long start = System.currentTimeMillis();
+
+        Map<String, Future<Long>> futures = new HashMap<String, Future<Long>>();
+        ExecutorService executorService = Executors.newFixedThreadPool(getThreadsNbr());
+        try {
+            for (String templatePath : classpathTemplates) {
+                futures.put(templatePath,
+                            executorService.submit(() -> compileTemplate(pebbleTemplatingEngine, templatePath, true)));
+            }
+            for (String templatePath : fileSystemTemplates) {
+                futures.put(templatePath,
+                            executorService.submit(() -> compileTemplate(pebbleTemplatingEngine, templatePath, false)));
+            }
+
+            Map<String, Long> compilationTimes = new TreeMap<String, Long>();
+            for (Map.Entry<String, Future<Long>> entry : futures.entrySet()) {
+                try {
+                    compilationTimes.put(entry.getKey(), entry.getValue().get());
+                } catch (Exception ex) {
+                    logger.warn("Unable to compile template '" + entry.getKey() + "' : " + ex.getMessage());
+                }
+            }
+
+            for (Map.Entry<String, Long> entry : compilationTimes.entrySet()) {
+                logger.info("Template compiled in " + entry.getValue() + " ms : " + entry.getKey());
+            }
+            logger.info(compilationTimes.size() + " of " + futures.size() + " templates compiled in " +
+                        (System.currentTimeMillis() - start) + " ms.");
+
+            return compilationTimes;
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @return the compilation time in milliseconds.
+     */
+    protected long compileTemplate(SpincastPebbleTemplatingEngine pebbleTemplatingEngine,
+                                   String templatePath,
+                                   boolean isClasspathPath) {
+        long start = System.nanoTime();
+        pebbleTemplatingEngine.compileTemplate(templatePath, isClasspathPath);
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    /**
+     * Is the file a template to compile?
+     */
+    protected boolean isTemplateFile(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+
+        String name = path.getFileName().toString();
+        int pos = name.lastIndexOf('.');
+        if (pos < 0) {
+            return false;
+        }
+
+        Set<String> extensions = getSpincastPebbleTemplatingEngineConfig().getTemplatesWarmUpExtensions();
+        return extensions != null && extensions.contains(name.substring(pos + 1).toLowerCase());
+    }
+
+    /**
+     * Finds the templates in a classpath directory, in
+     * a jar or not.
+     *
+     * @return the classpath paths of the templates, without
+     * a leading slash.
+     */
+    protected List<String> findClasspathTemplates(String classpathDir) {
+        try {
+            if (classpathDir == null) {
+                return Collections.emptyList();
+            }
+
+            String dir = classpathDir;
+            while (dir.startsWith("/")) {
+                dir = dir.substring(1);
+            }
+            while (dir.endsWith("/")) {
+                dir = dir.substring(0, dir.length() - 1);
+            }
+
+            URL resource = SpincastPebbleTemplatingEngine.class.getClassLoader().getResource(dir);
+            if (resource == null) {
+                logger.debug("Classpath templates directory not found : " + classpathDir);
+                return Collections.emptyList();
+            }
+
+            URI uri = resource.toURI();
+            if (!"jar".equals(uri.getScheme())) {
+                return toClasspathPaths(Paths.get(uri), dir);
+            }
+
+            //==========================================
+            // In a jar
+            //==========================================
+            FileSystem jarFs = null;
+            boolean opened = false;
+            try {
+                try {
+                    jarFs = FileSystems.newFileSystem(uri, new HashMap<String, Object>());
+                    opened = true;
+                } catch (FileSystemAlreadyExistsException ex) {
+                    jarFs = FileSystems.getFileSystem(uri);
+                }
+                return toClasspathPaths(jarFs.getPath("/" + dir), dir);
+            } finally {
+                if (opened) {
+                    jarFs.close();
+                }
+            }
+        } catch (Exception ex) {
+            throw SpincastStatics.runtimize(ex);
+        }
+    }
+
+    /**
+     * Finds the templates in a file system directory.
+     *
+     * @return the absolute paths of the templates.
+     */
+    protected List<String> findFileSystemTemplates(String fileSystemDir) {
+        if (fileSystemDir == null) {
+            return Collections.emptyList();
+        }
+
+        File dir = new File(fileSystemDir);
+        if (!dir.isDirectory()) {
+            logger.debug("File system templates directory not found : " + fileSystemDir);
+            return Collections.emptyList();
+        }
+
+        return findTemplates(dir.getAbsoluteFile().toPath()).stream()
+                                                            .map(path -> path.toAbsolutePath().toString())
+                                                            .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the templates in a directory and its
+     * subdirectories.
+     */
+    protected List<Path> findTemplates(Path dirPath) {
+        try {
+            if (!Files.isDirectory(dirPath)) {
+                return Collections.emptyList();
+            }
+
+            try (Stream<Path> pathsStream = Files.walk(dirPath)) {
+                return pathsStream.filter(this::isTemplateFile).collect(Collectors.toList());
+            }
+        } catch (Exception ex) {
+            throw SpincastStatics.runtimize(ex);
+        }
+    }
+
+    /**
+     * The classpath paths of the templates found in a
+     * directory : the directory's classpath path followed
+     * by the relative path of the template, using "/".
+     */
+    protected List<String> toClasspathPaths(Path dirPath, String classpathDir) {
+
+        List<String> classpathPaths = new ArrayList<String>();
+        for (Path templatePath : findTemplates(dirPath)) {
+            StringBuilder builder = new StringBuilder(classpathDir);
+            for (Path part : dirPath.relativize(templatePath)) {
+                builder.append("/").append(part.toString());
+            }
+            classpathPaths.add(builder.toString());
+        }
+        return classpathPaths;
+    }
+
+}
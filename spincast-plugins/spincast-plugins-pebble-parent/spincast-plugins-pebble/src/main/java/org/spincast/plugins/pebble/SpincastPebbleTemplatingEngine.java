@@ -5,14 +5,17 @@ import java.io.Writer;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spincast.core.config.SpincastConfig;
 import org.spincast.core.config.SpincastConstants;
+import org.spincast.core.json.JsonArrayPlainListView;
 import org.spincast.core.json.JsonManager;
 import org.spincast.core.json.JsonObject;
+import org.spincast.core.json.JsonObjectPlainMapView;
 import org.spincast.core.templating.TemplatingEngine;
 import org.spincast.core.utils.SpincastStatics;
 import org.spincast.plugins.pebble.utils.SpincastCaffeineTagCache;
@@ -43,9 +46,9 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
     private final SpincastPebbleTemplatingEngineConfig spincastPebbleTemplatingEngineConfig;
     private final SpincastConfig spincastConfig;
     private final Set<Extension> extensions;
-    private PebbleEngine pebbleEngineString;
-    private PebbleEngine pebbleEngineTemplateClasspath;
-    private PebbleEngine pebbleEngineTemplateFileSystem;
+    private volatile PebbleEngine pebbleEngineString;
+    private volatile PebbleEngine pebbleEngineTemplateClasspath;
+    private volatile PebbleEngine pebbleEngineTemplateFileSystem;
     private final JsonManager jsonManager;
 
     @Inject
@@ -77,30 +80,39 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
 
     protected PebbleEngine getPebbleEngineString() {
         if (this.pebbleEngineString == null) {
-
-            Builder builder = new PebbleEngine.Builder().loader(new StringLoader());
-            addCommonLoaderFeatures(builder);
-            this.pebbleEngineString = builder.build();
+            synchronized (this) {
+                if (this.pebbleEngineString == null) {
+                    Builder builder = new PebbleEngine.Builder().loader(new StringLoader());
+                    addCommonLoaderFeatures(builder);
+                    this.pebbleEngineString = builder.build();
+                }
+            }
         }
         return this.pebbleEngineString;
     }
 
     protected PebbleEngine getPebbleEngineTemplateClasspath() {
         if (this.pebbleEngineTemplateClasspath == null) {
-
-            Builder builder = new PebbleEngine.Builder().loader(getClasspathTemplateLoader());
-            addCommonLoaderFeatures(builder);
-            this.pebbleEngineTemplateClasspath = builder.build();
+            synchronized (this) {
+                if (this.pebbleEngineTemplateClasspath == null) {
+                    Builder builder = new PebbleEngine.Builder().loader(getClasspathTemplateLoader());
+                    addCommonLoaderFeatures(builder);
+                    this.pebbleEngineTemplateClasspath = builder.build();
+                }
+            }
         }
         return this.pebbleEngineTemplateClasspath;
     }
 
     protected PebbleEngine getPebbleEngineTemplateFileSystem() {
         if (this.pebbleEngineTemplateFileSystem == null) {
-
-            Builder builder = new PebbleEngine.Builder().loader(getFileSystemTemplateLoader());
-            addCommonLoaderFeatures(builder);
-            this.pebbleEngineTemplateFileSystem = builder.build();
+            synchronized (this) {
+                if (this.pebbleEngineTemplateFileSystem == null) {
+                    Builder builder = new PebbleEngine.Builder().loader(getFileSystemTemplateLoader());
+                    addCommonLoaderFeatures(builder);
+                    this.pebbleEngineTemplateFileSystem = builder.build();
+                }
+            }
         }
         return this.pebbleEngineTemplateFileSystem;
     }
@@ -165,17 +177,17 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
 
     @Override
     public String evaluate(String content, JsonObject jsonObject, Locale locale) {
-        return parse(content, jsonObject, (jsonObject != null ? jsonObject.convertToPlainMap() : null), false, false, locale);
+        return parse(content, jsonObject, createParams(jsonObject), false, false, locale);
     }
 
     @Override
     public String evaluate(String content, Map<String, Object> params) {
-        return parse(content, getJsonManager().fromMap(params), params, false, false, null);
+        return parse(content, createParamsAsJsonObject(params), params, false, false, null);
     }
 
     @Override
     public String evaluate(String content, Map<String, Object> params, Locale locale) {
-        return parse(content, getJsonManager().fromMap(params), params, false, false, locale);
+        return parse(content, createParamsAsJsonObject(params), params, false, false, locale);
     }
 
     @Override
@@ -185,7 +197,7 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
 
     @Override
     public String fromTemplate(String templatePath, JsonObject jsonObject, Locale locale) {
-        return parse(templatePath, jsonObject, (jsonObject != null ? jsonObject.convertToPlainMap() : null), true, true, locale);
+        return parse(templatePath, jsonObject, createParams(jsonObject), true, true, locale);
     }
 
     @Override
@@ -197,7 +209,7 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
     public String fromTemplate(String templatePath, boolean isClasspathPath, JsonObject jsonObject, Locale locale) {
         return parse(templatePath,
                      jsonObject,
-                     (jsonObject != null ? jsonObject.convertToPlainMap() : null),
+                     createParams(jsonObject),
                      true,
                      isClasspathPath,
                      locale);
@@ -205,22 +217,85 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
 
     @Override
     public String fromTemplate(String templatePath, Map<String, Object> params) {
-        return parse(templatePath, getJsonManager().fromMap(params), params, true, true, null);
+        return parse(templatePath, createParamsAsJsonObject(params), params, true, true, null);
     }
 
     @Override
     public String fromTemplate(String templatePath, Map<String, Object> params, Locale locale) {
-        return parse(templatePath, getJsonManager().fromMap(params), params, true, true, locale);
+        return parse(templatePath, createParamsAsJsonObject(params), params, true, true, locale);
     }
 
     @Override
     public String fromTemplate(String templatePath, boolean isClasspathPath, Map<String, Object> params) {
-        return parse(templatePath, getJsonManager().fromMap(params), params, true, isClasspathPath, null);
+        return parse(templatePath, createParamsAsJsonObject(params), params, true, isClasspathPath, null);
     }
 
     @Override
     public String fromTemplate(String templatePath, boolean isClasspathPath, Map<String, Object> params, Locale locale) {
-        return parse(templatePath, getJsonManager().fromMap(params), params, true, isClasspathPath, locale);
+        return parse(templatePath, createParamsAsJsonObject(params), params, true, isClasspathPath, locale);
+    }
+
+    @Override
+    public void fromTemplate(String templatePath,
+                             boolean isClasspathPath,
+                             Map<String, Object> params,
+                             Locale locale,
+                             Writer writer) {
+        parse(templatePath, createParamsAsJsonObject(params), params, true, isClasspathPath, locale, writer);
+    }
+
+    @Override
+    public void fromTemplate(String templatePath,
+                             boolean isClasspathPath,
+                             JsonObject jsonObject,
+                             Locale locale,
+                             Writer writer) {
+        parse(templatePath,
+              jsonObject,
+              createParams(jsonObject),
+              true,
+              isClasspathPath,
+              locale,
+              writer);
+    }
+
+    /**
+     * The parameters to pass to Pebble when the model is a
+     * <code>JsonObject</code>.
+     * <p>
+     * Only the root level is copied : the <code>JsonObject</code> and
+     * <code>JsonArray</code> children are passed as read-only views.
+     */
+    protected Map<String, Object> createParams(JsonObject jsonObject) {
+        if (jsonObject == null) {
+            return null;
+        }
+        return new HashMap<String, Object>(new JsonObjectPlainMapView(jsonObject));
+    }
+
+    /**
+     * The parameters as a <code>JsonObject</code>, used to evaluate
+     * dynamically created keys in a template.
+     * <p>
+     * Views over <code>JsonObject</code> and <code>JsonArray</code>
+     * elements are unwrapped instead of being converted again.
+     */
+    protected JsonObject createParamsAsJsonObject(Map<String, Object> params) {
+        if (params == null) {
+            return null;
+        }
+
+        JsonObject paramsAsJsonObject = getJsonManager().create();
+        for (Entry<String, Object> entry : params.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof JsonObjectPlainMapView) {
+                value = ((JsonObjectPlainMapView)value).getSource();
+            } else if (value instanceof JsonArrayPlainListView) {
+                value = ((JsonArrayPlainListView)value).getSource();
+            }
+            paramsAsJsonObject.setNoKeyParsing(entry.getKey(), value);
+        }
+        return paramsAsJsonObject;
     }
 
     protected String parse(String htmlOrPath,
@@ -229,6 +304,19 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
                            boolean isTemplate,
                            boolean isClasspathPath,
                            Locale locale) {
+
+        Writer writer = new StringWriter();
+        parse(htmlOrPath, paramsAsJsonObject, params, isTemplate, isClasspathPath, locale, writer);
+        return writer.toString();
+    }
+
+    protected void parse(String htmlOrPath,
+                         JsonObject paramsAsJsonObject,
+                         Map<String, Object> params,
+                         boolean isTemplate,
+                         boolean isClasspathPath,
+                         Locale locale,
+                         Writer writer) {
         try {
 
             if (params == null) {
@@ -239,24 +327,7 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
                 locale = getSpincastConfig().getDefaultLocale();
             }
 
-            PebbleEngine pebbleEngine;
-            if (isTemplate) {
-                if (isClasspathPath) {
-                    pebbleEngine = getPebbleEngineTemplateClasspath();
-
-                    if (htmlOrPath != null && htmlOrPath.startsWith("/")) {
-                        htmlOrPath = htmlOrPath.substring(1);
-                    }
-                } else {
-                    pebbleEngine = getPebbleEngineTemplateFileSystem();
-                }
-            } else {
-                pebbleEngine = getPebbleEngineString();
-            }
-
-            PebbleTemplate template = pebbleEngine.getTemplate(htmlOrPath);
-
-            Writer writer = new StringWriter();
+            PebbleTemplate template = getPebbleTemplate(htmlOrPath, isTemplate, isClasspathPath);
 
             //==========================================
             // We add the params as a JsonObject too.
@@ -266,21 +337,63 @@ public class SpincastPebbleTemplatingEngine implements TemplatingEngine {
             @SuppressWarnings("unchecked")
             Map<String, Object> map =
                     (Map<String, Object>)params.get(SpincastConstants.TemplatingGlobalVariables.DEFAULT_GLOBAL_TEMPLATING_VAR_ROOT_SPINCAST_MAP);
-            if (map == null) {
-                map = new HashMap<String, Object>();
+            if (map == null || map instanceof JsonObjectPlainMapView) {
+
+                //==========================================
+                // A read-only view is copied : only its root
+                // level.
+                //==========================================
+                map = (map == null) ? new HashMap<String, Object>() : new HashMap<String, Object>(map);
                 params.put(SpincastConstants.TemplatingGlobalVariables.DEFAULT_GLOBAL_TEMPLATING_VAR_ROOT_SPINCAST_MAP, map);
             }
             map.put(PEBBLE_PARAMS_AS_JSONOBJECT, paramsAsJsonObject);
 
             template.evaluate(writer, params, locale);
-            String result = writer.toString();
 
-            return result;
         } catch (Exception ex) {
             throw SpincastStatics.runtimize(ex);
         }
     }
 
+    /**
+     * Gets the compiled template, from the cache if
+     * it is enabled.
+     */
+    protected PebbleTemplate getPebbleTemplate(String htmlOrPath, boolean isTemplate, boolean isClasspathPath) {
+
+        PebbleEngine pebbleEngine;
+        if (isTemplate) {
+            if (isClasspathPath) {
+                pebbleEngine = getPebbleEngineTemplateClasspath();
+
+                if (htmlOrPath != null && htmlOrPath.startsWith("/")) {
+                    htmlOrPath = htmlOrPath.substring(1);
+                }
+            } else {
+                pebbleEngine = getPebbleEngineTemplateFileSystem();
+            }
+        } else {
+            pebbleEngine = getPebbleEngineString();
+        }
+
+        return pebbleEngine.getTemplate(htmlOrPath);
+    }
+
+    /**
+     * Compiles a template so it is in the template cache
+     * when it is rendered for the first time.
+     * <p>
+     * Useless if the template cache is disabled
+     * ({@link SpincastPebbleTemplatingEngineConfig#getTemplateCacheItemNbr()}).
+     *
+     * @param templatePath the path of the template, exactly as
+     * it will be used to render it. A file system path
+     * must be absolute.
+     */
+    public void compileTemplate(String templatePath, boolean isClasspathPath) {
+        getPebbleTemplate(templatePath, true, isClasspathPath);
+    }
+
     @Override
     public String createPlaceholder(String variable) {
         return "{{" + variable + "}}";
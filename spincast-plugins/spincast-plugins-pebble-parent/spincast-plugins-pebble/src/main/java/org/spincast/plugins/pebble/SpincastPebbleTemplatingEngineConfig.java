@@ -1,5 +1,8 @@
 package org.spincast.plugins.pebble;
 
+import java.util.List;
+import java.util.Set;
+
 import com.google.inject.ImplementedBy;
 import com.mitchellbosecke.pebble.extension.Extension;
 
@@ -58,4 +61,49 @@ public interface SpincastPebbleTemplatingEngineConfig {
      */
     public String getValidationGroupMessagesTemplatePath();
 
+    /**
+     * Should the templates be compiled when the application
+     * starts, before the server is started? This way, the
+     * first requests don't have to pay the compilation cost.
+     * <p>
+     * The templates are found in the directories specified by
+     * {@link #getTemplatesWarmUpClasspathDirs()} and
+     * {@link #getTemplatesWarmUpFileSystemDirs()} and are compiled
+     * in parallel.
+     * <p>
+     * This is useless if the template cache is disabled
+     * (see {@link #getTemplateCacheItemNbr()}).
+     * <p>
+     * Defaults to <code>false</code>.
+     */
+    public boolean isTemplatesWarmUpEnabled();
+
+    /**
+     * The classpath directories in which to find templates
+     * to compile at startup, when {@link #isTemplatesWarmUpEnabled()}
+     * is <code>true</code>. The subdirectories are scanned too.
+     * <p>
+     * A directory that doesn't exist is ignored.
+     */
+    public List<String> getTemplatesWarmUpClasspathDirs();
+
+    /**
+     * The file system directories, absolute, in which to find templates
+     * to compile at startup, when {@link #isTemplatesWarmUpEnabled()}
+     * is <code>true</code>. The subdirectories are scanned too.
+     * <p>
+     * A template will only be found in the cache if it is then
+     * rendered using its absolute path.
+     * <p>
+     * A directory that doesn't exist is ignored.
+     */
+    public List<String> getTemplatesWarmUpFileSystemDirs();
+
+    /**
+     * The extensions of the files to compile at startup,
+     * when {@link #isTemplatesWarmUpEnabled()} is <code>true</code>.
+     * Without the dot, lowercased.
+     */
+    public Set<String> getTemplatesWarmUpExtensions();
+
 }
@@ -1,5 +1,10 @@
 package org.spincast.plugins.pebble;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.spincast.core.config.SpincastConfig;
 
 import com.google.inject.Inject;
@@ -70,4 +75,24 @@ public class SpincastPebbleTemplatingEngineConfigDefault implements SpincastPebb
         return "/spincast/spincast-plugins-pebble/spincastPebbleExtension/validationGroupMessagesTemplate.html";
     }
 
+    @Override
+    public boolean isTemplatesWarmUpEnabled() {
+        return false;
+    }
+
+    @Override
+    public List<String> getTemplatesWarmUpClasspathDirs() {
+        return Arrays.asList("/templates");
+    }
+
+    @Override
+    public List<String> getTemplatesWarmUpFileSystemDirs() {
+        return Arrays.asList();
+    }
+
+    @Override
+    public Set<String> getTemplatesWarmUpExtensions() {
+        return new HashSet<String>(Arrays.asList("html", "htm", "peb", "pebble"));
+    }
+
 }
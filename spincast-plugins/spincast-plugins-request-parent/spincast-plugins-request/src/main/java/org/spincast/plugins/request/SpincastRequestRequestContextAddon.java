@@ -268,9 +268,19 @@ public class SpincastRequestRequestContextAddon<R extends RequestContext<?>>
         if (StringUtils.isBlank(name)) {
             return new LinkedList<String>();
         }
-        // This get is case insensitive.
-        List<String> values = getHeaders().get(name);
-        if (values == null) {
+
+        //==========================================
+        // If all the headers have not been required yet,
+        // we only look up this one.
+        //==========================================
+        List<String> values;
+        if (this.headers != null) {
+            // This get is case insensitive.
+            values = this.headers.get(name);
+        } else {
+            values = getServer().getRequestHeader(getExchange(), name);
+        }
+        if (values == null || values.size() == 0) {
             values = new LinkedList<String>();
         }
         return values;
@@ -557,8 +567,21 @@ public class SpincastRequestRequestContextAddon<R extends RequestContext<?>>
 
     @Override
     public JsonObject getJsonBody() {
-        JsonObject obj = getJsonBody(JsonObject.class);
-        return obj.clone(false);
+        try {
+            InputStream inputStream = getBodyAsInputStream();
+            if (inputStream == null) {
+                return null;
+            }
+
+            //==========================================
+            // Deserialized as immutable directly, no
+            // clone required.
+            //==========================================
+            return getJsonManager().fromInputStream(inputStream, false);
+
+        } catch (Exception ex) {
+            throw SpincastStatics.runtimize(ex);
+        }
     }
 
     @Override
@@ -2,6 +2,11 @@ package org.spincast.plugins.response;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -77,9 +82,11 @@ public class SpincastResponseRequestContextAddon<R extends RequestContext<?>>
 
     private String responseContentType = null;
     private int responseStatusCode = HttpStatus.SC_OK;
-    private final ByteArrayOutputStream byteArrayOutputStreamIn = new ByteArrayOutputStream(256);
-    private final ByteArrayOutputStream byteArrayOutputStreamOut = new ByteArrayOutputStream(256);
+    private final ResponseBuffer byteArrayOutputStreamIn = new ResponseBuffer(256);
+    private final ResponseBuffer byteArrayOutputStreamOut = new ResponseBuffer(256);
     private GZIPOutputStream gzipOutputStream = null;
+    private OutputStream responseOutputStream = null;
+    private boolean streaming = false;
     private Bool isShouldGzip = null;
 
     private String charactersCharsetName = "UTF-8";
@@ -159,14 +166,43 @@ public class SpincastResponseRequestContextAddon<R extends RequestContext<?>>
         return this.cookieFactory;
     }
 
-    protected ByteArrayOutputStream getBuffer() {
+    protected ResponseBuffer getBuffer() {
         return this.byteArrayOutputStreamIn;
     }
 
-    protected ByteArrayOutputStream getOut() {
+    protected ResponseBuffer getOut() {
         return this.byteArrayOutputStreamOut;
     }
 
+    /**
+     * A <code>ByteArrayOutputStream</code> which gives access
+     * to its internal array, so the bytes can be flushed
+     * without being copied first.
+     */
+    protected static class ResponseBuffer extends ByteArrayOutputStream {
+
+        public ResponseBuffer(int size) {
+            super(size);
+        }
+
+        /**
+         * The internal array. Only the first {@link #size()}
+         * bytes are valid.
+         */
+        public byte[] getInternalBytes() {
+            return this.buf;
+        }
+
+        /**
+         * Removes the bytes after the specified size.
+         */
+        public synchronized void truncate(int size) {
+            if (size >= 0 && size < this.count) {
+                this.count = size;
+            }
+        }
+    }
+
     @Override
     public JsonObject getModel() {
         if (this.responseModel == null) {
@@ -518,6 +554,161 @@ public class SpincastResponseRequestContextAddon<R extends RequestContext<?>>
         send(bytes, contentType, flush);
     }
 
+    @Override
+    public void sendStream(InputStream inputStream) {
+        sendStream(inputStream, null, false);
+    }
+
+    @Override
+    public void sendStream(InputStream inputStream, String contentType) {
+        sendStream(inputStream, contentType, false);
+    }
+
+    @Override
+    public void sendStream(InputStream inputStream, String contentType, boolean flush) {
+
+        send(null, contentType, false);
+
+        if (inputStream != null) {
+            try {
+                OutputStream out = getOutputStream();
+                byte[] chunk = new byte[getStreamingChunkSize()];
+                int nbrRead;
+                while ((nbrRead = inputStream.read(chunk)) != -1) {
+                    if (isClosed()) {
+                        logger.debug("The response is closed, nothing more can be sent!");
+                        return;
+                    }
+                    out.write(chunk, 0, nbrRead);
+                }
+            } catch (Exception ex) {
+                throw SpincastStatics.runtimize(ex);
+            }
+        }
+
+        if (flush) {
+            flush();
+        }
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        if (this.responseOutputStream == null) {
+            startStreaming();
+            this.responseOutputStream = new ResponseOutputStream();
+        }
+        return this.responseOutputStream;
+    }
+
+    /**
+     * Asks the server to stream the response : the bytes will
+     * then be written in blocking mode, so a slow client
+     * slows down the production of the content instead of
+     * having it accumulated in memory.
+     * <p>
+     * Only the streaming API does this : the other responses
+     * are sent asynchronously. This is not possible once the
+     * headers are sent, or if the server doesn't support it.
+     */
+    protected void startStreaming() {
+        if (this.streaming || isHeadersSent() || isClosed()) {
+            return;
+        }
+
+        try {
+            this.streaming = getServer().getRawOutputStream(getExchange()) != null;
+        } catch (UnsupportedOperationException ex) {
+            logger.debug("The server doesn't support streaming, the response will be buffered.");
+        }
+    }
+
+    protected boolean isStreaming() {
+        return this.streaming;
+    }
+
+    /**
+     * When streaming, the buffer is flushed each time it
+     * reaches this number of bytes.
+     */
+    protected int getStreamingChunkSize() {
+        return 32 * 1024;
+    }
+
+    /**
+     * The <code>OutputStream</code> of the server to write
+     * streamed bytes to directly, without going through the
+     * buffer. The server writes them to its own buffers as
+     * they are produced.
+     * <p>
+     * This is only possible when the response is streamed, once
+     * the headers are sent, when the response is not gzipped
+     * and when nothing is waiting in the buffer. Returns
+     * <code>null</code> otherwise.
+     */
+    protected OutputStream getDirectOutputStream() {
+        if (!isStreaming() || !isHeadersSent() || isShouldGzip() || getBuffer().size() > 0) {
+            return null;
+        }
+        return getServer().getRawOutputStream(getExchange());
+    }
+
+    /**
+     * Writes to the buffer and flushes it as soon
+     * as it reaches the size of a chunk. Once the first
+     * chunk is sent, the bytes are written directly to
+     * the server, if possible.
+     */
+    protected class ResponseOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (isClosed()) {
+                return;
+            }
+
+            OutputStream directOut = getDirectOutputStream();
+            if (directOut != null) {
+                directOut.write(b);
+                return;
+            }
+
+            getBuffer().write(b);
+            flushIfChunkFull();
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (isClosed()) {
+                return;
+            }
+
+            OutputStream directOut = getDirectOutputStream();
+            if (directOut != null) {
+                directOut.write(bytes, offset, length);
+                return;
+            }
+
+            getBuffer().write(bytes, offset, length);
+            flushIfChunkFull();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            SpincastResponseRequestContextAddon.this.flush(false);
+        }
+
+        @Override
+        public void close() throws IOException {
+            SpincastResponseRequestContextAddon.this.flush(true);
+        }
+
+        protected void flushIfChunkFull() {
+            if (getBuffer().size() >= getStreamingChunkSize()) {
+                SpincastResponseRequestContextAddon.this.flush(false);
+            }
+        }
+    }
+
     protected void send(byte[] bytes, String contentType, boolean flush) {
 
         if (isClosed()) {
@@ -691,8 +882,124 @@ public class SpincastResponseRequestContextAddon<R extends RequestContext<?>>
             }
         }
 
-        String evaluated = getRequestContext().templating().fromTemplate(templatePath, isClasspathPath, getModel());
-        sendCharacters(evaluated, contentType, flush);
+        this.isResponseCharactersBased = true;
+        send(null, contentType, false);
+        if (isClosed()) {
+            return;
+        }
+
+        renderTemplateToBuffer(templatePath, isClasspathPath);
+
+        if (flush) {
+            flush();
+        }
+    }
+
+    /**
+     * Renders a template directly into the response buffer,
+     * encoded using the current charset : the content never
+     * exists as a whole String or byte array.
+     * <p>
+     * If {@link SpincastConfig#isStreamTemplatesToResponse()} is
+     * <code>true</code>, the buffer is flushed each time a chunk
+     * is full. Otherwise, the rendered content is added to the buffer
+     * only if the rendering succeeds.
+     */
+    protected void renderTemplateToBuffer(String templatePath, boolean isClasspathPath) {
+
+        boolean streaming = getSpincastConfig().isStreamTemplatesToResponse();
+        if (streaming) {
+            startStreaming();
+        }
+
+        int initialBufferSize = getBuffer().size();
+        TemplateOutputStream out = new TemplateOutputStream(streaming);
+        try {
+            Writer writer = new OutputStreamWriter(out, getCharactersCharsetName());
+            getRequestContext().templating().fromTemplate(templatePath, isClasspathPath, getModel(), writer);
+            writer.flush();
+        } catch (Exception ex) {
+
+            //==========================================
+            // Removes the partial content, if it has
+            // not been sent yet.
+            //==========================================
+            if (!out.isChunkSent()) {
+                getBuffer().truncate(initialBufferSize);
+            }
+            throw SpincastStatics.runtimize(ex);
+        }
+    }
+
+    /**
+     * Receives the rendered content of a template. Flushing it
+     * only moves the encoded characters to the response buffer :
+     * the buffer is only flushed when a chunk is full, and only when
+     * streaming. Once a chunk has been sent, the rest of the content
+     * is written directly to the server, if possible.
+     */
+    protected class TemplateOutputStream extends OutputStream {
+
+        private final boolean streaming;
+        private boolean chunkSent = false;
+
+        public TemplateOutputStream(boolean streaming) {
+            this.streaming = streaming;
+        }
+
+        public boolean isChunkSent() {
+            return this.chunkSent;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (isClosed()) {
+                return;
+            }
+
+            OutputStream directOut = getStreamingDirectOutputStream();
+            if (directOut != null) {
+                directOut.write(b);
+                return;
+            }
+
+            getBuffer().write(b);
+            flushIfChunkFull();
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (isClosed()) {
+                return;
+            }
+
+            OutputStream directOut = getStreamingDirectOutputStream();
+            if (directOut != null) {
+                directOut.write(bytes, offset, length);
+                return;
+            }
+
+            getBuffer().write(bytes, offset, length);
+            flushIfChunkFull();
+        }
+
+        /**
+         * When streaming, once a chunk has been sent, the
+         * content is written directly to the server, if possible.
+         */
+        protected OutputStream getStreamingDirectOutputStream() {
+            if (!this.streaming || !this.chunkSent) {
+                return null;
+            }
+            return getDirectOutputStream();
+        }
+
+        protected void flushIfChunkFull() {
+            if (this.streaming && getBuffer().size() >= getStreamingChunkSize()) {
+                this.chunkSent = true;
+                SpincastResponseRequestContextAddon.this.flush(false);
+            }
+        }
     }
 
     @Override
@@ -1150,7 +1457,7 @@ public class SpincastResponseRequestContextAddon<R extends RequestContext<?>>
                 getServer().push(getExchange(), getResourcesToPush());
             }
 
-            ByteArrayOutputStream buffer = getBuffer();
+            ResponseBuffer buffer = getBuffer();
 
             //==========================================
             // Send the Headers!
@@ -1217,10 +1524,14 @@ public class SpincastResponseRequestContextAddon<R extends RequestContext<?>>
                 getServer().setResponseHeaders(getExchange(), getHeaders());
             }
 
-            byte[] bytesToFlush;
+            //==========================================
+            // The server copies the bytes, so the internal
+            // array of the buffer can be flushed directly.
+            //==========================================
+            ResponseBuffer bufferToFlush;
             if (isShouldGzip()) {
 
-                getGzipBuffer().write(buffer.toByteArray());
+                buffer.writeTo(getGzipBuffer());
 
                 //==========================================
                 // Required for the bytes to reach the underlying
@@ -1236,15 +1547,16 @@ public class SpincastResponseRequestContextAddon<R extends RequestContext<?>>
                     getGzipBuffer().close();
                 }
 
-                bytesToFlush = getOut().toByteArray();
-                getOut().reset();
+                bufferToFlush = getOut();
 
             } else {
-                bytesToFlush = buffer.toByteArray();
+                bufferToFlush = buffer;
             }
-            buffer.reset();
 
-            getServer().flushBytes(getExchange(), bytesToFlush, close);
+            getServer().flushBytes(getExchange(), bufferToFlush.getInternalBytes(), 0, bufferToFlush.size(), close);
+
+            getOut().reset();
+            buffer.reset();
 
         } catch (Exception ex) {
             logger.error("Error with request " + getRequestContext().request().getFullUrl());
@@ -0,0 +1,54 @@
+package org.spincast.plugins.routing.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+
+import org.junit.Test;
+import org.spincast.plugins.routing.RoutingPath;
+import org.spincast.testing.defaults.NoAppTestingBase;
+
+public class RoutingPathTest extends NoAppTestingBase {
+
+    @Test
+    public void pathFromUrlSameAsJavaUrl() throws Exception {
+
+        String[] urls = new String[]{"http://localhost",
+                                     "http://localhost/",
+                                     "http://localhost:12345/one",
+                                     "http://localhost/one/two/",
+                                     "http://localhost/one?two=/three",
+                                     "http://localhost?one=/two",
+                                     "http://localhost/one#two/three",
+                                     "https://localhost/one/${two}/*{three}",
+                                     "http://localhost//one//two"};
+
+        for (String url : urls) {
+            assertEquals(url, new URL(url).getPath(), RoutingPath.getPathFromUrl(url));
+        }
+    }
+
+    @Test
+    public void tokens() throws Exception {
+
+        assertArrayEquals(new String[0], new RoutingPath("").getTokens());
+        assertArrayEquals(new String[0], new RoutingPath("/").getTokens());
+        assertArrayEquals(new String[0], new RoutingPath(null).getTokens());
+        assertArrayEquals(new String[]{"one"}, new RoutingPath("/one/").getTokens());
+        assertArrayEquals(new String[]{"one", "", "two"}, new RoutingPath("/one//two").getTokens());
+        assertEquals("one//two", new RoutingPath("/one//two/ ").getPathSlashesStriped());
+    }
+
+    @Test
+    public void decodeToken() throws Exception {
+
+        String token = "nothingToDecode";
+        assertSame(token, RoutingPath.decodeToken(token));
+
+        assertEquals("one two", RoutingPath.decodeToken("one%20two"));
+        assertEquals("one two", RoutingPath.decodeToken("one+two"));
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.spincast.plugins.routing;
+
+import org.spincast.core.exchange.RequestContext;
+import org.spincast.core.routing.Route;
+
+/**
+ * A global "before" or "after" filter, as part of the
+ * {@link GlobalFiltersChain} of a main route.
+ */
+public class CompiledGlobalFilter<R extends RequestContext<?>> {
+
+    private final Route<R> route;
+    private final CompiledRoutePath compiledPath;
+
+    /**
+     * @param compiledPath the compiled path of the filter,
+     * if it is path independent, <code>null</code> otherwise.
+     */
+    public CompiledGlobalFilter(Route<R> route, CompiledRoutePath compiledPath) {
+        this.route = route;
+        this.compiledPath = compiledPath;
+    }
+
+    public Route<R> getRoute() {
+        return this.route;
+    }
+
+    /**
+     * Is the path of this filter matching all URLs? For
+     * example "/*{path}".
+     */
+    public boolean isPathIndependent() {
+        return getCompiledPath() != null;
+    }
+
+    /**
+     * The compiled path, if the filter is path independent.
+     */
+    public CompiledRoutePath getCompiledPath() {
+        return this.compiledPath;
+    }
+}
@@ -0,0 +1,174 @@
+package org.spincast.plugins.routing;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The path of a route, parsed once into
+ * {@link RoutePathSegment segments}.
+ * <p>
+ * Matching a compiled path against the tokens of
+ * an URL gives the same result as
+ * {@link SpincastRouter#validatePath(String, RoutingPath)}, but
+ * without parsing the route path again.
+ */
+public class CompiledRoutePath {
+
+    private final String path;
+    private final RoutePathSegment[] segments;
+    private final int splatIndex;
+    private final boolean hasDynamicSegments;
+    private final boolean hasDictionarySegments;
+
+    public CompiledRoutePath(String path, List<RoutePathSegment> segments) {
+        this.path = path;
+        this.segments = segments.toArray(new RoutePathSegment[segments.size()]);
+
+        int splatIndexFound = -1;
+        boolean dynamicFound = false;
+        boolean dictionaryFound = false;
+        for (int i = 0; i < this.segments.length; i++) {
+            RoutePathSegment segment = this.segments[i];
+            if (segment.isSplat()) {
+                splatIndexFound = i;
+            }
+            if (!segment.isStatic()) {
+                dynamicFound = true;
+            }
+            if (segment.getType() == RoutePathSegment.Type.DICTIONARY_PATTERN) {
+                dictionaryFound = true;
+            }
+        }
+        this.splatIndex = splatIndexFound;
+        this.hasDynamicSegments = dynamicFound;
+        this.hasDictionarySegments = dictionaryFound;
+    }
+
+    /**
+     * The original path of the route.
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    public RoutePathSegment[] getSegments() {
+        return this.segments;
+    }
+
+    /**
+     * The index of the splat segment or <code>-1</code>
+     * if there is none.
+     */
+    public int getSplatIndex() {
+        return this.splatIndex;
+    }
+
+    public boolean isHasSplat() {
+        return getSplatIndex() > -1;
+    }
+
+    public boolean isHasDynamicSegments() {
+        return this.hasDynamicSegments;
+    }
+
+    public boolean isHasDictionarySegments() {
+        return this.hasDictionarySegments;
+    }
+
+    /**
+     * Validates if the URL tokens match this path and, if so,
+     * returns the parsed parameters.
+     *
+     * @param urlTokens the tokens of the URL path, as split by the
+     * router.
+     * @param lang the language to use for the dictionary
+     * based patterns. Can be <code>null</code> if
+     * {@link #isHasDictionarySegments()} is <code>false</code>.
+     *
+     * @return the parameters or <code>null</code> if there
+     * is no match.
+     */
+    public Map<String, String> match(String[] urlTokens, boolean caseSensitive, String lang) {
+
+        RoutePathSegment[] segments = getSegments();
+
+        //==========================================
+        // Without a splat, the URL must have exactly
+        // as many tokens as the route path.
+        //==========================================
+        if (!isHasSplat() && urlTokens.length != segments.length) {
+            return null;
+        }
+
+        Map<String, String> params = null;
+
+        int urlTokenPos = 0;
+        for (RoutePathSegment segment : segments) {
+
+            if (segment.isSplat()) {
+                String paramValue = "";
+                if (urlTokenPos < urlTokens.length) {
+
+                    //==========================================
+                    // The splat takes all the extra tokens
+                    // of the URL, and at least one.
+                    //==========================================
+                    int nbrTokensInSplat = Math.max(1, urlTokens.length - segments.length + 1);
+                    StringBuilder builder = new StringBuilder(decode(urlTokens[urlTokenPos]));
+                    for (int i = 1; i < nbrTokensInSplat; i++) {
+                        builder.append("/").append(urlTokens[urlTokenPos + i]);
+                    }
+                    paramValue = builder.toString();
+                    urlTokenPos += nbrTokensInSplat;
+                }
+                if (segment.getParamName() != null) {
+                    params = addParam(params, segment.getParamName(), paramValue);
+                }
+                continue;
+            }
+
+            if (urlTokenPos >= urlTokens.length) {
+                return null;
+            }
+            String urlToken = urlTokens[urlTokenPos++];
+
+            if (segment.isStatic()) {
+                if (caseSensitive ? !segment.getToken().equals(urlToken) : !segment.getToken().equalsIgnoreCase(urlToken)) {
+                    return null;
+                }
+                continue;
+            }
+
+            if (!segment.isMatch(urlToken, lang)) {
+                return null;
+            }
+            if (segment.getParamName() != null) {
+                params = addParam(params, segment.getParamName(), decode(urlToken));
+            }
+        }
+
+        return params != null ? params : new HashMap<String, String>();
+    }
+
+    /**
+     * The map is only created when there is a parameter
+     * to add.
+     */
+    protected Map<String, String> addParam(Map<String, String> params, String name, String value) {
+        if (params == null) {
+            params = new HashMap<String, String>();
+        }
+        params.put(name, value);
+        return params;
+    }
+
+    protected String decode(String urlToken) {
+        return RoutingPath.decodeToken(urlToken);
+    }
+
+    @Override
+    public String toString() {
+        return getPath();
+    }
+}
@@ -0,0 +1,42 @@
+package org.spincast.plugins.routing;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.spincast.core.exchange.RequestContext;
+import org.spincast.core.routing.RoutingType;
+
+/**
+ * The global "before" and "after" filters that may apply
+ * to a main route, for each {@link RoutingType}, in order.
+ * <p>
+ * The filters skipped by the main route, those not
+ * applying on the routing type and those skipping resources
+ * requests (when the main route is a resource) are already
+ * removed. What remains to validate at request time is the
+ * HTTP method, the accepted content-types and, for filters
+ * which are not path independent, the path.
+ */
+public class GlobalFiltersChain<R extends RequestContext<?>> {
+
+    private final Map<RoutingType, List<CompiledGlobalFilter<R>>> beforeFilters;
+    private final Map<RoutingType, List<CompiledGlobalFilter<R>>> afterFilters;
+
+    public GlobalFiltersChain(Map<RoutingType, List<CompiledGlobalFilter<R>>> beforeFilters,
+                              Map<RoutingType, List<CompiledGlobalFilter<R>>> afterFilters) {
+        this.beforeFilters = new EnumMap<RoutingType, List<CompiledGlobalFilter<R>>>(beforeFilters);
+        this.afterFilters = new EnumMap<RoutingType, List<CompiledGlobalFilter<R>>>(afterFilters);
+    }
+
+    public List<CompiledGlobalFilter<R>> getBeforeFilters(RoutingType routingType) {
+        List<CompiledGlobalFilter<R>> filters = this.beforeFilters.get(routingType);
+        return filters != null ? filters : Collections.<CompiledGlobalFilter<R>>emptyList();
+    }
+
+    public List<CompiledGlobalFilter<R>> getAfterFilters(RoutingType routingType) {
+        List<CompiledGlobalFilter<R>> filters = this.afterFilters.get(routingType);
+        return filters != null ? filters : Collections.<CompiledGlobalFilter<R>>emptyList();
+    }
+}
@@ -0,0 +1,142 @@
+package org.spincast.plugins.routing;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A token of a route path, parsed once when
+ * the route is compiled.
+ */
+public class RoutePathSegment {
+
+    public static enum Type {
+
+        /**
+         * A static token that must be the same in
+         * the URL.
+         */
+        STATIC,
+
+        /**
+         * A "${name}" parameter, without pattern.
+         */
+        PARAM,
+
+        /**
+         * A "${name:pattern}" parameter. The pattern may
+         * come from an alias.
+         */
+        PATTERN,
+
+        /**
+         * A "${name:&lt;&lt;dictionaryKey&gt;&gt;}" parameter. The
+         * URL token must be the value of the dictionary
+         * entry for the current language.
+         */
+        DICTIONARY_PATTERN,
+
+        /**
+         * A "*{name}" splat parameter.
+         */
+        SPLAT
+    }
+
+    private final String token;
+    private final Type type;
+    private final String paramName;
+    private final Pattern pattern;
+    private final Map<String, String> dictionaryValuesPerLang;
+
+    public RoutePathSegment(String token,
+                            Type type,
+                            String paramName,
+                            Pattern pattern,
+                            Map<String, String> dictionaryValuesPerLang) {
+        this.token = token;
+        this.type = type;
+        this.paramName = paramName;
+        this.pattern = pattern;
+        this.dictionaryValuesPerLang = dictionaryValuesPerLang;
+    }
+
+    /**
+     * Is the URL token the value of the dictionary
+     * entry, for the specified language?
+     */
+    public static boolean isDictionaryValueMatch(Map<String, String> valuesPerLang, String lang, String urlToken) {
+        if (valuesPerLang == null || lang == null) {
+            return false;
+        }
+        String value = valuesPerLang.get(lang);
+        return value != null && value.equals(urlToken);
+    }
+
+    /**
+     * The raw token, as in the route path.
+     */
+    public String getToken() {
+        return this.token;
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * The name of the parameter or <code>null</code>
+     * if the segment is static or the parameter is
+     * not named.
+     */
+    public String getParamName() {
+        return this.paramName;
+    }
+
+    /**
+     * The compiled pattern, for {@link Type#PATTERN}
+     * segments.
+     */
+    public Pattern getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * The values of the dictionary entry, per lowercased
+     * language, for {@link Type#DICTIONARY_PATTERN} segments.
+     */
+    public Map<String, String> getDictionaryValuesPerLang() {
+        return this.dictionaryValuesPerLang;
+    }
+
+    public boolean isStatic() {
+        return getType() == Type.STATIC;
+    }
+
+    public boolean isSplat() {
+        return getType() == Type.SPLAT;
+    }
+
+    /**
+     * Does the URL token match this dynamic segment?
+     * <p>
+     * The <code>lang</code> is only used by
+     * {@link Type#DICTIONARY_PATTERN} segments.
+     */
+    public boolean isMatch(String urlToken, String lang) {
+        switch (getType()) {
+            case PARAM:
+            case SPLAT:
+                return true;
+            case PATTERN:
+                return getPattern().matcher(urlToken).matches();
+            case DICTIONARY_PATTERN:
+                return isDictionaryValueMatch(getDictionaryValuesPerLang(), lang, urlToken);
+            default:
+                throw new IllegalStateException("Not a dynamic segment : " + getToken());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getToken();
+    }
+}
@@ -0,0 +1,228 @@
+package org.spincast.plugins.routing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.spincast.core.exchange.RequestContext;
+import org.spincast.core.routing.Route;
+
+/**
+ * The main routes compiled into a trie of path segments.
+ * <p>
+ * Static segments are found using a map lookup, dynamic
+ * segments ("${param}", with or without a pattern) are tried
+ * one by one and splat segments ("*{splat}") are validated on the
+ * remaining of the URL. All the routes matching the URL path are
+ * considered, but only the one that was added first (and that
+ * passes the extra validations) is returned : this is the
+ * same "first match wins" semantic than when the routes are
+ * validated one by one.
+ * <p>
+ * A trie is immutable once built. The router builds a new one
+ * when its main routes are modified.
+ */
+public class RoutesTrie<R extends RequestContext<?>> {
+
+    private final boolean caseSensitive;
+    private final Node<R> root = new Node<R>();
+
+    /**
+     * @param routes the main routes, in order.
+     * @param compiledPaths the compiled path of each route, at
+     * the same index. A <code>null</code> element means the route
+     * can't be matched.
+     */
+    public RoutesTrie(List<Route<R>> routes,
+                      List<CompiledRoutePath> compiledPaths,
+                      boolean caseSensitive) {
+        this.caseSensitive = caseSensitive;
+
+        for (int i = 0; i < routes.size(); i++) {
+            CompiledRoutePath compiledPath = compiledPaths.get(i);
+            if (compiledPath == null) {
+                continue;
+            }
+            insert(new Entry<R>(i, routes.get(i), compiledPath));
+        }
+    }
+
+    protected boolean isCaseSensitive() {
+        return this.caseSensitive;
+    }
+
+    protected Node<R> getRoot() {
+        return this.root;
+    }
+
+    protected String getStaticKey(String token) {
+        return isCaseSensitive() ? token : token.toLowerCase(Locale.ENGLISH);
+    }
+
+    protected void insert(Entry<R> entry) {
+
+        Node<R> node = getRoot();
+        for (RoutePathSegment segment : entry.compiledPath.getSegments()) {
+
+            //==========================================
+            // The rest of a route with a splat is validated
+            // from the node preceding the splat.
+            //==========================================
+            if (segment.isSplat()) {
+                node.splatEntries.add(entry);
+                return;
+            }
+
+            if (segment.isStatic()) {
+                String key = getStaticKey(segment.getToken());
+                Node<R> child = node.staticChildren.get(key);
+                if (child == null) {
+                    child = new Node<R>();
+                    node.staticChildren.put(key, child);
+                }
+                node = child;
+            } else {
+                Node<R> child = node.dynamicChildren.get(segment.getToken());
+                if (child == null) {
+                    child = new Node<R>();
+                    child.segment = segment;
+                    node.dynamicChildren.put(segment.getToken(), child);
+                }
+                node = child;
+            }
+        }
+        node.entries.add(entry);
+    }
+
+    /**
+     * Finds the first route (in the order the routes were
+     * added) matching the URL tokens and accepted by the
+     * <code>routeValidator</code>.
+     *
+     * @param urlTokens the tokens of the URL path.
+     * @param routeValidator extra validations on a route
+     * which path matches (HTTP method, routing type, etc.).
+     * @param langSupplier provides the language to use with the
+     * dictionary based patterns. Only called if required.
+     *
+     * @return the match or <code>null</code>.
+     */
+    public RoutesTrieMatch<R> findFirstMatch(String[] urlTokens,
+                                             Predicate<Route<R>> routeValidator,
+                                             Supplier<String> langSupplier) {
+
+        Search<R> search = new Search<R>(urlTokens, routeValidator, langSupplier);
+        find(getRoot(), 0, search);
+
+        if (search.bestEntry == null) {
+            return null;
+        }
+
+        Map<String, String> params = search.bestParams;
+        if (params == null) {
+            CompiledRoutePath compiledPath = search.bestEntry.compiledPath;
+            params = compiledPath.match(urlTokens,
+                                        isCaseSensitive(),
+                                        compiledPath.isHasDictionarySegments() ? search.getLang() : null);
+        }
+        return new RoutesTrieMatch<R>(search.bestEntry.route, params);
+    }
+
+    protected void find(Node<R> node, int depth, Search<R> search) {
+
+        //==========================================
+        // Routes with a splat starting at this depth.
+        //==========================================
+        for (Entry<R> entry : node.splatEntries) {
+            if (!search.isBetterCandidate(entry)) {
+                continue;
+            }
+            Map<String, String> params = entry.compiledPath.match(search.urlTokens,
+                                                                  isCaseSensitive(),
+                                                                  entry.compiledPath.isHasDictionarySegments() ? search.getLang() : null);
+            if (params != null && search.routeValidator.test(entry.route)) {
+                search.bestEntry = entry;
+                search.bestParams = params;
+            }
+        }
+
+        if (depth == search.urlTokens.length) {
+            for (Entry<R> entry : node.entries) {
+                if (search.isBetterCandidate(entry) && search.routeValidator.test(entry.route)) {
+                    search.bestEntry = entry;
+                    search.bestParams = null;
+                }
+            }
+            return;
+        }
+
+        String urlToken = search.urlTokens[depth];
+
+        Node<R> staticChild = node.staticChildren.get(getStaticKey(urlToken));
+        if (staticChild != null) {
+            find(staticChild, depth + 1, search);
+        }
+
+        for (Node<R> dynamicChild : node.dynamicChildren.values()) {
+            RoutePathSegment segment = dynamicChild.segment;
+            String lang = segment.getType() == RoutePathSegment.Type.DICTIONARY_PATTERN ? search.getLang() : null;
+            if (segment.isMatch(urlToken, lang)) {
+                find(dynamicChild, depth + 1, search);
+            }
+        }
+    }
+
+    protected static class Node<R extends RequestContext<?>> {
+
+        protected RoutePathSegment segment;
+        protected final Map<String, Node<R>> staticChildren = new HashMap<String, Node<R>>();
+        protected final Map<String, Node<R>> dynamicChildren = new LinkedHashMap<String, Node<R>>();
+        protected final List<Entry<R>> splatEntries = new ArrayList<Entry<R>>();
+        protected final List<Entry<R>> entries = new ArrayList<Entry<R>>();
+    }
+
+    protected static class Entry<R extends RequestContext<?>> {
+
+        protected final int index;
+        protected final Route<R> route;
+        protected final CompiledRoutePath compiledPath;
+
+        protected Entry(int index, Route<R> route, CompiledRoutePath compiledPath) {
+            this.index = index;
+            this.route = route;
+            this.compiledPath = compiledPath;
+        }
+    }
+
+    protected static class Search<R extends RequestContext<?>> {
+
+        protected final String[] urlTokens;
+        protected final Predicate<Route<R>> routeValidator;
+        protected final Supplier<String> langSupplier;
+        protected String lang;
+        protected Entry<R> bestEntry;
+        protected Map<String, String> bestParams;
+
+        protected Search(String[] urlTokens, Predicate<Route<R>> routeValidator, Supplier<String> langSupplier) {
+            this.urlTokens = urlTokens;
+            this.routeValidator = routeValidator;
+            this.langSupplier = langSupplier;
+        }
+
+        protected boolean isBetterCandidate(Entry<R> entry) {
+            return this.bestEntry == null || entry.index < this.bestEntry.index;
+        }
+
+        protected String getLang() {
+            if (this.lang == null) {
+                this.lang = this.langSupplier.get();
+            }
+            return this.lang;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.spincast.plugins.routing;
+
+import java.util.Map;
+
+import org.spincast.core.exchange.RequestContext;
+import org.spincast.core.routing.Route;
+
+/**
+ * A route found by a {@link RoutesTrie}, with the
+ * parameters parsed from the URL.
+ */
+public class RoutesTrieMatch<R extends RequestContext<?>> {
+
+    private final Route<R> route;
+    private final Map<String, String> params;
+
+    public RoutesTrieMatch(Route<R> route, Map<String, String> params) {
+        this.route = route;
+        this.params = params;
+    }
+
+    public Route<R> getRoute() {
+        return this.route;
+    }
+
+    public Map<String, String> getParams() {
+        return this.params;
+    }
+}
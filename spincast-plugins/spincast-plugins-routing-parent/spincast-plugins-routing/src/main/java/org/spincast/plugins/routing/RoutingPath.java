@@ -0,0 +1,143 @@
+package org.spincast.plugins.routing;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+import org.spincast.shaded.org.apache.commons.lang3.StringUtils;
+
+/**
+ * The path of a request, as used by the router.
+ * <p>
+ * The path is stripped and split in tokens only once, and
+ * those tokens are then shared by all the routes to validate.
+ */
+public class RoutingPath {
+
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final String path;
+    private final String pathSlashesStriped;
+    private final String[] tokens;
+
+    /**
+     * @param path the path of the request, without the
+     * querystring.
+     */
+    public RoutingPath(String path) {
+        if (path == null) {
+            path = "";
+        }
+        this.path = path;
+
+        String pathSlashesStriped = StringUtils.strip(path, "/ ");
+        this.pathSlashesStriped = pathSlashesStriped;
+        this.tokens = pathSlashesStriped.equals("") ? NO_TOKENS : pathSlashesStriped.split("/");
+    }
+
+    /**
+     * Creates a routing path from a full URL, without
+     * having to instantiate a {@link java.net.URL}.
+     */
+    public static RoutingPath fromUrl(String fullUrl) {
+        return new RoutingPath(getPathFromUrl(fullUrl));
+    }
+
+    /**
+     * Extracts the path from a full URL. Returns the same value as
+     * {@link java.net.URL#getPath()}.
+     */
+    public static String getPathFromUrl(String fullUrl) {
+
+        if (fullUrl == null) {
+            return "";
+        }
+
+        int authorityStart = fullUrl.indexOf("://");
+        authorityStart = authorityStart < 0 ? 0 : authorityStart + 3;
+
+        int pathStart = -1;
+        for (int i = authorityStart; i < fullUrl.length(); i++) {
+            char c = fullUrl.charAt(i);
+            if (c == '?' || c == '#') {
+                return "";
+            }
+            if (c == '/') {
+                pathStart = i;
+                break;
+            }
+        }
+        if (pathStart < 0) {
+            return "";
+        }
+
+        int pathEnd = fullUrl.length();
+        for (int i = pathStart; i < fullUrl.length(); i++) {
+            char c = fullUrl.charAt(i);
+            if (c == '?' || c == '#') {
+                pathEnd = i;
+                break;
+            }
+        }
+
+        return fullUrl.substring(pathStart, pathEnd);
+    }
+
+    /**
+     * URL decodes a token of the path. The token is returned
+     * as is if there is nothing to decode.
+     */
+    public static String decodeToken(String token) {
+        if (token.indexOf('%') < 0 && token.indexOf('+') < 0) {
+            return token;
+        }
+        return URLDecoder.decode(token, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * URL encodes a token to add to a path. The token is
+     * returned as is if there is nothing to encode.
+     */
+    public static String encodeToken(String token) {
+        boolean encodingRequired = false;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+                  c == '-' || c == '_' || c == '.' || c == '~')) {
+                encodingRequired = true;
+                break;
+            }
+        }
+        if (!encodingRequired) {
+            return token;
+        }
+        return URLEncoder.encode(token, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * The original path.
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * The path without its leading and trailing
+     * slashes and spaces.
+     */
+    public String getPathSlashesStriped() {
+        return this.pathSlashesStriped;
+    }
+
+    /**
+     * The tokens of the path. Must not be modified!
+     */
+    public String[] getTokens() {
+        return this.tokens;
+    }
+
+    @Override
+    public String toString() {
+        return getPath();
+    }
+}
@@ -1,10 +1,9 @@
 package org.spincast.plugins.routing;
 
 import java.io.File;
-import java.net.URL;
-import java.net.URLDecoder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,6 +13,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
@@ -51,6 +51,8 @@ import org.spincast.plugins.routing.utils.SpincastRoutingUtils;
 import org.spincast.shaded.org.apache.commons.lang3.StringUtils;
 import org.spincast.shaded.org.apache.http.HttpStatus;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import com.google.common.net.HttpHeaders;
 import com.google.inject.Inject;
@@ -86,10 +88,17 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
 
     private final Server server;
 
-    private final Map<String, String> routeParamPatternAliases = new HashMap<String, String>();
-    private final Map<String, String> routeParamPatternFromDictionaryKeyCache = new HashMap<String, String>();
+    private final Map<String, String> routeParamPatternAliases = new ConcurrentHashMap<String, String>();
+    private final Map<String, Map<String, String>> routeParamValuesFromDictionaryKeyCache =
+            new ConcurrentHashMap<String, Map<String, String>>();
 
-    private final Map<String, Pattern> patternCache = new HashMap<String, Pattern>();
+    private volatile Cache<String, Pattern> patternCache;
+
+    private final Map<String, Route<R>> routesById = new ConcurrentHashMap<String, Route<R>>();
+    private final Map<Route<R>, CompiledRoutePath> routesPathsForUrlsCache = new ConcurrentHashMap<Route<R>, CompiledRoutePath>();
+
+    private volatile RoutesTrie<R> mainRoutesTrie;
+    private volatile Map<Route<R>, GlobalFiltersChain<R>> globalFiltersChainsCache = new ConcurrentHashMap<Route<R>, GlobalFiltersChain<R>>();
 
     @Inject
     public SpincastRouter(SpincastRouterDeps<R, W> spincastRouterDeps) {
@@ -204,11 +213,40 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         return this.localeResolver;
     }
 
+    /**
+     * The compiled patterns, shared by all the
+     * threads.
+     */
+    protected Cache<String, Pattern> getPatternCache() {
+        Cache<String, Pattern> cache = this.patternCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = this.patternCache;
+                if (cache == null) {
+                    cache = CacheBuilder.newBuilder()
+                                        .maximumSize(getPatternCacheMaxSize())
+                                        .build();
+                    this.patternCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * The maximum number of compiled patterns to keep
+     * in cache.
+     */
+    protected int getPatternCacheMaxSize() {
+        return getSpincastConfig().getRouteParamPatternsCacheMaxSize();
+    }
+
     protected Pattern getPattern(String patternStr) {
-        Pattern pattern = this.patternCache.get(patternStr);
+        Cache<String, Pattern> cache = getPatternCache();
+        Pattern pattern = cache.getIfPresent(patternStr);
         if (pattern == null) {
             pattern = Pattern.compile(patternStr);
-            this.patternCache.put(patternStr, pattern);
+            cache.put(patternStr, pattern);
         }
         return pattern;
     }
@@ -218,30 +256,46 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         return this.routeParamPatternAliases;
     }
 
-    protected Map<String, String> getRouteParamPatternFromDictionaryKeyCache() {
-        return this.routeParamPatternFromDictionaryKeyCache;
+    protected Map<String, Map<String, String>> getRouteParamValuesFromDictionaryKeyCache() {
+        return this.routeParamValuesFromDictionaryKeyCache;
     }
 
-    @Override
-    public Route<R> getRoute(String routeId) {
+    /**
+     * The routes with an id, indexed by this id.
+     * Maintained each time a route is added or removed.
+     */
+    protected Map<String, Route<R>> getRoutesById() {
+        return this.routesById;
+    }
 
-        for (Route<R> route : getGlobalBeforeFiltersRoutes()) {
-            if ((routeId == null && route.getId() == null) || (routeId != null && routeId.equals(route.getId()))) {
-                return route;
-            }
-        }
-        for (Route<R> route : getMainRoutes()) {
-            if ((routeId == null && route.getId() == null) || (routeId != null && routeId.equals(route.getId()))) {
-                return route;
+    /**
+     * Rebuilds the index of the routes by id, from
+     * the current routes.
+     */
+    protected void rebuildRoutesById() {
+        getRoutesById().clear();
+        this.routesPathsForUrlsCache.clear();
+        indexRoutesById(getGlobalBeforeFiltersRoutes());
+        indexRoutesById(getMainRoutes());
+        indexRoutesById(getGlobalAfterFiltersRoutes());
+    }
+
+    protected void indexRoutesById(List<Route<R>> routes) {
+        for (Route<R> route : routes) {
+            if (route != null && route.getId() != null) {
+                getRoutesById().putIfAbsent(route.getId(), route);
             }
         }
-        for (Route<R> route : getGlobalAfterFiltersRoutes()) {
-            if ((routeId == null && route.getId() == null) || (routeId != null && routeId.equals(route.getId()))) {
-                return route;
-            }
+    }
+
+    @Override
+    public Route<R> getRoute(String routeId) {
+
+        if (routeId == null) {
+            return null;
         }
 
-        return null;
+        return getRoutesById().get(routeId);
     }
 
     protected Map<Integer, List<Route<R>>> getGlobalBeforeFiltersPerPosition() {
@@ -300,6 +354,44 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         return this.mainRoutes;
     }
 
+    /**
+     * The main routes compiled into a trie, used when
+     * {@link SpincastRouterConfig#isCompiledRoutesMatcherEnabled()}
+     * is <code>true</code>.
+     * <p>
+     * The trie is built from the current main routes the first time
+     * it is required after those have been modified.
+     */
+    protected RoutesTrie<R> getMainRoutesTrie() {
+        RoutesTrie<R> trie = this.mainRoutesTrie;
+        if (trie == null) {
+            synchronized (this) {
+                trie = this.mainRoutesTrie;
+                if (trie == null) {
+                    trie = createMainRoutesTrie(getMainRoutes());
+                    this.mainRoutesTrie = trie;
+                }
+            }
+        }
+        return trie;
+    }
+
+    protected RoutesTrie<R> createMainRoutesTrie(List<Route<R>> mainRoutes) {
+        List<CompiledRoutePath> compiledPaths = new ArrayList<CompiledRoutePath>(mainRoutes.size());
+        for (Route<R> route : mainRoutes) {
+            compiledPaths.add(route != null ? compileRoutePath(route.getPath()) : null);
+        }
+        return new RoutesTrie<R>(mainRoutes, compiledPaths, getSpincastConfig().isRoutesCaseSensitive());
+    }
+
+    /**
+     * Resets the compiled main routes. To call each
+     * time the main routes are modified.
+     */
+    protected void resetMainRoutesTrie() {
+        this.mainRoutesTrie = null;
+    }
+
     @Override
     public void addRoute(Route<R> route) {
 
@@ -316,6 +408,7 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         int position = route.getPosition();
         if (position < 0) {
             this.globalBeforeFilters = null; // reset cache
+            resetGlobalFiltersChains();
             List<Route<R>> routes = getGlobalBeforeFiltersPerPosition().get(position);
             if (routes == null) {
                 routes = new ArrayList<Route<R>>();
@@ -326,8 +419,10 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         } else if (position == 0) {
             // Keep main routes in order they are added.
             getMainRoutes().add(route);
+            resetMainRoutesTrie();
         } else {
             this.globalAfterFilters = null; // reset cache
+            resetGlobalFiltersChains();
             List<Route<R>> routes = getGlobalAfterFiltersPerPosition().get(position);
             if (routes == null) {
                 routes = new ArrayList<Route<R>>();
@@ -335,6 +430,10 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             }
             routes.add(route);
         }
+
+        if (route.getId() != null) {
+            getRoutesById().put(route.getId(), route);
+        }
     }
 
     protected void validateId(String id) {
@@ -342,30 +441,7 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             return; //ok
         }
 
-        Route<R> sameIdRoute = null;
-        for (Route<R> route : getGlobalBeforeFiltersRoutes()) {
-            if (id.equals(route.getId())) {
-                sameIdRoute = route;
-                break;
-            }
-        }
-        if (sameIdRoute == null) {
-            for (Route<R> route : getGlobalAfterFiltersRoutes()) {
-                if (id.equals(route.getId())) {
-                    sameIdRoute = route;
-                    break;
-                }
-            }
-        }
-        if (sameIdRoute == null) {
-            for (Route<R> route : getMainRoutes()) {
-                if (id.equals(route.getId())) {
-                    sameIdRoute = route;
-                    break;
-                }
-            }
-        }
-
+        Route<R> sameIdRoute = getRoutesById().get(id);
         if (sameIdRoute != null) {
             throw new RuntimeException("A route already use the id '" + id + "' : " + sameIdRoute + ". Ids " +
                                        "must be uniques!");
@@ -471,6 +547,8 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
 
         this.globalBeforeFilters = null; // reset cache
         this.globalAfterFilters = null; // reset cache
+        resetMainRoutesTrie();
+        resetGlobalFiltersChains();
 
         if (removeSpincastAndPluginsRoutesToo) {
 
@@ -508,6 +586,8 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
                 }
             }
         }
+
+        rebuildRoutesById();
     }
 
     protected boolean startsWithAnyOf(String id, Set<String> prefixes) {
@@ -530,58 +610,193 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             return;
         }
 
-        Collection<List<Route<R>>> routeLists = getGlobalBeforeFiltersPerPosition().values();
-        for (List<Route<R>> routes : routeLists) {
-            for (int i = routes.size() - 1; i >= 0; i--) {
-                Route<R> route = routes.get(i);
-                if (route != null && routeId.equals(route.getId())) {
-                    routes.remove(i);
-                }
+        //==========================================
+        // The ids are unique, the index gives the route
+        // to remove and its position tells in which list
+        // it is.
+        //==========================================
+        Route<R> route = getRoutesById().remove(routeId);
+        if (route == null) {
+            return;
+        }
+        this.routesPathsForUrlsCache.remove(route);
+
+        int position = route.getPosition();
+        if (position < 0) {
+            List<Route<R>> routes = getGlobalBeforeFiltersPerPosition().get(position);
+            if (routes != null) {
+                routes.remove(route);
             }
+            this.globalBeforeFilters = null; // reset cache
+        } else if (position == 0) {
+            getMainRoutes().remove(route);
+            resetMainRoutesTrie();
+        } else {
+            List<Route<R>> routes = getGlobalAfterFiltersPerPosition().get(position);
+            if (routes != null) {
+                routes.remove(route);
+            }
+            this.globalAfterFilters = null; // reset cache
         }
-        this.globalBeforeFilters = null; // reset cache
+        resetGlobalFiltersChains();
+    }
 
-        routeLists = getGlobalAfterFiltersPerPosition().values();
-        for (List<Route<R>> routes : routeLists) {
-            for (int i = routes.size() - 1; i >= 0; i--) {
-                Route<R> route = routes.get(i);
-                if (route != null && routeId.equals(route.getId())) {
-                    routes.remove(i);
-                }
+    @Override
+    public String createRoutePath(String routeId, Map<String, String> params) {
+
+        Route<R> route = getRoute(routeId);
+        if (route == null) {
+            throw new RuntimeException("No route found with id: " + routeId);
+        }
+
+        CompiledRoutePath compiledPath = this.routesPathsForUrlsCache.get(route);
+        if (compiledPath == null) {
+            compiledPath = compileRoutePath(route.getPath());
+            if (compiledPath == null) {
+                throw new RuntimeException("The route with id '" + routeId + "' has no path.");
             }
+            this.routesPathsForUrlsCache.put(route, compiledPath);
         }
-        this.globalAfterFilters = null; // reset cache
 
-        List<Route<R>> routes = getMainRoutes();
-        for (int i = routes.size() - 1; i >= 0; i--) {
-            Route<R> route = routes.get(i);
-            if (route != null && routeId.equals(route.getId())) {
-                routes.remove(i);
+        StringBuilder builder = new StringBuilder();
+        for (RoutePathSegment segment : compiledPath.getSegments()) {
+            builder.append("/");
+
+            if (segment.isStatic()) {
+                builder.append(segment.getToken());
+                continue;
             }
+
+            if (segment.getParamName() == null && !segment.isSplat()) {
+                throw new RuntimeException("The route with id '" + routeId + "' has an unnamed parameter, \"" +
+                                           segment.getToken() + "\", so no value can be provided for it. " +
+                                           "No path can be created for this route : " + route.getPath());
+            }
+
+            String paramValue = segment.getParamName() != null && params != null ? params.get(segment.getParamName()) : null;
+
+            if (segment.isSplat()) {
+                if (paramValue != null) {
+
+                    //==========================================
+                    // A splat value can contain slashes, we
+                    // encode each of its tokens.
+                    //==========================================
+                    String[] splatTokens = StringUtils.strip(paramValue, "/").split("/", -1);
+                    for (int i = 0; i < splatTokens.length; i++) {
+                        if (i > 0) {
+                            builder.append("/");
+                        }
+                        builder.append(encodePathToken(splatTokens[i]));
+                    }
+                }
+                continue;
+            }
+
+            if (paramValue == null) {
+                throw new RuntimeException("No value provided for the parameter '" + segment.getParamName() +
+                                           "' of the route with id '" + routeId + "' : " + route.getPath());
+            }
+            validateRoutePathParamValue(routeId, route, segment, paramValue);
+            builder.append(encodePathToken(paramValue));
+        }
+
+        //==========================================
+        // An empty splat at the end leaves a trailing slash.
+        //==========================================
+        if (builder.length() > 1 && builder.charAt(builder.length() - 1) == '/') {
+            builder.setLength(builder.length() - 1);
         }
+        if (builder.length() == 0) {
+            builder.append("/");
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Validates that a value provided to create the path of a route
+     * would match its parameter : the pattern of the parameter or,
+     * for a dictionary based parameter, the value for the
+     * current language.
+     */
+    protected void validateRoutePathParamValue(String routeId,
+                                               Route<R> route,
+                                               RoutePathSegment segment,
+                                               String paramValue) {
+
+        boolean valid = true;
+        if (segment.getType() == RoutePathSegment.Type.PATTERN) {
+            valid = segment.getPattern().matcher(paramValue).matches();
+        } else if (segment.getType() == RoutePathSegment.Type.DICTIONARY_PATTERN) {
+            String lang = getLocaleResolver().getLocaleToUse().getLanguage();
+            valid = isDictionaryValueMatch(segment.getDictionaryValuesPerLang(), lang, paramValue);
+        }
+
+        if (!valid) {
+            throw new RuntimeException("The value '" + paramValue + "' doesn't match the parameter \"" +
+                                       segment.getToken() + "\" of the route with id '" + routeId + "' : " +
+                                       route.getPath());
+        }
+    }
+
+    /**
+     * Encodes a token to add to a path.
+     */
+    protected String encodePathToken(String token) {
+        return RoutingPath.encodeToken(token);
     }
 
     @Override
     public RoutingResult<R> route(R requestContext) {
-        return route(requestContext, requestContext.request().getFullUrl(), RoutingType.FOUND);
+        return route(requestContext, RoutingType.FOUND);
     }
 
     @Override
     public RoutingResult<R> route(R requestContext,
                                   RoutingType routingType) {
-        return route(requestContext, requestContext.request().getFullUrl(), routingType);
+        return route(requestContext, getRoutingPath(requestContext), routingType);
     }
 
     public RoutingResult<R> route(R requestContext,
                                   String fullUrl,
                                   RoutingType routingType) {
+        return route(requestContext, createRoutingPathFromUrl(fullUrl), routingType);
+    }
+
+    /**
+     * The path to route, for the current request.
+     * <p>
+     * We use the request path already parsed by the
+     * request add-on, when available. It is decoded, has
+     * its cache busters removed and takes forwarding into
+     * account.
+     */
+    protected RoutingPath getRoutingPath(R requestContext) {
+        String requestPath = requestContext.request().getRequestPath();
+        if (requestPath != null) {
+            return createRoutingPath(requestPath);
+        }
+        return createRoutingPathFromUrl(requestContext.request().getFullUrl());
+    }
+
+    protected RoutingPath createRoutingPath(String path) {
+        return new RoutingPath(path);
+    }
+
+    protected RoutingPath createRoutingPathFromUrl(String fullUrl) {
+        return createRoutingPath(RoutingPath.getPathFromUrl(fullUrl));
+    }
+
+    public RoutingResult<R> route(R requestContext,
+                                  RoutingPath routingPath,
+                                  RoutingType routingType) {
         try {
 
-            URL url = new URL(fullUrl);
             HttpMethod httpMethod = requestContext.request().getHttpMethod();
             List<String> acceptedContentTypes = requestContext.request().getHeader(HttpHeaders.ACCEPT);
             if (acceptedContentTypes == null) {
-                acceptedContentTypes = new ArrayList<String>();
+                acceptedContentTypes = Collections.emptyList();
             }
 
             List<RouteHandlerMatch<R>> routeHandlerMatches = new ArrayList<RouteHandlerMatch<R>>();
@@ -592,18 +807,30 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             //==========================================
             List<RouteHandlerMatch<R>> mainRouteHandlerMatches = null;
             Route<R> matchingRoute = null;
-            for (Route<R> route : getMainRoutes()) {
-
-                List<RouteHandlerMatch<R>> routeHandlerMatch = createRegularHandlerMatches(routingType,
-                                                                                           route,
-                                                                                           httpMethod,
-                                                                                           acceptedContentTypes,
-                                                                                           url,
-                                                                                           0);
-                if (routeHandlerMatch != null && routeHandlerMatch.size() > 0) {
-                    mainRouteHandlerMatches = routeHandlerMatch;
-                    matchingRoute = route;
-                    break;
+            if (getSpincastRouterConfig().isCompiledRoutesMatcherEnabled()) {
+
+                RoutesTrieMatch<R> trieMatch = findMainRouteUsingTrie(routingType,
+                                                                      httpMethod,
+                                                                      acceptedContentTypes,
+                                                                      routingPath);
+                if (trieMatch != null) {
+                    matchingRoute = trieMatch.getRoute();
+                    mainRouteHandlerMatches = createHandlerMatches(matchingRoute, trieMatch.getParams(), 0);
+                }
+            } else {
+                for (Route<R> route : getMainRoutes()) {
+
+                    List<RouteHandlerMatch<R>> routeHandlerMatch = createRegularHandlerMatches(routingType,
+                                                                                               route,
+                                                                                               httpMethod,
+                                                                                               acceptedContentTypes,
+                                                                                               routingPath,
+                                                                                               0);
+                    if (routeHandlerMatch != null && routeHandlerMatch.size() > 0) {
+                        mainRouteHandlerMatches = routeHandlerMatch;
+                        matchingRoute = route;
+                        break;
+                    }
                 }
             }
 
@@ -613,37 +840,18 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             //==========================================
             if (matchingRoute != null) {
 
+                GlobalFiltersChain<R> globalFiltersChain = getGlobalFiltersChain(matchingRoute);
+
                 //==========================================
                 // First, the global "before" filters.
                 //==========================================
-                for (Route<R> route : getGlobalBeforeFiltersRoutes()) {
-
-                    //==========================================
-                    // Should this before filter be skipped?
-                    //==========================================
-                    if (route.getId() != null && matchingRoute.getFilterIdsToSkip() != null &&
-                        matchingRoute.getFilterIdsToSkip().contains(route.getId())) {
-                        continue;
-                    }
-
-                    if (!isRoutingTypeMatch(routingType, route)) {
-                        continue;
-                    }
-
-                    if (isMustSkipResourceRequest(matchingRoute, route)) {
-                        continue;
-                    }
-
-                    List<RouteHandlerMatch<R>> beforeRouteHandlerMatches = createRegularHandlerMatches(routingType,
-                                                                                                       route,
-                                                                                                       httpMethod,
-                                                                                                       acceptedContentTypes,
-                                                                                                       url,
-                                                                                                       -1);
-                    if (beforeRouteHandlerMatches != null) {
-                        routeHandlerMatches.addAll(beforeRouteHandlerMatches);
-                    }
-                }
+                addGlobalFiltersHandlerMatches(routeHandlerMatches,
+                                               globalFiltersChain.getBeforeFilters(routingType),
+                                               routingType,
+                                               httpMethod,
+                                               acceptedContentTypes,
+                                               routingPath,
+                                               -1);
 
                 //==========================================
                 // The main handler match.
@@ -653,34 +861,13 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
                 //==========================================
                 // Finally, the global "after" filters.
                 //==========================================
-                for (Route<R> route : getGlobalAfterFiltersRoutes()) {
-
-                    //==========================================
-                    // Should this after filter be skipped?
-                    //==========================================
-                    if (route.getId() != null && matchingRoute.getFilterIdsToSkip().contains(route.getId())) {
-                        continue;
-                    }
-
-                    if (!isRoutingTypeMatch(routingType, route)) {
-                        continue;
-                    }
-
-                    if (isMustSkipResourceRequest(matchingRoute, route)) {
-                        continue;
-                    }
-
-                    List<RouteHandlerMatch<R>> afterRouteHandlerMatches =
-                            createRegularHandlerMatches(routingType,
-                                                        route,
-                                                        httpMethod,
-                                                        acceptedContentTypes,
-                                                        url,
-                                                        1);
-                    if (afterRouteHandlerMatches != null) {
-                        routeHandlerMatches.addAll(afterRouteHandlerMatches);
-                    }
-                }
+                addGlobalFiltersHandlerMatches(routeHandlerMatches,
+                                               globalFiltersChain.getAfterFilters(routingType),
+                                               routingType,
+                                               httpMethod,
+                                               acceptedContentTypes,
+                                               routingPath,
+                                               1);
             }
 
             if (routeHandlerMatches.size() == 0) {
@@ -694,6 +881,130 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         }
     }
 
+    /**
+     * Adds the matches of the global filters that apply
+     * to the request.
+     */
+    protected void addGlobalFiltersHandlerMatches(List<RouteHandlerMatch<R>> routeHandlerMatches,
+                                                  List<CompiledGlobalFilter<R>> filters,
+                                                  RoutingType routingType,
+                                                  HttpMethod httpMethod,
+                                                  List<String> acceptedContentTypes,
+                                                  RoutingPath routingPath,
+                                                  int position) {
+
+        for (CompiledGlobalFilter<R> filter : filters) {
+
+            Route<R> route = filter.getRoute();
+
+            //==========================================
+            // A path independent filter always matches the
+            // URL, so there is no need to validate the path.
+            //==========================================
+            if (filter.isPathIndependent()) {
+                if (!isRouteMatchHttpMethod(route, httpMethod) ||
+                    !isRouteMatchAcceptedContentType(route, acceptedContentTypes)) {
+                    continue;
+                }
+                Map<String, String> params = filter.getCompiledPath().match(routingPath.getTokens(),
+                                                                            getSpincastConfig().isRoutesCaseSensitive(),
+                                                                            null);
+                routeHandlerMatches.addAll(createHandlerMatches(route, params, position));
+                continue;
+            }
+
+            List<RouteHandlerMatch<R>> filterHandlerMatches = createRegularHandlerMatches(routingType,
+                                                                                          route,
+                                                                                          httpMethod,
+                                                                                          acceptedContentTypes,
+                                                                                          routingPath,
+                                                                                          position);
+            if (filterHandlerMatches != null) {
+                routeHandlerMatches.addAll(filterHandlerMatches);
+            }
+        }
+    }
+
+    /**
+     * The global filters that may apply to a main route. Those
+     * are computed once per main route and are cached until the
+     * routes are modified.
+     */
+    protected GlobalFiltersChain<R> getGlobalFiltersChain(Route<R> mainRoute) {
+        Map<Route<R>, GlobalFiltersChain<R>> cache = this.globalFiltersChainsCache;
+        GlobalFiltersChain<R> chain = cache.get(mainRoute);
+        if (chain == null) {
+            chain = createGlobalFiltersChain(mainRoute);
+            cache.put(mainRoute, chain);
+        }
+        return chain;
+    }
+
+    protected GlobalFiltersChain<R> createGlobalFiltersChain(Route<R> mainRoute) {
+
+        Map<RoutingType, List<CompiledGlobalFilter<R>>> beforeFilters = new HashMap<RoutingType, List<CompiledGlobalFilter<R>>>();
+        Map<RoutingType, List<CompiledGlobalFilter<R>>> afterFilters = new HashMap<RoutingType, List<CompiledGlobalFilter<R>>>();
+
+        for (RoutingType routingType : RoutingType.values()) {
+            beforeFilters.put(routingType, createGlobalFiltersChainPart(mainRoute, getGlobalBeforeFiltersRoutes(), routingType));
+            afterFilters.put(routingType, createGlobalFiltersChainPart(mainRoute, getGlobalAfterFiltersRoutes(), routingType));
+        }
+
+        return new GlobalFiltersChain<R>(beforeFilters, afterFilters);
+    }
+
+    protected List<CompiledGlobalFilter<R>> createGlobalFiltersChainPart(Route<R> mainRoute,
+                                                                        List<Route<R>> filterRoutes,
+                                                                        RoutingType routingType) {
+
+        List<CompiledGlobalFilter<R>> filters = new ArrayList<CompiledGlobalFilter<R>>();
+        for (Route<R> route : filterRoutes) {
+
+            //==========================================
+            // Should this filter be skipped?
+            //==========================================
+            if (route.getId() != null && mainRoute.getFilterIdsToSkip() != null &&
+                mainRoute.getFilterIdsToSkip().contains(route.getId())) {
+                continue;
+            }
+
+            if (!isRoutingTypeMatch(routingType, route)) {
+                continue;
+            }
+
+            if (isMustSkipResourceRequest(mainRoute, route)) {
+                continue;
+            }
+
+            CompiledRoutePath compiledPath = compileRoutePath(route.getPath());
+            if (!isPathIndependent(compiledPath)) {
+                compiledPath = null;
+            }
+            filters.add(new CompiledGlobalFilter<R>(route, compiledPath));
+        }
+
+        return filters;
+    }
+
+    /**
+     * Is the path matching all URLs? This is the
+     * case for a single splat parameter, such as
+     * "/*{path}".
+     */
+    protected boolean isPathIndependent(CompiledRoutePath compiledPath) {
+        return compiledPath != null &&
+               compiledPath.getSegments().length == 1 &&
+               compiledPath.getSegments()[0].isSplat();
+    }
+
+    /**
+     * Resets the cached global filters chains. To call each
+     * time the routes are modified.
+     */
+    protected void resetGlobalFiltersChains() {
+        this.globalFiltersChainsCache = new ConcurrentHashMap<Route<R>, GlobalFiltersChain<R>>();
+    }
+
     protected boolean isRoutingTypeMatch(RoutingType routingType, Route<R> route) {
 
         Objects.requireNonNull(routingType, "routingType can't be NULL");
@@ -722,7 +1033,7 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
                                                                      Route<R> route,
                                                                      HttpMethod httpMethod,
                                                                      List<String> acceptedContentTypes,
-                                                                     URL url,
+                                                                     RoutingPath routingPath,
                                                                      int position) {
 
         if (!isRoutingTypeMatch(routingType, route)) {
@@ -747,7 +1058,7 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         // Validate the route path.
         //==========================================
         String routePath = route.getPath();
-        Map<String, String> matchingParams = validatePath(routePath, url);
+        Map<String, String> matchingParams = validatePath(routePath, routingPath);
         if (matchingParams == null) {
             return null;
         }
@@ -755,6 +1066,110 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         //==========================================
         // Match!
         //==========================================
+        return createHandlerMatches(route, matchingParams, position);
+    }
+
+    /**
+     * Finds the first main route matching the request, using
+     * the compiled routes.
+     *
+     * @return the match or <code>null</code> if there is none.
+     */
+    protected RoutesTrieMatch<R> findMainRouteUsingTrie(RoutingType routingType,
+                                                        HttpMethod httpMethod,
+                                                        List<String> acceptedContentTypes,
+                                                        RoutingPath routingPath) {
+
+        return getMainRoutesTrie().findFirstMatch(routingPath.getTokens(),
+                                                  route -> isRoutingTypeMatch(routingType, route) &&
+                                                           isRouteMatchHttpMethod(route, httpMethod) &&
+                                                           isRouteMatchAcceptedContentType(route, acceptedContentTypes),
+                                                  () -> getLocaleResolver().getLocaleToUse().getLanguage());
+    }
+
+    /**
+     * Splits a path in tokens, the way the
+     * router does it.
+     */
+    protected String[] splitPath(String path) {
+        return createRoutingPath(path).getTokens();
+    }
+
+    /**
+     * Parses the path of a route into segments.
+     *
+     * @return the compiled path or <code>null</code> if the
+     * path is <code>null</code>.
+     */
+    protected CompiledRoutePath compileRoutePath(String routePath) {
+
+        if (routePath == null) {
+            return null;
+        }
+
+        String[] routePathTokens = splitPath(routePath);
+        List<RoutePathSegment> segments = new ArrayList<RoutePathSegment>(routePathTokens.length);
+        for (String routePathToken : routePathTokens) {
+            segments.add(compileRoutePathSegment(routePathToken));
+        }
+
+        return new CompiledRoutePath(routePath, segments);
+    }
+
+    protected RoutePathSegment compileRoutePathSegment(String routePathToken) {
+
+        if (!routePathToken.startsWith("${") && !routePathToken.startsWith("*{")) {
+            return new RoutePathSegment(routePathToken, RoutePathSegment.Type.STATIC, null, null, null);
+        }
+
+        String paramName = routePathToken.substring(2, routePathToken.length() - 1);
+
+        if (routePathToken.startsWith("*{")) {
+            return new RoutePathSegment(routePathToken,
+                                        RoutePathSegment.Type.SPLAT,
+                                        StringUtils.isBlank(paramName) ? null : paramName,
+                                        null,
+                                        null);
+        }
+
+        RoutePathSegment.Type type = RoutePathSegment.Type.PARAM;
+        Pattern pattern = null;
+        Map<String, String> dictionaryValuesPerLang = null;
+
+        int posComma = paramName.indexOf(":");
+        if (posComma > -1) {
+            String patternStr = paramName.substring(posComma + 1);
+            paramName = paramName.substring(0, posComma);
+
+            if (!StringUtils.isBlank(patternStr)) {
+                if (patternStr.startsWith("<<") && patternStr.endsWith(">>")) {
+                    dictionaryValuesPerLang = getDictionaryValuesPerLang(patternStr.substring(2, patternStr.length() - 2));
+                    type = RoutePathSegment.Type.DICTIONARY_PATTERN;
+                } else {
+                    if (patternStr.startsWith("<") && patternStr.endsWith(">")) {
+                        patternStr = getPatternFromAlias(patternStr.substring(1, patternStr.length() - 1));
+                    }
+                    pattern = getPattern(patternStr);
+                    type = RoutePathSegment.Type.PATTERN;
+                }
+            }
+        }
+
+        return new RoutePathSegment(routePathToken,
+                                    type,
+                                    StringUtils.isBlank(paramName) ? null : paramName,
+                                    pattern,
+                                    dictionaryValuesPerLang);
+    }
+
+    /**
+     * Creates the matches for a route which matches the request : the
+     * main handler and its inline filters.
+     */
+    protected List<RouteHandlerMatch<R>> createHandlerMatches(Route<R> route,
+                                                              Map<String, String> matchingParams,
+                                                              int position) {
+
         List<RouteHandlerMatch<R>> matches = new ArrayList<RouteHandlerMatch<R>>();
         RouteHandlerMatch<R> routeHandlerMatch = getRouteHandlerMatchFactory().create(route,
                                                                                       route.getMainHandler(),
@@ -863,10 +1278,9 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
      *
      * Returns NULL if there is no match.
      */
-    protected Map<String, String> validatePath(String routePath, URL url) {
+    protected Map<String, String> validatePath(String routePath, RoutingPath routingPath) {
 
-        String urlPath = url.getPath();
-        String urlPathSlashesStriped = StringUtils.strip(urlPath, "/ ");
+        String urlPathSlashesStriped = routingPath.getPathSlashesStriped();
 
         String routePathSlashesStriped = StringUtils.strip(routePath, "/ ");
 
@@ -904,10 +1318,7 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             routePathTokens = new String[0];
         }
 
-        String[] urlPathTokens = urlPathSlashesStriped.split("/");
-        if (urlPathTokens.length == 1 && urlPathTokens[0].equals("")) {
-            urlPathTokens = new String[0];
-        }
+        String[] urlPathTokens = routingPath.getTokens();
 
         //==========================================
         // The Url should have at least as many tokens
@@ -918,7 +1329,11 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             return null;
         }
 
-        Map<String, String> params = new HashMap<String, String>();
+        //==========================================
+        // The map is only created when a parameter
+        // is found.
+        //==========================================
+        Map<String, String> params = null;
 
         int routePathTokenPos = 0;
         int urlTokenPos = 0;
@@ -960,12 +1375,7 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             } else {
 
                 String paramName = routePathToken.substring(2, routePathToken.length() - 1);
-                String paramValue;
-                try {
-                    paramValue = URLDecoder.decode(urlPathToken, "UTF-8");
-                } catch (Exception ex) {
-                    throw SpincastStatics.runtimize(ex);
-                }
+                String paramValue = null;
 
                 //==========================================
                 // If there a pattern?
@@ -987,16 +1397,18 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
                             // Is it a dictinary key?
                             //==========================================
                             if (pattern.startsWith("<<") && pattern.endsWith(">>")) {
-                                pattern = getPatternFromDictionaryKey(pattern.substring(2, pattern.length() - 2));
+                                String dictionaryKey = pattern.substring(2, pattern.length() - 2);
 
                                 //==========================================
-                                // We also match using the language!
+                                // The token must be the value of the
+                                // dictionary entry for the current language.
                                 //==========================================
                                 String lang = getLocaleResolver().getLocaleToUse().getLanguage();
-                                String toMatch = lang + "_" + urlPathToken;
-                                if (!getPattern(pattern).matcher(toMatch).matches()) {
-                                    logger.trace("Url token '" + urlPathToken + "' doesn't match pattern '" + pattern +
-                                                 "' with lang '" + lang + "'.");
+                                if (!isDictionaryValueMatch(getDictionaryValuesPerLang(dictionaryKey), lang, urlPathToken)) {
+                                    if (logger.isTraceEnabled()) {
+                                        logger.trace("Url token '" + urlPathToken + "' doesn't match dictionary key '" +
+                                                     dictionaryKey + "' with lang '" + lang + "'.");
+                                    }
                                     return null;
                                 }
                                 matchingDone = true;
@@ -1012,7 +1424,9 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
                     }
 
                     if (!matchingDone && pattern != null && !getPattern(pattern).matcher(urlPathToken).matches()) {
-                        logger.trace("Url token '" + urlPathToken + "' doesn't match pattern '" + pattern + "'.");
+                        if (logger.isTraceEnabled()) {
+                            logger.trace("Url token '" + urlPathToken + "' doesn't match pattern '" + pattern + "'.");
+                        }
                         return null;
                     }
 
@@ -1026,7 +1440,7 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
                     int nbrTokensInSplat = urlPathTokens.length - routePathTokens.length + 1;
                     if (nbrTokensInSplat > 1) {
 
-                        StringBuilder builder = new StringBuilder(paramValue);
+                        StringBuilder builder = new StringBuilder(RoutingPath.decodeToken(urlPathToken));
                         for (int i = 1; i < nbrTokensInSplat; i++) {
                             builder.append("/").append(urlPathTokens[urlTokenPos]);
                             urlTokenPos++;
@@ -1039,12 +1453,15 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
                 // We do not collect the parameters without names.
                 //==========================================
                 if (!StringUtils.isBlank(paramName)) {
-                    params.put(paramName, paramValue);
+                    if (params == null) {
+                        params = new HashMap<String, String>();
+                    }
+                    params.put(paramName, paramValue != null ? paramValue : RoutingPath.decodeToken(urlPathToken));
                 }
             }
         }
 
-        return params;
+        return params != null ? params : new HashMap<String, String>();
     }
 
     /**
@@ -1058,47 +1475,47 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
             return null;
         }
 
-        for (Entry<String, String> entry : getRouteParamPatternAliases().entrySet()) {
-            if (alias.equals(entry.getKey())) {
-                return entry.getValue();
-            }
-        }
-
-        return null;
+        return getRouteParamPatternAliases().get(alias);
     }
 
     /**
-     * Get a path pattern from a dictionary key.
-     *
-     * @return the pattern or NULL if not found.
+     * Gets the values of a dictionary key, for each
+     * language. The language is lowercased.
+     * <p>
+     * Those are resolved once, so a request to a localized
+     * route doesn't have to build or compile anything.
      */
-    protected String getPatternFromDictionaryKey(String dictionaryKey) {
+    protected Map<String, String> getDictionaryValuesPerLang(String dictionaryKey) {
 
         if (dictionaryKey == null) {
             return null;
         }
 
-        String pattern = getRouteParamPatternFromDictionaryKeyCache().get(dictionaryKey);
-        if (pattern == null) {
+        Map<String, String> valuesPerLang = getRouteParamValuesFromDictionaryKeyCache().get(dictionaryKey);
+        if (valuesPerLang == null) {
             Map<String, String> allValuesMap = getDictionary().getAll(dictionaryKey);
             if (allValuesMap == null || allValuesMap.size() == 0) {
                 throw new RuntimeException("Supposed to have at least one value in the dictionary, for key: " + dictionaryKey);
             }
-            StringBuilder builder = new StringBuilder("(");
+
+            valuesPerLang = new HashMap<String, String>();
             for (Entry<String, String> entry : allValuesMap.entrySet()) {
-                String langAndValue = entry.getKey().toLowerCase() + "_" + entry.getValue();
-                langAndValue = Pattern.quote(langAndValue);
-                builder.append(langAndValue).append("|");
+                valuesPerLang.put(entry.getKey().toLowerCase(), entry.getValue());
             }
-            builder.deleteCharAt(builder.length() - 1);
-            builder.append(")");
-            pattern = builder.toString();
+            valuesPerLang = Collections.unmodifiableMap(valuesPerLang);
 
-            getRouteParamPatternFromDictionaryKeyCache().put(dictionaryKey, pattern);
+            getRouteParamValuesFromDictionaryKeyCache().put(dictionaryKey, valuesPerLang);
         }
-        return pattern;
+        return valuesPerLang;
     }
 
+    /**
+     * Is the URL token the value of the dictionary
+     * entry, for the specified language?
+     */
+    protected boolean isDictionaryValueMatch(Map<String, String> valuesPerLang, String lang, String urlToken) {
+        return RoutePathSegment.isDictionaryValueMatch(valuesPerLang, lang, urlToken);
+    }
 
     @Override
     public void addRouteParamPatternAlias(String alias, String pattern) {
@@ -1111,6 +1528,12 @@ public class SpincastRouter<R extends RequestContext<?>, W extends WebsocketCont
         }
 
         getRouteParamPatternAliases().put(alias, pattern);
+
+        //==========================================
+        // The aliases are resolved when the main routes
+        // are compiled.
+        //==========================================
+        resetMainRoutesTrie();
     }
 
     @Override
@@ -28,4 +28,18 @@ public interface SpincastRouterConfig {
      */
     public int getCorsFilterPosition();
 
+    /**
+     * Should the main routes be compiled into a trie of
+     * path segments to find the route matching a request?
+     * <p>
+     * When disabled, the main routes are validated one by one,
+     * in the order they have been added. When enabled, the lookup
+     * cost doesn't grow with the number of routes, but the
+     * result is the same : the first route added that matches
+     * the request wins.
+     * <p>
+     * Defaults to <code>false</code>.
+     */
+    public boolean isCompiledRoutesMatcherEnabled();
+
 }
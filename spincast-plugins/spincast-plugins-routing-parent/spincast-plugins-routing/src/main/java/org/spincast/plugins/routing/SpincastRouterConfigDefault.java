@@ -39,4 +39,9 @@ public class SpincastRouterConfigDefault implements SpincastRouterConfig {
         return -100;
     }
 
+    @Override
+    public boolean isCompiledRoutesMatcherEnabled() {
+        return false;
+    }
+
 }
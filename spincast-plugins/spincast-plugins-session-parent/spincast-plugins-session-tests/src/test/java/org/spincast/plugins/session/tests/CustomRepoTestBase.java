@@ -12,6 +12,7 @@ public abstract class CustomRepoTestBase extends SessionTestBase {
 
         @Override
         public SpincastSession getSession(String sessionId) {
+            getSessionCalled[0]++;
             SpincastSession session = savedSession.get(sessionId);
             return session;
         }
@@ -0,0 +1,272 @@
+package org.spincast.plugins.session.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.guice.SpincastGuiceModuleBase;
+import org.spincast.core.json.JsonObject;
+import org.spincast.core.routing.Handler;
+import org.spincast.plugins.httpclient.HttpResponse;
+import org.spincast.plugins.session.SpincastSession;
+import org.spincast.plugins.session.SpincastSessionBackingRepository;
+import org.spincast.plugins.session.SpincastSessionRepository;
+import org.spincast.plugins.session.repositories.SpincastSessionRepositoryInMemory;
+import org.spincast.shaded.org.apache.http.HttpStatus;
+
+import com.google.inject.Inject;
+import com.google.inject.Module;
+import com.google.inject.Scopes;
+import com.google.inject.util.Modules;
+
+public class InMemoryRepoSessionTest extends CustomRepoTestBase {
+
+    protected static Map<String, SpincastSession> backingSessions = new ConcurrentHashMap<String, SpincastSession>();
+    protected static AtomicInteger backingGetSessionCalls = new AtomicInteger(0);
+
+    /**
+     * Backing repository
+     */
+    public static class TestBackingRepository implements SpincastSessionBackingRepository {
+
+        @Override
+        public void saveSession(SpincastSession session) {
+            backingSessions.put(session.getId(), session);
+        }
+
+        @Override
+        public SpincastSession getSession(String sessionId) {
+            backingGetSessionCalls.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return backingSessions.get(sessionId);
+        }
+
+        @Override
+        public void deleteSession(String sessionId) {
+            backingSessions.remove(sessionId);
+        }
+
+        @Override
+        public void deleteOldInactiveSession(int sessionMaxInactiveMinutes) {
+            deleteOldSessionsCalled[0]++;
+        }
+
+        @Override
+        public void saveSessions(Collection<SpincastSession> sessions) {
+            for (SpincastSession session : sessions) {
+                saveSession(session);
+            }
+        }
+
+        @Override
+        public void deleteSessions(Collection<String> sessionIds) {
+            for (String sessionId : sessionIds) {
+                deleteSession(sessionId);
+            }
+        }
+    }
+
+    @Override
+    protected Class<? extends SpincastSessionRepository> getSpincastSessionRepositoryImplClass() {
+        return SpincastSessionRepositoryInMemory.class;
+    }
+
+    @Override
+    protected Module getExtraOverridingModule() {
+        return Modules.override(super.getExtraOverridingModule()).with(new SpincastGuiceModuleBase() {
+
+            @Override
+            protected void configure() {
+                bind(SpincastSessionBackingRepository.class).to(TestBackingRepository.class).in(Scopes.SINGLETON);
+            }
+        });
+    }
+
+    @Inject
+    protected SpincastSessionRepository spincastSessionRepository;
+
+    protected SpincastSessionRepositoryInMemory getRepository() {
+        return (SpincastSessionRepositoryInMemory)this.spincastSessionRepository;
+    }
+
+    @Override
+    public void beforeTest() {
+        super.beforeTest();
+        getRepository().flush();
+        backingSessions.clear();
+        backingGetSessionCalls.set(0);
+    }
+
+    @Test
+    public void sessionKeptInMemoryAndWrittenBehind() throws Exception {
+
+        getRouter().GET("/set").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                SpincastSession currentSession = getSessionManager().getCurrentSession();
+                currentSession.getAttributes().set("kiki", "koko");
+                context.response().sendPlainText(currentSession.getId());
+            }
+        });
+
+        getRouter().GET("/get").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                SpincastSession currentSession = getSessionManager().getCurrentSession();
+                context.response().sendPlainText(currentSession.getAttributes().getString("kiki", "nope"));
+            }
+        });
+
+        HttpResponse response = GET("/set").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        saveResponseCookies(response);
+        String sessionId = response.getContentAsString();
+
+        //==========================================
+        // Not written to the backing repository yet
+        //==========================================
+        assertEquals(0, backingSessions.size());
+
+        response = GET("/get").setCookies(getPreviousResponseCookies()).send();
+        assertEquals("koko", response.getContentAsString());
+
+        getRepository().flush();
+        assertEquals(1, backingSessions.size());
+        SpincastSession backingSession = backingSessions.get(sessionId);
+        assertNotNull(backingSession);
+        assertEquals("koko", backingSession.getAttributes().getString("kiki"));
+
+        getRepository().deleteSession(sessionId);
+        assertNull(getRepository().getSession(sessionId));
+        assertEquals(1, backingSessions.size());
+
+        getRepository().flush();
+        assertEquals(0, backingSessions.size());
+    }
+
+    @Test
+    public void sessionsAreNotShared() throws Exception {
+
+        JsonObject attributes = getJsonManager().create();
+        attributes.set("kiki", "koko");
+        SpincastSession session = getSessionManager().createSession("s1", Instant.now(), Instant.now(), attributes);
+        getRepository().saveSession(session);
+
+        SpincastSession session1 = getRepository().getSession("s1");
+        session1.getAttributes().set("kiki", "modified");
+
+        SpincastSession session2 = getRepository().getSession("s1");
+        assertEquals("koko", session2.getAttributes().getString("kiki"));
+    }
+
+    @Test
+    public void loadedFromBackingRepository() throws Exception {
+
+        JsonObject attributes = getJsonManager().create();
+        attributes.set("kiki", "koko");
+        backingSessions.put("s2",
+                            getSessionManager().createSession("s2", Instant.now(), Instant.now(), attributes));
+
+        SpincastSession session = getRepository().getSession("s2");
+        assertNotNull(session);
+        assertEquals("koko", session.getAttributes().getString("kiki"));
+    }
+
+    @Test
+    public void expiredSessionFromBackingRepositoryIsDeleted() throws Exception {
+
+        Instant old = Instant.now().minus(getSpincastSessionConfig().getSessionMaxInactiveMinutes() + 1, ChronoUnit.MINUTES);
+        backingSessions.put("s3", getSessionManager().createSession("s3", old, old, getJsonManager().create()));
+
+        assertNull(getRepository().getSession("s3"));
+
+        getRepository().flush();
+        assertTrue(!backingSessions.containsKey("s3"));
+    }
+
+    @Test
+    public void concurrentGetSessionLoadsOnce() throws Exception {
+
+        JsonObject attributes = getJsonManager().create();
+        attributes.set("kiki", "koko");
+        backingSessions.put("s4",
+                            getSessionManager().createSession("s4", Instant.now(), Instant.now(), attributes));
+
+        int threadsNbr = 8;
+        final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<String>();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadsNbr);
+        try {
+            for (int i = 0; i < threadsNbr; i++) {
+                executor.execute(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        try {
+                            startLatch.await();
+                            SpincastSession session = getRepository().getSession("s4");
+                            if (session == null || !"koko".equals(session.getAttributes().getString("kiki"))) {
+                                errors.add("Invalid session : " + session);
+                            }
+                        } catch (Throwable ex) {
+                            errors.add(ex.toString());
+                        }
+                    }
+                });
+            }
+            startLatch.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(errors.toString(), errors.isEmpty());
+
+        //==========================================
+        // Only one load from the backing repository
+        //==========================================
+        assertEquals(1, backingGetSessionCalls.get());
+    }
+
+    @Test
+    public void writtenBehindWhenServerStopped() throws Exception {
+
+        JsonObject attributes = getJsonManager().create();
+        attributes.set("kiki", "koko");
+        SpincastSession session = getSessionManager().createSession("s5", Instant.now(), Instant.now(), attributes);
+        getRepository().saveSession(session);
+        assertEquals(0, backingSessions.size());
+
+        getServer().stop(false);
+        try {
+            SpincastSession backingSession = backingSessions.get("s5");
+            assertNotNull(backingSession);
+            assertEquals("koko", backingSession.getAttributes().getString("kiki"));
+        } finally {
+            getServer().start();
+        }
+    }
+
+}
@@ -337,4 +337,44 @@ public class SessionTest extends CustomRepoTestBase {
         assertEquals(1, savedSession.size());
     }
 
+    @Test
+    public void t11_sessionNotAccessedNotLoaded() throws Exception {
+
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().sendPlainText("ok");
+            }
+        });
+
+        getRouter().GET("/session").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                SpincastSession currentSession = getSessionManager().getCurrentSession();
+                assertNotNull(currentSession);
+                context.response().sendPlainText(currentSession.getId());
+            }
+        });
+
+        Cookie cookie = getPreviousResponseCookie(getSpincastSessionConfig().getSessionIdCookieName());
+        assertNotNull(cookie);
+
+        getSessionCalled[0] = 0;
+        HttpResponse response = GET("/").setCookies(getPreviousResponseCookies()).send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+
+        //==========================================
+        // The session was never accessed so the
+        // repository was not called.
+        //==========================================
+        assertEquals(0, getSessionCalled[0]);
+
+        response = GET("/session").setCookies(getPreviousResponseCookies()).send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(cookie.getValue(), response.getContentAsString());
+        assertEquals(1, getSessionCalled[0]);
+    }
+
 }
@@ -24,6 +24,7 @@ public abstract class SessionTestBase extends NoAppStartHttpServerTestingBase {
 
     protected static Map<String, SpincastSession> savedSession = new HashMap<String, SpincastSession>();
     protected static int[] deleteOldSessionsCalled = new int[]{0};
+    protected static int[] getSessionCalled = new int[]{0};
 
     @Inject
     protected SpincastSessionManager sessionManager;
@@ -83,6 +84,7 @@ public abstract class SessionTestBase extends NoAppStartHttpServerTestingBase {
 
         savedSession = new HashMap<String, SpincastSession>();
         deleteOldSessionsCalled = new int[]{0};
+        getSessionCalled = new int[]{0};
     }
 
 }
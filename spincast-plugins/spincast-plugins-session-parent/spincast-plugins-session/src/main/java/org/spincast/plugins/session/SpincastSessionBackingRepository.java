@@ -0,0 +1,26 @@
+package org.spincast.plugins.session;
+
+import java.util.Collection;
+
+import org.spincast.plugins.session.repositories.SpincastSessionRepositoryInMemory;
+
+/**
+ * The repository where the {@link SpincastSessionRepositoryInMemory}
+ * in-memory repository persists the sessions, asynchronously and in
+ * batches.
+ * <p>
+ * Optional : if none is bound, the sessions are only kept
+ * in memory.
+ */
+public interface SpincastSessionBackingRepository extends SpincastSessionRepository {
+
+    /**
+     * Saves a batch of sessions.
+     */
+    public void saveSessions(Collection<SpincastSession> sessions);
+
+    /**
+     * Deletes a batch of sessions.
+     */
+    public void deleteSessions(Collection<String> sessionIds);
+}
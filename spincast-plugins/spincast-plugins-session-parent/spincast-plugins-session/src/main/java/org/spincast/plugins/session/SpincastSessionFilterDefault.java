@@ -2,6 +2,7 @@ package org.spincast.plugins.session;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.function.Supplier;
 
 import org.spincast.core.exchange.RequestContext;
 import org.spincast.plugins.session.config.SpincastSessionConfig;
@@ -39,6 +40,23 @@ public class SpincastSessionFilterDefault implements SpincastSessionFilter {
             return;
         }
 
+        //==========================================
+        // The session is only loaded when it is accessed
+        // for the first time, using
+        // SpincastSessionManager#getCurrentSession(). A
+        // request that never uses it doesn't hit the
+        // repository.
+        //==========================================
+        Supplier<SpincastSession> sessionLoader = () -> loadSession(context);
+        context.variables().set(SpincastSessionManagerDefault.REQUEST_CONTEXT_VARIABLE_SESSION_LOADER, sessionLoader);
+    }
+
+    /**
+     * Loads the current session, or creates a new one, and
+     * saves it in the request context variables.
+     */
+    protected SpincastSession loadSession(RequestContext<?> context) {
+
         SpincastSession session = null;
 
         String sessionId = getSessionIdFromUserRequest(context);
@@ -87,6 +105,8 @@ public class SpincastSessionFilterDefault implements SpincastSessionFilter {
         // Saves the session in the request context.
         //==========================================
         context.variables().set(SpincastSessionManagerDefault.REQUEST_CONTEXT_VARIABLE_SESSION, session);
+
+        return session;
     }
 
     protected boolean isSkipResources() {
@@ -104,6 +124,10 @@ public class SpincastSessionFilterDefault implements SpincastSessionFilter {
             return;
         }
 
+        //==========================================
+        // Null if the session was never accessed :
+        // nothing to save.
+        //==========================================
         SpincastSession session =
                 context.variables().get(SpincastSessionManagerDefault.REQUEST_CONTEXT_VARIABLE_SESSION, SpincastSession.class);
 
@@ -2,6 +2,7 @@ package org.spincast.plugins.session;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +29,14 @@ public class SpincastSessionManagerDefault implements SpincastSessionManager {
      */
     public static final String REQUEST_CONTEXT_VARIABLE_SESSION = SpincastSessionManagerDefault.class.getName() + "_session";
 
+    /**
+     * The name of the request context variable used to save
+     * the <code>Supplier</code> that loads the user session
+     * on first access.
+     */
+    public static final String REQUEST_CONTEXT_VARIABLE_SESSION_LOADER =
+            SpincastSessionManagerDefault.class.getName() + "_sessionLoader";
+
     private final SpincastSessionFactory spincastSessionFactory;
     private final Provider<RequestContext<?>> requestContextProvider;
     private final JsonManager jsonManager;
@@ -106,6 +115,9 @@ public class SpincastSessionManagerDefault implements SpincastSessionManager {
         try {
             RequestContext<?> context = getRequestContextProvider().get();
             session = (SpincastSession) context.variables().get(REQUEST_CONTEXT_VARIABLE_SESSION);
+            if(session == null) {
+                session = loadCurrentSession(context);
+            }
             if(session == null) {
                 logger.error("No session found in request context variables. Make sure the filters " +
                                 "provided by the Spincast Session plugin have been added properly to your router!");
@@ -119,6 +131,23 @@ public class SpincastSessionManagerDefault implements SpincastSessionManager {
         return session;
     }
 
+    /**
+     * Loads the current session on first access, using the
+     * loader added by the <em>before</em> filter.
+     */
+    protected SpincastSession loadCurrentSession(RequestContext<?> context) {
+
+        @SuppressWarnings("unchecked")
+        Supplier<SpincastSession> sessionLoader =
+                (Supplier<SpincastSession>) context.variables().get(REQUEST_CONTEXT_VARIABLE_SESSION_LOADER);
+        if(sessionLoader == null) {
+            return null;
+        }
+        context.variables().remove(REQUEST_CONTEXT_VARIABLE_SESSION_LOADER);
+
+        return sessionLoader.get();
+    }
+
     @Override
     public String generateNewSessionId() {
         return UUID.randomUUID().toString();
@@ -3,6 +3,7 @@ package org.spincast.plugins.session;
 import java.util.Set;
 
 import org.spincast.core.guice.SpincastGuiceModuleBase;
+import org.spincast.core.server.ServerStoppedListener;
 import org.spincast.plugins.scheduledtasks.SpincastScheduledTask;
 import org.spincast.plugins.session.config.SpincastSessionConfig;
 import org.spincast.plugins.session.config.SpincastSessionConfigDefault;
@@ -15,6 +16,7 @@ import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.OptionalBinder;
 
 /**
  * Spincast Session plugin module.
@@ -53,6 +55,21 @@ public class SpincastSessionPluginModule extends SpincastGuiceModuleBase {
 
         bind(SpincastSessionRepository.class).to(getSpincastSessionRepositoryImplClass())
                                              .in(Scopes.SINGLETON);
+
+        //==========================================
+        // The SpincastSessionBackingRepository is only
+        // used by the in-memory repository, and is
+        // optional.
+        //==========================================
+        OptionalBinder.newOptionalBinder(binder(), SpincastSessionBackingRepository.class);
+
+        //==========================================
+        // The repository is informed when the server
+        // is stopped.
+        //==========================================
+        Multibinder<ServerStoppedListener> serverStoppedListenerMultibinder =
+                Multibinder.newSetBinder(binder(), ServerStoppedListener.class);
+        serverStoppedListenerMultibinder.addBinding().to(SpincastSessionServerStoppedListener.class);
     }
 
     protected Class<? extends SpincastSessionConfig> getSpincastSessionConfigImplClass() {
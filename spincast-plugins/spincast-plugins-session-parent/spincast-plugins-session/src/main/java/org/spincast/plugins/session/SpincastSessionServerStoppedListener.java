@@ -0,0 +1,32 @@
+package org.spincast.plugins.session;
+
+import org.spincast.core.server.ServerStoppedListener;
+
+import com.google.inject.Inject;
+
+/**
+ * Informs the bound {@link SpincastSessionRepository} that
+ * the server has been stopped, if it implements
+ * {@link ServerStoppedListener}.
+ */
+public class SpincastSessionServerStoppedListener implements ServerStoppedListener {
+
+    private final SpincastSessionRepository spincastSessionRepository;
+
+    @Inject
+    public SpincastSessionServerStoppedListener(SpincastSessionRepository spincastSessionRepository) {
+        this.spincastSessionRepository = spincastSessionRepository;
+    }
+
+    protected SpincastSessionRepository getSpincastSessionRepository() {
+        return this.spincastSessionRepository;
+    }
+
+    @Override
+    public void serverStopped() {
+        if (getSpincastSessionRepository() instanceof ServerStoppedListener) {
+            ((ServerStoppedListener)getSpincastSessionRepository()).serverStopped();
+        }
+    }
+
+}
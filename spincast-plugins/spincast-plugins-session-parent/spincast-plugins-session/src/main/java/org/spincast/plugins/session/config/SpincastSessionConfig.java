@@ -1,6 +1,8 @@
 package org.spincast.plugins.session.config;
 
+import org.spincast.plugins.session.SpincastSessionBackingRepository;
 import org.spincast.plugins.session.SpincastSessionRepository;
+import org.spincast.plugins.session.repositories.SpincastSessionRepositoryInMemory;
 
 /**
  * Configurations for the Spincast Session plugin.
@@ -80,6 +82,22 @@ public interface SpincastSessionConfig {
      */
     public int getAutoAddedFilterAfterPosition();
 
+    /**
+     * When the {@link SpincastSessionRepositoryInMemory} repository
+     * is used, the maximum number of sessions to keep in memory.
+     * <p>
+     * When this number is reached, the least recently used sessions
+     * are evicted. They can then only be retrieved from the
+     * {@link SpincastSessionBackingRepository}, if there is one.
+     */
+    public int getInMemoryRepositoryMaxSessionsNbr();
 
+    /**
+     * When the {@link SpincastSessionRepositoryInMemory} repository
+     * is used with a {@link SpincastSessionBackingRepository}, the
+     * number of seconds between two batches of modified sessions
+     * sent to it.
+     */
+    public int getInMemoryRepositoryWriteBehindPeriodInSeconds();
 
 }
@@ -55,4 +55,14 @@ public class SpincastSessionConfigDefault implements SpincastSessionConfig {
         return 100;
     }
 
+    @Override
+    public int getInMemoryRepositoryMaxSessionsNbr() {
+        return 100000;
+    }
+
+    @Override
+    public int getInMemoryRepositoryWriteBehindPeriodInSeconds() {
+        return 5;
+    }
+
 }
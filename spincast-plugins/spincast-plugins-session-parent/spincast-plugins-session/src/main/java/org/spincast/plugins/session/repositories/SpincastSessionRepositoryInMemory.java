@@ -0,0 +1,471 @@
+package org.spincast.plugins.session.repositories;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spincast.core.json.JsonObject;
+import org.spincast.core.server.ServerStoppedListener;
+import org.spincast.plugins.session.SpincastSession;
+import org.spincast.plugins.session.SpincastSessionBackingRepository;
+import org.spincast.plugins.session.SpincastSessionFactory;
+import org.spincast.plugins.session.SpincastSessionRepository;
+import org.spincast.plugins.session.config.SpincastSessionConfig;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.google.inject.Inject;
+
+/**
+ * A {@link SpincastSessionRepository} keeping the sessions
+ * in memory, in a bounded cache.
+ * <p>
+ * A session expires from the cache when its modification
+ * date is older than
+ * {@link SpincastSessionConfig#getSessionMaxInactiveMinutes()}.
+ * <p>
+ * If a {@link SpincastSessionBackingRepository} is bound, the
+ * modified and deleted sessions are sent to it asynchronously,
+ * in batches, and the sessions not found in memory are
+ * loaded from it. Otherwise, the sessions only live in memory
+ * and are lost when the application is restarted.
+ * <p>
+ * The write-behind thread is started when a first modification
+ * has to be sent to the backing repository. It is stopped, and
+ * the last modifications are sent, when the server is stopped.
+ * <p>
+ * To use this repository, bind it in place of
+ * {@link SpincastSessionRepositoryDefault}.
+ */
+public class SpincastSessionRepositoryInMemory implements SpincastSessionRepository, ServerStoppedListener {
+
+    protected static final Logger logger = LoggerFactory.getLogger(SpincastSessionRepositoryInMemory.class);
+
+    /**
+     * A saved session. The attributes are immutable
+     * so they can be shared between requests.
+     */
+    protected static class StoredSession {
+
+        private final String id;
+        private final Instant creationDate;
+        private final Instant modificationDate;
+        private final JsonObject attributes;
+
+        public StoredSession(String id, Instant creationDate, Instant modificationDate, JsonObject attributes) {
+            this.id = id;
+            this.creationDate = creationDate;
+            this.modificationDate = modificationDate;
+            this.attributes = attributes;
+        }
+
+        public String getId() {
+            return this.id;
+        }
+
+        public Instant getCreationDate() {
+            return this.creationDate;
+        }
+
+        public Instant getModificationDate() {
+            return this.modificationDate;
+        }
+
+        public JsonObject getAttributes() {
+            return this.attributes;
+        }
+    }
+
+    private final SpincastSessionConfig spincastSessionConfig;
+    private final SpincastSessionFactory spincastSessionFactory;
+    private final Optional<SpincastSessionBackingRepository> spincastSessionBackingRepositoryOptional;
+    private final Map<String, StoredSession> pendingSaves = new ConcurrentHashMap<String, StoredSession>();
+    private final Set<String> pendingDeletes = ConcurrentHashMap.newKeySet();
+    private final Object writeBehindLock = new Object();
+    private Cache<String, StoredSession> cache;
+    private volatile ScheduledExecutorService writeBehindExecutor;
+
+    /**
+     * The backing repository may contain sessions that are
+     * not in memory : when the application starts and when
+     * sessions have been evicted because the cache was full.
+     */
+    private volatile boolean backingMayContainUntrackedSessions = true;
+
+    @Inject
+    public SpincastSessionRepositoryInMemory(SpincastSessionConfig spincastSessionConfig,
+                                             SpincastSessionFactory spincastSessionFactory,
+                                             Optional<SpincastSessionBackingRepository> spincastSessionBackingRepositoryOptional) {
+        this.spincastSessionConfig = spincastSessionConfig;
+        this.spincastSessionFactory = spincastSessionFactory;
+        this.spincastSessionBackingRepositoryOptional = spincastSessionBackingRepositoryOptional;
+    }
+
+    @Inject
+    protected void init() {
+        this.cache = createCache();
+    }
+
+    protected SpincastSessionConfig getSpincastSessionConfig() {
+        return this.spincastSessionConfig;
+    }
+
+    protected SpincastSessionFactory getSpincastSessionFactory() {
+        return this.spincastSessionFactory;
+    }
+
+    /**
+     * The backing repository or <code>null</code> if
+     * there is none.
+     */
+    protected SpincastSessionBackingRepository getSpincastSessionBackingRepository() {
+        return this.spincastSessionBackingRepositoryOptional.orElse(null);
+    }
+
+    protected Map<String, StoredSession> getPendingSaves() {
+        return this.pendingSaves;
+    }
+
+    protected Set<String> getPendingDeletes() {
+        return this.pendingDeletes;
+    }
+
+    protected Cache<String, StoredSession> getCache() {
+        return this.cache;
+    }
+
+    protected Cache<String, StoredSession> createCache() {
+        return Caffeine.newBuilder()
+                       .maximumSize(Math.max(1, getSpincastSessionConfig().getInMemoryRepositoryMaxSessionsNbr()))
+                       .expireAfter(new Expiry<String, StoredSession>() {
+
+                           @Override
+                           public long expireAfterCreate(String key, StoredSession session, long currentTime) {
+                               return getNanosBeforeExpiration(session);
+                           }
+
+                           @Override
+                           public long expireAfterUpdate(String key,
+                                                         StoredSession session,
+                                                         long currentTime,
+                                                         long currentDuration) {
+                               return getNanosBeforeExpiration(session);
+                           }
+
+                           @Override
+                           public long expireAfterRead(String key,
+                                                       StoredSession session,
+                                                       long currentTime,
+                                                       long currentDuration) {
+                               return currentDuration;
+                           }
+                       })
+                       .scheduler(Scheduler.systemScheduler())
+                       .executor(Runnable::run)
+                       .removalListener(this::onRemoval)
+                       .build();
+    }
+
+    protected long getNanosBeforeExpiration(StoredSession session) {
+        Instant expiration = getExpirationDate(session);
+        return Math.max(0, Duration.between(Instant.now(), expiration).toNanos());
+    }
+
+    protected Instant getExpirationDate(StoredSession session) {
+        return session.getModificationDate().plus(getSpincastSessionConfig().getSessionMaxInactiveMinutes(),
+                                                  ChronoUnit.MINUTES);
+    }
+
+    protected boolean isExpired(StoredSession session) {
+        return !getExpirationDate(session).isAfter(Instant.now());
+    }
+
+    /**
+     * Called when a session is removed from the cache.
+     * <p>
+     * An expired session is deleted from the backing
+     * repository, this is what replaces the sweep
+     * of old sessions.
+     */
+    protected void onRemoval(String sessionId, StoredSession session, RemovalCause cause) {
+        if (getSpincastSessionBackingRepository() == null || sessionId == null) {
+            return;
+        }
+
+        if (cause == RemovalCause.EXPIRED) {
+            if (getPendingSaves().remove(sessionId, session) || !getPendingSaves().containsKey(sessionId)) {
+                if (getCache().getIfPresent(sessionId) == null) {
+                    getPendingDeletes().add(sessionId);
+                    startWriteBehindIfRequired();
+                }
+            }
+        } else if (cause == RemovalCause.SIZE) {
+            this.backingMayContainUntrackedSessions = true;
+        }
+    }
+
+    @Override
+    public SpincastSession getSession(String sessionId) {
+        if (sessionId == null || getPendingDeletes().contains(sessionId)) {
+            return null;
+        }
+
+        //==========================================
+        // A session not in memory is loaded atomically :
+        // concurrent requests for the same session wait
+        // for the same load.
+        //==========================================
+        final boolean[] expiredHolder = new boolean[]{false};
+        StoredSession storedSession = getCache().get(sessionId, id -> {
+            StoredSession loadedSession = loadStoredSession(id);
+            if (loadedSession != null && isExpired(loadedSession)) {
+                expiredHolder[0] = true;
+                return null;
+            }
+            return loadedSession;
+        });
+
+        if (expiredHolder[0]) {
+            deleteSession(sessionId);
+            return null;
+        }
+
+        if (storedSession == null) {
+            return null;
+        }
+
+        return toSession(storedSession);
+    }
+
+    /**
+     * Loads a session that is not in memory.
+     *
+     * @return the session or <code>null</code> if not found.
+     */
+    protected StoredSession loadStoredSession(String sessionId) {
+
+        //==========================================
+        // Evicted but not sent to the backing
+        // repository yet?
+        //==========================================
+        StoredSession storedSession = getPendingSaves().get(sessionId);
+        if (storedSession == null && getSpincastSessionBackingRepository() != null) {
+            SpincastSession session = getSpincastSessionBackingRepository().getSession(sessionId);
+            if (session != null) {
+                storedSession = toStoredSession(session);
+            }
+        }
+        return storedSession;
+    }
+
+    @Override
+    public void saveSession(SpincastSession session) {
+        if (session == null || session.getId() == null) {
+            return;
+        }
+
+        StoredSession storedSession = toStoredSession(session);
+        getCache().put(session.getId(), storedSession);
+
+        if (getSpincastSessionBackingRepository() != null) {
+            getPendingDeletes().remove(session.getId());
+            getPendingSaves().put(session.getId(), storedSession);
+            startWriteBehindIfRequired();
+        }
+    }
+
+    @Override
+    public void deleteSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+
+        if (getSpincastSessionBackingRepository() != null) {
+            getPendingSaves().remove(sessionId);
+            getPendingDeletes().add(sessionId);
+            startWriteBehindIfRequired();
+        }
+        getCache().invalidate(sessionId);
+    }
+
+    /**
+     * The expired sessions are removed from memory, and
+     * deleted from the backing repository, as they expire.
+     * <p>
+     * The backing repository only needs to be swept when it may
+     * contain sessions that are not in memory : after a restart
+     * or when sessions have been evicted because the cache was full.
+     */
+    @Override
+    public void deleteOldInactiveSession(int sessionMaxInactiveMinutes) {
+        getCache().cleanUp();
+
+        SpincastSessionBackingRepository backingRepository = getSpincastSessionBackingRepository();
+        if (backingRepository != null && this.backingMayContainUntrackedSessions) {
+            this.backingMayContainUntrackedSessions = false;
+            flush();
+            backingRepository.deleteOldInactiveSession(sessionMaxInactiveMinutes);
+        }
+    }
+
+    /**
+     * Sends the pending modified and deleted sessions
+     * to the backing repository.
+     */
+    public synchronized void flush() {
+        SpincastSessionBackingRepository backingRepository = getSpincastSessionBackingRepository();
+        if (backingRepository == null) {
+            return;
+        }
+
+        List<StoredSession> storedSessionsToSave = new ArrayList<StoredSession>();
+        for (String sessionId : new ArrayList<String>(getPendingSaves().keySet())) {
+            StoredSession storedSession = getPendingSaves().remove(sessionId);
+            if (storedSession != null) {
+                storedSessionsToSave.add(storedSession);
+            }
+        }
+
+        List<String> sessionIdsToDelete = new ArrayList<String>();
+        for (String sessionId : new ArrayList<String>(getPendingDeletes())) {
+            if (getPendingDeletes().remove(sessionId)) {
+                sessionIdsToDelete.add(sessionId);
+            }
+        }
+
+        if (storedSessionsToSave.size() > 0) {
+            try {
+                List<SpincastSession> sessionsToSave = new ArrayList<SpincastSession>();
+                for (StoredSession storedSession : storedSessionsToSave) {
+                    sessionsToSave.add(toSession(storedSession));
+                }
+                backingRepository.saveSessions(sessionsToSave);
+            } catch (Exception ex) {
+                logger.error("Unable to save " + storedSessionsToSave.size() + " sessions, will retry", ex);
+                for (StoredSession storedSession : storedSessionsToSave) {
+                    if (!getPendingDeletes().contains(storedSession.getId())) {
+                        getPendingSaves().putIfAbsent(storedSession.getId(), storedSession);
+                    }
+                }
+            }
+        }
+
+        if (sessionIdsToDelete.size() > 0) {
+            try {
+                backingRepository.deleteSessions(sessionIdsToDelete);
+            } catch (Exception ex) {
+                logger.error("Unable to delete " + sessionIdsToDelete.size() + " sessions, will retry", ex);
+                for (String sessionId : sessionIdsToDelete) {
+                    if (!getPendingSaves().containsKey(sessionId)) {
+                        getPendingDeletes().add(sessionId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts the write-behind thread, if it is not
+     * already running.
+     */
+    protected void startWriteBehindIfRequired() {
+        if (this.writeBehindExecutor != null) {
+            return;
+        }
+
+        synchronized (this.writeBehindLock) {
+            if (this.writeBehindExecutor == null) {
+                this.writeBehindExecutor = createWriteBehindExecutor();
+            }
+        }
+    }
+
+    protected ScheduledExecutorService createWriteBehindExecutor() {
+
+        int periodInSeconds = Math.max(1, getSpincastSessionConfig().getInMemoryRepositoryWriteBehindPeriodInSeconds());
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spincast-sessions-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushSafe,
+                                        periodInSeconds,
+                                        periodInSeconds,
+                                        TimeUnit.SECONDS);
+        return executor;
+    }
+
+    /**
+     * Stops the write-behind thread and sends the
+     * last modifications to the backing repository.
+     * <p>
+     * The thread is started again if sessions are
+     * modified afterward.
+     */
+    protected void stopWriteBehind() {
+        ScheduledExecutorService executor;
+        synchronized (this.writeBehindLock) {
+            executor = this.writeBehindExecutor;
+            this.writeBehindExecutor = null;
+        }
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+        flushSafe();
+    }
+
+    /**
+     * Sends the last modifications when the server
+     * is stopped.
+     */
+    @Override
+    public void serverStopped() {
+        stopWriteBehind();
+    }
+
+    protected void flushSafe() {
+        try {
+            flush();
+        } catch (Throwable ex) {
+            logger.error("Error sending the sessions to the backing repository", ex);
+        }
+    }
+
+    protected StoredSession toStoredSession(SpincastSession session) {
+        JsonObject attributes = session.getAttributes();
+        return new StoredSession(session.getId(),
+                                 session.getCreationDate(),
+                                 session.getModificationDate(),
+                                 attributes != null ? attributes.clone(false) : null);
+    }
+
+    /**
+     * Creates a session from a stored one. Its attributes
+     * are a mutable clone of the stored ones, which is cheap :
+     * they are only copied when they are modified.
+     */
+    protected SpincastSession toSession(StoredSession storedSession) {
+        JsonObject attributes = storedSession.getAttributes();
+        return getSpincastSessionFactory().createSession(storedSession.getId(),
+                                                         storedSession.getCreationDate(),
+                                                         storedSession.getModificationDate(),
+                                                         attributes != null ? attributes.clone(true) : null);
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.spincast.plugins.templatingaddon;
 
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -9,6 +10,7 @@ import org.spincast.core.exchange.RequestContext;
 import org.spincast.core.json.JsonArray;
 import org.spincast.core.json.JsonManager;
 import org.spincast.core.json.JsonObject;
+import org.spincast.core.json.JsonObjectPlainMapView;
 import org.spincast.core.locale.LocaleResolver;
 import org.spincast.core.templating.TemplatingEngine;
 import org.spincast.core.templating.TemplatingRequestContextAddon;
@@ -136,10 +138,7 @@ public class SpincastTemplatingRequestContextAddon<R extends RequestContext<?>>
     @Override
     public String fromTemplate(String templatePath, boolean isClasspathPath, JsonObject model, Locale locale) {
 
-        return fromTemplate(templatePath,
-                            isClasspathPath,
-                            (model != null ? model.convertToPlainMap() : null),
-                            locale);
+        return fromTemplate(templatePath, isClasspathPath, createParams(model), locale);
     }
 
     @Override
@@ -155,6 +154,36 @@ public class SpincastTemplatingRequestContextAddon<R extends RequestContext<?>>
         return getTemplatingEngine().fromTemplate(templatePath, isClasspathPath, params, locale);
     }
 
+    @Override
+    public void fromTemplate(String templatePath, boolean isClasspathPath, JsonObject model, Writer writer) {
+        fromTemplate(templatePath, isClasspathPath, model, getLocaleToUse(), writer);
+    }
+
+    @Override
+    public void fromTemplate(String templatePath, boolean isClasspathPath, JsonObject model, Locale locale, Writer writer) {
+
+        Map<String, Object> params = createParams(model);
+
+        // We also add the global variables!
+        params.putAll(getTemplatingGlobalVariables());
+
+        getTemplatingEngine().fromTemplate(templatePath, isClasspathPath, params, locale, writer);
+    }
+
+    /**
+     * The root parameters created from a model.
+     * <p>
+     * Only the root level is copied : the <code>JsonObject</code> and
+     * <code>JsonArray</code> elements are passed as read-only views
+     * so a render doesn't copy the whole model.
+     */
+    protected Map<String, Object> createParams(JsonObject model) {
+        if (model == null) {
+            return new HashMap<String, Object>();
+        }
+        return new HashMap<String, Object>(new JsonObjectPlainMapView(model));
+    }
+
     @Override
     public void addTemplatingGlobalVariable(String key, Object value) {
 
@@ -0,0 +1,158 @@
+package org.spincast.plugins.undertow.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.spincast.core.config.SpincastConfig;
+import org.spincast.core.controllers.FrontController;
+import org.spincast.core.cookies.CookieFactory;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.guice.SpincastGuiceModuleBase;
+import org.spincast.core.routing.Handler;
+import org.spincast.core.server.Server;
+import org.spincast.core.utils.SpincastUtils;
+import org.spincast.core.utils.ssl.SSLContextFactory;
+import org.spincast.plugins.httpclient.HttpResponse;
+import org.spincast.plugins.undertow.CacheBusterRemovalHandlerFactory;
+import org.spincast.plugins.undertow.CorsHandlerFactory;
+import org.spincast.plugins.undertow.GzipCheckerHandlerFactory;
+import org.spincast.plugins.undertow.SkipResourceOnQueryStringHandlerFactory;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
+import org.spincast.plugins.undertow.SpincastClassPathResourceManagerFactory;
+import org.spincast.plugins.undertow.SpincastHttpAuthIdentityManagerFactory;
+import org.spincast.plugins.undertow.SpincastResourceHandlerFactory;
+import org.spincast.plugins.undertow.SpincastUndertowServer;
+import org.spincast.plugins.undertow.SpincastUndertowUtils;
+import org.spincast.plugins.undertow.WebsocketEndpointFactory;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+import org.spincast.shaded.org.apache.http.HttpStatus;
+import org.spincast.testing.defaults.NoAppStartHttpServerTestingBase;
+
+import com.google.inject.Inject;
+import com.google.inject.Module;
+import com.google.inject.Scopes;
+import com.google.inject.util.Modules;
+
+public class FrontControllerExecutorTest extends NoAppStartHttpServerTestingBase {
+
+    protected static final List<ExecutorService> executorsCreated = new CopyOnWriteArrayList<ExecutorService>();
+
+    public static class TestingSpincastUndertowServer extends SpincastUndertowServer {
+
+        @Inject
+        public TestingSpincastUndertowServer(SpincastUndertowUtils spincastUndertowUtils,
+                                             SpincastConfig config, SpincastUndertowConfig spincastUndertowConfig,
+                                             FrontController frontController, SpincastUtils spincastUtils,
+                                             CookieFactory cookieFactory, CorsHandlerFactory corsHandlerFactory,
+                                             GzipCheckerHandlerFactory gzipCheckerHandlerFactory,
+                                             SkipResourceOnQueryStringHandlerFactory skipResourceOnQueryStringHandlerFactory,
+                                             SpincastResourceHandlerFactory spincastResourceHandlerFactory,
+                                             CacheBusterRemovalHandlerFactory cacheBusterRemovalHandlerFactory,
+                                             SpincastClassPathResourceManagerFactory fileClassPathResourceManagerFactory,
+                                             SpincastHttpAuthIdentityManagerFactory spincastHttpAuthIdentityManagerFactory,
+                                             WebsocketEndpointFactory spincastWebsocketEndpointFactory,
+                                             SSLContextFactory sslContextFactory,
+                                             SpincastByteBufferPool spincastByteBufferPool) {
+            super(spincastUndertowUtils,
+                  config,
+                  spincastUndertowConfig,
+                  frontController,
+                  spincastUtils,
+                  cookieFactory,
+                  corsHandlerFactory,
+                  gzipCheckerHandlerFactory,
+                  skipResourceOnQueryStringHandlerFactory,
+                  spincastResourceHandlerFactory,
+                  cacheBusterRemovalHandlerFactory,
+                  fileClassPathResourceManagerFactory,
+                  spincastHttpAuthIdentityManagerFactory,
+                  spincastWebsocketEndpointFactory,
+                  sslContextFactory,
+                  spincastByteBufferPool);
+        }
+
+        @Override
+        protected ExecutorService createFrontControllerExecutor() {
+            ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setName("test-front-controller-" + thread.getId());
+                return thread;
+            });
+            executorsCreated.add(executor);
+            return executor;
+        }
+    }
+
+    @Override
+    protected Module getExtraOverridingModule() {
+        return Modules.override(super.getExtraOverridingModule()).with(new SpincastGuiceModuleBase() {
+
+            @Override
+            protected void configure() {
+                bind(Server.class).to(TestingSpincastUndertowServer.class).in(Scopes.SINGLETON);
+            }
+        });
+    }
+
+    protected void addThreadNameRoute(final String[] threadNameWrapper) {
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                threadNameWrapper[0] = Thread.currentThread().getName();
+                context.response().sendPlainText("ok");
+            }
+        });
+    }
+
+    @Test
+    public void createdOnceAtStart() throws Exception {
+
+        final String[] threadNameWrapper = new String[]{null};
+        addThreadNameRoute(threadNameWrapper);
+
+        int nbrCreated = executorsCreated.size();
+        assertTrue(nbrCreated > 0);
+
+        for (int i = 0; i < 5; i++) {
+            HttpResponse response = GET("/").send();
+            assertEquals(HttpStatus.SC_OK, response.getStatus());
+            assertEquals("ok", response.getContentAsString());
+            assertTrue(threadNameWrapper[0].startsWith("test-front-controller-"));
+        }
+
+        assertEquals(nbrCreated, executorsCreated.size());
+    }
+
+    @Test
+    public void shutdownOnStopAndRecreatedOnStart() throws Exception {
+
+        final String[] threadNameWrapper = new String[]{null};
+        addThreadNameRoute(threadNameWrapper);
+
+        int nbrCreated = executorsCreated.size();
+        ExecutorService executor = executorsCreated.get(nbrCreated - 1);
+        assertFalse(executor.isShutdown());
+
+        getServer().stop(false);
+        assertTrue(executor.isShutdown());
+
+        getServer().start();
+        assertEquals(nbrCreated + 1, executorsCreated.size());
+        ExecutorService newExecutor = executorsCreated.get(nbrCreated);
+        assertTrue(newExecutor != executor);
+        assertFalse(newExecutor.isShutdown());
+
+        HttpResponse response = GET("/").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertTrue(threadNameWrapper[0].startsWith("test-front-controller-"));
+    }
+
+}
@@ -3,6 +3,7 @@ package org.spincast.plugins.undertow.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.Map;
@@ -58,4 +59,33 @@ public class HeadersTest extends NoAppStartHttpServerTestingBase {
         assertEquals(HttpStatus.SC_OK, response.getStatus());
     }
 
+    @Test
+    public void singleHeader() throws Exception {
+
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+
+                List<String> headers = HeadersTest.this.server.getRequestHeader(context.exchange(), "mykey");
+                assertNotNull(headers);
+                assertEquals(2, headers.size());
+                assertEquals("MyValue1", headers.get(0));
+                assertEquals("MyValue2", headers.get(1));
+
+                headers = HeadersTest.this.server.getRequestHeader(context.exchange(), "Nope");
+                assertNotNull(headers);
+                assertTrue(headers.isEmpty());
+
+                assertEquals("MyValue1", context.request().getHeaderFirst("MYKEY"));
+                assertTrue(context.request().getHeader("Nope").isEmpty());
+
+                context.response().sendPlainText("ok");
+            }
+        });
+
+        HttpResponse response = GET("/").addHeaderValue("MyKey", "MyValue1").addHeaderValue("MyKey", "MyValue2").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+    }
+
 }
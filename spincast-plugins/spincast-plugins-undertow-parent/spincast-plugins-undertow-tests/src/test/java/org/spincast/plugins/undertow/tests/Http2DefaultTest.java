@@ -25,6 +25,7 @@ import org.spincast.plugins.undertow.CorsHandlerFactory;
 import org.spincast.plugins.undertow.SpincastClassPathResourceManagerFactory;
 import org.spincast.plugins.undertow.GzipCheckerHandlerFactory;
 import org.spincast.plugins.undertow.SkipResourceOnQueryStringHandlerFactory;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
 import org.spincast.plugins.undertow.SpincastHttpAuthIdentityManagerFactory;
 import org.spincast.plugins.undertow.SpincastResourceHandlerFactory;
 import org.spincast.plugins.undertow.SpincastUndertowServer;
@@ -87,7 +88,8 @@ public class Http2DefaultTest extends NoAppStartHttpServerTestingBase {
                                              SpincastClassPathResourceManagerFactory fileClassPathResourceManagerFactory,
                                              SpincastHttpAuthIdentityManagerFactory spincastHttpAuthIdentityManagerFactory,
                                              WebsocketEndpointFactory spincastWebsocketEndpointFactory,
-                                             SSLContextFactory sslContextFactory) {
+                                             SSLContextFactory sslContextFactory,
+                                             SpincastByteBufferPool spincastByteBufferPool) {
             super(spincastUndertowUtils,
                   config,
                   spincastUndertowConfig,
@@ -102,7 +104,8 @@ public class Http2DefaultTest extends NoAppStartHttpServerTestingBase {
                   fileClassPathResourceManagerFactory,
                   spincastHttpAuthIdentityManagerFactory,
                   spincastWebsocketEndpointFactory,
-                  sslContextFactory);
+                  sslContextFactory,
+                  spincastByteBufferPool);
         }
 
         @Override
@@ -21,6 +21,7 @@ import org.spincast.plugins.undertow.CorsHandlerFactory;
 import org.spincast.plugins.undertow.SpincastClassPathResourceManagerFactory;
 import org.spincast.plugins.undertow.GzipCheckerHandlerFactory;
 import org.spincast.plugins.undertow.SkipResourceOnQueryStringHandlerFactory;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
 import org.spincast.plugins.undertow.SpincastHttpAuthIdentityManagerFactory;
 import org.spincast.plugins.undertow.SpincastResourceHandlerFactory;
 import org.spincast.plugins.undertow.SpincastUndertowServer;
@@ -76,7 +77,8 @@ public class Http2PushHeadersTest extends NoAppStartHttpServerTestingBase {
                                              SpincastClassPathResourceManagerFactory fileClassPathResourceManagerFactory,
                                              SpincastHttpAuthIdentityManagerFactory spincastHttpAuthIdentityManagerFactory,
                                              WebsocketEndpointFactory spincastWebsocketEndpointFactory,
-                                             SSLContextFactory sslContextFactory) {
+                                             SSLContextFactory sslContextFactory,
+                                             SpincastByteBufferPool spincastByteBufferPool) {
             super(spincastUndertowUtils,
                   config,
                   spincastUndertowConfig,
@@ -91,7 +93,8 @@ public class Http2PushHeadersTest extends NoAppStartHttpServerTestingBase {
                   fileClassPathResourceManagerFactory,
                   spincastHttpAuthIdentityManagerFactory,
                   spincastWebsocketEndpointFactory,
-                  sslContextFactory);
+                  sslContextFactory,
+                  spincastByteBufferPool);
         }
 
         @Override
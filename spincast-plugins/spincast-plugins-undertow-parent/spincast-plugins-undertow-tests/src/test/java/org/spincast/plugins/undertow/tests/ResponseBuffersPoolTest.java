@@ -0,0 +1,146 @@
+package org.spincast.plugins.undertow.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Test;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.routing.Handler;
+import org.spincast.core.utils.GzipOption;
+import org.spincast.core.utils.SpincastStatics;
+import org.spincast.plugins.httpclient.HttpResponse;
+import org.spincast.plugins.undertow.SpincastByteBufferPool;
+import org.spincast.shaded.org.apache.http.HttpStatus;
+import org.spincast.testing.defaults.NoAppStartHttpServerTestingBase;
+
+import com.google.inject.Inject;
+
+public class ResponseBuffersPoolTest extends NoAppStartHttpServerTestingBase {
+
+    @Inject
+    protected SpincastByteBufferPool spincastByteBufferPool;
+
+    protected String createContent(int nbrChars) {
+        StringBuilder builder = new StringBuilder(nbrChars);
+        for (int i = 0; i < nbrChars; i++) {
+            builder.append((char)('a' + (i % 26)));
+        }
+        return builder.toString();
+    }
+
+    protected long getLeasesNbr() {
+        return this.spincastByteBufferPool.getHitsNbr() + this.spincastByteBufferPool.getMissesNbr();
+    }
+
+    @Test
+    public void buffersAreReused() throws Exception {
+
+        final String content = createContent(this.spincastByteBufferPool.getBufferSize() * 2 + 123);
+
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().setGzipOption(GzipOption.DISABLE);
+                context.response().sendPlainText(content);
+            }
+        });
+
+        long leasesBefore = getLeasesNbr();
+
+        for (int i = 0; i < 5; i++) {
+            HttpResponse response = GET("/").send();
+            assertEquals(HttpStatus.SC_OK, response.getStatus());
+            assertEquals(content, response.getContentAsString());
+        }
+
+        //==========================================
+        // A single buffer is leased per response, and
+        // reused until the response is sent.
+        //==========================================
+        assertEquals(5, getLeasesNbr() - leasesBefore);
+        assertTrue(this.spincastByteBufferPool.getHitsNbr() > 0);
+    }
+
+    @Test
+    public void largeResponse() throws Exception {
+
+        final String content = createContent(this.spincastByteBufferPool.getBufferSize() * 20);
+
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().setGzipOption(GzipOption.DISABLE);
+                context.response().sendPlainText(content);
+            }
+        });
+
+        long leasesBefore = getLeasesNbr();
+
+        HttpResponse response = GET("/").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(content, response.getContentAsString());
+
+        assertEquals(1, getLeasesNbr() - leasesBefore);
+    }
+
+    @Test
+    public void emptyResponse() throws Exception {
+
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                context.response().setGzipOption(GzipOption.DISABLE);
+                context.response().flush();
+            }
+        });
+
+        long leasesBefore = getLeasesNbr();
+
+        HttpResponse response = GET("/").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals("", response.getContentAsString());
+
+        //==========================================
+        // No buffer is leased for empty flushes.
+        //==========================================
+        assertEquals(0, getLeasesNbr() - leasesBefore);
+    }
+
+    @Test
+    public void streamedResponse() throws Exception {
+
+        final String content = createContent(this.spincastByteBufferPool.getBufferSize() * 20);
+
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                try {
+                    context.response().setGzipOption(GzipOption.DISABLE);
+                    context.response().sendStream(new ByteArrayInputStream(content.getBytes("UTF-8")));
+                } catch (Exception ex) {
+                    throw SpincastStatics.runtimize(ex);
+                }
+            }
+        });
+
+        long leasesBefore = getLeasesNbr();
+
+        HttpResponse response = GET("/").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals(content, response.getContentAsString());
+
+        //==========================================
+        // One buffer for the first chunk, which sends
+        // the headers, and one in which the rest of the
+        // stream is written directly.
+        //==========================================
+        assertEquals(2, getLeasesNbr() - leasesBefore);
+    }
+
+}
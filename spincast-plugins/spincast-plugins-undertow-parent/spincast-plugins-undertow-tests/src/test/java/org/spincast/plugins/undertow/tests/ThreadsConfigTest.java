@@ -0,0 +1,112 @@
+package org.spincast.plugins.undertow.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.spincast.core.exchange.DefaultRequestContext;
+import org.spincast.core.guice.SpincastGuiceModuleBase;
+import org.spincast.core.routing.Handler;
+import org.spincast.core.server.Server;
+import org.spincast.plugins.httpclient.HttpResponse;
+import org.spincast.plugins.undertow.SpincastUndertowServer;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+import org.spincast.plugins.undertow.config.SpincastUndertowConfigDefault;
+import org.spincast.shaded.org.apache.http.HttpStatus;
+import org.spincast.testing.defaults.NoAppStartHttpServerTestingBase;
+
+import com.google.inject.Module;
+import com.google.inject.Scopes;
+import com.google.inject.util.Modules;
+
+import io.undertow.Undertow;
+
+public class ThreadsConfigTest extends NoAppStartHttpServerTestingBase {
+
+    public static class TestingSpincastUndertowConfig extends SpincastUndertowConfigDefault {
+
+        @Override
+        public Integer getIoThreadsNumber() {
+            return 2;
+        }
+
+        @Override
+        public Integer getWorkerThreadsNumber() {
+            return 5;
+        }
+
+        @Override
+        public boolean isDispatchToVirtualThreads() {
+            return true;
+        }
+    }
+
+    @Override
+    protected Module getExtraOverridingModule() {
+        return Modules.override(super.getExtraOverridingModule()).with(new SpincastGuiceModuleBase() {
+
+            @Override
+            protected void configure() {
+                bind(SpincastUndertowConfig.class).to(TestingSpincastUndertowConfig.class).in(Scopes.SINGLETON);
+            }
+        });
+    }
+
+    @Test
+    public void threadsNumbers() throws Exception {
+
+        Server server = getServer();
+        assertTrue(server instanceof SpincastUndertowServer);
+
+        Field undertowServerField = SpincastUndertowServer.class.getDeclaredField("undertowServer");
+        undertowServerField.setAccessible(true);
+        Undertow undertow = (Undertow)undertowServerField.get(server);
+
+        Field ioThreadsField = Undertow.class.getDeclaredField("ioThreads");
+        ioThreadsField.setAccessible(true);
+        assertEquals(2, ioThreadsField.get(undertow));
+
+        Field workerThreadsField = Undertow.class.getDeclaredField("workerThreads");
+        workerThreadsField.setAccessible(true);
+        assertEquals(5, workerThreadsField.get(undertow));
+    }
+
+    @Test
+    public void dispatchToVirtualThreads() throws Exception {
+
+        final boolean virtualThreadsAvailable = isVirtualThreadsAvailable();
+        final String[] threadNameWrapper = new String[]{null};
+
+        getRouter().GET("/").handle(new Handler<DefaultRequestContext>() {
+
+            @Override
+            public void handle(DefaultRequestContext context) {
+                threadNameWrapper[0] = Thread.currentThread().getName();
+                context.response().sendPlainText("ok");
+            }
+        });
+
+        HttpResponse response = GET("/").send();
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+        assertEquals("ok", response.getContentAsString());
+
+        //==========================================
+        // Without virtual threads, the worker threads
+        // are used.
+        //==========================================
+        assertEquals(!virtualThreadsAvailable, threadNameWrapper[0].startsWith("XNIO"));
+    }
+
+    protected boolean isVirtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+}
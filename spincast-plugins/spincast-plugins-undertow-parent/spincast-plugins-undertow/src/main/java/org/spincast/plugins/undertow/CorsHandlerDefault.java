@@ -14,12 +14,12 @@ import org.spincast.core.routing.StaticResourceCorsConfig;
 import org.spincast.shaded.org.apache.commons.lang3.StringUtils;
 
 import com.google.common.collect.Sets;
-import com.google.common.net.HttpHeaders;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 
 public class CorsHandlerDefault implements CorsHandler {
@@ -67,7 +67,7 @@ public class CorsHandlerDefault implements CorsHandler {
             // don't even call the cors filter is the "Origin"
             // header is not present.
             //==========================================
-            String origin = exchange.getRequestHeaders().getFirst(HttpHeaders.ORIGIN.toLowerCase());
+            String origin = exchange.getRequestHeaders().getFirst(Headers.ORIGIN);
             if (origin == null) {
                 break;
             }
@@ -0,0 +1,79 @@
+package org.spincast.plugins.undertow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import io.undertow.io.BlockingReceiverImpl;
+import io.undertow.io.BlockingSenderImpl;
+import io.undertow.io.Receiver;
+import io.undertow.io.Sender;
+import io.undertow.io.UndertowInputStream;
+import io.undertow.server.BlockingHttpExchange;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * The blocking mode of an exchange. The response is written
+ * using a {@link SpincastPooledBuffersOutputStream}.
+ */
+public class SpincastBlockingHttpExchange implements BlockingHttpExchange {
+
+    private final HttpServerExchange exchange;
+    private final SpincastByteBufferPool spincastByteBufferPool;
+
+    private InputStream inputStream;
+    private OutputStream outputStream;
+    private Sender sender;
+
+    public SpincastBlockingHttpExchange(HttpServerExchange exchange,
+                                        SpincastByteBufferPool spincastByteBufferPool) {
+        this.exchange = exchange;
+        this.spincastByteBufferPool = spincastByteBufferPool;
+    }
+
+    protected HttpServerExchange getExchange() {
+        return this.exchange;
+    }
+
+    protected SpincastByteBufferPool getSpincastByteBufferPool() {
+        return this.spincastByteBufferPool;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        if (this.inputStream == null) {
+            this.inputStream = new UndertowInputStream(getExchange());
+        }
+        return this.inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        if (this.outputStream == null) {
+            this.outputStream = new SpincastPooledBuffersOutputStream(getExchange(), getSpincastByteBufferPool());
+        }
+        return this.outputStream;
+    }
+
+    @Override
+    public Sender getSender() {
+        if (this.sender == null) {
+            this.sender = new BlockingSenderImpl(getExchange(), getOutputStream());
+        }
+        return this.sender;
+    }
+
+    @Override
+    public Receiver getReceiver() {
+        return new BlockingReceiverImpl(getExchange(), getInputStream());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            getInputStream().close();
+        } finally {
+            getOutputStream().close();
+        }
+    }
+}
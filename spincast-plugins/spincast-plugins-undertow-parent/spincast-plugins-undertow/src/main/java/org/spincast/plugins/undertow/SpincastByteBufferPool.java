@@ -0,0 +1,42 @@
+package org.spincast.plugins.undertow;
+
+import io.undertow.connector.PooledByteBuffer;
+
+/**
+ * Pool of direct <code>ByteBuffers</code> used to send
+ * the bytes of the responses.
+ * <p>
+ * A leased buffer must be closed once the bytes it contains
+ * have been written, so it is returned to the pool.
+ */
+public interface SpincastByteBufferPool {
+
+    /**
+     * Leases a buffer. A new one is created if the pool
+     * is empty.
+     */
+    public PooledByteBuffer allocate();
+
+    /**
+     * The size, in bytes, of the buffers.
+     */
+    public int getBufferSize();
+
+    /**
+     * The number of buffers currently available in the pool.
+     */
+    public int getAvailableBuffersNbr();
+
+    /**
+     * The number of times a buffer was leased from the
+     * pool.
+     */
+    public long getHitsNbr();
+
+    /**
+     * The number of times a new buffer had to be created
+     * because the pool was empty.
+     */
+    public long getMissesNbr();
+
+}
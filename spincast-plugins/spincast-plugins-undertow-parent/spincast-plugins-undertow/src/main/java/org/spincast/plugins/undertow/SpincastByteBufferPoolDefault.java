@@ -0,0 +1,130 @@
+package org.spincast.plugins.undertow;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+
+import com.google.inject.Inject;
+
+import io.undertow.connector.PooledByteBuffer;
+
+/**
+ * Default implementation of the {@link SpincastByteBufferPool}.
+ * <p>
+ * The buffers are created lazily and at most
+ * {@link SpincastUndertowConfig#getResponseBuffersPoolMaxSize()}
+ * of them are kept once returned.
+ */
+public class SpincastByteBufferPoolDefault implements SpincastByteBufferPool {
+
+    private final SpincastUndertowConfig spincastUndertowConfig;
+
+    private final Queue<ByteBuffer> availableBuffers = new ConcurrentLinkedQueue<ByteBuffer>();
+    private final AtomicInteger availableBuffersNbr = new AtomicInteger(0);
+    private final LongAdder hitsNbr = new LongAdder();
+    private final LongAdder missesNbr = new LongAdder();
+
+    @Inject
+    public SpincastByteBufferPoolDefault(SpincastUndertowConfig spincastUndertowConfig) {
+        this.spincastUndertowConfig = spincastUndertowConfig;
+    }
+
+    protected SpincastUndertowConfig getSpincastUndertowConfig() {
+        return this.spincastUndertowConfig;
+    }
+
+    protected Queue<ByteBuffer> getAvailableBuffers() {
+        return this.availableBuffers;
+    }
+
+    @Override
+    public PooledByteBuffer allocate() {
+
+        ByteBuffer buffer = getAvailableBuffers().poll();
+        if (buffer != null) {
+            this.availableBuffersNbr.decrementAndGet();
+            this.hitsNbr.increment();
+        } else {
+            buffer = createBuffer();
+            this.missesNbr.increment();
+        }
+
+        return createPooledByteBuffer(buffer);
+    }
+
+    protected ByteBuffer createBuffer() {
+        return ByteBuffer.allocateDirect(getBufferSize());
+    }
+
+    protected PooledByteBuffer createPooledByteBuffer(ByteBuffer buffer) {
+        return new PooledByteBufferDefault(buffer);
+    }
+
+    /**
+     * Returns a buffer to the pool, if it is not full.
+     */
+    protected void release(ByteBuffer buffer) {
+        if (this.availableBuffersNbr.incrementAndGet() > getSpincastUndertowConfig().getResponseBuffersPoolMaxSize()) {
+            this.availableBuffersNbr.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        getAvailableBuffers().offer(buffer);
+    }
+
+    @Override
+    public int getBufferSize() {
+        return getSpincastUndertowConfig().getResponseBuffersSize();
+    }
+
+    @Override
+    public int getAvailableBuffersNbr() {
+        return this.availableBuffersNbr.get();
+    }
+
+    @Override
+    public long getHitsNbr() {
+        return this.hitsNbr.sum();
+    }
+
+    @Override
+    public long getMissesNbr() {
+        return this.missesNbr.sum();
+    }
+
+    protected class PooledByteBufferDefault implements PooledByteBuffer {
+
+        private final ByteBuffer buffer;
+        private final AtomicBoolean open = new AtomicBoolean(true);
+
+        public PooledByteBufferDefault(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public ByteBuffer getBuffer() {
+            if (!isOpen()) {
+                throw new IllegalStateException("The buffer has been returned to the pool.");
+            }
+            return this.buffer;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return this.open.get();
+        }
+
+        @Override
+        public void close() {
+            if (this.open.compareAndSet(true, false)) {
+                release(this.buffer);
+            }
+        }
+    }
+
+}
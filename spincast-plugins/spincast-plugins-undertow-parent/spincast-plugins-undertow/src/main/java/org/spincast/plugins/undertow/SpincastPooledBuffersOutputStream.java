@@ -0,0 +1,179 @@
+package org.spincast.plugins.undertow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.xnio.channels.Channels;
+import org.xnio.channels.StreamSinkChannel;
+
+import io.undertow.UndertowMessages;
+import io.undertow.connector.PooledByteBuffer;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * Blocking <code>OutputStream</code> of a response.
+ * <p>
+ * The bytes are written directly to a direct buffer leased
+ * from the {@link SpincastByteBufferPool}. This buffer is written
+ * to the response channel each time it is full and is returned
+ * to the pool when the stream is flushed or closed.
+ * <p>
+ * No buffer is leased if nothing is written. Must not be used
+ * from an IO thread.
+ */
+public class SpincastPooledBuffersOutputStream extends OutputStream {
+
+    private final HttpServerExchange exchange;
+    private final SpincastByteBufferPool spincastByteBufferPool;
+
+    private PooledByteBuffer pooledBuffer;
+    private StreamSinkChannel channel;
+    private boolean closed = false;
+
+    public SpincastPooledBuffersOutputStream(HttpServerExchange exchange,
+                                             SpincastByteBufferPool spincastByteBufferPool) {
+        this.exchange = exchange;
+        this.spincastByteBufferPool = spincastByteBufferPool;
+    }
+
+    protected HttpServerExchange getExchange() {
+        return this.exchange;
+    }
+
+    protected SpincastByteBufferPool getSpincastByteBufferPool() {
+        return this.spincastByteBufferPool;
+    }
+
+    /**
+     * The current buffer, leased if required.
+     */
+    protected ByteBuffer getBuffer() {
+        if (this.pooledBuffer == null) {
+            this.pooledBuffer = getSpincastByteBufferPool().allocate();
+            this.pooledBuffer.getBuffer().clear();
+        }
+        return this.pooledBuffer.getBuffer();
+    }
+
+    /**
+     * The response channel. May be <code>null</code> if it has
+     * already been taken by something else.
+     */
+    protected StreamSinkChannel getChannel() {
+        if (this.channel == null) {
+            this.channel = getExchange().getResponseChannel();
+        }
+        return this.channel;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        validateNotClosed();
+
+        ByteBuffer buffer = getBuffer();
+        buffer.put((byte)b);
+        if (!buffer.hasRemaining()) {
+            writeBuffer();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        validateNotClosed();
+
+        while (length > 0) {
+            ByteBuffer buffer = getBuffer();
+            int nbrBytes = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, nbrBytes);
+            offset += nbrBytes;
+            length -= nbrBytes;
+
+            if (!buffer.hasRemaining()) {
+                writeBuffer();
+            }
+        }
+    }
+
+    /**
+     * Writes the content of the current buffer to the
+     * channel, in blocking mode. The buffer is kept to
+     * receive the next bytes.
+     */
+    protected void writeBuffer() throws IOException {
+
+        ByteBuffer buffer = this.pooledBuffer.getBuffer();
+        buffer.flip();
+        try {
+            StreamSinkChannel channel = getChannel();
+            if (channel == null) {
+                throw UndertowMessages.MESSAGES.responseChannelAlreadyProvided();
+            }
+            Channels.writeBlocking(channel, buffer);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Writes the buffered bytes and flushes the channel. The
+     * headers are sent, even if there are no bytes.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            if (this.pooledBuffer != null && this.pooledBuffer.getBuffer().position() > 0) {
+                writeBuffer();
+            }
+        } finally {
+            releaseBuffer();
+        }
+
+        StreamSinkChannel channel = getChannel();
+        if (channel != null) {
+            Channels.flushBlocking(channel);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        try {
+            if (this.pooledBuffer != null && this.pooledBuffer.getBuffer().position() > 0) {
+                writeBuffer();
+            }
+        } finally {
+            releaseBuffer();
+        }
+
+        StreamSinkChannel channel = getChannel();
+        if (channel != null) {
+            channel.shutdownWrites();
+            Channels.flushBlocking(channel);
+        }
+    }
+
+    /**
+     * Returns the current buffer, if any, to the pool.
+     */
+    protected void releaseBuffer() {
+        if (this.pooledBuffer != null) {
+            this.pooledBuffer.close();
+            this.pooledBuffer = null;
+        }
+    }
+
+    protected void validateNotClosed() throws IOException {
+        if (this.closed) {
+            throw UndertowMessages.MESSAGES.streamIsClosed();
+        }
+    }
+}
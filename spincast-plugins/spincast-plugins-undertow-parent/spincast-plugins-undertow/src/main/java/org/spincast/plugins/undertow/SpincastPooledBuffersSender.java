@@ -0,0 +1,193 @@
+package org.spincast.plugins.undertow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import io.undertow.connector.PooledByteBuffer;
+import io.undertow.io.AsyncSenderImpl;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * Asynchronous sender of a response.
+ * <p>
+ * The bytes are copied to direct buffers leased from
+ * the {@link SpincastByteBufferPool}, since the array may be
+ * reused by the caller before they are sent. The buffers are
+ * returned to the pool once the bytes are sent.
+ * <p>
+ * Only one send can be in progress at a time : the bytes
+ * flushed while a send is in progress are queued and sent
+ * once it is completed. The calling thread never waits.
+ */
+public class SpincastPooledBuffersSender {
+
+    private final HttpServerExchange exchange;
+    private final SpincastByteBufferPool spincastByteBufferPool;
+    private final Queue<PendingSend> pendingSends = new ArrayDeque<PendingSend>();
+
+    private Sender sender;
+    private boolean sending = false;
+
+    public SpincastPooledBuffersSender(HttpServerExchange exchange,
+                                       SpincastByteBufferPool spincastByteBufferPool) {
+        this.exchange = exchange;
+        this.spincastByteBufferPool = spincastByteBufferPool;
+    }
+
+    protected HttpServerExchange getExchange() {
+        return this.exchange;
+    }
+
+    protected SpincastByteBufferPool getSpincastByteBufferPool() {
+        return this.spincastByteBufferPool;
+    }
+
+    /**
+     * The asynchronous sender. We don't use the one of the
+     * exchange, since it is a blocking one once the request
+     * body has been read.
+     */
+    protected Sender getSender() {
+        if (this.sender == null) {
+            this.sender = new AsyncSenderImpl(getExchange());
+        }
+        return this.sender;
+    }
+
+    /**
+     * Sends the bytes, or queues them if a send is
+     * already in progress, and then calls the specified
+     * callback.
+     */
+    public void send(byte[] bytes, int offset, int length, IoCallback callback) {
+
+        PendingSend pendingSend = createPendingSend(bytes, offset, length, callback);
+
+        synchronized (this) {
+            if (this.sending) {
+                this.pendingSends.add(pendingSend);
+                return;
+            }
+            this.sending = true;
+        }
+
+        send(pendingSend);
+    }
+
+    /**
+     * Copies the bytes to pooled buffers. Nothing is
+     * leased if there are no bytes.
+     */
+    protected PendingSend createPendingSend(byte[] bytes, int offset, int length, IoCallback callback) {
+
+        if (length == 0) {
+            return new PendingSend(new ByteBuffer[]{ByteBuffer.allocate(0)}, new PooledByteBuffer[0], callback);
+        }
+
+        int bufferSize = getSpincastByteBufferPool().getBufferSize();
+        int nbrBuffers = (length + bufferSize - 1) / bufferSize;
+        PooledByteBuffer[] pooledBuffers = new PooledByteBuffer[nbrBuffers];
+        ByteBuffer[] buffers = new ByteBuffer[nbrBuffers];
+        int position = offset;
+        int remaining = length;
+        for (int i = 0; i < nbrBuffers; i++) {
+            pooledBuffers[i] = getSpincastByteBufferPool().allocate();
+            ByteBuffer buffer = pooledBuffers[i].getBuffer();
+            buffer.clear();
+            int nbrBytes = Math.min(remaining, buffer.remaining());
+            buffer.put(bytes, position, nbrBytes);
+            buffer.flip();
+            buffers[i] = buffer;
+            position += nbrBytes;
+            remaining -= nbrBytes;
+        }
+
+        return new PendingSend(buffers, pooledBuffers, callback);
+    }
+
+    protected void send(final PendingSend pendingSend) {
+
+        getSender().send(pendingSend.getBuffers(), new IoCallback() {
+
+            @Override
+            public void onComplete(HttpServerExchange exchange, Sender sender) {
+                pendingSend.release();
+                pendingSend.getCallback().onComplete(exchange, sender);
+                sendNext();
+            }
+
+            @Override
+            public void onException(HttpServerExchange exchange, Sender sender, IOException exception) {
+                pendingSend.release();
+                releasePendingSends();
+                pendingSend.getCallback().onException(exchange, sender, exception);
+            }
+        });
+    }
+
+    /**
+     * Sends the next queued bytes, if any.
+     */
+    protected void sendNext() {
+        PendingSend next;
+        synchronized (this) {
+            next = this.pendingSends.poll();
+            if (next == null) {
+                this.sending = false;
+                return;
+            }
+        }
+        send(next);
+    }
+
+    /**
+     * Nothing more will be sent : the queued buffers
+     * are returned to the pool.
+     */
+    protected void releasePendingSends() {
+        synchronized (this) {
+            PendingSend pendingSend;
+            while ((pendingSend = this.pendingSends.poll()) != null) {
+                pendingSend.release();
+            }
+        }
+    }
+
+    /**
+     * Bytes to send, and the callback to call
+     * once they are sent.
+     */
+    protected static class PendingSend {
+
+        private final ByteBuffer[] buffers;
+        private final PooledByteBuffer[] pooledBuffers;
+        private final IoCallback callback;
+
+        public PendingSend(ByteBuffer[] buffers, PooledByteBuffer[] pooledBuffers, IoCallback callback) {
+            this.buffers = buffers;
+            this.pooledBuffers = pooledBuffers;
+            this.callback = callback;
+        }
+
+        public ByteBuffer[] getBuffers() {
+            return this.buffers;
+        }
+
+        public IoCallback getCallback() {
+            return this.callback;
+        }
+
+        /**
+         * Returns the buffers to the pool.
+         */
+        public void release() {
+            for (PooledByteBuffer pooledBuffer : this.pooledBuffers) {
+                pooledBuffer.close();
+            }
+        }
+    }
+}
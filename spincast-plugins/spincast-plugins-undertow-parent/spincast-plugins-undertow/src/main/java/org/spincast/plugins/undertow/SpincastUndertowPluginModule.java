@@ -24,6 +24,7 @@ public class SpincastUndertowPluginModule extends SpincastGuiceModuleBase {
 
         bind(Server.class).to(getSpincastUndertowServerClass()).in(Scopes.SINGLETON);
         bindSpincastUndertowUtils();
+        bindSpincastByteBufferPool();
         bindCorsHandlerFactory();
         bindGzipCheckerHandlerFactory();
         bindSkipResourceOnQueryStringHandlerFactory();
@@ -32,6 +33,7 @@ public class SpincastUndertowPluginModule extends SpincastGuiceModuleBase {
         bindFileClassPathResourceManagerFactory();
         bindHttpAuthIdentityManagerFactory();
         bindUndertowWebsocketEndpointWriterFactory();
+        bindSpincastWebsocketExecutors();
         bindWebsocketEndpointFactory();
     }
 
@@ -43,6 +45,14 @@ public class SpincastUndertowPluginModule extends SpincastGuiceModuleBase {
         return SpincastUndertowUtilsDefault.class;
     }
 
+    protected void bindSpincastByteBufferPool() {
+        bind(SpincastByteBufferPool.class).to(getSpincastByteBufferPoolClass()).in(Scopes.SINGLETON);
+    }
+
+    protected Class<? extends SpincastByteBufferPool> getSpincastByteBufferPoolClass() {
+        return SpincastByteBufferPoolDefault.class;
+    }
+
     protected Class<? extends Server> getSpincastUndertowServerClass() {
         return SpincastUndertowServer.class;
     }
@@ -131,6 +141,14 @@ public class SpincastUndertowPluginModule extends SpincastGuiceModuleBase {
         return SpincastUndertowWebsocketEndpointWriter.class;
     }
 
+    protected void bindSpincastWebsocketExecutors() {
+        bind(SpincastWebsocketExecutors.class).to(getSpincastWebsocketExecutorsClass()).in(Scopes.SINGLETON);
+    }
+
+    protected Class<? extends SpincastWebsocketExecutors> getSpincastWebsocketExecutorsClass() {
+        return SpincastWebsocketExecutorsDefault.class;
+    }
+
     protected void bindWebsocketEndpointFactory() {
         install(new FactoryModuleBuilder().implement(WebsocketEndpoint.class,
                                                      getWebsocketEndpointClass())
@@ -3,6 +3,7 @@ package org.spincast.plugins.undertow;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.BindException;
 import java.net.URL;
 import java.net.URLDecoder;
@@ -23,9 +24,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringTokenizer;
-import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.net.ssl.SSLContext;
 
@@ -69,6 +72,7 @@ import io.undertow.security.handlers.AuthenticationConstraintHandler;
 import io.undertow.security.handlers.AuthenticationMechanismsHandler;
 import io.undertow.security.handlers.SecurityInitialHandler;
 import io.undertow.security.impl.BasicAuthenticationMechanism;
+import io.undertow.server.BlockingHttpExchange;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.ServerConnection;
@@ -82,7 +86,9 @@ import io.undertow.server.handlers.form.FormDataParser;
 import io.undertow.server.handlers.form.FormEncodedDataDefinition;
 import io.undertow.server.handlers.form.FormParserFactory;
 import io.undertow.server.handlers.form.MultiPartParserDefinition;
+import io.undertow.util.AttachmentKey;
 import io.undertow.util.HeaderMap;
+import io.undertow.util.Headers;
 import io.undertow.util.HeaderValues;
 import io.undertow.util.HttpString;
 
@@ -98,6 +104,18 @@ public class SpincastUndertowServer implements Server {
     public static final String EXCHANGE_VARIABLE_EXCHANGE_COMPLETED =
             SpincastUndertowServer.class.getName() + "_exchangeCompleted";
 
+    /**
+     * Present when the response of the exchange
+     * is streamed.
+     */
+    protected static final AttachmentKey<Boolean> STREAMING_MODE_ATTACHMENT_KEY = AttachmentKey.create(Boolean.class);
+
+    protected static final AttachmentKey<SpincastPooledBuffersSender> POOLED_BUFFERS_SENDER_ATTACHMENT_KEY =
+            AttachmentKey.create(SpincastPooledBuffersSender.class);
+
+    protected static final HttpString HEADER_X_REQUESTED_WITH = new HttpString("X-Requested-With");
+    protected static final HttpString HEADER_X_FORWARDED_PORT = new HttpString(HttpHeadersExtra.X_FORWARDED_PORT);
+
     private final SpincastUndertowUtils spincastUndertowUtils;
     private final WebsocketEndpointFactory spincastWebsocketEndpointFactory;
     private final SpincastUtils spincastUtils;
@@ -113,6 +131,7 @@ public class SpincastUndertowServer implements Server {
     private final SpincastClassPathResourceManagerFactory fileClassPathResourceManagerFactory;
     private final SpincastHttpAuthIdentityManagerFactory spincastHttpAuthIdentityManagerFactory;
     private final SSLContextFactory sslContextFactory;
+    private final SpincastByteBufferPool spincastByteBufferPool;
 
     private Undertow undertowServer;
     private IoCallback doNothingCallback = null;
@@ -132,6 +151,7 @@ public class SpincastUndertowServer implements Server {
             new ConcurrentHashMap<String, WebsocketEndpoint>();
 
     private HttpHandler spincastFrontControllerHandler;
+    private volatile ExecutorService frontControllerExecutor;
     private PathHandler staticResourcesPathHandler;
     private PathHandler httpAuthenticationHandler;
     private CacheBusterRemovalHandler cacheBusterRemovalHandler;
@@ -160,7 +180,8 @@ public class SpincastUndertowServer implements Server {
                                   SpincastClassPathResourceManagerFactory fileClassPathResourceManagerFactory,
                                   SpincastHttpAuthIdentityManagerFactory spincastHttpAuthIdentityManagerFactory,
                                   WebsocketEndpointFactory spincastWebsocketEndpointFactory,
-                                  SSLContextFactory sslContextFactory) {
+                                  SSLContextFactory sslContextFactory,
+                                  SpincastByteBufferPool spincastByteBufferPool) {
         this.spincastUndertowUtils = spincastUndertowUtils;
         this.config = config;
         this.spincastUndertowConfig = spincastUndertowConfig;
@@ -176,6 +197,11 @@ public class SpincastUndertowServer implements Server {
         this.spincastHttpAuthIdentityManagerFactory = spincastHttpAuthIdentityManagerFactory;
         this.spincastWebsocketEndpointFactory = spincastWebsocketEndpointFactory;
         this.sslContextFactory = sslContextFactory;
+        this.spincastByteBufferPool = spincastByteBufferPool;
+    }
+
+    protected SpincastByteBufferPool getSpincastByteBufferPool() {
+        return this.spincastByteBufferPool;
     }
 
     protected SpincastUndertowUtils getSpincastUndertowUtils() {
@@ -298,6 +324,12 @@ public class SpincastUndertowServer implements Server {
             return;
         }
 
+        //==========================================
+        // Created before the server is started, so it is
+        // available to the first requests.
+        //==========================================
+        this.frontControllerExecutor = createFrontControllerExecutor();
+
         this.undertowServer = getServerBuilder().build();
 
         int serverStartTryNbr = getServerStartTryNbr();
@@ -321,6 +353,7 @@ public class SpincastUndertowServer implements Server {
                     }
                 }
                 this.undertowServer = null;
+                shutdownFrontControllerExecutor();
                 throw ex;
             }
         }
@@ -395,9 +428,23 @@ public class SpincastUndertowServer implements Server {
     protected Builder addBuilderOptions(Builder builder) {
         addMaxEntitySize(builder);
         enableHttp2(builder);
+        addThreadsNumbers(builder);
         return builder;
     }
 
+    protected void addThreadsNumbers(Builder builder) {
+
+        Integer ioThreadsNumber = getSpincastUndertowConfig().getIoThreadsNumber();
+        if (ioThreadsNumber != null) {
+            builder.setIoThreads(ioThreadsNumber);
+        }
+
+        Integer workerThreadsNumber = getSpincastUndertowConfig().getWorkerThreadsNumber();
+        if (workerThreadsNumber != null) {
+            builder.setWorkerThreads(workerThreadsNumber);
+        }
+    }
+
     protected void addMaxEntitySize(Builder builder) {
         builder.setServerOption(UndertowOptions.MAX_ENTITY_SIZE, getConfig().getServerMaxRequestBodyBytes());
     }
@@ -544,7 +591,12 @@ public class SpincastUndertowServer implements Server {
 
                     // @see http://undertow.io/undertow-docs/undertow-docs-1.3.0/index.html#dispatch-code
                     if (exchange.isInIoThread()) {
-                        exchange.dispatch(this);
+                        Executor executor = getFrontControllerExecutor();
+                        if (executor != null) {
+                            exchange.dispatch(executor, this);
+                        } else {
+                            exchange.dispatch(this);
+                        }
                         return;
                     }
 
@@ -555,6 +607,52 @@ public class SpincastUndertowServer implements Server {
         return this.spincastFrontControllerHandler;
     }
 
+    /**
+     * The executor to dispatch the requests to, or <code>null</code>
+     * to use the worker threads of the server.
+     * <p>
+     * Created when the server starts.
+     */
+    protected Executor getFrontControllerExecutor() {
+        return this.frontControllerExecutor;
+    }
+
+    /**
+     * Shuts down the executor to dispatch the requests to,
+     * if any. It is removed first, so no new request is
+     * dispatched to it.
+     */
+    protected void shutdownFrontControllerExecutor() {
+        ExecutorService executor = this.frontControllerExecutor;
+        this.frontControllerExecutor = null;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    protected ExecutorService createFrontControllerExecutor() {
+
+        if (!getSpincastUndertowConfig().isDispatchToVirtualThreads()) {
+            return null;
+        }
+
+        //==========================================
+        // Virtual threads are only available on recent
+        // JVMs, so we look for them by reflection.
+        //==========================================
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException ex) {
+            logger.warn("Virtual threads are not available on this JVM, the requests will be dispatched " +
+                        "to the worker threads.");
+            return null;
+        } catch (Exception ex) {
+            logger.warn("Unable to create the virtual threads executor, the requests will be dispatched " +
+                        "to the worker threads : " + SpincastStatics.getStackTrace(ex));
+            return null;
+        }
+    }
+
     @Override
     public void stop() {
         stop(true);
@@ -580,6 +678,8 @@ public class SpincastUndertowServer implements Server {
                 } catch (Exception ex) {
                     logger.error("Error stopping the Undertow server :\n" + SpincastStatics.getStackTrace(ex));
                 }
+
+                shutdownFrontControllerExecutor();
             }
         }
     }
@@ -880,11 +980,11 @@ public class SpincastUndertowServer implements Server {
         HeaderMap requestHeaders = exchange.getRequestHeaders();
         if (requestHeaders != null) {
 
-            String requestedWith = requestHeaders.getFirst("X-Requested-With");
+            String requestedWith = requestHeaders.getFirst(HEADER_X_REQUESTED_WITH);
             if ("XMLHttpRequest".equalsIgnoreCase(requestedWith)) {
                 return ContentTypeDefaults.JSON;
             }
-            String accept = requestHeaders.getFirst("Accept");
+            String accept = requestHeaders.getFirst(Headers.ACCEPT);
             if (accept != null) {
                 String bestMatch = MIMEParse.bestMatch(ContentTypeDefaults.getAllContentTypesVariations(), accept);
                 if (!StringUtils.isBlank(bestMatch)) {
@@ -948,9 +1048,9 @@ public class SpincastUndertowServer implements Server {
             // If we are behind a reverse-proxy, the original
             // scheme/host/port can be different.
             //==========================================
-            HeaderValues protoHeader = exchange.getRequestHeaders().get(HttpHeaders.X_FORWARDED_PROTO);
-            HeaderValues hostHeader = exchange.getRequestHeaders().get(HttpHeadersExtra.X_FORWARDED_HOST);
-            HeaderValues portHeader = exchange.getRequestHeaders().get(HttpHeadersExtra.X_FORWARDED_PORT);
+            HeaderValues protoHeader = exchange.getRequestHeaders().get(Headers.X_FORWARDED_PROTO);
+            HeaderValues hostHeader = exchange.getRequestHeaders().get(Headers.X_FORWARDED_HOST);
+            HeaderValues portHeader = exchange.getRequestHeaders().get(HEADER_X_FORWARDED_PORT);
 
             if (protoHeader != null || hostHeader != null || portHeader != null) {
 
@@ -1104,8 +1204,24 @@ public class SpincastUndertowServer implements Server {
 
     @Override
     public void flushBytes(Object exchange, byte[] bytes, boolean end) {
+        flushBytes(exchange, bytes, 0, bytes.length, end);
+    }
+
+    @Override
+    public void flushBytes(Object exchange, byte[] bytes, int offset, int length, boolean end) {
 
-        Sender responseSender = ((HttpServerExchange)exchange).getResponseSender();
+        HttpServerExchange undertowExchange = (HttpServerExchange)exchange;
+
+        //==========================================
+        // A streamed response is written in blocking
+        // mode : a chunk is only sent once the previous
+        // one has been written, even if the client is
+        // slow to read them.
+        //==========================================
+        if (isStreamingMode(undertowExchange)) {
+            flushBytesBlocking(undertowExchange, bytes, offset, length, end);
+            return;
+        }
 
         //==========================================
         // Use the default do-nothing callback or the one
@@ -1113,7 +1229,65 @@ public class SpincastUndertowServer implements Server {
         //==========================================
         IoCallback callback = end ? getCloseExchangeCallback() : getDoNothingCallback();
 
-        responseSender.send(ByteBuffer.wrap(bytes), callback);
+        //==========================================
+        // The end may be queued behind a send in progress :
+        // the response is closed right away so nothing
+        // else is flushed after it.
+        //==========================================
+        if (end) {
+            setResponseClosed(undertowExchange);
+        }
+
+        getPooledBuffersSender(undertowExchange).send(bytes, offset, length, callback);
+    }
+
+    /**
+     * Writes the bytes to the output stream of the
+     * exchange, in blocking mode. Must not be called from
+     * an IO thread.
+     */
+    protected void flushBytesBlocking(HttpServerExchange exchange, byte[] bytes, int offset, int length, boolean end) {
+
+        try {
+            OutputStream out = exchange.getOutputStream();
+            if (length > 0) {
+                out.write(bytes, offset, length);
+            }
+
+            if (end) {
+                out.close();
+                end(exchange);
+            } else {
+                out.flush();
+            }
+        } catch (Exception ex) {
+            throw SpincastStatics.runtimize(ex);
+        }
+    }
+
+    /**
+     * Is the response of this exchange streamed, in
+     * blocking mode?
+     */
+    protected boolean isStreamingMode(HttpServerExchange exchange) {
+        return exchange.getAttachment(STREAMING_MODE_ATTACHMENT_KEY) != null;
+    }
+
+    /**
+     * The sender used to send the response of an exchange
+     * asynchronously, created if required.
+     */
+    protected SpincastPooledBuffersSender getPooledBuffersSender(HttpServerExchange exchange) {
+        SpincastPooledBuffersSender sender = exchange.getAttachment(POOLED_BUFFERS_SENDER_ATTACHMENT_KEY);
+        if (sender == null) {
+            sender = createPooledBuffersSender(exchange);
+            exchange.putAttachment(POOLED_BUFFERS_SENDER_ATTACHMENT_KEY, sender);
+        }
+        return sender;
+    }
+
+    protected SpincastPooledBuffersSender createPooledBuffersSender(HttpServerExchange exchange) {
+        return new SpincastPooledBuffersSender(exchange, getSpincastByteBufferPool());
     }
 
     @Override
@@ -1121,14 +1295,21 @@ public class SpincastUndertowServer implements Server {
 
         try {
             ((HttpServerExchange)exchange).endExchange();
-            getSpincastUndertowUtils().getRequestCustomVariables((HttpServerExchange)exchange)
-                                      .put(EXCHANGE_VARIABLE_EXCHANGE_COMPLETED,
-                                           String.valueOf(true));
+            setResponseClosed((HttpServerExchange)exchange);
         } catch (Exception ex) {
             throw SpincastStatics.runtimize(ex);
         }
     }
 
+    /**
+     * Marks the response of the exchange as closed.
+     */
+    protected void setResponseClosed(HttpServerExchange exchange) {
+        getSpincastUndertowUtils().getRequestCustomVariables(exchange)
+                                  .put(EXCHANGE_VARIABLE_EXCHANGE_COMPLETED,
+                                       String.valueOf(true));
+    }
+
     @Override
     public boolean isResponseClosed(Object exchange) {
 
@@ -1243,11 +1424,55 @@ public class SpincastUndertowServer implements Server {
     public InputStream getRawInputStream(Object exchangeObj) {
         HttpServerExchange exchange = ((HttpServerExchange)exchangeObj);
 
-        exchange.startBlocking();
+        startBlocking(exchange);
 
         return exchange.getInputStream();
     }
 
+    /**
+     * The response is written to direct buffers leased from
+     * the {@link SpincastByteBufferPool}, as the bytes are
+     * produced.
+     * <p>
+     * The response of the exchange is then streamed : the
+     * following flushes are done in blocking mode too. This
+     * is not possible once something has been sent
+     * asynchronously.
+     * <p>
+     * Must not be called from an IO thread.
+     */
+    @Override
+    public OutputStream getRawOutputStream(Object exchangeObj) {
+        HttpServerExchange exchange = ((HttpServerExchange)exchangeObj);
+
+        if (!isStreamingMode(exchange)) {
+            if (exchange.getAttachment(POOLED_BUFFERS_SENDER_ATTACHMENT_KEY) != null) {
+                throw new IllegalStateException("The response has already been sent asynchronously, it can't be " +
+                                                "streamed anymore.");
+            }
+            exchange.putAttachment(STREAMING_MODE_ATTACHMENT_KEY, true);
+        }
+
+        startBlocking(exchange);
+
+        return exchange.getOutputStream();
+    }
+
+    /**
+     * Starts the blocking mode of the exchange, if not already
+     * started. Starting it again would replace the streams,
+     * which may already be in use.
+     */
+    protected void startBlocking(HttpServerExchange exchange) {
+        if (!exchange.isBlocking()) {
+            exchange.startBlocking(createBlockingHttpExchange(exchange));
+        }
+    }
+
+    protected BlockingHttpExchange createBlockingHttpExchange(HttpServerExchange exchange) {
+        return new SpincastBlockingHttpExchange(exchange, getSpincastByteBufferPool());
+    }
+
     /**
      * May return NULL.
      */
@@ -1259,9 +1484,7 @@ public class SpincastUndertowServer implements Server {
             }
             formDataParser.setCharacterEncoding(getSpincastUndertowConfig().getHtmlFormEncoding());
 
-            if (!exchange.isBlocking()) {
-                exchange.startBlocking();
-            }
+            startBlocking(exchange);
 
             FormData formData = formDataParser.parseBlocking();
             return formData;
@@ -1378,33 +1601,35 @@ public class SpincastUndertowServer implements Server {
 
     /**
      * The names of the headers are <em>case insensitive</em>.
+     * <p>
+     * The returned map is an immutable view backed by
+     * Undertow's <code>HeaderMap</code>, nothing is copied.
      */
     @Override
     public Map<String, List<String>> getRequestHeaders(Object exchangeObj) {
         HttpServerExchange exchange = ((HttpServerExchange)exchangeObj);
 
-        //==========================================
-        // Map that guarantees case insensitivity...
-        //==========================================
-        TreeMap<String, List<String>> headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
-
         HeaderMap requestHeaders = exchange.getRequestHeaders();
-        if (requestHeaders != null) {
-            for (HeaderValues requestHeader : requestHeaders) {
-                HttpString headerNameObj = requestHeader.getHeaderName();
-                if (headerNameObj == null) {
-                    continue;
-                }
+        if (requestHeaders == null) {
+            return Collections.emptyMap();
+        }
+        return new UndertowRequestHeadersView(requestHeaders);
+    }
 
-                List<String> values = new ArrayList<String>();
-                for (String value : requestHeader) {
-                    values.add(value);
-                }
-                headers.put(headerNameObj.toString(), values);
-            }
+    @Override
+    public List<String> getRequestHeader(Object exchangeObj, String name) {
+        HttpServerExchange exchange = ((HttpServerExchange)exchangeObj);
+
+        HeaderMap requestHeaders = exchange.getRequestHeaders();
+        if (requestHeaders == null || name == null) {
+            return Collections.emptyList();
         }
 
-        return headers;
+        HeaderValues values = requestHeaders.get(name);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(values);
     }
 
     /**
@@ -1556,9 +1781,8 @@ public class SpincastUndertowServer implements Server {
     public String getIp(Object exchangeObj) {
         HttpServerExchange exchange = ((HttpServerExchange)exchangeObj);
 
-        List<String> xForwardedForHeaders = getRequestHeaders(exchangeObj).get(HttpHeaders.X_FORWARDED_FOR);
-        if (xForwardedForHeaders != null && xForwardedForHeaders.size() > 0) {
-            String xForwardedForHeader = xForwardedForHeaders.get(0);
+        String xForwardedForHeader = exchange.getRequestHeaders().getFirst(Headers.X_FORWARDED_FOR);
+        if (xForwardedForHeader != null) {
 
             try {
                 return new StringTokenizer(xForwardedForHeader, ",").nextToken().trim();
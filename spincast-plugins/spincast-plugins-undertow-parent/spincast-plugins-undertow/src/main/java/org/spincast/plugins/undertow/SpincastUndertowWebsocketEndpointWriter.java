@@ -2,9 +2,15 @@ package org.spincast.plugins.undertow;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +20,8 @@ import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
 
+import io.undertow.connector.PooledByteBuffer;
+import io.undertow.util.ImmediatePooledByteBuffer;
 import io.undertow.websockets.core.WebSocketCallback;
 import io.undertow.websockets.core.WebSocketChannel;
 import io.undertow.websockets.core.WebSockets;
@@ -22,7 +30,15 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
 
     protected static final Logger logger = LoggerFactory.getLogger(SpincastUndertowWebsocketEndpointWriter.class);
 
+    /**
+     * The channel attribute containing the number of
+     * writes not completed yet on that channel.
+     */
+    public static final String CHANNEL_ATTRIBUTE_PENDING_WRITES =
+            SpincastUndertowWebsocketEndpointWriter.class.getName() + "_pendingWrites";
+
     private final SpincastUndertowConfig spincastUndertowConfig;
+    private final SpincastByteBufferPool spincastByteBufferPool;
     private final Map<String, WebSocketChannel> channels;
     private byte[] pingBytes;
 
@@ -34,6 +50,12 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
         public void write(WebSocketChannel channel, WebSocketCallback<Void> callback);
 
         public void writeErrors(Set<String> peerIds);
+
+        /**
+         * Called with the ids of the peers the message has
+         * not been sent to because they are too slow.
+         */
+        public void slowPeers(Set<String> peerIds);
     }
 
     /**
@@ -41,9 +63,11 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
      */
     @AssistedInject
     public SpincastUndertowWebsocketEndpointWriter(@Assisted Map<String, WebSocketChannel> channels,
-                                                   SpincastUndertowConfig spincastUndertowConfig) {
+                                                   SpincastUndertowConfig spincastUndertowConfig,
+                                                   SpincastByteBufferPool spincastByteBufferPool) {
         this.channels = channels;
         this.spincastUndertowConfig = spincastUndertowConfig;
+        this.spincastByteBufferPool = spincastByteBufferPool;
     }
 
     protected Map<String, WebSocketChannel> getChannelsMap() {
@@ -54,6 +78,10 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
         return this.spincastUndertowConfig;
     }
 
+    protected SpincastByteBufferPool getSpincastByteBufferPool() {
+        return this.spincastByteBufferPool;
+    }
+
     protected byte[] getPingBytes() {
         if(this.pingBytes == null) {
             try {
@@ -67,8 +95,13 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
 
     @Override
     public void sendPings(final WebsocketPeersWriteCallback callback) {
+        sendPings(getChannelsMap().keySet(), callback);
+    }
 
-        write(getChannelsMap().keySet(), new IWriteExecutor() {
+    @Override
+    public void sendPings(Set<String> peerIds, final WebsocketPeersWriteCallback callback) {
+
+        write(peerIds, new IWriteExecutor() {
 
             @Override
             public void write(WebSocketChannel channel, WebSocketCallback<Void> writeCallback) {
@@ -79,6 +112,11 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
             public void writeErrors(Set<String> peerIds) {
                 callback.connectionClosed(peerIds);
             }
+
+            @Override
+            public void slowPeers(Set<String> peerIds) {
+                callback.slowPeers(peerIds);
+            }
         });
     }
 
@@ -87,17 +125,29 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
                             final String message,
                             final WebsocketPeersWriteCallback callback) {
 
+        //==========================================
+        // The message is encoded once, whatever the
+        // number of peers.
+        //==========================================
+        final PooledByteBuffer pooledBuffer = encodeMessage(message);
+
         write(peerIds, new IWriteExecutor() {
 
             @Override
             public void write(WebSocketChannel channel, WebSocketCallback<Void> writeCallback) {
-                WebSockets.sendText(message, channel, writeCallback);
+                WebSockets.sendText(createPeerView(pooledBuffer), channel, writeCallback);
             }
 
             @Override
             public void writeErrors(Set<String> peerIds) {
+                pooledBuffer.close();
                 callback.connectionClosed(peerIds);
             }
+
+            @Override
+            public void slowPeers(Set<String> peerIds) {
+                callback.slowPeers(peerIds);
+            }
         });
     }
 
@@ -106,26 +156,92 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
                             final byte[] bytes,
                             final WebsocketPeersWriteCallback callback) {
 
+        final PooledByteBuffer pooledBuffer = copyMessage(bytes);
+
         write(peerIds, new IWriteExecutor() {
 
             @Override
             public void write(WebSocketChannel channel, WebSocketCallback<Void> writeCallback) {
-
-                //==========================================
-                // A new ByteBuffer must be created for each peer
-                // otherwise it is emptied after the first peer!
-                //==========================================
-                final ByteBuffer buffer = ByteBuffer.wrap(bytes);
-                WebSockets.sendBinary(buffer, channel, writeCallback);
+                WebSockets.sendBinary(createPeerView(pooledBuffer), channel, writeCallback);
             }
 
             @Override
             public void writeErrors(Set<String> peerIds) {
+                pooledBuffer.close();
                 callback.connectionClosed(peerIds);
             }
+
+            @Override
+            public void slowPeers(Set<String> peerIds) {
+                callback.slowPeers(peerIds);
+            }
         });
     }
 
+    /**
+     * Encodes a String message in UTF-8, in a buffer from the pool
+     * if it fits.
+     * <p>
+     * The returned buffer must be closed once the message has
+     * been sent to all the peers.
+     */
+    protected PooledByteBuffer encodeMessage(String message) {
+
+        if (message.length() <= getSpincastByteBufferPool().getBufferSize()) {
+            PooledByteBuffer pooledBuffer = getSpincastByteBufferPool().allocate();
+            ByteBuffer buffer = pooledBuffer.getBuffer();
+            buffer.clear();
+
+            CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+            CoderResult result = encoder.encode(CharBuffer.wrap(message), buffer, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(buffer);
+            }
+            if (result.isUnderflow()) {
+                buffer.flip();
+                return pooledBuffer;
+            }
+
+            //==========================================
+            // Too big once encoded, or not valid : we let
+            // String#getBytes() deal with it.
+            //==========================================
+            pooledBuffer.close();
+        }
+
+        return new ImmediatePooledByteBuffer(ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Copies a byte array message in a buffer from the pool,
+     * if it fits.
+     * <p>
+     * The returned buffer must be closed once the message has
+     * been sent to all the peers.
+     */
+    protected PooledByteBuffer copyMessage(byte[] bytes) {
+
+        if (bytes.length <= getSpincastByteBufferPool().getBufferSize()) {
+            PooledByteBuffer pooledBuffer = getSpincastByteBufferPool().allocate();
+            ByteBuffer buffer = pooledBuffer.getBuffer();
+            buffer.clear();
+            buffer.put(bytes);
+            buffer.flip();
+            return pooledBuffer;
+        }
+
+        return new ImmediatePooledByteBuffer(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * A view on the shared buffer, for a peer. Each peer
+     * needs its own position, otherwise the buffer would be
+     * emptied after the first peer!
+     */
+    protected ByteBuffer createPeerView(PooledByteBuffer pooledBuffer) {
+        return pooledBuffer.getBuffer().asReadOnlyBuffer();
+    }
+
     @Override
     public void sendClosingConnection(final int closingCode,
                                       final String closingReason,
@@ -155,7 +271,12 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
 
                     callback.done();
                 }
-            });
+
+                @Override
+                public void slowPeers(Set<String> peerIds) {
+                    // The "closing" messages are sent even to the slow peers.
+                }
+            }, false);
         } catch(Exception ex) {
             logger.error("Exception trying to send 'Closed' messages to peers : " + ex.getMessage());
             callback.done();
@@ -166,10 +287,27 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
     /**
      * Calls the executor's write(...) method for each peers and, when all
      * asynchrounous calls are done, calls its writeErrors(...) with
-     * the ids of the peers for which the write failed with an IOException. 
+     * the ids of the peers for which the write failed with an IOException.
+     * <p>
+     * The peers that are too slow are skipped and passed to the
+     * executor's slowPeers(...) method.
      */
     public void write(Set<String> peerIds,
                       final IWriteExecutor executor) {
+        write(peerIds, executor, true);
+    }
+
+    /**
+     * Calls the executor's write(...) method for each peers and, when all
+     * asynchrounous calls are done, calls its writeErrors(...) with
+     * the ids of the peers for which the write failed with an IOException.
+     *
+     * @param skipSlowPeers if <code>true</code>, the peers that are too slow
+     * are skipped and passed to the executor's slowPeers(...) method.
+     */
+    public void write(Set<String> peerIds,
+                      final IWriteExecutor executor,
+                      boolean skipSlowPeers) {
 
         if(peerIds == null || peerIds.size() == 0) {
             executor.writeErrors(new HashSet<String>());
@@ -178,21 +316,32 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
 
         Map<String, WebSocketChannel> channelsMap = getChannelsMap();
 
-        final Set<String> peerIdsRemaining = new HashSet<String>(peerIds);
-        final Set<String> peerIdsWriteErrors = new HashSet<String>();
+        //==========================================
+        // The write callbacks may be called by multiple
+        // IO threads : the tracking of the remaining
+        // writes must be thread safe.
+        //==========================================
+        final AtomicInteger remainingNbr = new AtomicInteger(peerIds.size());
+        final Set<String> peerIdsWriteErrors = ConcurrentHashMap.newKeySet();
+        Set<String> slowPeerIds = new HashSet<String>();
 
         for(final String peerId : peerIds) {
 
             WebSocketChannel channel = channelsMap.get(peerId);
             if(channel == null) {
-                peerIdsRemaining.remove(peerId);
-                if(peerIdsRemaining.size() == 0) {
-                    executor.writeErrors(peerIdsWriteErrors);
-                    return;
-                }
+                writeDone(remainingNbr, peerIdsWriteErrors, executor);
+                continue;
+            }
+
+            if(skipSlowPeers && isSlowPeer(peerId, channel)) {
+                slowPeerIds.add(peerId);
+                writeDone(remainingNbr, peerIdsWriteErrors, executor);
                 continue;
             }
 
+            final AtomicInteger pendingWritesNbr = getPendingWritesNbr(channel);
+            pendingWritesNbr.incrementAndGet();
+
             try {
 
                 executor.write(channel, new WebSocketCallback<Void>() {
@@ -200,6 +349,8 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
                     @Override
                     public void onError(WebSocketChannel channel, Void context, Throwable throwable) {
 
+                        pendingWritesNbr.decrementAndGet();
+
                         //==========================================
                         // Currently, we only keep the IOExceptions, they indicate
                         // that the connection is not alive anymore.
@@ -211,19 +362,13 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
                                                                                       "Websocket peer: " + throwable);
                         }
 
-                        peerIdsRemaining.remove(peerId);
-                        if(peerIdsRemaining.size() == 0) {
-                            executor.writeErrors(peerIdsWriteErrors);
-                        }
+                        writeDone(remainingNbr, peerIdsWriteErrors, executor);
                     }
 
                     @Override
                     public void complete(WebSocketChannel channel, Void context) {
-
-                        peerIdsRemaining.remove(peerId);
-                        if(peerIdsRemaining.size() == 0) {
-                            executor.writeErrors(peerIdsWriteErrors);
-                        }
+                        pendingWritesNbr.decrementAndGet();
+                        writeDone(remainingNbr, peerIdsWriteErrors, executor);
                     }
                 });
 
@@ -231,13 +376,58 @@ public class SpincastUndertowWebsocketEndpointWriter implements UndertowWebsocke
 
                 logger.debug("Unable to send 'closing Websocket connection' to peer '" + peerId + "' : " + ex.getMessage());
 
-                peerIdsRemaining.remove(peerId);
-                if(peerIdsRemaining.size() == 0) {
-                    executor.writeErrors(peerIdsWriteErrors);
-                    return;
+                pendingWritesNbr.decrementAndGet();
+                writeDone(remainingNbr, peerIdsWriteErrors, executor);
+            }
+        }
+
+        if(slowPeerIds.size() > 0) {
+            executor.slowPeers(slowPeerIds);
+        }
+    }
+
+    /**
+     * Called when the write to a peer is done, successfully or not.
+     * The executor's writeErrors(...) is called once all the
+     * writes are done.
+     */
+    protected void writeDone(AtomicInteger remainingNbr,
+                             Set<String> peerIdsWriteErrors,
+                             IWriteExecutor executor) {
+        if(remainingNbr.decrementAndGet() == 0) {
+            executor.writeErrors(peerIdsWriteErrors);
+        }
+    }
+
+    /**
+     * The number of writes not completed yet on a
+     * channel.
+     */
+    protected AtomicInteger getPendingWritesNbr(WebSocketChannel channel) {
+        AtomicInteger pendingWritesNbr = (AtomicInteger)channel.getAttribute(CHANNEL_ATTRIBUTE_PENDING_WRITES);
+        if(pendingWritesNbr == null) {
+            synchronized(channel) {
+                pendingWritesNbr = (AtomicInteger)channel.getAttribute(CHANNEL_ATTRIBUTE_PENDING_WRITES);
+                if(pendingWritesNbr == null) {
+                    pendingWritesNbr = new AtomicInteger(0);
+                    channel.setAttribute(CHANNEL_ATTRIBUTE_PENDING_WRITES, pendingWritesNbr);
                 }
             }
         }
+        return pendingWritesNbr;
+    }
+
+    /**
+     * Is the peer too slow to receive more messages? This is
+     * the case when too many of the previous writes to it are
+     * not completed yet.
+     */
+    protected boolean isSlowPeer(String peerId, WebSocketChannel channel) {
+        int maxPendingWrites = getSpincastUndertowConfig().getWebsocketPeerMaxPendingWrites();
+        if(maxPendingWrites <= 0) {
+            return false;
+        }
+        return getPendingWritesNbr(channel).get() >= maxPendingWrites;
     }
 
 }
@@ -3,21 +3,28 @@ package org.spincast.plugins.undertow;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spincast.core.utils.SpincastStatics;
 import org.spincast.core.websocket.WebsocketEndpointHandler;
 import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+import org.spincast.plugins.undertow.config.WebsocketAppEventsQueueOverflowPolicy;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
@@ -54,13 +61,23 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
     private final SpincastUndertowConfig spincastUndertowConfig;
     private final SpincastUndertowUtils spincastUndertowUtils;
     private UndertowWebsocketEndpointWriter websocketWriter;
-    private volatile Thread pingSenderThread = null;
+    private final SpincastWebsocketExecutors spincastWebsocketExecutors;
+    private volatile ScheduledFuture<?> pingsFuture = null;
+    private final AtomicLong pingsTicksNbr = new AtomicLong(0);
+
+    //==========================================
+    // The peer ids grouped by pings slot, so a tick
+    // only touches the peers of its slot.
+    //==========================================
+    private final Map<Integer, Set<String>> peerIdsByPingsSlot = new ConcurrentHashMap<Integer, Set<String>>();
 
     private volatile boolean endpointIsClosing = false;
     private volatile boolean endpointIsClosed = false;
 
     private WebSocketProtocolHandshakeHandler webSocketProtocolHandshakeHandler;
-    private ExecutorService threadExecutorForAppEvents;
+    private final Map<String, PeerAppEventsQueue> peerAppEventsQueues = new ConcurrentHashMap<String, PeerAppEventsQueue>();
+    private final AtomicLong appEventsDroppedNbr = new AtomicLong(0);
+    private final Set<String> slowPeersClosing = ConcurrentHashMap.newKeySet();
 
     private final Map<String, Object> peerIdCreationLocks = new ConcurrentHashMap<String, Object>();
     private final Object peerIdCreationLocksCreationLock = new Object();
@@ -73,12 +90,14 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
                                      @Assisted WebsocketEndpointHandler eventsHandler,
                                      UndertowWebsocketEndpointWriterFactory undertowWebsocketEndpointWriterFactory,
                                      SpincastUndertowConfig spincastUndertowConfig,
-                                     SpincastUndertowUtils spincastUndertowUtils) {
+                                     SpincastUndertowUtils spincastUndertowUtils,
+                                     SpincastWebsocketExecutors spincastWebsocketExecutors) {
         this.endpointId = endpointId;
         this.eventsHandler = eventsHandler;
         this.undertowWebsocketEndpointWriterFactory = undertowWebsocketEndpointWriterFactory;
         this.spincastUndertowConfig = spincastUndertowConfig;
         this.spincastUndertowUtils = spincastUndertowUtils;
+        this.spincastWebsocketExecutors = spincastWebsocketExecutors;
     }
 
     @Inject
@@ -96,6 +115,10 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
         return this.webSocketChannelByPeerId;
     }
 
+    protected Map<Integer, Set<String>> getPeerIdsByPingsSlot() {
+        return this.peerIdsByPingsSlot;
+    }
+
     protected WebsocketEndpointHandler getEventsHandler() {
         return this.eventsHandler;
     }
@@ -112,6 +135,10 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
         return this.spincastUndertowUtils;
     }
 
+    protected SpincastWebsocketExecutors getSpincastWebsocketExecutors() {
+        return this.spincastWebsocketExecutors;
+    }
+
     protected UndertowWebsocketEndpointWriter getUndertowWebsocketWriter() {
 
         if (this.websocketWriter == null) {
@@ -202,6 +229,8 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
                 }
 
                 getWebSocketChannelByPeerId().remove(peerId);
+                removePeerFromPingsSlot(peerId);
+                this.slowPeersClosing.remove(peerId);
 
                 Set<WebSocketChannel> peerConnections = getWebSocketProtocolHandshakeHandler().getPeerConnections();
                 if (peerConnections != null) {
@@ -228,6 +257,38 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
         }
     }
 
+    /**
+     * Called when some peers were skipped by a write
+     * operation because they are too slow to read the
+     * messages sent to them. Their connection is closed.
+     */
+    protected void manageSlowPeers(Set<String> peerIds) {
+
+        if (peerIds == null || peerIds.size() == 0) {
+            return;
+        }
+
+        for (String peerId : peerIds) {
+
+            //==========================================
+            // The peer may be skipped by other writes
+            // while it is being closed.
+            //==========================================
+            if (!getWebSocketChannelByPeerId().containsKey(peerId) || !this.slowPeersClosing.add(peerId)) {
+                continue;
+            }
+
+            logger.warn("Peer '" + peerId + "' on endpoint '" + getEndpointId() + "' is too slow to read the " +
+                        "messages sent to it, its connection is closed.");
+            try {
+                closePeer(peerId, CloseMessage.MSG_VIOLATES_POLICY, "Too slow");
+            } catch (Exception ex) {
+                logger.error("Error closing peer '" + peerId + "' on endpoint '" +
+                             getEndpointId() + "': " + ex.getMessage());
+            }
+        }
+    }
+
     @Override
     public boolean isClosing() {
         return this.endpointIsClosing;
@@ -268,6 +329,7 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
             return;
         }
         this.endpointIsClosing = true;
+        stopSendingPings();
 
         //==========================================
         // Try to send a "closing connection" message
@@ -295,6 +357,12 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
                 //==========================================
                 SpincastWebsocketEndpoint.this.endpointIsClosed = true;
 
+                //==========================================
+                // The events already queued are still run, but
+                // we don't keep track of them anymore.
+                //==========================================
+                getPeerAppEventsQueues().clear();
+
                 //==========================================
                 // We alert the event handler that the endpoint
                 // is now closed.
@@ -334,49 +402,108 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
 
     /**
      * Starts sending automatic pings to the peers.
+     * <p>
+     * The pings are sent by the scheduler shared by all the
+     * endpoints. The peers are spread over the ping interval
+     * so they are not all pinged at the same instant : the
+     * interval is divided in slots and, at each tick, only the
+     * peers of the current slot are pinged.
      */
-    protected void startSendingPings() {
+    protected synchronized void startSendingPings() {
 
-        this.pingSenderThread = new Thread(new Runnable() {
+        stopSendingPings();
 
-            @Override
-            public void run() {
+        long tickMilliseconds = Math.max(1, getSpincastUndertowConfig().getWebsocketAutomaticPingIntervalSeconds() * 1000L /
+                                            getPingsSlotsNbr());
 
-                while (true) {
+        //==========================================
+        // A random initial delay, so all the endpoints
+        // don't tick at the same time either.
+        //==========================================
+        long initialDelay = ThreadLocalRandom.current().nextLong(tickMilliseconds) + 1;
 
-                    try {
-                        Thread.sleep(getSpincastUndertowConfig().getWebsocketAutomaticPingIntervalSeconds() * 1000);
-                    } catch (Exception ex) {
-                        SpincastWebsocketEndpoint.logger.warn("Exception sleeping the thread: " +
-                                                              ex.getMessage());
-                    }
+        this.pingsFuture = getSpincastWebsocketExecutors().getPingsScheduler().scheduleAtFixedRate(new Runnable() {
 
+            @Override
+            public void run() {
+                try {
+                    sendPingsTick();
+                } catch (Throwable ex) {
                     //==========================================
-                    // If the endpoint is closed or if
-                    // startSendingPings() has been called again,
-                    // we stop the current ping sending thread.
+                    // An exception would cancel the future
+                    // executions.
                     //==========================================
-                    if (SpincastWebsocketEndpoint.this.endpointIsClosing ||
-                        SpincastWebsocketEndpoint.this.pingSenderThread == null ||
-                        SpincastWebsocketEndpoint.this.pingSenderThread != Thread.currentThread()) {
-                        break;
-                    }
+                    SpincastWebsocketEndpoint.logger.warn("Error sending pings on endpoint '" + getEndpointId() + "': " +
+                                                          ex.getMessage());
+                }
+            }
+        }, initialDelay, tickMilliseconds, TimeUnit.MILLISECONDS);
+    }
 
-                    getUndertowWebsocketWriter().sendPings(new WebsocketPeersWriteCallback() {
+    /**
+     * Sends the pings to the peers of the current slot.
+     */
+    protected void sendPingsTick() {
 
-                        @Override
-                        public void connectionClosed(Set<String> peerids) {
-                            managePeersWriteConnectionClosed(peerids);
-                        }
-                    });
-                }
+        if (this.endpointIsClosing) {
+            stopSendingPings();
+            return;
+        }
+
+        int slot = (int)(this.pingsTicksNbr.getAndIncrement() % getPingsSlotsNbr());
+
+        Set<String> slotPeerIds = getPeerIdsByPingsSlot().get(slot);
+        if (slotPeerIds == null || slotPeerIds.size() == 0) {
+            return;
+        }
+        Set<String> peerIds = new HashSet<String>(slotPeerIds);
+
+        getUndertowWebsocketWriter().sendPings(peerIds, new WebsocketPeersWriteCallback() {
+
+            @Override
+            public void connectionClosed(Set<String> peerIds) {
+                managePeersWriteConnectionClosed(peerIds);
+            }
+
+            @Override
+            public void slowPeers(Set<String> peerIds) {
+                manageSlowPeers(peerIds);
             }
         });
-        this.pingSenderThread.start();
+    }
+
+    /**
+     * The number of slots the ping interval is divided in.
+     */
+    protected int getPingsSlotsNbr() {
+        return 10;
+    }
+
+    /**
+     * The slot of a peer, in the ping interval.
+     */
+    protected int getPingsSlot(String peerId, int slotsNbr) {
+        return Math.floorMod(peerId.hashCode(), slotsNbr);
+    }
+
+    protected void addPeerToPingsSlot(String peerId) {
+        int slot = getPingsSlot(peerId, getPingsSlotsNbr());
+        getPeerIdsByPingsSlot().computeIfAbsent(slot, key -> ConcurrentHashMap.newKeySet()).add(peerId);
+    }
+
+    protected void removePeerFromPingsSlot(String peerId) {
+        Set<String> slotPeerIds = getPeerIdsByPingsSlot().get(getPingsSlot(peerId, getPingsSlotsNbr()));
+        if (slotPeerIds != null) {
+            slotPeerIds.remove(peerId);
+        }
     }
 
     protected void stopSendingPings() {
-        this.pingSenderThread = null;
+        ScheduledFuture<?> future = this.pingsFuture;
+        if (future != null) {
+            future.cancel(false);
+            this.pingsFuture = null;
+        }
     }
 
     @Override
@@ -417,6 +544,11 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
             public void connectionClosed(Set<String> peerIds) {
                 managePeersWriteConnectionClosed(peerIds);
             }
+
+            @Override
+            public void slowPeers(Set<String> peerIds) {
+                manageSlowPeers(peerIds);
+            }
         });
     }
 
@@ -458,6 +590,11 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
             public void connectionClosed(Set<String> peerIds) {
                 managePeersWriteConnectionClosed(peerIds);
             }
+
+            @Override
+            public void slowPeers(Set<String> peerIds) {
+                manageSlowPeers(peerIds);
+            }
         });
     }
 
@@ -535,6 +672,7 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
                                 synchronized (newPeerIdLock) {
                                     if (!getWebSocketChannelByPeerId().containsKey(peerId)) {
                                         getWebSocketChannelByPeerId().put(peerId, channel);
+                                        addPeerToPingsSlot(peerId);
                                     } else {
                                         peerIdAlreadyUsed = true;
                                     }
@@ -659,7 +797,7 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
                 getEventsHandler().onPeerConnected(peerId);
             }
         };
-        sendAppEventInNewThread(runnable);
+        sendPeerAppEvent(peerId, runnable, true);
     }
 
     /**
@@ -679,7 +817,7 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
                 getEventsHandler().onPeerMessage(peerId, message);
             }
         };
-        sendAppEventInNewThread(runnable);
+        sendPeerAppEvent(peerId, runnable, false);
     }
 
     /**
@@ -699,7 +837,7 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
                 getEventsHandler().onPeerMessage(peerId, message);
             }
         };
-        sendAppEventInNewThread(runnable);
+        sendPeerAppEvent(peerId, runnable, false);
     }
 
     /**
@@ -711,59 +849,223 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
             return;
         }
 
+        //==========================================
+        // The messages still to be received from this
+        // peer are ignored and its queue is removed once
+        // this last event has been handled.
+        //==========================================
+        final PeerAppEventsQueue queue = getPeerAppEventsQueues().computeIfAbsent(peerId,
+                                                                                 id -> createPeerAppEventsQueue(id));
+        queue.setClosing();
+
         Runnable runnable = new Runnable() {
 
             @Override
             public void run() {
-                getEventsHandler().onPeerClosed(peerId);
+                try {
+                    getEventsHandler().onPeerClosed(peerId);
+                } finally {
+                    getPeerAppEventsQueues().remove(peerId, queue);
+                }
             }
         };
-        sendAppEventInNewThread(runnable);
+        queue.add(runnable);
     }
 
     /**
-     * Sends an event to the application in a separated thread.
+     * Sends an event to the application in a separated thread,
+     * without waiting for it to be handled.
+     * <p>
+     * Used for the events that are not related to a
+     * specific peer.
      */
     protected void sendAppEventInNewThread(final Runnable runnable) {
         try {
-
-            Callable<Void> callable = new Callable<Void>() {
+            getThreadExecutorForAppEvents().execute(new Runnable() {
 
                 @Override
-                public Void call() throws Exception {
-                    runnable.run();
-                    return null;
+                public void run() {
+                    runAppEvent(runnable);
                 }
-            };
+            });
+        } catch (Exception ex) {
+            logger.error("Unable to send a Websocket event to the application " +
+                         "on endpoint " + getEndpointId() + ": " + ex.getMessage());
+        }
+    }
 
-            Set<Callable<Void>> callables = new HashSet<>();
-            callables.add(callable);
+    /**
+     * Sends an event of a peer to the application, in a separated
+     * thread, without waiting for it to be handled.
+     * <p>
+     * The events of a peer are handled one at a time, in the order
+     * they have been sent. When the peer's queue is full,
+     * the configured {@link WebsocketAppEventsQueueOverflowPolicy}
+     * is applied.
+     *
+     * @param force if <code>true</code>, the event is added
+     * even if the queue is full. Used for the "connected" and
+     * "closed" events, which must not be lost.
+     */
+    protected void sendPeerAppEvent(final String peerId, Runnable runnable, boolean force) {
 
-            getThreadExecutorForAppEvents().invokeAll(callables,
-                                                      getThreadExecutorForAppEventsTimeoutAmount(),
-                                                      getThreadExecutorForAppEventsTimeoutTimeUnit());
-        } catch (InterruptedException ex) {
-            logger.error("A Thread used for sending a Websocket event to the application took too long " +
-                         "(max " + getThreadExecutorForAppEventsTimeoutAmount() + " " +
-                         getThreadExecutorForAppEventsTimeoutTimeUnit().toString() + ")" +
-                         "on endpoint " + getEndpointId() + ": " + ex.getMessage());
+        PeerAppEventsQueue queue = getPeerAppEventsQueue(peerId);
+        if (queue == null) {
+            this.appEventsDroppedNbr.incrementAndGet();
+            logger.debug("The peer '" + peerId + "' is not connected to endpoint '" + getEndpointId() +
+                         "' anymore, the event is dropped.");
+            return;
+        }
+
+        if (!force) {
+            if (queue.isClosing()) {
+                this.appEventsDroppedNbr.incrementAndGet();
+                return;
+            }
+
+            int maxSize = getAppEventsPeerQueueMaxSize();
+            if (maxSize > 0 && queue.getSize() >= maxSize) {
+
+                WebsocketAppEventsQueueOverflowPolicy policy = getAppEventsQueueOverflowPolicy();
+                if (policy == WebsocketAppEventsQueueOverflowPolicy.DROP) {
+                    this.appEventsDroppedNbr.incrementAndGet();
+                    logger.warn("The events queue of peer '" + peerId + "' on endpoint '" + getEndpointId() +
+                                "' is full (" + maxSize + "), the message is dropped.");
+                    return;
+
+                } else if (policy == WebsocketAppEventsQueueOverflowPolicy.CLOSE_PEER) {
+                    this.appEventsDroppedNbr.incrementAndGet();
+                    if (queue.setClosing()) {
+                        logger.warn("The events queue of peer '" + peerId + "' on endpoint '" + getEndpointId() +
+                                    "' is full (" + maxSize + "), the peer is closed.");
+                        try {
+                            closePeer(peerId);
+                        } catch (Exception ex) {
+                            logger.error("Error closing peer '" + peerId + "' on endpoint '" +
+                                         getEndpointId() + "': " + ex.getMessage());
+                        }
+                    }
+                    return;
+                }
+
+                //==========================================
+                // Backpressure : we stop reading the peer's
+                // messages, but this one has already been
+                // read so it is still added.
+                //==========================================
+                queue.suspendReceives();
+            }
+        }
+
+        queue.add(runnable);
+    }
+
+    /**
+     * Runs an event, on the current thread.
+     */
+    protected void runAppEvent(Runnable runnable) {
+
+        long start = System.nanoTime();
+        try {
+            runnable.run();
         } catch (Exception ex) {
             logger.error("A Thread used for sending a Websocket event to the application thrown an exception " +
                          "on endpoint " + getEndpointId() + ": " + ex.getMessage());
         }
+
+        long durationNanos = System.nanoTime() - start;
+        if (durationNanos > getThreadExecutorForAppEventsTimeoutTimeUnit().toNanos(getThreadExecutorForAppEventsTimeoutAmount())) {
+            logger.warn("A Thread used for sending a Websocket event to the application took too long " +
+                        "(" + TimeUnit.NANOSECONDS.toMillis(durationNanos) + " ms, max " +
+                        getThreadExecutorForAppEventsTimeoutAmount() + " " +
+                        getThreadExecutorForAppEventsTimeoutTimeUnit().toString() + ") " +
+                        "on endpoint " + getEndpointId());
+        }
+    }
+
+    protected Map<String, PeerAppEventsQueue> getPeerAppEventsQueues() {
+        return this.peerAppEventsQueues;
     }
 
     /**
-     * The timeout amount before cancelling a task when
-     * sending events to the application.
+     * Gets the events queue of a peer, creates it if
+     * required.
+     * <p>
+     * A queue is only created for a peer that is still
+     * connected : once the "closed" event has removed the queue,
+     * an event received late would otherwise recreate it, and it
+     * would never be removed.
+     *
+     * @return the queue or <code>null</code> if the peer
+     * is not connected anymore.
+     */
+    protected PeerAppEventsQueue getPeerAppEventsQueue(String peerId) {
+        PeerAppEventsQueue queue = getPeerAppEventsQueues().get(peerId);
+        if (queue == null) {
+            queue = getPeerAppEventsQueues().computeIfAbsent(peerId,
+                                                             id -> getWebSocketChannelByPeerId().containsKey(id) ?
+                                                                 createPeerAppEventsQueue(id) : null);
+        }
+        return queue;
+    }
+
+    protected PeerAppEventsQueue createPeerAppEventsQueue(String peerId) {
+        return new PeerAppEventsQueue(peerId);
+    }
+
+    @Override
+    public Map<String, Integer> getAppEventsQueuesSizes() {
+        Map<String, Integer> sizes = new HashMap<String, Integer>();
+        for (PeerAppEventsQueue queue : getPeerAppEventsQueues().values()) {
+            int size = queue.getSize();
+            if (size > 0) {
+                sizes.put(queue.getPeerId(), size);
+            }
+        }
+        return sizes;
+    }
+
+    @Override
+    public long getAppEventsDroppedNbr() {
+        return this.appEventsDroppedNbr.get();
+    }
+
+    /**
+     * The maximum number of events waiting in
+     * the queue of a peer.
+     */
+    protected int getAppEventsPeerQueueMaxSize() {
+        return getSpincastUndertowConfig().getWebsocketAppEventsPeerQueueMaxSize();
+    }
+
+    /**
+     * What to do when the queue of a peer is full.
+     */
+    protected WebsocketAppEventsQueueOverflowPolicy getAppEventsQueueOverflowPolicy() {
+        WebsocketAppEventsQueueOverflowPolicy policy = getSpincastUndertowConfig().getWebsocketAppEventsQueueOverflowPolicy();
+        return policy != null ? policy : WebsocketAppEventsQueueOverflowPolicy.BACKPRESSURE;
+    }
+
+    /**
+     * The maximum number of events of a peer handled in
+     * a row by a thread, before it is given back to the
+     * executor so the other peers get their turn.
+     */
+    protected int getAppEventsBatchSize() {
+        return 32;
+    }
+
+    /**
+     * The timeout amount after which a task sending an event
+     * to the application is reported as too slow.
      */
     protected int getThreadExecutorForAppEventsTimeoutAmount() {
         return getSpincastUndertowConfig().getWebsocketThreadExecutorForAppEventsTimeoutAmount();
     }
 
     /**
-     * The timeout unit before cancelling a task when
-     * sending events to the application.
+     * The timeout unit after which a task sending an event
+     * to the application is reported as too slow.
      */
     protected TimeUnit getThreadExecutorForAppEventsTimeoutTimeUnit() {
         return getSpincastUndertowConfig().getWebsocketThreadExecutorForAppEventsTimeoutTimeUnit();
@@ -771,27 +1073,25 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
 
     /**
      * The ExecutorService to use to
-     * send events to the application.
+     * send events to the application. It is shared
+     * by all the endpoints.
      */
     protected ExecutorService getThreadExecutorForAppEvents() {
-
-        if (this.threadExecutorForAppEvents == null) {
-            ThreadFactory threadFactory = getThreadExecutorForAppEventsThreadThreadFactory();
-            if (threadFactory != null) {
-                this.threadExecutorForAppEvents =
-                        Executors.newFixedThreadPool(getThreadExecutorForAppEventsThreadNumber(), threadFactory);
-            } else {
-                this.threadExecutorForAppEvents = Executors.newFixedThreadPool(getThreadExecutorForAppEventsThreadNumber());
-            }
-        }
-
-        return this.threadExecutorForAppEvents;
+        return getSpincastWebsocketExecutors().getAppEventsExecutor();
     }
 
     /**
      * The maximum number of concurrent threads used when
      * sending events to the application.
+     *
+     * @deprecated No longer called : the executor is shared by
+     * all the endpoints and is created by
+     * {@link SpincastWebsocketExecutors}, using
+     * {@link SpincastUndertowConfig#getWebsocketThreadExecutorForAppEventsThreadNumber()}.
+     * Override {@link #getThreadExecutorForAppEvents()} or bind
+     * another {@link SpincastWebsocketExecutors} instead.
      */
+    @Deprecated
     protected int getThreadExecutorForAppEventsThreadNumber() {
         return getSpincastUndertowConfig().getWebsocketThreadExecutorForAppEventsThreadNumber();
     }
@@ -802,9 +1102,128 @@ public class SpincastWebsocketEndpoint implements WebsocketEndpoint {
      *
      * @return the ThreadFactory to use or <code>null</code>
      * to use the default one.
+     *
+     * @deprecated No longer called : the executor is shared by
+     * all the endpoints and is created by
+     * {@link SpincastWebsocketExecutors}, using
+     * {@link SpincastUndertowConfig#getWebsocketThreadExecutorForAppEventsThreadFactory()}.
+     * Override {@link #getThreadExecutorForAppEvents()} or bind
+     * another {@link SpincastWebsocketExecutors} instead.
      */
+    @Deprecated
     protected ThreadFactory getThreadExecutorForAppEventsThreadThreadFactory() {
         return getSpincastUndertowConfig().getWebsocketThreadExecutorForAppEventsThreadFactory();
     }
 
+    /**
+     * The events of a peer waiting to be handled by the
+     * application.
+     * <p>
+     * The queue is run on the events executor by one thread
+     * at a time, so the events are handled in order, but
+     * without blocking the IO thread that received them.
+     */
+    protected class PeerAppEventsQueue implements Runnable {
+
+        private final String peerId;
+        private final Queue<Runnable> events = new ConcurrentLinkedQueue<Runnable>();
+        private final AtomicInteger size = new AtomicInteger(0);
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean closing = new AtomicBoolean(false);
+        private volatile WebSocketChannel suspendedChannel;
+
+        public PeerAppEventsQueue(String peerId) {
+            this.peerId = peerId;
+        }
+
+        public String getPeerId() {
+            return this.peerId;
+        }
+
+        public int getSize() {
+            return this.size.get();
+        }
+
+        public boolean isClosing() {
+            return this.closing.get();
+        }
+
+        /**
+         * @return <code>true</code> if the queue was not
+         * already closing.
+         */
+        public boolean setClosing() {
+            return this.closing.compareAndSet(false, true);
+        }
+
+        public void add(Runnable event) {
+            this.size.incrementAndGet();
+            this.events.add(event);
+            schedule();
+        }
+
+        /**
+         * Stops reading the messages of the peer until
+         * its queue is half empty.
+         */
+        public void suspendReceives() {
+            if (this.suspendedChannel != null) {
+                return;
+            }
+            WebSocketChannel channel = getWebSocketChannelByPeerId().get(getPeerId());
+            if (channel != null) {
+                this.suspendedChannel = channel;
+                channel.suspendReceives();
+            }
+        }
+
+        protected void resumeReceivesIfNeeded() {
+            WebSocketChannel channel = this.suspendedChannel;
+            if (channel != null && getSize() <= getAppEventsPeerQueueMaxSize() / 2) {
+                this.suspendedChannel = null;
+                if (channel.isOpen()) {
+                    channel.resumeReceives();
+                }
+            }
+        }
+
+        protected void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                try {
+                    getThreadExecutorForAppEvents().execute(this);
+                } catch (Exception ex) {
+                    this.scheduled.set(false);
+                    logger.error("Unable to send the Websocket events of peer '" + getPeerId() +
+                                 "' to the application on endpoint " + getEndpointId() + ": " + ex.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                int batchSize = getAppEventsBatchSize();
+                for (int i = 0; i < batchSize; i++) {
+                    Runnable event = this.events.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    runAppEvent(event);
+                    this.size.decrementAndGet();
+                    resumeReceivesIfNeeded();
+                }
+            } finally {
+                this.scheduled.set(false);
+
+                //==========================================
+                // Events added while we were releasing the
+                // queue, or remaining after the batch.
+                //==========================================
+                if (!this.events.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,25 @@
+package org.spincast.plugins.undertow;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * The executors shared by all the Websocket endpoints, so
+ * the number of threads doesn't grow with the number
+ * of endpoints.
+ */
+public interface SpincastWebsocketExecutors {
+
+    /**
+     * The scheduler used to send the automatic pings
+     * to the peers.
+     */
+    public ScheduledExecutorService getPingsScheduler();
+
+    /**
+     * The executor used to send the events to the
+     * application.
+     */
+    public ExecutorService getAppEventsExecutor();
+
+}
@@ -0,0 +1,93 @@
+package org.spincast.plugins.undertow;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.spincast.plugins.undertow.config.SpincastUndertowConfig;
+
+import com.google.inject.Inject;
+
+/**
+ * Default implementation of the {@link SpincastWebsocketExecutors}.
+ * <p>
+ * The executors are created lazily and use daemon threads,
+ * unless a custom <code>ThreadFactory</code> is configured
+ * for the application events.
+ */
+public class SpincastWebsocketExecutorsDefault implements SpincastWebsocketExecutors {
+
+    private final SpincastUndertowConfig spincastUndertowConfig;
+
+    private volatile ScheduledExecutorService pingsScheduler;
+    private volatile ExecutorService appEventsExecutor;
+
+    @Inject
+    public SpincastWebsocketExecutorsDefault(SpincastUndertowConfig spincastUndertowConfig) {
+        this.spincastUndertowConfig = spincastUndertowConfig;
+    }
+
+    protected SpincastUndertowConfig getSpincastUndertowConfig() {
+        return this.spincastUndertowConfig;
+    }
+
+    @Override
+    public ScheduledExecutorService getPingsScheduler() {
+        if (this.pingsScheduler == null) {
+            synchronized (this) {
+                if (this.pingsScheduler == null) {
+                    this.pingsScheduler = createPingsScheduler();
+                }
+            }
+        }
+        return this.pingsScheduler;
+    }
+
+    @Override
+    public ExecutorService getAppEventsExecutor() {
+        if (this.appEventsExecutor == null) {
+            synchronized (this) {
+                if (this.appEventsExecutor == null) {
+                    this.appEventsExecutor = createAppEventsExecutor();
+                }
+            }
+        }
+        return this.appEventsExecutor;
+    }
+
+    /**
+     * A single thread is enough : sending a ping
+     * doesn't block.
+     */
+    protected ScheduledExecutorService createPingsScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(createDaemonThreadFactory("spincast-websocket-pings-"));
+    }
+
+    protected ExecutorService createAppEventsExecutor() {
+
+        ThreadFactory threadFactory = getSpincastUndertowConfig().getWebsocketThreadExecutorForAppEventsThreadFactory();
+        if (threadFactory == null) {
+            threadFactory = createDaemonThreadFactory("spincast-websocket-events-");
+        }
+
+        return Executors.newFixedThreadPool(getSpincastUndertowConfig().getWebsocketThreadExecutorForAppEventsThreadNumber(),
+                                            threadFactory);
+    }
+
+    protected ThreadFactory createDaemonThreadFactory(final String namePrefix) {
+
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,87 @@
+package org.spincast.plugins.undertow;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import io.undertow.util.HeaderMap;
+import io.undertow.util.HeaderValues;
+
+/**
+ * An immutable view of the request headers, backed
+ * directly by Undertow's {@link HeaderMap}.
+ * <p>
+ * Nothing is copied : a single header lookup is done on the
+ * <code>HeaderMap</code> itself, which is case insensitive.
+ */
+public class UndertowRequestHeadersView extends AbstractMap<String, List<String>> {
+
+    private final HeaderMap headerMap;
+    private Set<Entry<String, List<String>>> entrySet;
+
+    public UndertowRequestHeadersView(HeaderMap headerMap) {
+        this.headerMap = headerMap;
+    }
+
+    protected HeaderMap getHeaderMap() {
+        return this.headerMap;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        HeaderValues values = getHeaderMap().get((String)key);
+        if (values == null) {
+            return null;
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && getHeaderMap().contains((String)key);
+    }
+
+    @Override
+    public int size() {
+        return getHeaderMap().size();
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new AbstractSet<Entry<String, List<String>>>() {
+
+                @Override
+                public Iterator<Entry<String, List<String>>> iterator() {
+                    final Iterator<HeaderValues> it = getHeaderMap().iterator();
+                    return new Iterator<Entry<String, List<String>>>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, List<String>> next() {
+                            HeaderValues values = it.next();
+                            return new SimpleImmutableEntry<String, List<String>>(values.getHeaderName().toString(),
+                                                                                  Collections.unmodifiableList(values));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return getHeaderMap().size();
+                }
+            };
+        }
+        return this.entrySet;
+    }
+}
@@ -10,6 +10,12 @@ public interface UndertowWebsocketEndpointWriter {
      */
     public void sendPings(WebsocketPeersWriteCallback callback);
 
+    /**
+     * Sends a <code>ping</code> message to specific
+     * peers.
+     */
+    public void sendPings(Set<String> peerIds, WebsocketPeersWriteCallback callback);
+
     /**
      * Sends a String message to specific
      * peers.
@@ -1,5 +1,7 @@
 package org.spincast.plugins.undertow;
 
+import java.util.Map;
+
 import org.spincast.core.websocket.WebsocketEndpointManager;
 
 import io.undertow.server.HttpServerExchange;
@@ -8,4 +10,17 @@ public interface WebsocketEndpoint extends WebsocketEndpointManager {
 
     public void handleConnectionRequest(HttpServerExchange exchange, String peerId);
 
+    /**
+     * The number of events waiting to be handled by the
+     * application, by peer id. Only the peers with at least
+     * one waiting event are included.
+     */
+    public Map<String, Integer> getAppEventsQueuesSizes();
+
+    /**
+     * The number of peers messages dropped because their
+     * queue of events was full.
+     */
+    public long getAppEventsDroppedNbr();
+
 }
@@ -16,4 +16,11 @@ public interface WebsocketPeersWriteCallback {
      */
     public void connectionClosed(Set<String> peerIds);
 
+    /**
+     * The ids of the peers the message has not been sent to
+     * because too many of the previous messages sent to them
+     * are still not written.
+     */
+    public void slowPeers(Set<String> peerIds);
+
 }
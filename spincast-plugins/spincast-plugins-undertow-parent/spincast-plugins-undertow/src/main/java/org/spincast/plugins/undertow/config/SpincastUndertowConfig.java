@@ -28,6 +28,9 @@ public interface SpincastUndertowConfig {
     /**
      * When the automatic WebSocket pings are enabled, this is the
      * interval (in seconds) between two pings.
+     * <p>
+     * The peers are spread over that interval, so they are
+     * not all pinged at the same time.
      *
      * Defaults to <code>20</code> seconds.
      */
@@ -59,23 +62,26 @@ public interface SpincastUndertowConfig {
 
     /**
      * The maximum number of concurrent threads used when
-     * sending WebSocket events to the application.
+     * sending WebSocket events to the application. Those
+     * threads are shared by all the endpoints.
      *
      * Defaults to <code>100</code>.
      */
     public int getWebsocketThreadExecutorForAppEventsThreadNumber();
 
     /**
-     * The timeout <code>amount</code> before cancelling a task when
-     * sending WebSocket events to the application.
+     * The <code>amount</code> of time after which a WebSocket event
+     * still being handled by the application is reported as too slow,
+     * in the logs. The event is not cancelled : the following events
+     * of the same peer simply wait for it to be done.
      *
      * Defaults to <code>60</code>.
      */
     public int getWebsocketThreadExecutorForAppEventsTimeoutAmount();
 
     /**
-     * The timeout <code>TimeUnit</code> before cancelling a task when
-     * sending WebSocket events to the application.
+     * The <code>TimeUnit</code> of
+     * {@link #getWebsocketThreadExecutorForAppEventsTimeoutAmount()}.
      *
      * Defaults to <code>SECONDS</code>.
      */
@@ -85,10 +91,44 @@ public interface SpincastUndertowConfig {
      * The <code>ThreadFactory</code> to use to create threads when
      * sending WebSocket events to the application.
      *
-     * Defaults to <code>null</code>.
+     * Defaults to <code>null</code> : daemon threads are
+     * created.
      */
     public ThreadFactory getWebsocketThreadExecutorForAppEventsThreadFactory();
 
+    /**
+     * The maximum number of WebSocket events of a peer waiting
+     * to be handled by the application. The events of a peer
+     * are handled one at a time, in order, so a slow handler
+     * makes them accumulate.
+     * <p>
+     * <code>0</code> or less means no limit.
+     * <p>
+     * Defaults to <code>1000</code>.
+     */
+    public int getWebsocketAppEventsPeerQueueMaxSize();
+
+    /**
+     * What to do when the queue of the WebSocket events of a peer
+     * is full.
+     * <p>
+     * Defaults to {@link WebsocketAppEventsQueueOverflowPolicy#BACKPRESSURE}.
+     */
+    public WebsocketAppEventsQueueOverflowPolicy getWebsocketAppEventsQueueOverflowPolicy();
+
+    /**
+     * The maximum number of messages sent to a WebSocket peer
+     * that can be waiting to be written. When this number is
+     * reached, the peer is considered as too slow : the new
+     * messages are not sent to it and its connection is closed,
+     * so it doesn't hold more memory.
+     * <p>
+     * <code>0</code> or less means no limit.
+     * <p>
+     * Defaults to <code>1000</code>.
+     */
+    public int getWebsocketPeerMaxPendingWrites();
+
     /**
      * The number of seconds max to wait for all endpoints to be closed properly
      * before calling the killing server.stop() method.
@@ -116,4 +156,52 @@ public interface SpincastUndertowConfig {
      */
     public boolean isEnableLearningPushHandler();
 
+    /**
+     * The size, in bytes, of the pooled direct buffers used
+     * to send the bytes of the responses.
+     * <p>
+     * Defaults to <code>16384</code> (16KB).
+     */
+    public int getResponseBuffersSize();
+
+    /**
+     * The maximum number of buffers kept in the pool used
+     * to send the bytes of the responses. Extra buffers are
+     * discarded when they are returned.
+     * <p>
+     * Defaults to <code>256</code>.
+     */
+    public int getResponseBuffersPoolMaxSize();
+
+    /**
+     * The number of IO threads of the server.
+     * <p>
+     * Defaults to <code>null</code> : Undertow's default is used
+     * (one per available processor).
+     */
+    public Integer getIoThreadsNumber();
+
+    /**
+     * The number of worker threads of the server. Those are
+     * the threads running the front controller, unless
+     * {@link #isDispatchToVirtualThreads()} is enabled.
+     * <p>
+     * Defaults to <code>null</code> : Undertow's default is used
+     * (eight per IO thread).
+     */
+    public Integer getWorkerThreadsNumber();
+
+    /**
+     * If <code>true</code>, each request is dispatched to a new
+     * virtual thread to run the front controller, instead of to
+     * a worker thread. Useful when the handlers spend most of their
+     * time blocked on IO (JDBC, HTTP calls, etc.).
+     * <p>
+     * Requires a JVM where virtual threads are available. Otherwise
+     * a warning is logged and the worker threads are used.
+     * <p>
+     * Defaults to <code>false</code>.
+     */
+    public boolean isDispatchToVirtualThreads();
+
 }
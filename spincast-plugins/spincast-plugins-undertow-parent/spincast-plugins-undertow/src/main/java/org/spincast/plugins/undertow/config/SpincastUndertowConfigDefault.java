@@ -55,6 +55,21 @@ public class SpincastUndertowConfigDefault implements SpincastUndertowConfig {
         return null;
     }
 
+    @Override
+    public int getWebsocketAppEventsPeerQueueMaxSize() {
+        return 1000;
+    }
+
+    @Override
+    public WebsocketAppEventsQueueOverflowPolicy getWebsocketAppEventsQueueOverflowPolicy() {
+        return WebsocketAppEventsQueueOverflowPolicy.BACKPRESSURE;
+    }
+
+    @Override
+    public int getWebsocketPeerMaxPendingWrites() {
+        return 1000;
+    }
+
     @Override
     public int getSecondsToWaitForWebSocketEndpointsToBeProperlyClosedBeforeKillingTheServer() {
         return 30;
@@ -75,4 +90,29 @@ public class SpincastUndertowConfigDefault implements SpincastUndertowConfig {
         return false;
     }
 
+    @Override
+    public int getResponseBuffersSize() {
+        return 16 * 1024;
+    }
+
+    @Override
+    public int getResponseBuffersPoolMaxSize() {
+        return 256;
+    }
+
+    @Override
+    public Integer getIoThreadsNumber() {
+        return null;
+    }
+
+    @Override
+    public Integer getWorkerThreadsNumber() {
+        return null;
+    }
+
+    @Override
+    public boolean isDispatchToVirtualThreads() {
+        return false;
+    }
+
 }
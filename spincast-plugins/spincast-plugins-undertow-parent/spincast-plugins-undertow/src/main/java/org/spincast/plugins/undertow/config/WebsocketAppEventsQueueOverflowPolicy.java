@@ -0,0 +1,30 @@
+package org.spincast.plugins.undertow.config;
+
+/**
+ * What to do when the queue of the WebSocket events
+ * of a peer is full, because the application handles
+ * them slower than the peer sends them.
+ *
+ * @see SpincastUndertowConfig#getWebsocketAppEventsQueueOverflowPolicy()
+ */
+public enum WebsocketAppEventsQueueOverflowPolicy {
+
+    /**
+     * The new message is dropped and a warning is logged.
+     */
+    DROP,
+
+    /**
+     * The new message is dropped and the connection
+     * of the peer is closed.
+     */
+    CLOSE_PEER,
+
+    /**
+     * The server stops reading the messages of the peer
+     * until its queue is half empty. The peer's messages
+     * then wait in the network buffers, and the peer is
+     * eventually blocked when those are full.
+     */
+    BACKPRESSURE
+}